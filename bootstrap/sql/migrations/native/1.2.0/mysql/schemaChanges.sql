@@ -186,4 +186,96 @@ CREATE TABLE IF NOT EXISTS doc_store (
     INDEX doc_store_name_index(name)
 );
 
+-- Entities with search index writes that are queued and not yet acknowledged by the search cluster
+CREATE TABLE IF NOT EXISTS search_index_pending_write (
+    entityId VARCHAR(36) NOT NULL,
+    entityType VARCHAR(256) NOT NULL,
+    queuedAt BIGINT UNSIGNED NOT NULL,
+    PRIMARY KEY (entityId)
+);
+
+-- Tags are looked up by target, including all the targets under an entity FQN hash prefix such as the columns of a table
+ALTER TABLE tag_usage ADD INDEX tag_usage_target_index(targetFQNHash);
+
+-- Change events are an append-only log, read in order of offset by the event consumers that checkpoint their offset
+ALTER TABLE change_event ADD COLUMN eventOffset BIGINT UNSIGNED NOT NULL AUTO_INCREMENT PRIMARY KEY;
+
+-- A consumer runs on the server holding its lease, so that each server does not publish the events again
+CREATE TABLE IF NOT EXISTS change_event_consumers (
+    id VARCHAR(256) NOT NULL,
+    eventOffset BIGINT UNSIGNED NOT NULL,
+    updatedAt BIGINT UNSIGNED NOT NULL,
+    leaseOwner VARCHAR(36) DEFAULT NULL,
+    leaseExpiry BIGINT UNSIGNED DEFAULT NULL,
+    PRIMARY KEY (id)
+);
+
+-- Change events are listed by time with the offset breaking ties, and purged by time
+ALTER TABLE change_event ADD INDEX change_event_time_offset_index(eventTime, eventOffset);
+
+-- Posts are stored apart from their thread, so that adding a post appends a row instead of rewriting the thread
+CREATE TABLE IF NOT EXISTS thread_post (
+    id VARCHAR(36) NOT NULL,
+    threadId VARCHAR(36) NOT NULL,
+    postTs BIGINT UNSIGNED NOT NULL,
+    json JSON NOT NULL,
+    PRIMARY KEY (id),
+    INDEX thread_post_thread_index (threadId, postTs)
+);
+
+INSERT INTO thread_post (id, threadId, postTs, json)
+SELECT post.id, thread_entity.id, post.postTs, post.json
+FROM thread_entity,
+     JSON_TABLE(thread_entity.json, '$.posts[*]' COLUMNS (
+         id VARCHAR(36) PATH '$.id',
+         postTs BIGINT UNSIGNED PATH '$.postTs',
+         json JSON PATH '$')) AS post;
+
+UPDATE thread_entity SET json = JSON_REMOVE(json, '$.posts', '$.postsCount')
+WHERE JSON_CONTAINS_PATH(json, 'one', '$.posts', '$.postsCount');
+
+-- Status of the latest result of each test case of a test suite, updated with an upsert for each new result
+CREATE TABLE IF NOT EXISTS test_suite_result_summary (
+    testSuiteId VARCHAR(36) NOT NULL,
+    testCaseFQNHash VARCHAR(768) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    timestamp BIGINT UNSIGNED NOT NULL,
+    status VARCHAR(64) NOT NULL,
+    json JSON NOT NULL,
+    PRIMARY KEY (testSuiteId, testCaseFQNHash),
+    INDEX test_suite_result_summary_test_case_index (testCaseFQNHash)
+);
+
+-- Latest table and column profile of each entity, updated with an upsert for each new profile
+CREATE TABLE IF NOT EXISTS profiler_data_latest (
+    entityFQNHash VARCHAR(768) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    extension VARCHAR(256) NOT NULL,
+    timestamp BIGINT UNSIGNED NOT NULL,
+    json JSON NOT NULL,
+    PRIMARY KEY (entityFQNHash, extension)
+);
+
+INSERT IGNORE INTO profiler_data_latest (entityFQNHash, extension, timestamp, json)
+SELECT entityFQNHash, extension, timestamp, json FROM (
+    SELECT entityFQNHash, extension, timestamp, json,
+        ROW_NUMBER() OVER (PARTITION BY entityFQNHash, extension ORDER BY timestamp DESC) AS row_num
+    FROM profiler_data_time_series
+    WHERE extension IN ('table.tableProfile', 'table.columnProfile') AND entityFQNHash IS NOT NULL
+) ranked
+WHERE ranked.row_num = 1;
+
+-- Version history of entities. A version is stored in full as a checkpoint, or as a JSON patch from its checkpoint
+CREATE TABLE IF NOT EXISTS entity_version_history (
+    id VARCHAR(36) NOT NULL,
+    version DOUBLE NOT NULL,
+    checkpointVersion DOUBLE NOT NULL,
+    json JSON NOT NULL,
+    PRIMARY KEY (id, version)
+);
+
+INSERT IGNORE INTO entity_version_history (id, version, checkpointVersion, json)
+SELECT id, CAST(SUBSTRING_INDEX(extension, '.version.', -1) AS DECIMAL(10, 1)),
+    CAST(SUBSTRING_INDEX(extension, '.version.', -1) AS DECIMAL(10, 1)), json
+FROM entity_extension
+WHERE extension LIKE '%.version.%';
 
+DELETE FROM entity_extension WHERE extension LIKE '%.version.%';
@@ -196,3 +196,97 @@ CREATE TABLE IF NOT EXISTS doc_store (
   UNIQUE (fqnHash)
 );
 CREATE INDEX page_name_index ON doc_store USING btree (name);
+
+-- Entities with search index writes that are queued and not yet acknowledged by the search cluster
+CREATE TABLE IF NOT EXISTS search_index_pending_write (
+  entityId VARCHAR(36) NOT NULL,
+  entityType VARCHAR(256) NOT NULL,
+  queuedAt BIGINT NOT NULL,
+  PRIMARY KEY (entityId)
+);
+
+-- Tags are looked up by target, including all the targets under an entity FQN hash prefix such as the columns of a table
+CREATE INDEX IF NOT EXISTS tag_usage_target_index ON tag_usage (targetFQNHash varchar_pattern_ops);
+
+-- Change events are an append-only log, read in order of offset by the event consumers that checkpoint their offset
+ALTER TABLE change_event ADD COLUMN eventOffset BIGSERIAL PRIMARY KEY;
+
+-- A consumer runs on the server holding its lease, so that each server does not publish the events again
+CREATE TABLE IF NOT EXISTS change_event_consumers (
+  id VARCHAR(256) NOT NULL,
+  eventOffset BIGINT NOT NULL,
+  updatedAt BIGINT NOT NULL,
+  leaseOwner VARCHAR(36) DEFAULT NULL,
+  leaseExpiry BIGINT DEFAULT NULL,
+  PRIMARY KEY (id)
+);
+
+-- Change events are listed by time with the offset breaking ties, and purged by time
+CREATE INDEX IF NOT EXISTS change_event_time_offset_index ON change_event (eventTime, eventOffset);
+
+-- Posts are stored apart from their thread, so that adding a post appends a row instead of rewriting the thread
+CREATE TABLE IF NOT EXISTS thread_post (
+  id VARCHAR(36) NOT NULL,
+  threadId VARCHAR(36) NOT NULL,
+  postTs BIGINT NOT NULL,
+  json JSONB NOT NULL,
+  PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS thread_post_thread_index ON thread_post (threadId, postTs);
+
+INSERT INTO thread_post (id, threadId, postTs, json)
+SELECT post ->> 'id', thread_entity.id, (post ->> 'postTs')::bigint, post
+FROM thread_entity, jsonb_array_elements(thread_entity.json -> 'posts') AS post;
+
+UPDATE thread_entity SET json = json - 'posts' - 'postsCount'
+WHERE json -> 'posts' IS NOT NULL OR json -> 'postsCount' IS NOT NULL;
+
+-- Status of the latest result of each test case of a test suite, updated with an upsert for each new result
+CREATE TABLE IF NOT EXISTS test_suite_result_summary (
+  testSuiteId VARCHAR(36) NOT NULL,
+  testCaseFQNHash VARCHAR(768) NOT NULL,
+  timestamp BIGINT NOT NULL,
+  status VARCHAR(64) NOT NULL,
+  json JSONB NOT NULL,
+  PRIMARY KEY (testSuiteId, testCaseFQNHash)
+);
+
+CREATE INDEX IF NOT EXISTS test_suite_result_summary_test_case_index ON test_suite_result_summary (testCaseFQNHash);
+
+-- Latest table and column profile of each entity, updated with an upsert for each new profile
+CREATE TABLE IF NOT EXISTS profiler_data_latest (
+  entityFQNHash VARCHAR(768) NOT NULL,
+  extension VARCHAR(256) NOT NULL,
+  timestamp BIGINT NOT NULL,
+  json JSONB NOT NULL,
+  PRIMARY KEY (entityFQNHash, extension)
+);
+
+INSERT INTO profiler_data_latest (entityFQNHash, extension, timestamp, json)
+SELECT entityFQNHash, extension, timestamp, json :: jsonb FROM (
+  SELECT entityFQNHash, extension, timestamp, json,
+    ROW_NUMBER() OVER (PARTITION BY entityFQNHash, extension ORDER BY timestamp DESC) AS row_num
+  FROM profiler_data_time_series
+  WHERE extension IN ('table.tableProfile', 'table.columnProfile') AND entityFQNHash IS NOT NULL
+) ranked
+WHERE ranked.row_num = 1
+ON CONFLICT (entityFQNHash, extension) DO NOTHING;
+
+-- Version history of entities. A version is stored in full as a checkpoint, or as a JSON patch from its checkpoint
+CREATE TABLE IF NOT EXISTS entity_version_history (
+  id VARCHAR(36) NOT NULL,
+  version DOUBLE PRECISION NOT NULL,
+  checkpointVersion DOUBLE PRECISION NOT NULL,
+  json JSONB NOT NULL,
+  PRIMARY KEY (id, version)
+);
+
+INSERT INTO entity_version_history (id, version, checkpointVersion, json)
+SELECT id, CAST(split_part(extension, '.version.', 2) AS DOUBLE PRECISION),
+  CAST(split_part(extension, '.version.', 2) AS DOUBLE PRECISION), json :: jsonb
+FROM entity_extension
+WHERE extension LIKE '%.version.%'
+ON CONFLICT (id, version) DO NOTHING;
+
+DELETE FROM entity_extension WHERE extension LIKE '%.version.%';
@@ -21,6 +21,7 @@ import java.lang.reflect.Modifier;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
@@ -316,6 +317,13 @@ public final class Entity {
     return repository.getReference(id, include);
   }
 
+  public static List<EntityReference> getEntityReferencesByIds(
+      @NonNull String entityType, @NonNull Collection<UUID> ids, Include include) {
+    EntityRepository<? extends EntityInterface> repository = getEntityRepository(entityType);
+    include = repository.supportsSoftDelete ? Include.ALL : include;
+    return repository.getReferences(ids, include);
+  }
+
   public static EntityReference getEntityReferenceByName(@NonNull String entityType, String fqn, Include include) {
     if (fqn == null) {
       return null;
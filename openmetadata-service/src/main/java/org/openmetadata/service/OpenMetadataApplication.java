@@ -71,8 +71,10 @@ import org.openmetadata.schema.api.configuration.extension.ExtensionConfiguratio
 import org.openmetadata.schema.api.security.AuthenticationConfiguration;
 import org.openmetadata.schema.api.security.AuthorizerConfiguration;
 import org.openmetadata.schema.services.connections.metadata.AuthProvider;
+import org.openmetadata.service.cache.EntityCacheFactory;
 import org.openmetadata.service.config.OMWebBundle;
 import org.openmetadata.service.config.OMWebConfiguration;
+import org.openmetadata.service.events.ChangeEventRetention;
 import org.openmetadata.service.events.EventFilter;
 import org.openmetadata.service.events.EventPubSub;
 import org.openmetadata.service.events.scheduled.PipelineServiceStatusJobHandler;
@@ -84,7 +86,6 @@ import org.openmetadata.service.exception.OMErrorPageHandler;
 import org.openmetadata.service.extension.OpenMetadataExtension;
 import org.openmetadata.service.fernet.Fernet;
 import org.openmetadata.service.jdbi3.CollectionDAO;
-import org.openmetadata.service.jdbi3.EntityRepository;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareAnnotationSqlLocator;
 import org.openmetadata.service.jdbi3.locator.ConnectionType;
 import org.openmetadata.service.jdbi3.unitofwork.JdbiTransactionManager;
@@ -98,7 +99,10 @@ import org.openmetadata.service.monitoring.EventMonitorPublisher;
 import org.openmetadata.service.resources.CollectionRegistry;
 import org.openmetadata.service.resources.databases.DatasourceConfig;
 import org.openmetadata.service.resources.settings.SettingsCache;
+import org.openmetadata.service.search.IndexUtil;
 import org.openmetadata.service.search.SearchEventPublisher;
+import org.openmetadata.service.search.SearchRepository;
+import org.openmetadata.service.search.SearchWriteBehindQueue;
 import org.openmetadata.service.secrets.SecretsManager;
 import org.openmetadata.service.secrets.SecretsManagerFactory;
 import org.openmetadata.service.secrets.SecretsManagerUpdateService;
@@ -111,6 +115,7 @@ import org.openmetadata.service.security.auth.BasicAuthenticator;
 import org.openmetadata.service.security.auth.LdapAuthenticator;
 import org.openmetadata.service.security.auth.NoopAuthenticator;
 import org.openmetadata.service.security.jwt.JWTTokenGenerator;
+import org.openmetadata.service.security.policyevaluator.SubjectCacheInvalidator;
 import org.openmetadata.service.security.saml.OMMicrometerHttpFilter;
 import org.openmetadata.service.security.saml.SamlAssertionConsumerServlet;
 import org.openmetadata.service.security.saml.SamlLoginServlet;
@@ -143,6 +148,7 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
     DatasourceConfig.initialize(catalogConfig.getDataSourceFactory().getDriverClass());
 
     ChangeEventConfig.initialize(catalogConfig);
+    EntityCacheFactory.initialize(catalogConfig.getEntityCacheConfiguration());
     final Jdbi jdbi = createAndSetupJDBI(environment, catalogConfig.getDataSourceFactory());
     JdbiUnitOfWorkProvider jdbiUnitOfWorkProvider = JdbiUnitOfWorkProvider.withDefault(jdbi);
     collectionDAO = (CollectionDAO) getWrappedInstanceForDaoClass(CollectionDAO.class);
@@ -198,10 +204,20 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
     environment.jersey().register(JsonMappingExceptionMapper.class);
     environment.healthChecks().register("OpenMetadataServerHealthCheck", new OpenMetadataServerHealthCheck());
     // start event hub before registering publishers
-    EventPubSub.start();
+    EventPubSub.start(collectionDAO);
+    environment
+        .lifecycle()
+        .manage(
+            new ChangeEventRetention(
+                collectionDAO.changeEventDAO(),
+                collectionDAO.changeEventConsumerDAO(),
+                ChangeEventConfig.getInstance() == null ? null : ChangeEventConfig.getInstance().getRetentionDays()));
 
     registerResources(catalogConfig, environment, jdbi, collectionDAO);
 
+    // Re-index the entities with search writes left over from the last run, before serving new writes
+    replayPendingSearchWrites(catalogConfig);
+
     // Register Event Handler
     registerEventFilter(catalogConfig, environment, jdbiUnitOfWorkProvider);
     environment.lifecycle().manage(new ManagedShutdown());
@@ -427,19 +443,32 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
   private void registerEventFilter(
       OpenMetadataApplicationConfig catalogConfig, Environment environment, JdbiUnitOfWorkProvider provider) {
     if (catalogConfig.getEventHandlerConfiguration() != null) {
-      ContainerResponseFilter eventFilter = new EventFilter(catalogConfig, provider);
+      EventFilter eventFilter = new EventFilter(catalogConfig, provider);
       environment.jersey().register(eventFilter);
+      environment.lifecycle().manage(eventFilter);
       ContainerResponseFilter reindexingJobs = new SearchIndexEvent();
       environment.jersey().register(reindexingJobs);
     }
   }
 
+  private void replayPendingSearchWrites(OpenMetadataApplicationConfig config) {
+    if (config.getElasticSearchConfiguration() != null) {
+      SearchRepository searchRepository =
+          IndexUtil.getSearchClient(config.getElasticSearchConfiguration(), collectionDAO);
+      searchRepository.replayPendingWrites();
+      searchRepository.close();
+    }
+  }
+
   private void registerEventPublisher(OpenMetadataApplicationConfig openMetadataApplicationConfig) {
+    // Invalidate the subject cache of this server on the changes made through any server
+    EventPubSub.addLocalConsumer(SubjectCacheInvalidator.CONSUMER_ID, new SubjectCacheInvalidator());
+
     // register ElasticSearch Event publisher
     if (openMetadataApplicationConfig.getElasticSearchConfiguration() != null) {
       SearchEventPublisher searchEventPublisher =
           new SearchEventPublisher(openMetadataApplicationConfig.getElasticSearchConfiguration(), collectionDAO);
-      EventPubSub.addEventHandler(searchEventPublisher);
+      EventPubSub.addConsumer("searchIndex", searchEventPublisher);
     }
 
     if (openMetadataApplicationConfig.getEventMonitorConfiguration() != null) {
@@ -449,7 +478,7 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
               openMetadataApplicationConfig.getClusterName());
       EventMonitorPublisher eventMonitorPublisher =
           new EventMonitorPublisher(openMetadataApplicationConfig.getEventMonitorConfiguration(), eventMonitor);
-      EventPubSub.addEventHandler(eventMonitorPublisher);
+      EventPubSub.addConsumer("eventMonitor", eventMonitorPublisher);
     }
   }
 
@@ -514,9 +543,10 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
 
     @Override
     public void stop() throws InterruptedException, SchedulerException {
-      LOG.info("Cache with Id Stats {}", EntityRepository.CACHE_WITH_ID.stats());
-      LOG.info("Cache with name Stats {}", EntityRepository.CACHE_WITH_NAME.stats());
+      EntityCacheFactory.getEntityCaches()
+          .forEach((entityType, cache) -> LOG.info("Cache {} Stats {}", entityType, cache.stats()));
       EventPubSub.shutdown();
+      SearchWriteBehindQueue.flushAll();
       ReportsHandler.shutDown();
       LOG.info("Stopping the application");
     }
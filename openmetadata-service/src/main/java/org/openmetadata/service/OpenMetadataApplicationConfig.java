@@ -34,6 +34,7 @@ import org.openmetadata.schema.api.security.jwt.JWTTokenConfiguration;
 import org.openmetadata.schema.email.SmtpSettings;
 import org.openmetadata.schema.security.secrets.SecretsManagerConfiguration;
 import org.openmetadata.schema.service.configuration.elasticsearch.ElasticSearchConfiguration;
+import org.openmetadata.service.cache.EntityCacheConfiguration;
 import org.openmetadata.service.config.OMWebConfiguration;
 import org.openmetadata.service.migration.MigrationConfiguration;
 import org.openmetadata.service.monitoring.EventMonitorConfiguration;
@@ -105,6 +106,9 @@ public class OpenMetadataApplicationConfig extends Configuration {
   @JsonProperty("changeEventConfig")
   private ChangeEventConfiguration changeEventConfiguration;
 
+  @JsonProperty("entityCacheConfiguration")
+  private EntityCacheConfiguration entityCacheConfiguration = new EntityCacheConfiguration();
+
   @Override
   public String toString() {
     return "catalogConfig{"
@@ -0,0 +1,59 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.cache;
+
+import com.google.common.cache.CacheStats;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import org.openmetadata.schema.EntityInterface;
+
+/**
+ * Cache of entities of a single entity type, holding only the core fields stored as JSON in the entity table. Entries
+ * are looked up either by id or by fully qualified name.
+ *
+ * <p>The cache is invalidated by the repository on every write. Each write also records the version of the entity being
+ * written, and a snapshot older than the last write seen is never cached. This prevents a read that races with a write
+ * from putting a stale entity back in the cache.
+ */
+public interface EntityCache<T extends EntityInterface> {
+  /** Get the entity with the given id from the cache, loading it using {@code loader} on a cache miss */
+  T getById(UUID id, Function<UUID, T> loader);
+
+  /**
+   * Get the entities with the given ids from the cache, loading all the cache misses with a single call to {@code
+   * loader}. Entities not returned by the loader are left out of the result.
+   */
+  Map<UUID, T> getAllById(Collection<UUID> ids, Function<List<UUID>, List<T>> loader);
+
+  /** Get the entity with the given fully qualified name from the cache, loading it using {@code loader} on a miss */
+  T getByName(String fqn, Function<String, T> loader);
+
+  /** Invalidate the entity that is being written. The version of the entity is recorded as the latest version */
+  void invalidate(T entity);
+
+  /** Invalidate the entity with the given id, when the written version is not known. Example - bulk FQN updates */
+  void invalidate(UUID id);
+
+  /** Invalidate the entity with the given fully qualified name, forcing the next lookup by name to the database */
+  void invalidateByName(String fqn);
+
+  void invalidateAll();
+
+  long size();
+
+  CacheStats stats();
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class EntityCacheConfiguration {
+  /** When disabled, every lookup goes to the database */
+  private boolean enabled = true;
+
+  /** Maximum number of entities cached per entity type, unless overridden in {@code entityMaximumSize} */
+  private long maximumSize = 5000;
+
+  /**
+   * Entries are invalidated on every write made through this server. The expiry bounds how long an entry written by
+   * another server in the cluster can be served stale.
+   */
+  private long expireAfterWriteSeconds = 300;
+
+  /** Per entity type override of {@code maximumSize}. For example {@code table: 50000} */
+  private Map<String, Long> entityMaximumSize = new HashMap<>();
+
+  public long getMaximumSize(String entityType) {
+    return enabled ? entityMaximumSize.getOrDefault(entityType, maximumSize) : 0;
+  }
+}
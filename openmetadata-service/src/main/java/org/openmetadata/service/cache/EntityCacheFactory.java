@@ -0,0 +1,56 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.cache;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+
+@Slf4j
+public final class EntityCacheFactory {
+  private static EntityCacheConfiguration configuration = new EntityCacheConfiguration();
+  private static final Map<String, EntityCache<? extends EntityInterface>> CACHES = new ConcurrentHashMap<>();
+
+  private EntityCacheFactory() {
+    /* Cannot be constructed. */
+  }
+
+  /** Expected to be called once during the application startup, before the entity repositories are initialized */
+  public static void initialize(EntityCacheConfiguration config) {
+    if (config != null) {
+      configuration = config;
+    }
+  }
+
+  public static EntityCacheConfiguration getConfiguration() {
+    return configuration;
+  }
+
+  public static <T extends EntityInterface> EntityCache<T> createEntityCache(String entityType) {
+    long maximumSize = configuration.getMaximumSize(entityType);
+    GuavaEntityCache<T> cache =
+        new GuavaEntityCache<>(entityType, maximumSize, configuration.getExpireAfterWriteSeconds());
+    cache.bindTo(MicrometerBundleSingleton.prometheusMeterRegistry);
+    CACHES.put(entityType, cache);
+    LOG.debug("Created {} cache of size {}", entityType, maximumSize);
+    return cache;
+  }
+
+  public static Map<String, EntityCache<? extends EntityInterface>> getEntityCaches() {
+    return Collections.unmodifiableMap(CACHES);
+  }
+}
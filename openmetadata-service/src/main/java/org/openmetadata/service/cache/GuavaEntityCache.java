@@ -0,0 +1,192 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.EntityInterface;
+
+/**
+ * {@link EntityCache} backed by Guava caches. Entities are stored by id and a second cache maps the fully qualified
+ * name to the id. A lookup by name is served only when the cached entity still has that name, so a renamed entity is
+ * never returned for its old name.
+ */
+@Slf4j
+public class GuavaEntityCache<T extends EntityInterface> implements EntityCache<T> {
+  private final String entityType;
+  private final Cache<UUID, T> byId;
+  private final Cache<String, UUID> idByName;
+
+  /** Version of the latest write seen for an entity. Snapshots loaded from the database older than this are stale */
+  private final Cache<UUID, WriteMark> latestWrites;
+
+  public GuavaEntityCache(String entityType, long maximumSize, long expireAfterWriteSeconds) {
+    this.entityType = entityType;
+    this.byId = newCache(maximumSize, expireAfterWriteSeconds);
+    this.idByName = newCache(maximumSize, expireAfterWriteSeconds);
+    this.latestWrites = newCache(maximumSize, expireAfterWriteSeconds);
+  }
+
+  private static <K, V> Cache<K, V> newCache(long maximumSize, long expireAfterWriteSeconds) {
+    return CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(expireAfterWriteSeconds, TimeUnit.SECONDS)
+        .recordStats()
+        .build();
+  }
+
+  /** Register hit, miss, eviction and size metrics of the cache tagged with the entity type */
+  public void bindTo(MeterRegistry registry) {
+    GuavaCacheMetrics.monitor(registry, byId, "entity_cache", Tags.of("entityType", entityType, "lookup", "id"));
+    GuavaCacheMetrics.monitor(registry, idByName, "entity_cache", Tags.of("entityType", entityType, "lookup", "name"));
+  }
+
+  @Override
+  public T getById(UUID id, Function<UUID, T> loader) {
+    T entity = byId.getIfPresent(id);
+    if (entity == null) {
+      entity = loader.apply(id);
+      cache(entity);
+    }
+    return entity;
+  }
+
+  @Override
+  public Map<UUID, T> getAllById(Collection<UUID> ids, Function<List<UUID>, List<T>> loader) {
+    Map<UUID, T> entities = new HashMap<>();
+    List<UUID> misses = new ArrayList<>();
+    for (UUID id : ids) {
+      T entity = byId.getIfPresent(id);
+      if (entity == null) {
+        misses.add(id);
+      } else {
+        entities.put(id, entity);
+      }
+    }
+    if (!misses.isEmpty()) {
+      for (T entity : loader.apply(misses)) {
+        cache(entity);
+        entities.put(entity.getId(), entity);
+      }
+    }
+    return entities;
+  }
+
+  @Override
+  public T getByName(String fqn, Function<String, T> loader) {
+    UUID id = idByName.getIfPresent(fqn);
+    T entity = id == null ? null : byId.getIfPresent(id);
+    if (entity == null || !fqn.equals(entity.getFullyQualifiedName())) {
+      entity = loader.apply(fqn);
+      if (cache(entity)) {
+        idByName.put(fqn, entity.getId());
+      }
+    }
+    return entity;
+  }
+
+  private boolean cache(T entity) {
+    if (entity == null || entity.getId() == null || isStale(entity)) {
+      return false;
+    }
+    byId.put(entity.getId(), entity);
+    if (entity.getFullyQualifiedName() != null) {
+      idByName.put(entity.getFullyQualifiedName(), entity.getId());
+    }
+    // A write may have been recorded after the check above and before the entity was cached
+    if (isStale(entity)) {
+      byId.invalidate(entity.getId());
+      return false;
+    }
+    return true;
+  }
+
+  private boolean isStale(T entity) {
+    WriteMark latest = latestWrites.getIfPresent(entity.getId());
+    return latest != null && latest.isNewerThan(entity);
+  }
+
+  @Override
+  public void invalidate(T entity) {
+    latestWrites.put(entity.getId(), new WriteMark(entity));
+    T cached = byId.getIfPresent(entity.getId());
+    byId.invalidate(entity.getId());
+    if (cached != null && !Objects.equals(cached.getFullyQualifiedName(), entity.getFullyQualifiedName())) {
+      idByName.invalidate(cached.getFullyQualifiedName());
+    }
+    if (entity.getFullyQualifiedName() != null) {
+      idByName.invalidate(entity.getFullyQualifiedName());
+    }
+  }
+
+  @Override
+  public void invalidate(UUID id) {
+    byId.invalidate(id);
+  }
+
+  @Override
+  public void invalidateByName(String fqn) {
+    idByName.invalidate(fqn);
+  }
+
+  @Override
+  public void invalidateAll() {
+    LOG.info("Invalidating {} cache with {} entries", entityType, byId.size());
+    byId.invalidateAll();
+    idByName.invalidateAll();
+  }
+
+  @Override
+  public long size() {
+    return byId.size();
+  }
+
+  @Override
+  public CacheStats stats() {
+    return byId.stats();
+  }
+
+  /** Version and update time of an entity written through this server */
+  private static class WriteMark {
+    private final Double version;
+    private final Long updatedAt;
+
+    WriteMark(EntityInterface entity) {
+      this.version = entity.getVersion();
+      this.updatedAt = entity.getUpdatedAt();
+    }
+
+    boolean isNewerThan(EntityInterface entity) {
+      // Versions are consolidated for consecutive updates by the same user, hence the update time is compared first
+      if (updatedAt != null && entity.getUpdatedAt() != null && !updatedAt.equals(entity.getUpdatedAt())) {
+        return updatedAt > entity.getUpdatedAt();
+      }
+      return version != null && entity.getVersion() != null && version > entity.getVersion();
+    }
+  }
+}
@@ -0,0 +1,347 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.service.events.errors.RetriableException;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventConsumerDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventDAO.ChangeEventRecord;
+import org.openmetadata.service.resources.events.EventResource.EventList;
+import org.openmetadata.service.util.JsonUtils;
+
+/**
+ * Reads the change event log in the order of the event offsets and passes the events in batches to an {@link
+ * EventPublisher}. The offset of the last event published is checkpointed after each batch, so that the consumer
+ * resumes from there after a restart. A consumer that has no checkpoint starts from the first event at or after its
+ * start time, or from the latest event when it has no start time.
+ *
+ * <p>Every server runs the same consumers, and the server holding the lease on the row of a consumer in the
+ * change_event_consumers table is the one publishing its events. The lease lasts {@link #LEASE_MILLIS} and is renewed
+ * while the consumer runs, also during the backoff between retries. Another server takes over the consumer from its
+ * last checkpoint when the lease expires, so the events of a batch that was published but not checkpointed may be
+ * published again. The server clocks are assumed to be in sync within a fraction of the lease.
+ *
+ * <p>A batch that fails with a {@link RetriableException} is published again after a backoff of 3 seconds, 30 seconds,
+ * 5 minutes, 1 hour and then 24 hours. Other failures are logged and the batch is skipped.
+ *
+ * <p>A local consumer runs on this server alone, such as one invalidating the caches of the server. It holds no lease
+ * and keeps its offset in memory only, starting from the latest event.
+ *
+ * <p>Offsets are allocated when events are inserted, and an event with a lower offset may be committed after an event
+ * with a higher offset. When an offset is missing, the consumer waits for it for {@link #GAP_TIMEOUT_MILLIS} and then
+ * skips it, as its event was purged or never committed.
+ */
+@Slf4j
+public class ChangeEventConsumer implements Runnable {
+  static final long POLL_INTERVAL_MILLIS = 1000;
+  static final long GAP_TIMEOUT_MILLIS = 10 * 1000L;
+  static final long LEASE_MILLIS = 60 * 1000L;
+  /** Interval at which servers not holding the lease of a consumer check whether it is free */
+  static final long LEASE_POLL_INTERVAL_MILLIS = 10 * 1000L;
+
+  private static final long[] BACKOFF_MILLIS = {
+    3 * 1000L, 30 * 1000L, 5 * 60 * 1000L, 60 * 60 * 1000L, 24 * 60 * 60 * 1000L
+  };
+
+  @Getter private final String id;
+  private final EventPublisher publisher;
+  private final ChangeEventDAO changeEventDAO;
+  /** Checkpoints and leases of the consumer, null for a local consumer */
+  private final ChangeEventConsumerDAO consumerDAO;
+
+  private final MeterRegistry registry;
+  private final String owner;
+  private final List<Meter> meters = new ArrayList<>();
+  private final CountDownLatch stopped = new CountDownLatch(1);
+  private volatile boolean running = true;
+  private volatile Thread thread;
+  @Getter private volatile long offset;
+  private volatile long latestOffset;
+  /** Time of the oldest event read and not published yet, 0 when the consumer is caught up */
+  private volatile long pendingSince;
+
+  /** Time at which the lease held by this server expires, 0 when another server holds the lease */
+  private long leaseExpiry;
+
+  private int backoff;
+  private long gapOffset;
+  private long gapSince;
+
+  public ChangeEventConsumer(
+      String id,
+      EventPublisher publisher,
+      ChangeEventDAO changeEventDAO,
+      ChangeEventConsumerDAO consumerDAO,
+      MeterRegistry registry,
+      String owner,
+      Long startTime) {
+    this.id = id;
+    this.publisher = publisher;
+    this.changeEventDAO = changeEventDAO;
+    this.consumerDAO = consumerDAO;
+    this.registry = registry;
+    this.owner = owner;
+    Long checkpoint = consumerDAO.getOffset(id);
+    if (checkpoint == null) {
+      // Another server may be adding the same consumer, the first checkpoint inserted wins
+      consumerDAO.insertIfAbsent(id, getStartOffset(startTime), System.currentTimeMillis());
+      checkpoint = consumerDAO.getOffset(id);
+    }
+    offset = checkpoint;
+    latestOffset = offset;
+  }
+
+  private ChangeEventConsumer(
+      String id, EventPublisher publisher, ChangeEventDAO changeEventDAO, MeterRegistry registry) {
+    this.id = id;
+    this.publisher = publisher;
+    this.changeEventDAO = changeEventDAO;
+    this.consumerDAO = null;
+    this.registry = registry;
+    this.owner = null;
+    offset = changeEventDAO.getLatestOffset();
+    latestOffset = offset;
+  }
+
+  /** A consumer running on this server alone, from the latest event and with its offset kept in memory */
+  public static ChangeEventConsumer local(
+      String id, EventPublisher publisher, ChangeEventDAO changeEventDAO, MeterRegistry registry) {
+    return new ChangeEventConsumer(id, publisher, changeEventDAO, registry);
+  }
+
+  private long getStartOffset(Long startTime) {
+    if (startTime != null) {
+      Long first = changeEventDAO.getFirstOffsetSince(startTime);
+      if (first != null) {
+        return first - 1;
+      }
+    }
+    return changeEventDAO.getLatestOffset();
+  }
+
+  @Override
+  public void run() {
+    thread = Thread.currentThread();
+    meters.add(
+        Gauge.builder("change_event_consumer_lag", this, ChangeEventConsumer::getLag)
+            .description("Number of change events not yet processed by a change event consumer.")
+            .tag("consumer", id)
+            .register(registry));
+    meters.add(
+        Gauge.builder("change_event_consumer_lag_seconds", this, c -> c.getLagMillis() / 1000.0)
+            .description("Age of the oldest change event not yet processed by a change event consumer.")
+            .tag("consumer", id)
+            .register(registry));
+    LOG.info("Change event consumer {} started from offset {}", id, offset);
+    publisher.onStart();
+    try {
+      while (running) {
+        try {
+          if (!holdLease()) {
+            Thread.sleep(LEASE_POLL_INTERVAL_MILLIS);
+          } else if (!processBatch()) {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+          }
+        } catch (RuntimeException e) {
+          LOG.error("Consumer {} failed to read the change event log", id, e);
+          Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      releaseLease();
+      meters.forEach(registry::remove);
+      meters.clear();
+      publisher.onShutdown();
+      LOG.info("Change event consumer {} stopped at offset {}", id, offset);
+      stopped.countDown();
+    }
+  }
+
+  /** Stop reading events. The batch being published is not checkpointed and is published again on restart. */
+  public void halt() {
+    running = false;
+    Thread current = thread;
+    if (current != null) {
+      current.interrupt();
+    }
+  }
+
+  /** Wait for the consumer to stop after it is halted. Returns false when it is still running after the timeout. */
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return stopped.await(timeout, unit);
+  }
+
+  /**
+   * Take the lease on the consumer, or renew it once half of it has passed. Returns false while another server holds
+   * the lease.
+   */
+  boolean holdLease() {
+    if (consumerDAO == null) {
+      return true;
+    }
+    long now = System.currentTimeMillis();
+    if (leaseExpiry - now > LEASE_MILLIS / 2) {
+      return true;
+    }
+    boolean held = leaseExpiry != 0;
+    if (consumerDAO.acquireLease(id, owner, now, now + LEASE_MILLIS) == 0) {
+      if (held) {
+        LOG.info("Consumer {} lost its lease to another server", id);
+      }
+      leaseExpiry = 0;
+      // Keep the lag of the consumer up to date while another server runs it
+      Long checkpoint = consumerDAO.getOffset(id);
+      offset = checkpoint == null ? offset : checkpoint;
+      latestOffset = changeEventDAO.getLatestOffset();
+      pendingSince = 0;
+      return false;
+    }
+    if (!held) {
+      // Resume from the checkpoint of the server that held the lease before
+      Long checkpoint = consumerDAO.getOffset(id);
+      offset = checkpoint == null ? offset : checkpoint;
+      LOG.info("Consumer {} took the lease and resumes from offset {}", id, offset);
+    }
+    leaseExpiry = now + LEASE_MILLIS;
+    return true;
+  }
+
+  private void releaseLease() {
+    if (leaseExpiry == 0) {
+      return;
+    }
+    leaseExpiry = 0;
+    try {
+      consumerDAO.releaseLease(id, owner);
+    } catch (Exception e) {
+      LOG.warn("Consumer {} failed to release its lease, it expires in {} ms", id, LEASE_MILLIS, e);
+    }
+  }
+
+  /** Number of events after the offset of the consumer */
+  public long getLag() {
+    return Math.max(0, latestOffset - offset);
+  }
+
+  /** Milliseconds since the oldest event not processed yet happened, 0 when the consumer is caught up */
+  public long getLagMillis() {
+    long since = pendingSince;
+    return since == 0 ? 0 : Math.max(0, System.currentTimeMillis() - since);
+  }
+
+  /** Read and publish the next batch of events. Returns false when there are no events to publish. */
+  boolean processBatch() throws InterruptedException {
+    latestOffset = changeEventDAO.getLatestOffset();
+    List<ChangeEventRecord> records = readBatch();
+    if (records.isEmpty()) {
+      pendingSince = 0;
+      return false;
+    }
+    pendingSince = records.get(0).getEventTime();
+    List<ChangeEvent> events = new ArrayList<>(records.size());
+    for (ChangeEventRecord record : records) {
+      try {
+        events.add(JsonUtils.readValue(record.getJson(), ChangeEvent.class));
+      } catch (Exception e) {
+        LOG.error("Consumer {} skipped unreadable change event at offset {}", id, record.getOffset(), e);
+      }
+    }
+    if (!events.isEmpty() && !publish(events)) {
+      return true;
+    }
+    checkpoint(records.get(records.size() - 1).getOffset());
+    return true;
+  }
+
+  /** Publish a batch of events. Returns false when the batch is to be published again after the backoff. */
+  private boolean publish(List<ChangeEvent> events) throws InterruptedException {
+    try {
+      publisher.publish(new EventList(events, null, null, events.size()));
+      backoff = 0;
+    } catch (RetriableException e) {
+      long backoffMillis = BACKOFF_MILLIS[Math.min(backoff++, BACKOFF_MILLIS.length - 1)];
+      LOG.error("Consumer {} failed to publish events due to {}, will try again in {} ms", id, e, backoffMillis);
+      backOff(backoffMillis);
+      return false;
+    } catch (Exception e) {
+      LOG.error("Consumer {} failed to publish events after offset {}, skipping them", id, offset, e);
+    }
+    return true;
+  }
+
+  /** Sleep for the backoff, renewing the lease so that another server does not publish the batch meanwhile */
+  private void backOff(long backoffMillis) throws InterruptedException {
+    long until = System.currentTimeMillis() + backoffMillis;
+    for (long left = backoffMillis; left > 0 && running; left = until - System.currentTimeMillis()) {
+      Thread.sleep(Math.min(left, LEASE_MILLIS / 2));
+      if (!holdLease()) {
+        return;
+      }
+    }
+  }
+
+  private void checkpoint(long newOffset) {
+    if (consumerDAO == null) {
+      offset = newOffset;
+      return;
+    }
+    if (consumerDAO.updateOffset(id, owner, newOffset, System.currentTimeMillis()) == 0) {
+      // The lease expired and another server publishes the events from the previous checkpoint
+      LOG.warn("Consumer {} lost its lease before checkpointing offset {}", id, newOffset);
+      leaseExpiry = 0;
+      return;
+    }
+    offset = newOffset;
+  }
+
+  /** The next events in the order of offsets, up to a missing offset that may still be committed */
+  private List<ChangeEventRecord> readBatch() {
+    List<ChangeEventRecord> records = changeEventDAO.listAfterOffset(offset, publisher.getBatchSize());
+    long expected = offset + 1;
+    for (int i = 0; i < records.size(); i++) {
+      ChangeEventRecord next = records.get(i);
+      if (next.getOffset() != expected && !skipGap(expected, next)) {
+        return records.subList(0, i);
+      }
+      expected = next.getOffset() + 1;
+    }
+    return records;
+  }
+
+  private boolean skipGap(long missingOffset, ChangeEventRecord next) {
+    long now = System.currentTimeMillis();
+    if (gapOffset != missingOffset) {
+      gapOffset = missingOffset;
+      gapSince = now;
+    }
+    // Events are committed shortly after they happen, a missing offset before an old event is not coming anymore
+    if (now - gapSince >= GAP_TIMEOUT_MILLIS || now - next.getEventTime() >= GAP_TIMEOUT_MILLIS) {
+      LOG.debug("Consumer {} skipped missing offsets {} to {}", id, missingOffset, next.getOffset() - 1);
+      return true;
+    }
+    return false;
+  }
+}
@@ -73,7 +73,6 @@ public class ChangeEventHandler implements EventHandler {
               changeEvent.getEntityId(),
               changeEvent.getEventType(),
               changeEvent.getEntityType());
-          EventPubSub.publish(changeEvent);
           if (changeEvent.getEntity() != null) {
             Object entity = changeEvent.getEntity();
             changeEvent = copyChangeEvent(changeEvent);
@@ -112,9 +111,11 @@ public class ChangeEventHandler implements EventHandler {
         .withEventType(changeEvent.getEventType())
         .withEntityId(changeEvent.getEntityId())
         .withEntityType(changeEvent.getEntityType())
+        .withEntityFullyQualifiedName(changeEvent.getEntityFullyQualifiedName())
         .withUserName(changeEvent.getUserName())
         .withTimestamp(changeEvent.getTimestamp())
         .withChangeDescription(changeEvent.getChangeDescription())
+        .withPreviousVersion(changeEvent.getPreviousVersion())
         .withCurrentVersion(changeEvent.getCurrentVersion());
   }
 
@@ -124,6 +125,7 @@ public class ChangeEventHandler implements EventHandler {
     for (String threadId : threadIds) {
       UUID id = UUID.fromString(threadId);
       collectionDAO.relationshipDAO().deleteAll(id, Entity.THREAD);
+      collectionDAO.postDAO().deleteByThreadId(id);
       collectionDAO.feedDAO().delete(id);
     }
   }
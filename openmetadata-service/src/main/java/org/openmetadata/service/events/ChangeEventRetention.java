@@ -0,0 +1,104 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventConsumerDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventDAO;
+
+/**
+ * Purges the change events older than the retention period every hour, so that the change event log stays bounded.
+ * Events are deleted in batches to keep the transactions short. A retention period of 0 days keeps all the events.
+ *
+ * <p>Events that a {@link ChangeEventConsumer} has not checkpointed yet are kept, whatever their age, so that a
+ * consumer that is behind or disabled does not miss them. A warning names the consumers holding back the purge. Every
+ * server runs the purge, and the servers delete the same events, so running it on several servers at once is harmless.
+ */
+@Slf4j
+public class ChangeEventRetention implements Managed {
+  public static final int DEFAULT_RETENTION_DAYS = 30;
+  static final int BATCH_SIZE = 10000;
+  private static final long PURGE_INTERVAL_MINUTES = 60;
+
+  private final ChangeEventDAO changeEventDAO;
+  private final ChangeEventConsumerDAO consumerDAO;
+  private final int retentionDays;
+  private ScheduledExecutorService executor;
+
+  public ChangeEventRetention(
+      ChangeEventDAO changeEventDAO, ChangeEventConsumerDAO consumerDAO, Integer retentionDays) {
+    this.changeEventDAO = changeEventDAO;
+    this.consumerDAO = consumerDAO;
+    this.retentionDays = retentionDays == null ? DEFAULT_RETENTION_DAYS : retentionDays;
+  }
+
+  @Override
+  public void start() {
+    if (retentionDays <= 0) {
+      LOG.info("Change event retention is disabled");
+      return;
+    }
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("change-event-retention").setDaemon(true).build());
+    executor.scheduleWithFixedDelay(this::purgeSafely, 0, PURGE_INTERVAL_MINUTES, TimeUnit.MINUTES);
+  }
+
+  @Override
+  public void stop() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Delete the events older than the retention period that all the consumers have checkpointed. Returns the number of
+   * events deleted.
+   */
+  long purge() {
+    long cutoff = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(retentionDays);
+    Long minOffset = consumerDAO.getMinOffset();
+    long maxOffset = minOffset == null ? Long.MAX_VALUE : minOffset;
+    long total = 0;
+    int deleted;
+    do {
+      deleted = changeEventDAO.deleteBefore(cutoff, maxOffset, BATCH_SIZE);
+      total += deleted;
+    } while (deleted >= BATCH_SIZE && !Thread.currentThread().isInterrupted());
+
+    Long oldest = changeEventDAO.getOldestEventTime();
+    if (minOffset != null && oldest != null && oldest < cutoff) {
+      LOG.warn(
+          "Keeping change events older than {} days after offset {} for consumers {} that have not processed them",
+          retentionDays,
+          minOffset,
+          consumerDAO.listAtOffset(minOffset));
+    }
+    return total;
+  }
+
+  private void purgeSafely() {
+    try {
+      long deleted = purge();
+      LOG.info("Purged {} change events older than {} days", deleted, retentionDays);
+    } catch (Exception e) {
+      LOG.error("Failed to purge change events older than {} days", retentionDays, e);
+    }
+  }
+}
@@ -13,12 +13,13 @@
 
 package org.openmetadata.service.events;
 
+import io.dropwizard.lifecycle.Managed;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.container.ContainerResponseFilter;
@@ -28,18 +29,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.service.OpenMetadataApplicationConfig;
 import org.openmetadata.service.jdbi3.unitofwork.JdbiUnitOfWorkProvider;
 import org.openmetadata.service.security.JwtFilter;
-import org.openmetadata.service.util.ParallelStreamUtil;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
 
 @Slf4j
 @Provider
-public class EventFilter implements ContainerResponseFilter {
+public class EventFilter implements ContainerResponseFilter, Managed {
   private static final List<String> AUDITABLE_METHODS = Arrays.asList("POST", "PUT", "PATCH", "DELETE");
-  private static final int FORK_JOIN_POOL_PARALLELISM = 20;
-  private final ForkJoinPool forkJoinPool;
-  private final List<EventHandler> eventHandlers;
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+  private final List<EventHandlerExecutor> eventHandlers;
 
   public EventFilter(OpenMetadataApplicationConfig config, JdbiUnitOfWorkProvider provider) {
-    this.forkJoinPool = new ForkJoinPool(FORK_JOIN_POOL_PARALLELISM);
     this.eventHandlers = new ArrayList<>();
     registerEventHandlers(config, provider);
   }
@@ -53,7 +52,11 @@ public class EventFilter implements ContainerResponseFilter {
         EventHandler eventHandler =
             ((Class<EventHandler>) Class.forName(eventHandlerClassName)).getConstructor().newInstance();
         eventHandler.init(config);
-        eventHandlers.add(eventHandler);
+        eventHandlers.add(
+            new EventHandlerExecutor(
+                eventHandler,
+                config.getEventHandlerConfiguration(),
+                MicrometerBundleSingleton.prometheusMeterRegistry));
         LOG.info("Added event handler {}", eventHandlerClassName);
       }
     } catch (Exception e) {
@@ -69,14 +72,24 @@ public class EventFilter implements ContainerResponseFilter {
       return;
     }
 
-    eventHandlers
-        .parallelStream()
-        .forEach(
-            eventHandler -> {
-              UriInfo uriInfo = requestContext.getUriInfo();
-              if (JwtFilter.EXCLUDED_ENDPOINTS.stream().noneMatch(endpoint -> uriInfo.getPath().contains(endpoint))) {
-                ParallelStreamUtil.runAsync(() -> eventHandler.process(requestContext, responseContext), forkJoinPool);
-              }
-            });
+    UriInfo uriInfo = requestContext.getUriInfo();
+    if (JwtFilter.EXCLUDED_ENDPOINTS.stream().anyMatch(endpoint -> uriInfo.getPath().contains(endpoint))) {
+      return;
+    }
+    for (EventHandlerExecutor eventHandler : eventHandlers) {
+      eventHandler.submit(requestContext, responseContext);
+    }
+  }
+
+  @Override
+  public void start() {
+    // Event handlers are started when they are registered
+  }
+
+  @Override
+  public void stop() throws InterruptedException {
+    for (EventHandlerExecutor eventHandler : eventHandlers) {
+      eventHandler.shutdown(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
   }
 }
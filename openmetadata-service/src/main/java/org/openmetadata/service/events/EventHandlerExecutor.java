@@ -0,0 +1,143 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.api.configuration.events.EventHandlerConfiguration;
+import org.openmetadata.schema.api.configuration.events.EventHandlerConfiguration.OverflowPolicy;
+
+/**
+ * Runs the events of one {@link EventHandler} on a fixed number of threads fed by a bounded queue. When the queue is
+ * full, the {@link OverflowPolicy} decides whether the request thread waits for space, drops the event or processes the
+ * event itself. Queue depth, processing latency and dropped events are published as metrics tagged with the handler.
+ */
+@Slf4j
+public class EventHandlerExecutor {
+  private static final int DEFAULT_THREADS = 4;
+  private static final int DEFAULT_QUEUE_SIZE = 1000;
+
+  private final EventHandler eventHandler;
+  @Getter private final String name;
+  private final ThreadPoolExecutor executor;
+  private final Timer latency;
+  private final Counter dropped;
+
+  public EventHandlerExecutor(EventHandler eventHandler, EventHandlerConfiguration config, MeterRegistry registry) {
+    this.eventHandler = eventHandler;
+    this.name = eventHandler.getClass().getSimpleName();
+    int threads = config.getThreads() == null ? DEFAULT_THREADS : Math.max(1, config.getThreads());
+    int queueSize = config.getQueueSize() == null ? DEFAULT_QUEUE_SIZE : Math.max(1, config.getQueueSize());
+    OverflowPolicy overflowPolicy =
+        config.getOverflowPolicy() == null ? OverflowPolicy.BLOCK : config.getOverflowPolicy();
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            new ThreadFactoryBuilder().setNameFormat("event-handler-" + name + "-%d").setDaemon(true).build(),
+            rejectedExecutionHandler(overflowPolicy));
+    Gauge.builder("event_handler_queue_depth", executor, e -> e.getQueue().size())
+        .description("Number of events waiting to be processed by an event handler.")
+        .tag("handler", name)
+        .register(registry);
+    this.latency =
+        Timer.builder("event_handler_latency")
+            .description("Latency of processing an event by an event handler.")
+            .tag("handler", name)
+            .register(registry);
+    this.dropped =
+        Counter.builder("event_handler_dropped_events")
+            .description("Number of events dropped because the queue of an event handler was full.")
+            .tag("handler", name)
+            .register(registry);
+    LOG.info(
+        "Event handler {} runs with {} threads, queue size {} and overflow policy {}",
+        name,
+        threads,
+        queueSize,
+        overflowPolicy);
+  }
+
+  public void submit(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    executor.execute(() -> process(requestContext, responseContext));
+  }
+
+  public int getQueueDepth() {
+    return executor.getQueue().size();
+  }
+
+  public double getDroppedEvents() {
+    return dropped.count();
+  }
+
+  /** Stop accepting events and wait for the queued events to be processed. */
+  public void shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(timeout, unit)) {
+      LOG.warn("Event handler {} stopped with {} queued events", name, executor.shutdownNow().size());
+    }
+    eventHandler.close();
+  }
+
+  private void process(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    long start = System.nanoTime();
+    try {
+      eventHandler.process(requestContext, responseContext);
+    } catch (Exception e) {
+      LOG.error("Event handler {} failed to process the event", name, e);
+    } finally {
+      latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private RejectedExecutionHandler rejectedExecutionHandler(OverflowPolicy overflowPolicy) {
+    switch (overflowPolicy) {
+      case DROP:
+        return (task, pool) -> {
+          dropped.increment();
+          LOG.warn("Dropped an event of event handler {} as its queue is full", name);
+        };
+      case CALLER_RUNS:
+        return new ThreadPoolExecutor.CallerRunsPolicy();
+      case BLOCK:
+      default:
+        return (task, pool) -> {
+          if (pool.isShutdown()) {
+            dropped.increment();
+            return;
+          }
+          try {
+            pool.getQueue().put(task);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+          }
+        };
+    }
+  }
+}
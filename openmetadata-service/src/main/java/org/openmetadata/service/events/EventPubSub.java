@@ -13,109 +13,133 @@
 
 package org.openmetadata.service.events;
 
-import com.lmax.disruptor.BatchEventProcessor;
-import com.lmax.disruptor.EventFactory;
-import com.lmax.disruptor.EventHandler;
-import com.lmax.disruptor.ExceptionHandler;
-import com.lmax.disruptor.RingBuffer;
-import com.lmax.disruptor.dsl.Disruptor;
-import com.lmax.disruptor.util.DaemonThreadFactory;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import lombok.Getter;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
-import org.openmetadata.schema.type.ChangeEvent;
-import org.openmetadata.service.events.EventPubSub.ChangeEventHolder;
-import org.openmetadata.service.events.errors.EventPublisherException;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
 
-/** Change event PubSub built based on LMAX Disruptor. */
+/**
+ * Change event PubSub built on the change event log. Change events are appended to the change_event table, and each
+ * {@link EventPublisher} reads them in batches on a thread of its own through a {@link ChangeEventConsumer} that
+ * checkpoints its offset in the log. A slow or failing publisher only holds back itself, and publishers resume from
+ * their checkpoint after a restart. Each server runs all the consumers, and a consumer publishes events only on the
+ * server that holds its lease. Local consumers run on every server for the server itself, without a lease or a
+ * checkpoint.
+ */
 @Slf4j
 public class EventPubSub {
-  private static Disruptor<ChangeEventHolder> disruptor;
+  /** Identifies this server as the owner of the consumer leases it holds */
+  private static final String SERVER_ID = UUID.randomUUID().toString();
+
+  private static final long STOP_TIMEOUT_SECONDS = 30;
+  private static final Map<String, ChangeEventConsumer> consumers = new ConcurrentHashMap<>();
   private static ExecutorService executor;
-  private static RingBuffer<ChangeEventHolder> ringBuffer;
+  private static CollectionDAO collectionDAO;
   private static boolean started = false;
 
-  public static void start() {
+  private EventPubSub() {
+    // Private constructor for static class
+  }
+
+  public static synchronized void start(CollectionDAO dao) {
     if (!started) {
-      disruptor = new Disruptor<>(ChangeEventHolder::new, 1024, DaemonThreadFactory.INSTANCE);
-      disruptor.setDefaultExceptionHandler(new DefaultExceptionHandler());
-      executor = Executors.newCachedThreadPool(DaemonThreadFactory.INSTANCE);
-      ringBuffer = disruptor.start();
-      LOG.info("Disruptor started");
+      collectionDAO = dao;
+      executor =
+          Executors.newCachedThreadPool(
+              new ThreadFactoryBuilder().setNameFormat("change-event-consumer-%d").setDaemon(true).build());
+      LOG.info("Change event consumers started");
       started = true;
     }
   }
 
-  public static void shutdown() throws InterruptedException {
+  public static synchronized void shutdown() throws InterruptedException {
     if (started) {
-      disruptor.shutdown();
-      disruptor.halt();
-      executor.shutdownNow();
-      executor.awaitTermination(10, TimeUnit.SECONDS);
-      disruptor = null;
-      ringBuffer = null;
+      consumers.values().forEach(ChangeEventConsumer::halt);
+      consumers.clear();
+      executor.shutdown();
+      if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+      }
       started = false;
-      LOG.info("Disruptor stopped");
+      LOG.info("Change event consumers stopped");
     }
   }
 
-  public static class ChangeEventHolder {
-    @Getter @Setter private ChangeEvent event;
+  /**
+   * Start publishing the change events with the given publisher, from the offset checkpointed for the consumer id. A
+   * consumer id seen for the first time starts from the latest event.
+   */
+  public static ChangeEventConsumer addConsumer(String consumerId, EventPublisher publisher) {
+    return addConsumer(consumerId, publisher, null);
   }
 
-  public static class ChangeEventFactory implements EventFactory<ChangeEventHolder> {
-    public ChangeEventHolder newInstance() {
-      return new ChangeEventHolder();
+  /**
+   * Start publishing the change events with the given publisher, from the offset checkpointed for the consumer id. A
+   * consumer id seen for the first time starts from the first event at or after the start time, or from the latest
+   * event when the start time is null. A consumer running with the same id is stopped first.
+   */
+  public static synchronized ChangeEventConsumer addConsumer(
+      String consumerId, EventPublisher publisher, Long startTime) {
+    ChangeEventConsumer previous = consumers.remove(consumerId);
+    if (previous != null) {
+      stop(previous);
     }
+    ChangeEventConsumer consumer =
+        new ChangeEventConsumer(
+            consumerId,
+            publisher,
+            collectionDAO.changeEventDAO(),
+            collectionDAO.changeEventConsumerDAO(),
+            MicrometerBundleSingleton.prometheusMeterRegistry,
+            SERVER_ID,
+            startTime);
+    return start(consumer);
   }
 
-  public static void publish(ChangeEvent event) {
-    if (event != null) {
-      RingBuffer<ChangeEventHolder> ringBuffer = disruptor.getRingBuffer();
-      long sequence = ringBuffer.next();
-      ringBuffer.get(sequence).setEvent(event);
-      ringBuffer.publish(sequence);
+  /**
+   * Start publishing the change events with the given publisher on this server, from the latest event. The consumer
+   * does not take a lease and keeps its offset in memory, so every server publishes all the events it runs into, as
+   * needed to invalidate the caches of the server. A consumer running with the same id is stopped first.
+   */
+  public static synchronized ChangeEventConsumer addLocalConsumer(String consumerId, EventPublisher publisher) {
+    ChangeEventConsumer previous = consumers.remove(consumerId);
+    if (previous != null) {
+      stop(previous);
     }
+    return start(
+        ChangeEventConsumer.local(
+            consumerId, publisher, collectionDAO.changeEventDAO(), MicrometerBundleSingleton.prometheusMeterRegistry));
   }
 
-  public static BatchEventProcessor<ChangeEventHolder> addEventHandler(EventHandler<ChangeEventHolder> eventHandler) {
-    BatchEventProcessor<ChangeEventHolder> processor =
-        new BatchEventProcessor<>(ringBuffer, ringBuffer.newBarrier(), eventHandler);
-    processor.setExceptionHandler(new DefaultExceptionHandler());
-    ringBuffer.addGatingSequences(processor.getSequence());
-    executor.execute(processor);
-    LOG.info("Processor added for {}", processor);
-    return processor;
-  }
-
-  public static void removeProcessor(BatchEventProcessor<ChangeEventHolder> processor) {
-    ringBuffer.removeGatingSequence(processor.getSequence());
-    LOG.info("Processor removed for {}", processor);
+  private static ChangeEventConsumer start(ChangeEventConsumer consumer) {
+    consumers.put(consumer.getId(), consumer);
+    executor.execute(consumer);
+    LOG.info("Consumer {} added", consumer.getId());
+    return consumer;
   }
 
-  public void close() {
-    /* Nothing to clean up */
+  /** Stop publishing change events for a consumer. Its checkpoint is kept so that it resumes when added again. */
+  public static void removeConsumer(ChangeEventConsumer consumer) {
+    consumers.remove(consumer.getId(), consumer);
+    stop(consumer);
+    LOG.info("Consumer {} removed", consumer.getId());
   }
 
-  public static class DefaultExceptionHandler implements ExceptionHandler<ChangeEventHolder> {
-    @Override
-    public void handleEventException(Throwable throwable, long l, ChangeEventHolder changeEventHolder) {
-      LOG.warn("Disruptor error in onEvent {}", throwable.getMessage());
-      throw new EventPublisherException(
-          throwable.getMessage()); // Throw runtime exception to stop the event handler thread
-    }
-
-    @Override
-    public void handleOnStartException(Throwable throwable) {
-      LOG.warn("Disruptor error in onStart {}", throwable.getMessage());
-    }
-
-    @Override
-    public void handleOnShutdownException(Throwable throwable) {
-      LOG.warn("Disruptor error on onShutdown {}", throwable.getMessage());
+  /** Halt a consumer and wait for it to stop, so that it does not publish or checkpoint alongside its replacement */
+  private static void stop(ChangeEventConsumer consumer) {
+    consumer.halt();
+    try {
+      if (!consumer.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LOG.warn("Consumer {} did not stop in {} seconds", consumer.getId(), STOP_TIMEOUT_SECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
     }
   }
 }
@@ -1,11 +1,18 @@
 package org.openmetadata.service.events;
 
-import com.lmax.disruptor.EventHandler;
-import com.lmax.disruptor.LifecycleAware;
 import org.openmetadata.service.events.errors.EventPublisherException;
+import org.openmetadata.service.events.errors.RetriableException;
 import org.openmetadata.service.resources.events.EventResource.EventList;
 
-public interface EventPublisher extends EventHandler<EventPubSub.ChangeEventHolder>, LifecycleAware {
+/** Publishes the events of the change event log, read in batches by a {@link ChangeEventConsumer}. */
+public interface EventPublisher {
+  void onStart();
 
+  void onShutdown();
+
+  /** Maximum number of events passed to {@link #publish} at a time */
+  int getBatchSize();
+
+  /** Publish a batch of events. Throw a {@link RetriableException} to publish the batch again after a backoff. */
   void publish(EventList events) throws EventPublisherException;
 }
@@ -15,14 +15,18 @@ package org.openmetadata.service.events.subscription;
 
 import java.util.ArrayList;
 import java.util.List;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.entity.events.EventSubscription;
 import org.openmetadata.schema.type.ChangeEvent;
-import org.openmetadata.service.events.EventPubSub;
+import org.openmetadata.service.events.ChangeEventConsumer;
 import org.openmetadata.service.events.EventPublisher;
-import org.openmetadata.service.events.errors.RetriableException;
-import org.openmetadata.service.resources.events.EventResource.EventList;
 
+/**
+ * Publishes the change events that an alert subscription is triggered for. The events are read from the change event
+ * log by a {@link ChangeEventConsumer} of the subscription on a thread of its own, so a slow or failing alert endpoint
+ * and the backoff between retries only hold back the alert itself.
+ */
 @Slf4j
 public abstract class AbstractAlertPublisher implements EventPublisher {
   // Backoff timeout in seconds. Delivering events is retried 5 times.
@@ -33,50 +37,26 @@ public abstract class AbstractAlertPublisher implements EventPublisher {
   protected static final int BACKOFF_1_HOUR = 60 * 60 * 1000;
   protected static final int BACKOFF_24_HOUR = 24 * 60 * 60 * 1000;
   protected int currentBackoffTime = BACKOFF_NORMAL;
-  protected final List<ChangeEvent> batch = new ArrayList<>();
 
   protected final EventSubscription eventSubscription;
-  private final int batchSize;
+  @Getter private final int batchSize;
 
   protected AbstractAlertPublisher(EventSubscription eventSub) {
     this.eventSubscription = eventSub;
     this.batchSize = eventSub.getBatchSize();
   }
 
-  @Override
-  public void onEvent(EventPubSub.ChangeEventHolder changeEventHolder, long sequence, boolean endOfBatch)
-      throws Exception {
-    // Ignore events that don't match the webhook event filters
-    ChangeEvent changeEvent = changeEventHolder.getEvent();
-
-    // Evaluate Alert Trigger Config
-    if (!AlertUtil.shouldTriggerAlert(changeEvent.getEntityType(), eventSubscription.getFilteringRules())) {
-      return;
-    }
-
-    // Evaluate ChangeEvent Alert Filtering
-    if (eventSubscription.getFilteringRules() != null
-        && !AlertUtil.evaluateAlertConditions(changeEvent, eventSubscription.getFilteringRules().getRules())) {
-      return;
-    }
-
-    // Batch until either the batch has ended or batch size has reached the max size
-    batch.add(changeEventHolder.getEvent());
-    if (!endOfBatch && batch.size() < batchSize) {
-      return;
-    }
-
-    EventList list = new EventList(batch, null, null, batch.size());
-    try {
-      publish(list);
-      batch.clear();
-    } catch (RetriableException ex) {
-      setNextBackOff();
-      LOG.error("Failed to publish event in batch {} due to {}, will try again in {} ms", list, ex, currentBackoffTime);
-      Thread.sleep(currentBackoffTime);
-    } catch (Exception e) {
-      LOG.error("[AbstractAlertPublisher] error {}", e.getMessage(), e);
+  /** The events matching the alert trigger config and filtering rules */
+  protected List<ChangeEvent> filter(List<ChangeEvent> events) {
+    List<ChangeEvent> matching = new ArrayList<>();
+    for (ChangeEvent changeEvent : events) {
+      // Evaluate Alert Trigger Config and ChangeEvent Alert Filtering
+      if (AlertUtil.shouldTriggerAlert(changeEvent.getEntityType(), eventSubscription.getFilteringRules())
+          && AlertUtil.evaluateAlertConditions(changeEvent, eventSubscription)) {
+        matching.add(changeEvent);
+      }
     }
+    return matching;
   }
 
   public void setNextBackOff() {
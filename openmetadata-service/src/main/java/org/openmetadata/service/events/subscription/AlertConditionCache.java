@@ -0,0 +1,117 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events.subscription;
+
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.entity.events.EventSubscription;
+import org.openmetadata.service.exception.CatalogExceptionMessage;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Filtering condition of each event subscription, parsed once and compiled to bytecode by SpEL after its first
+ * evaluation. An entry is replaced when the version of the subscription changes and is removed when the subscription is
+ * updated or deleted.
+ */
+@Slf4j
+public class AlertConditionCache {
+  private static final SpelExpressionParser EXPRESSION_PARSER =
+      new SpelExpressionParser(
+          new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, AlertConditionCache.class.getClassLoader()));
+  private static final Map<UUID, CompiledCondition> CONDITIONS = new ConcurrentHashMap<>();
+
+  private AlertConditionCache() {
+    // Private constructor for static class
+  }
+
+  /** Evaluate the filtering rules of the subscription against the change event evaluator. */
+  public static boolean evaluate(EventSubscription subscription, AlertsRuleEvaluator ruleEvaluator) {
+    CompiledCondition condition = getCondition(subscription);
+    long start = System.nanoTime();
+    try {
+      return Boolean.TRUE.equals(condition.expression.getValue(ruleEvaluator, Boolean.class));
+    } finally {
+      condition.latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  public static void invalidate(UUID subscriptionId) {
+    CONDITIONS.remove(subscriptionId);
+  }
+
+  /** Remove the condition and the latency metric of a deleted subscription. */
+  public static void remove(UUID subscriptionId) {
+    CompiledCondition condition = CONDITIONS.remove(subscriptionId);
+    if (condition != null) {
+      MicrometerBundleSingleton.prometheusMeterRegistry.remove(condition.latency);
+    }
+  }
+
+  private static CompiledCondition getCondition(EventSubscription subscription) {
+    if (subscription.getId() == null) {
+      return compile(subscription);
+    }
+    CompiledCondition condition = CONDITIONS.get(subscription.getId());
+    if (condition == null || !condition.isCompiledFrom(subscription)) {
+      condition = compile(subscription);
+      CONDITIONS.put(subscription.getId(), condition);
+    }
+    return condition;
+  }
+
+  private static CompiledCondition compile(EventSubscription subscription) {
+    String completeCondition = AlertUtil.buildCompleteCondition(subscription.getFilteringRules().getRules());
+    Expression expression;
+    try {
+      expression = EXPRESSION_PARSER.parseExpression(completeCondition);
+    } catch (Exception exception) {
+      throw new IllegalArgumentException(CatalogExceptionMessage.failedToParse(exception.getMessage()));
+    }
+    LOG.debug("Compiled alert condition of {} : {}", subscription.getName(), completeCondition);
+    Timer latency =
+        Timer.builder("alert_condition_evaluation_latency")
+            .description("Latency of evaluating the filtering rules of an event subscription.")
+            .tag("subscription", String.valueOf(subscription.getName()))
+            .register(MicrometerBundleSingleton.prometheusMeterRegistry);
+    return new CompiledCondition(subscription.getVersion(), subscription.getUpdatedAt(), expression, latency);
+  }
+
+  private static class CompiledCondition {
+    private final Double version;
+    private final Long updatedAt;
+    private final Expression expression;
+    private final Timer latency;
+
+    CompiledCondition(Double version, Long updatedAt, Expression expression, Timer latency) {
+      this.version = version;
+      this.updatedAt = updatedAt;
+      this.expression = expression;
+      this.latency = latency;
+    }
+
+    boolean isCompiledFrom(EventSubscription subscription) {
+      return Objects.equals(version, subscription.getVersion())
+          && Objects.equals(updatedAt, subscription.getUpdatedAt());
+    }
+  }
+}
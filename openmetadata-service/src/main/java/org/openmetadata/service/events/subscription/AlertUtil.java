@@ -51,7 +51,6 @@ import org.openmetadata.service.resources.CollectionRegistry;
 import org.openmetadata.service.search.IndexUtil;
 import org.openmetadata.service.search.SearchIndexDefinition;
 import org.springframework.expression.Expression;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 @Slf4j
 public final class AlertUtil {
@@ -167,19 +166,14 @@ public final class AlertUtil {
     return indexesToSearch;
   }
 
-  public static boolean evaluateAlertConditions(ChangeEvent changeEvent, List<EventFilterRule> alertFilterRules) {
-    if (!alertFilterRules.isEmpty()) {
-      boolean result;
-      String completeCondition = buildCompleteCondition(alertFilterRules);
-      AlertsRuleEvaluator ruleEvaluator = new AlertsRuleEvaluator(changeEvent);
-      StandardEvaluationContext evaluationContext = new StandardEvaluationContext(ruleEvaluator);
-      Expression expression = parseExpression(completeCondition);
-      result = Boolean.TRUE.equals(expression.getValue(evaluationContext, Boolean.class));
-      LOG.debug("Alert evaluated as Result : {}", result);
-      return result;
-    } else {
+  /** Evaluate the filtering rules of the subscription using its cached compiled condition. */
+  public static boolean evaluateAlertConditions(ChangeEvent changeEvent, EventSubscription eventSubscription) {
+    if (eventSubscription.getFilteringRules() == null || eventSubscription.getFilteringRules().getRules().isEmpty()) {
       return true;
     }
+    boolean result = AlertConditionCache.evaluate(eventSubscription, new AlertsRuleEvaluator(changeEvent));
+    LOG.debug("Alert evaluated as Result : {}", result);
+    return result;
   }
 
   public static String buildCompleteCondition(List<EventFilterRule> alertFilterRules) {
@@ -215,7 +209,7 @@ public final class AlertUtil {
     // Check Trigger Conditions
     FilteringRules filteringRules = ActivityFeedAlertCache.getActivityFeedAlert().getFilteringRules();
     return AlertUtil.shouldTriggerAlert(event.getEntityType(), filteringRules)
-        && AlertUtil.evaluateAlertConditions(event, filteringRules.getRules());
+        && AlertUtil.evaluateAlertConditions(event, ActivityFeedAlertCache.getActivityFeedAlert());
   }
 
   public static SubscriptionStatus buildSubscriptionStatus(
@@ -17,7 +17,7 @@ import static org.openmetadata.schema.entity.events.SubscriptionStatus.Status.AC
 import static org.openmetadata.schema.entity.events.SubscriptionStatus.Status.AWAITING_RETRY;
 import static org.openmetadata.schema.entity.events.SubscriptionStatus.Status.FAILED;
 
-import com.lmax.disruptor.BatchEventProcessor;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import lombok.Getter;
@@ -25,30 +25,33 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.entity.events.EventSubscription;
 import org.openmetadata.schema.entity.events.SubscriptionStatus;
-import org.openmetadata.service.events.EventPubSub;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.service.events.ChangeEventConsumer;
 import org.openmetadata.service.events.errors.EventPublisherException;
+import org.openmetadata.service.exception.AlertRetriableException;
 import org.openmetadata.service.resources.events.EventResource;
 
 /**
  * SubscriptionPublisher publishes events to the alert endpoint using POST http requests/ Email. There is one instance
- * of SubscriptionPublisher per alert subscription. Each SubscriptionPublisher is an EventHandler that runs in a
- * separate thread and receives events from LMAX Disruptor {@link EventPubSub} through {@link BatchEventProcessor}.
+ * of SubscriptionPublisher per alert subscription. Each SubscriptionPublisher runs in a separate thread and receives
+ * events in batches from the change event log through a {@link ChangeEventConsumer}.
  *
  * <p>The failures during callback to Alert are handled in this class as follows:
  *
  * <ul>
  *   <li>Alerts with unresolvable URLs are marked as "failed" and no further attempt is made to deliver the events
  *   <li>Alerts callbacks that return 3xx are marked as "failed" and no further attempt is made to deliver the events
- *   <li>Alerts callbacks that return 4xx, 5xx, or timeout are marked as "awaitingRetry" and 5 retry attempts are made
- *       to deliver the events with the following backoff - 3 seconds, 30 seconds, 5 minutes, 1 hours, and 24 hour. When
- *       all the 5 delivery attempts fail, the alerts state is marked as "retryLimitReached" and no further attempt is
- *       made to deliver the events.
+ *   <li>Alerts callbacks that return 4xx, 5xx, or timeout are marked as "awaitingRetry" and the batch fails with a
+ *       {@link org.openmetadata.service.events.errors.RetriableException}. The {@link ChangeEventConsumer} delivers the
+ *       events again with the following backoff - 3 seconds, 30 seconds, 5 minutes, 1 hours, and then every 24 hours,
+ *       renewing its lease meanwhile so that no other server delivers them.
+ *   <li>Other failures are logged by the {@link ChangeEventConsumer} and the events are skipped.
  * </ul>
  */
 @Slf4j
 public class SubscriptionPublisher extends AbstractAlertPublisher {
   private final CountDownLatch shutdownLatch = new CountDownLatch(1);
-  @Getter private BatchEventProcessor<EventPubSub.ChangeEventHolder> processor;
+  @Getter private ChangeEventConsumer consumer;
 
   public SubscriptionPublisher(EventSubscription eventSub) {
     super(eventSub);
@@ -83,6 +86,7 @@ public class SubscriptionPublisher extends AbstractAlertPublisher {
   }
 
   public synchronized SubscriptionStatus setSuccessStatus(Long updateTime) {
+    currentBackoffTime = BACKOFF_NORMAL;
     SubscriptionStatus subStatus =
         AlertUtil.buildSubscriptionStatus(ACTIVE, updateTime, null, null, null, updateTime, updateTime);
     eventSubscription.setStatusDetails(subStatus);
@@ -102,8 +106,8 @@ public class SubscriptionPublisher extends AbstractAlertPublisher {
     shutdownLatch.await(5, TimeUnit.SECONDS);
   }
 
-  public void setProcessor(BatchEventProcessor<EventPubSub.ChangeEventHolder> processor) {
-    this.processor = processor;
+  public void setConsumer(ChangeEventConsumer consumer) {
+    this.consumer = consumer;
   }
 
   protected void sendAlert(EventResource.EventList list) throws InterruptedException {
@@ -118,22 +122,24 @@ public class SubscriptionPublisher extends AbstractAlertPublisher {
     /* Called on shutdown of Publisher */
   }
 
-  public int getCurrentBackOff() {
-    return currentBackoffTime;
-  }
-
   @Override
   public void publish(EventResource.EventList list) throws EventPublisherException {
+    List<ChangeEvent> events = filter(list.getData());
+    if (events.isEmpty()) {
+      return;
+    }
     // Publish to the given Alert Actions
+    LOG.info(
+        "Sending Alert {}:{}:{}",
+        eventSubscription.getName(),
+        eventSubscription.getStatusDetails().getStatus(),
+        events.size());
     try {
-      LOG.info(
-          "Sending Alert {}:{}:{}",
-          eventSubscription.getName(),
-          eventSubscription.getStatusDetails().getStatus(),
-          batch.size());
-      sendAlert(list);
-    } catch (Exception ex) {
-      LOG.warn("Invalid Exception in Alert {}", eventSubscription.getName());
+      sendAlert(new EventResource.EventList(events, null, null, events.size()));
+    } catch (InterruptedException ex) {
+      // The consumer is stopping, the batch is not checkpointed and is published again on restart
+      Thread.currentThread().interrupt();
+      throw new AlertRetriableException(ex);
     }
   }
 }
@@ -29,6 +29,7 @@ import org.openmetadata.schema.entity.events.EventSubscription;
 import org.openmetadata.schema.type.ChangeEvent;
 import org.openmetadata.schema.type.Webhook;
 import org.openmetadata.service.events.errors.EventPublisherException;
+import org.openmetadata.service.events.errors.RetriableException;
 import org.openmetadata.service.events.subscription.SubscriptionPublisher;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.resources.events.EventResource;
@@ -95,6 +96,8 @@ public class GenericPublisher extends SubscriptionPublisher {
           postWebhookMessage(this, actionTarget, eventJson);
         }
       }
+    } catch (RetriableException ex) {
+      throw ex;
     } catch (Exception ex) {
       Throwable cause = ex.getCause();
       if (cause != null && cause.getClass() == UnknownHostException.class) {
@@ -27,6 +27,7 @@ import org.openmetadata.schema.entity.events.EventSubscription;
 import org.openmetadata.schema.type.ChangeEvent;
 import org.openmetadata.schema.type.Webhook;
 import org.openmetadata.service.events.errors.EventPublisherException;
+import org.openmetadata.service.events.errors.RetriableException;
 import org.openmetadata.service.events.subscription.SubscriptionPublisher;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.formatter.decorators.MSTeamsMessageDecorator;
@@ -89,6 +90,8 @@ public class MSTeamsPublisher extends SubscriptionPublisher {
         for (Invocation.Builder actionTarget : targets) {
           postWebhookMessage(this, actionTarget, teamsMessage);
         }
+      } catch (RetriableException e) {
+        throw e;
       } catch (Exception e) {
         String message = CatalogExceptionMessage.eventPublisherFailedToPublish(MS_TEAMS_WEBHOOK, event, e.getMessage());
         LOG.error(message);
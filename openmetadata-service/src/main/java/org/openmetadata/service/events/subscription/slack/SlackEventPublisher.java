@@ -27,6 +27,7 @@ import org.openmetadata.schema.entity.events.EventSubscription;
 import org.openmetadata.schema.type.ChangeEvent;
 import org.openmetadata.schema.type.Webhook;
 import org.openmetadata.service.events.errors.EventPublisherException;
+import org.openmetadata.service.events.errors.RetriableException;
 import org.openmetadata.service.events.subscription.SubscriptionPublisher;
 import org.openmetadata.service.formatter.decorators.MessageDecorator;
 import org.openmetadata.service.formatter.decorators.SlackMessageDecorator;
@@ -87,6 +88,8 @@ public class SlackEventPublisher extends SubscriptionPublisher {
         for (Invocation.Builder actionTarget : targets) {
           postWebhookMessage(this, actionTarget, slackMessage);
         }
+      } catch (RetriableException e) {
+        throw e;
       } catch (Exception e) {
         LOG.error("Failed to publish event {} to slack due to {} ", event, e.getMessage());
         throw new EventPublisherException(
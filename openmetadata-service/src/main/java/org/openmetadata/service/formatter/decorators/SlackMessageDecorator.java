@@ -20,7 +20,6 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import org.openmetadata.schema.tests.TestCase;
 import org.openmetadata.schema.type.ChangeEvent;
 import org.openmetadata.service.ChangeEventConfig;
 import org.openmetadata.service.Entity;
@@ -72,7 +71,7 @@ public class SlackMessageDecorator implements MessageDecorator<SlackMessage> {
     slackMessage.setUsername(event.getUserName());
     if (event.getEntity() != null) {
       String eventType;
-      if (event.getEntity() instanceof TestCase) {
+      if (Entity.TEST_CASE.equals(event.getEntityType())) {
         eventType = "testSuite";
       } else {
         eventType = event.getEntityType();
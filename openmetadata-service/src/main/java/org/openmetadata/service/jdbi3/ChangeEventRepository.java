@@ -13,14 +13,21 @@
 
 package org.openmetadata.service.jdbi3;
 
+import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
 import static org.openmetadata.schema.type.EventType.*;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.EventType;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventDAO.ChangeEventRecord;
 import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.RestUtil;
+import org.openmetadata.service.util.ResultList;
 
 @Repository
 public class ChangeEventRepository {
@@ -31,24 +38,87 @@ public class ChangeEventRepository {
     Entity.setChangeEventRepository(this);
   }
 
-  public List<ChangeEvent> list(
+  /**
+   * A page of change events from the given time, in the order of event time. The page continues after the event of the
+   * {@code after} cursor. Events with the same time are ordered by their offset in the change event log, so that the
+   * cursor identifies an event uniquely.
+   */
+  public ResultList<ChangeEvent> list(
       long timestamp,
       List<String> entityCreatedList,
       List<String> entityUpdatedList,
       List<String> entityRestoredList,
-      List<String> entityDeletedList) {
-    List<String> jsons = new ArrayList<>();
-    jsons.addAll(dao.list(ENTITY_CREATED.value(), entityCreatedList, timestamp));
-    jsons.addAll(dao.list(ENTITY_UPDATED.value(), entityUpdatedList, timestamp));
-    jsons.addAll(dao.list(ENTITY_RESTORED.value(), entityRestoredList, timestamp));
-    jsons.addAll(dao.list(ENTITY_DELETED.value(), entityDeletedList, timestamp));
-    jsons.addAll(dao.list(ENTITY_SOFT_DELETED.value(), entityDeletedList, timestamp));
-
-    List<ChangeEvent> changeEvents = new ArrayList<>();
-    for (String json : jsons) {
-      changeEvents.add(JsonUtils.readValue(json, ChangeEvent.class));
-    }
-    return changeEvents;
+      List<String> entityDeletedList,
+      int limit,
+      String after) {
+    Map<String, Object> bindings = new HashMap<>();
+    List<String> eventTypeConditions = new ArrayList<>();
+    addEventTypeCondition(eventTypeConditions, bindings, ENTITY_CREATED, entityCreatedList);
+    addEventTypeCondition(eventTypeConditions, bindings, ENTITY_UPDATED, entityUpdatedList);
+    addEventTypeCondition(eventTypeConditions, bindings, ENTITY_RESTORED, entityRestoredList);
+    addEventTypeCondition(eventTypeConditions, bindings, ENTITY_DELETED, entityDeletedList);
+    addEventTypeCondition(eventTypeConditions, bindings, ENTITY_SOFT_DELETED, entityDeletedList);
+    if (eventTypeConditions.isEmpty()) {
+      return new ResultList<>(new ArrayList<>(), null, null, 0);
+    }
+
+    StringBuilder condition = new StringBuilder("WHERE eventTime >= :timestamp");
+    bindings.put("timestamp", timestamp);
+    if (after != null) {
+      long[] cursor = decodeCursor(after);
+      condition.append(" AND (eventTime > :afterTime OR (eventTime = :afterTime AND eventOffset > :afterOffset))");
+      bindings.put("afterTime", cursor[0]);
+      bindings.put("afterOffset", cursor[1]);
+    }
+    condition.append(" AND (").append(String.join(" OR ", eventTypeConditions)).append(")");
+    bindings.put("limit", limit + 1); // Read one more event to know if there is a next page
+
+    List<ChangeEventRecord> records = dao.list(condition.toString(), bindings);
+    String afterCursor = null;
+    if (records.size() > limit) {
+      records = records.subList(0, limit);
+      ChangeEventRecord last = records.get(limit - 1);
+      afterCursor = last.getEventTime() + ":" + last.getOffset();
+    }
+    List<ChangeEvent> changeEvents = new ArrayList<>(records.size());
+    for (ChangeEventRecord changeEventRecord : records) {
+      changeEvents.add(JsonUtils.readValue(changeEventRecord.getJson(), ChangeEvent.class));
+    }
+    return new ResultList<>(changeEvents, null, afterCursor, changeEvents.size());
+  }
+
+  private static void addEventTypeCondition(
+      List<String> conditions, Map<String, Object> bindings, EventType eventType, List<String> entityTypes) {
+    if (nullOrEmpty(entityTypes)) {
+      return;
+    }
+    String eventTypeParam = "eventType" + conditions.size();
+    bindings.put(eventTypeParam, eventType.value());
+    if (entityTypes.get(0).equals("*")) {
+      conditions.add(String.format("eventType = :%s", eventTypeParam));
+      return;
+    }
+    List<String> entityTypeParams = new ArrayList<>();
+    for (String entityType : entityTypes) {
+      String entityTypeParam = eventTypeParam + "_" + entityTypeParams.size();
+      bindings.put(entityTypeParam, entityType);
+      entityTypeParams.add(":" + entityTypeParam);
+    }
+    conditions.add(
+        String.format("(eventType = :%s AND entityType IN (%s))", eventTypeParam, String.join(", ", entityTypeParams)));
+  }
+
+  /** The cursor is made of the time and the offset of the last event of the previous page */
+  private static long[] decodeCursor(String after) {
+    String cursor = RestUtil.decodeCursor(after);
+    int separator = cursor.indexOf(':');
+    try {
+      return new long[] {
+        Long.parseLong(cursor.substring(0, separator)), Long.parseLong(cursor.substring(separator + 1))
+      };
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid after cursor " + after);
+    }
   }
 
   @Transaction
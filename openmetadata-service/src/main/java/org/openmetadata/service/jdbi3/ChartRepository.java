@@ -33,6 +33,7 @@ public class ChartRepository extends EntityRepository<Chart> {
   public ChartRepository(CollectionDAO dao) {
     super(ChartResource.COLLECTION_PATH, Entity.CHART, Chart.class, dao.chartDAO(), dao, "", "");
     supportsSearch = true;
+    supportsBatchDelete = true;
   }
 
   @Override
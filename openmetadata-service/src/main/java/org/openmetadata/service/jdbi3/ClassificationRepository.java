@@ -21,7 +21,6 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.openmetadata.schema.entity.classification.Classification;
 import org.openmetadata.schema.type.Include;
@@ -33,6 +32,7 @@ import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
 import org.openmetadata.service.resources.tags.ClassificationResource;
+import org.openmetadata.service.resources.tags.TagDictionary;
 import org.openmetadata.service.util.EntityUtil.Fields;
 
 @Slf4j
@@ -55,6 +55,17 @@ public class ClassificationRepository extends EntityRepository<Classification> {
     return new ClassificationUpdater(original, updated, operation);
   }
 
+  @Override
+  protected void postUpdate(Classification original, Classification updated) {
+    super.postUpdate(original, updated);
+    TagDictionary.invalidate(Entity.CLASSIFICATION, original, updated);
+  }
+
+  @Override
+  protected void postDelete(Classification entity) {
+    TagDictionary.invalidate(Entity.CLASSIFICATION, entity.getFullyQualifiedName());
+  }
+
   @Override
   public Classification setFields(Classification classification, Fields fields) {
     classification.withTermCount(fields.contains("termCount") ? getTermCount(classification) : null);
@@ -135,7 +146,7 @@ public class ClassificationRepository extends EntityRepository<Classification> {
 
     private void invalidateClassification(UUID classificationId) {
       // Name of the classification changed. Invalidate the classification and all the children tags
-      CACHE_WITH_ID.invalidate(new ImmutablePair<>(CLASSIFICATION, classificationId));
+      invalidate(classificationId);
       List<EntityRelationshipRecord> tagRecords =
           findToRecords(classificationId, CLASSIFICATION, Relationship.CONTAINS, TAG);
       for (EntityRelationshipRecord tagRecord : tagRecords) {
@@ -146,7 +157,7 @@ public class ClassificationRepository extends EntityRepository<Classification> {
     private void invalidateTags(UUID tagId) {
       // The name of the tag changed. Invalidate that tag and all the children from the cache
       List<EntityRelationshipRecord> tagRecords = findToRecords(tagId, TAG, Relationship.CONTAINS, TAG);
-      CACHE_WITH_ID.invalidate(new ImmutablePair<>(TAG, tagId));
+      Entity.getEntityRepository(TAG).invalidate(tagId);
       for (EntityRelationshipRecord tagRecord : tagRecords) {
         invalidateTags(tagRecord.getId());
       }
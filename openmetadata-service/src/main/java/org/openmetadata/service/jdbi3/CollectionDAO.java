@@ -22,10 +22,12 @@ import static org.openmetadata.service.jdbi3.locator.ConnectionType.MYSQL;
 import static org.openmetadata.service.jdbi3.locator.ConnectionType.POSTGRES;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.collect.Lists;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -120,12 +122,12 @@ import org.openmetadata.schema.utils.EntityInterfaceUtil;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.jdbi3.CollectionDAO.TagUsageDAO.TagLabelMapper;
 import org.openmetadata.service.jdbi3.CollectionDAO.UsageDAO.UsageDetailsMapper;
+import org.openmetadata.service.jdbi3.EntityTimeSeriesDAO.TimeSeriesRecord;
 import org.openmetadata.service.jdbi3.FeedRepository.FilterType;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlQuery;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlUpdate;
 import org.openmetadata.service.resources.feeds.MessageParser.EntityLink;
 import org.openmetadata.service.resources.tags.TagLabelUtil;
-import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.FullyQualifiedName;
 import org.openmetadata.service.util.JsonUtils;
 import org.openmetadata.service.util.jdbi.BindFQN;
@@ -147,6 +149,9 @@ public interface CollectionDAO {
   @CreateSqlObject
   EntityExtensionDAO entityExtensionDAO();
 
+  @CreateSqlObject
+  EntityVersionDAO entityVersionDAO();
+
   @CreateSqlObject
   EntityExtensionTimeSeriesDAO entityExtensionTimeSeriesDao();
 
@@ -156,6 +161,9 @@ public interface CollectionDAO {
   @CreateSqlObject
   ProfilerDataTimeSeriesDAO profilerDataTimeSeriesDao();
 
+  @CreateSqlObject
+  ProfilerDataLatestDAO profilerDataLatestDAO();
+
   @CreateSqlObject
   DataQualityDataTimeSeriesDAO dataQualityDataTimeSeriesDao();
 
@@ -267,6 +275,9 @@ public interface CollectionDAO {
   @CreateSqlObject
   FeedDAO feedDAO();
 
+  @CreateSqlObject
+  PostDAO postDAO();
+
   @CreateSqlObject
   StoredProcedureDAO storedProcedureDAO();
 
@@ -285,6 +296,9 @@ public interface CollectionDAO {
   @CreateSqlObject
   TestSuiteDAO testSuiteDAO();
 
+  @CreateSqlObject
+  TestSuiteResultSummaryDAO testSuiteResultSummaryDAO();
+
   @CreateSqlObject
   TestCaseDAO testCaseDAO();
 
@@ -312,6 +326,12 @@ public interface CollectionDAO {
   @CreateSqlObject
   DocStoreDAO docStoreDAO();
 
+  @CreateSqlObject
+  SearchIndexPendingWriteDAO searchIndexPendingWriteDAO();
+
+  @CreateSqlObject
+  ChangeEventConsumerDAO changeEventConsumerDAO();
+
   interface DashboardDAO extends EntityDAO<Dashboard> {
     @Override
     default String getTableName() {
@@ -622,6 +642,14 @@ public interface CollectionDAO {
             + "ORDER BY extension")
     List<ExtensionRecord> getExtensions(@BindUUID("id") UUID id, @Bind("extensionPrefix") String extensionPrefix);
 
+    @RegisterRowMapper(ExtensionWithIdMapper.class)
+    @SqlQuery(
+        "SELECT id, extension, json FROM entity_extension WHERE id IN (<ids>) AND extension "
+            + "LIKE CONCAT (:extensionPrefix, '.%') "
+            + "ORDER BY id, extension")
+    List<Pair<String, ExtensionRecord>> getExtensionsBatch(
+        @BindList("ids") List<String> ids, @Bind("extensionPrefix") String extensionPrefix);
+
     @SqlUpdate("DELETE FROM entity_extension WHERE id = :id AND extension = :extension")
     void delete(@BindUUID("id") UUID id, @Bind("extension") String extension);
 
@@ -630,15 +658,88 @@ public interface CollectionDAO {
 
     @SqlUpdate("DELETE FROM entity_extension WHERE id = :id")
     void deleteAll(@BindUUID("id") UUID id);
+
+    @SqlUpdate("DELETE FROM entity_extension WHERE id IN (<ids>)")
+    void deleteAll(@BindList("ids") List<String> ids);
   }
 
-  class EntityVersionPair {
-    @Getter private final Double version;
-    @Getter private final String entityJson;
+  interface EntityVersionDAO {
+    @ConnectionAwareSqlUpdate(
+        value =
+            "REPLACE INTO entity_version_history(id, version, checkpointVersion, json) "
+                + "VALUES (:id, :version, :checkpointVersion, :json)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO entity_version_history(id, version, checkpointVersion, json) "
+                + "VALUES (:id, :version, :checkpointVersion, (:json :: jsonb)) "
+                + "ON CONFLICT (id, version) DO UPDATE SET checkpointVersion = EXCLUDED.checkpointVersion, "
+                + "json = EXCLUDED.json",
+        connectionType = POSTGRES)
+    void insert(
+        @BindUUID("id") UUID id,
+        @Bind("version") double version,
+        @Bind("checkpointVersion") double checkpointVersion,
+        @Bind("json") String json);
+
+    @RegisterRowMapper(EntityVersionMapper.class)
+    @SqlQuery(
+        "SELECT version, checkpointVersion, json FROM entity_version_history WHERE id = :id AND version = :version")
+    EntityVersionRecord get(@BindUUID("id") UUID id, @Bind("version") double version);
+
+    @RegisterRowMapper(EntityVersionMapper.class)
+    @SqlQuery(
+        "SELECT version, checkpointVersion, json FROM entity_version_history "
+            + "WHERE id = :id AND version IN (<versions>)")
+    List<EntityVersionRecord> get(@BindUUID("id") UUID id, @BindList("versions") List<Double> versions);
 
-    public EntityVersionPair(ExtensionRecord extensionRecord) {
-      this.version = EntityUtil.getVersion(extensionRecord.getExtensionName());
-      this.entityJson = extensionRecord.getExtensionJson();
+    @RegisterRowMapper(EntityVersionMapper.class)
+    @SqlQuery(
+        "SELECT version, checkpointVersion, json FROM entity_version_history "
+            + "WHERE id = :id AND version = checkpointVersion ORDER BY version DESC LIMIT 1")
+    EntityVersionRecord getLatestCheckpoint(@BindUUID("id") UUID id);
+
+    @SqlQuery(
+        "SELECT COUNT(*) FROM entity_version_history "
+            + "WHERE id = :id AND checkpointVersion = :checkpointVersion AND version <> checkpointVersion")
+    int countDeltas(@BindUUID("id") UUID id, @Bind("checkpointVersion") double checkpointVersion);
+
+    /** Versions older than the given version, from the latest to the oldest */
+    @RegisterRowMapper(EntityVersionMapper.class)
+    @SqlQuery(
+        "SELECT version, checkpointVersion, json FROM entity_version_history "
+            + "WHERE id = :id AND version < :before ORDER BY version DESC LIMIT :limit")
+    List<EntityVersionRecord> listBefore(
+        @BindUUID("id") UUID id, @Bind("before") double before, @Bind("limit") int limit);
+
+    @SqlUpdate("DELETE FROM entity_version_history WHERE id = :id")
+    void deleteAll(@BindUUID("id") UUID id);
+
+    @SqlUpdate("DELETE FROM entity_version_history WHERE id IN (<ids>)")
+    void deleteAll(@BindList("ids") List<String> ids);
+  }
+
+  class EntityVersionRecord {
+    @Getter private final double version;
+    @Getter private final double checkpointVersion;
+    /** The entity when the record is a checkpoint, otherwise the JSON patch from the checkpoint to the entity */
+    @Getter private final String json;
+
+    public EntityVersionRecord(double version, double checkpointVersion, String json) {
+      this.version = version;
+      this.checkpointVersion = checkpointVersion;
+      this.json = json;
+    }
+
+    public boolean isCheckpoint() {
+      return version == checkpointVersion;
+    }
+  }
+
+  class EntityVersionMapper implements RowMapper<EntityVersionRecord> {
+    @Override
+    public EntityVersionRecord map(ResultSet rs, StatementContext ctx) throws SQLException {
+      return new EntityVersionRecord(rs.getDouble("version"), rs.getDouble("checkpointVersion"), rs.getString("json"));
     }
   }
 
@@ -659,6 +760,13 @@ public interface CollectionDAO {
     }
   }
 
+  class ExtensionWithIdMapper implements RowMapper<Pair<String, ExtensionRecord>> {
+    @Override
+    public Pair<String, ExtensionRecord> map(ResultSet rs, StatementContext ctx) throws SQLException {
+      return Pair.of(rs.getString("id"), new ExtensionRecord(rs.getString("extension"), rs.getString("json")));
+    }
+  }
+
   @Getter
   @Builder
   class EntityRelationshipRecord {
@@ -675,6 +783,7 @@ public interface CollectionDAO {
     private String fromEntity;
     private String toEntity;
     private int relation;
+    private String json;
   }
 
   @Getter
@@ -830,6 +939,80 @@ public interface CollectionDAO {
     @RegisterRowMapper(FromRelationshipMapper.class)
     List<EntityRelationshipRecord> findFromPipeline(@BindUUID("toId") UUID toId, @Bind("relation") int relation);
 
+    //
+    // Batch find operations, used for traversing a level of a graph of relationships in a single query
+    //
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+            + "WHERE fromId IN (<fromIds>) AND relation = :relation "
+            + "ORDER BY toId")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findToBatch(
+        @BindList("fromIds") List<String> fromIds, @Bind("relation") int relation);
+
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+            + "WHERE toId IN (<toIds>) AND relation = :relation "
+            + "ORDER BY fromId")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findFromBatch(@BindList("toIds") List<String> toIds, @Bind("relation") int relation);
+
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+            + "WHERE fromId IN (<fromIds>) AND relation = :relation AND toEntity = :toEntity "
+            + "ORDER BY toId")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findToBatch(
+        @BindList("fromIds") List<String> fromIds, @Bind("relation") int relation, @Bind("toEntity") String toEntity);
+
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+            + "WHERE fromId IN (<fromIds>) AND relation IN (<relation>) "
+            + "ORDER BY toId")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findToBatch(
+        @BindList("fromIds") List<String> fromIds, @BindList("relation") List<Integer> relation);
+
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+            + "WHERE toId IN (<toIds>) AND relation = :relation AND fromEntity = :fromEntity "
+            + "ORDER BY fromId")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findFromBatch(
+        @BindList("toIds") List<String> toIds, @Bind("relation") int relation, @Bind("fromEntity") String fromEntity);
+
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+                + "WHERE (JSON_UNQUOTE(JSON_EXTRACT(json, '$.pipeline.id')) IN (<fromIds>) OR fromId IN (<fromIds>)) "
+                + "AND relation = :relation ORDER BY toId",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+                + "WHERE (json->'pipeline'->>'id' IN (<fromIds>) OR fromId IN (<fromIds>)) "
+                + "AND relation = :relation ORDER BY toId",
+        connectionType = POSTGRES)
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findToPipelineBatch(
+        @BindList("fromIds") List<String> fromIds, @Bind("relation") int relation);
+
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+                + "WHERE (JSON_UNQUOTE(JSON_EXTRACT(json, '$.pipeline.id')) IN (<toIds>) OR toId IN (<toIds>)) "
+                + "AND relation = :relation ORDER BY fromId",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+                + "WHERE (json->'pipeline'->>'id' IN (<toIds>) OR toId IN (<toIds>)) "
+                + "AND relation = :relation ORDER BY fromId",
+        connectionType = POSTGRES)
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findFromPipelineBatch(
+        @BindList("toIds") List<String> toIds, @Bind("relation") int relation);
+
     @SqlQuery("SELECT count(*) FROM entity_relationship " + "WHERE fromEntity = :fromEntity AND toEntity = :toEntity")
     int findIfAnyRelationExist(@Bind("fromEntity") String fromEntity, @Bind("toEntity") String toEntity);
 
@@ -875,6 +1058,9 @@ public interface CollectionDAO {
     @SqlUpdate("DELETE from entity_relationship WHERE fromId = :id or toId = :id")
     void deleteAllWithId(@BindUUID("id") UUID id);
 
+    @SqlUpdate("DELETE from entity_relationship WHERE fromId IN (<ids>) OR toId IN (<ids>)")
+    void deleteAllWithIds(@BindList("ids") List<String> ids);
+
     class FromRelationshipMapper implements RowMapper<EntityRelationshipRecord> {
       @Override
       public EntityRelationshipRecord map(ResultSet rs, StatementContext ctx) throws SQLException {
@@ -886,6 +1072,20 @@ public interface CollectionDAO {
       }
     }
 
+    class RelationshipObjectMapper implements RowMapper<EntityRelationshipObject> {
+      @Override
+      public EntityRelationshipObject map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return EntityRelationshipObject.builder()
+            .fromId(rs.getString("fromId"))
+            .toId(rs.getString("toId"))
+            .fromEntity(rs.getString("fromEntity"))
+            .toEntity(rs.getString("toEntity"))
+            .relation(rs.getInt("relation"))
+            .json(rs.getString("json"))
+            .build();
+      }
+    }
+
     class ToRelationshipMapper implements RowMapper<EntityRelationshipRecord> {
       @Override
       public EntityRelationshipRecord map(ResultSet rs, StatementContext ctx) throws SQLException {
@@ -1125,6 +1325,20 @@ public interface CollectionDAO {
         connectionType = POSTGRES)
     void update(@BindUUID("id") UUID id, @Bind("json") String json);
 
+    @ConnectionAwareSqlUpdate(
+        value =
+            "UPDATE thread_entity SET json = JSON_SET(json, '$.updatedAt', :updatedAt, '$.updatedBy', :updatedBy) "
+                + "WHERE id = :id",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "UPDATE thread_entity SET json = jsonb_set(jsonb_set(json, '{updatedAt}', "
+                + "to_jsonb(CAST(:updatedAt AS BIGINT))), '{updatedBy}', to_jsonb(CAST(:updatedBy AS TEXT))) "
+                + "WHERE id = :id",
+        connectionType = POSTGRES)
+    void updateUpdatedAt(
+        @BindUUID("id") UUID id, @Bind("updatedAt") long updatedAt, @Bind("updatedBy") String updatedBy);
+
     @SqlQuery(
         "SELECT entityLink, COUNT(id) count FROM field_relationship fr INNER JOIN thread_entity te ON fr.fromFQNHash=MD5(te.id) "
             + "WHERE (:fqnPrefixHash IS NULL OR fr.toFQNHash LIKE CONCAT(:fqnPrefixHash, '.%') OR fr.toFQNHash=:fqnPrefixHash) AND "
@@ -1242,6 +1456,9 @@ public interface CollectionDAO {
     @SqlQuery("select id from thread_entity where entityId = :entityId")
     List<String> findByEntityId(@Bind("entityId") String entityId);
 
+    @SqlQuery("select id from thread_entity where entityId IN (<entityIds>)")
+    List<String> findByEntityIds(@BindList("entityIds") List<String> entityIds);
+
     class CountFieldMapper implements RowMapper<List<String>> {
       @Override
       public List<String> map(ResultSet rs, StatementContext ctx) throws SQLException {
@@ -1250,6 +1467,66 @@ public interface CollectionDAO {
     }
   }
 
+  /** Posts of the threads, stored apart from the threads so that adding a post does not rewrite the thread */
+  interface PostDAO {
+    @ConnectionAwareSqlUpdate(
+        value = "INSERT INTO thread_post(id, threadId, postTs, json) VALUES (:id, :threadId, :postTs, :json)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value = "INSERT INTO thread_post(id, threadId, postTs, json) VALUES (:id, :threadId, :postTs, :json :: jsonb)",
+        connectionType = POSTGRES)
+    void insert(
+        @BindUUID("id") UUID id,
+        @BindUUID("threadId") UUID threadId,
+        @Bind("postTs") long postTs,
+        @Bind("json") String json);
+
+    @ConnectionAwareSqlUpdate(value = "UPDATE thread_post SET json = :json WHERE id = :id", connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value = "UPDATE thread_post SET json = (:json :: jsonb) WHERE id = :id",
+        connectionType = POSTGRES)
+    void update(@BindUUID("id") UUID id, @Bind("json") String json);
+
+    @SqlUpdate("DELETE FROM thread_post WHERE id = :id")
+    void delete(@BindUUID("id") UUID id);
+
+    @SqlUpdate("DELETE FROM thread_post WHERE threadId = :threadId")
+    void deleteByThreadId(@BindUUID("threadId") UUID threadId);
+
+    @SqlQuery("SELECT json FROM thread_post WHERE threadId = :threadId ORDER BY postTs")
+    List<String> listByThreadId(@BindUUID("threadId") UUID threadId);
+
+    /** The last posts of each thread, at least one when the thread has posts, along with the count of its posts */
+    @RegisterRowMapper(ThreadPostMapper.class)
+    @SqlQuery(
+        "SELECT threadId, json, postsCount FROM ("
+            + "SELECT threadId, postTs, json, "
+            + "ROW_NUMBER() OVER (PARTITION BY threadId ORDER BY postTs DESC) AS postNumber, "
+            + "COUNT(*) OVER (PARTITION BY threadId) AS postsCount "
+            + "FROM thread_post WHERE threadId IN (<threadIds>)) last_posts "
+            + "WHERE postNumber <= :limitPosts OR postNumber = 1 ORDER BY postTs")
+    List<ThreadPost> listLastPosts(@BindList("threadIds") List<String> threadIds, @Bind("limitPosts") int limitPosts);
+
+    @Getter
+    @Builder
+    class ThreadPost {
+      private String threadId;
+      private String json;
+      private int postsCount;
+    }
+
+    class ThreadPostMapper implements RowMapper<ThreadPost> {
+      @Override
+      public ThreadPost map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return ThreadPost.builder()
+            .threadId(rs.getString("threadId"))
+            .json(rs.getString("json"))
+            .postsCount(rs.getInt("postsCount"))
+            .build();
+      }
+    }
+  }
+
   interface FieldRelationshipDAO {
     @ConnectionAwareSqlUpdate(
         value =
@@ -1364,6 +1641,24 @@ public interface CollectionDAO {
       deleteAllByPrefixInternal(condition, bindMap);
     }
 
+    /** Delete the field relationships from or to the given FQN hashes and all the FQNs under them */
+    default void deleteAllByHashes(List<String> fqnHashes) {
+      for (List<String> batch : Lists.partition(fqnHashes, EntityDAO.PREFIX_BATCH_SIZE)) {
+        Map<String, String> bindMap = new HashMap<>();
+        List<String> conditions = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+          bindMap.put("hash" + i, batch.get(i));
+          bindMap.put("prefix" + i, batch.get(i) + Entity.SEPARATOR + "%");
+          conditions.add(
+              String.format(
+                  "toFQNHash = :hash%1$d OR toFQNHash LIKE :prefix%1$d "
+                      + "OR fromFQNHash = :hash%1$d OR fromFQNHash LIKE :prefix%1$d",
+                  i));
+        }
+        deleteAllByPrefixInternal("WHERE " + String.join(" OR ", conditions), bindMap);
+      }
+    }
+
     @SqlUpdate("DELETE from field_relationship <cond>")
     void deleteAllByPrefixInternal(@Define("cond") String cond, @BindMap Map<String, String> bindings);
 
@@ -2166,6 +2461,52 @@ public interface CollectionDAO {
         "SELECT source, tagFQN,  labelType, state FROM tag_usage WHERE targetFQNHash = :targetFQNHash ORDER BY tagFQN")
     List<TagLabel> getTagsInternal(@BindFQN("targetFQNHash") String targetFQNHash);
 
+    /** Tags of each of the given targets, keyed by target FQN. Targets without tags have an empty list. */
+    default Map<String, List<TagLabel>> getTagsByTargets(Collection<String> targetFQNs) {
+      Map<String, String> targetByHash = new HashMap<>();
+      Map<String, List<TagLabel>> tagsByTarget = new HashMap<>();
+      for (String targetFQN : targetFQNs) {
+        targetByHash.put(FullyQualifiedName.buildHash(targetFQN), targetFQN);
+        tagsByTarget.put(targetFQN, new ArrayList<>());
+      }
+      List<TagLabel> tags = new ArrayList<>();
+      for (List<String> hashes : Lists.partition(new ArrayList<>(targetByHash.keySet()), EntityDAO.BATCH_SIZE)) {
+        for (Pair<String, TagLabel> row : getTagsInternalBatch(hashes)) {
+          tags.add(row.getRight());
+          tagsByTarget.get(targetByHash.get(row.getLeft())).add(row.getRight());
+        }
+      }
+      TagLabelUtil.applyTagCommonFields(tags);
+      return tagsByTarget;
+    }
+
+    /**
+     * Tags of all the targets under the given FQN, such as the columns and nested columns of a table, keyed by target
+     * FQN hash. The tags of the target itself are not included.
+     */
+    default Map<String, List<TagLabel>> getTagsByPrefix(String targetFQNPrefix) {
+      Map<String, List<TagLabel>> tagsByTargetHash = new HashMap<>();
+      List<TagLabel> tags = new ArrayList<>();
+      for (Pair<String, TagLabel> row : getTagsInternalByPrefix(targetFQNPrefix)) {
+        tags.add(row.getRight());
+        tagsByTargetHash.computeIfAbsent(row.getLeft(), hash -> new ArrayList<>()).add(row.getRight());
+      }
+      TagLabelUtil.applyTagCommonFields(tags);
+      return tagsByTargetHash;
+    }
+
+    @SqlQuery(
+        "SELECT targetFQNHash, source, tagFQN, labelType, state FROM tag_usage "
+            + "WHERE targetFQNHash LIKE CONCAT(:targetFQNHashPrefix, '.%') ORDER BY tagFQN")
+    @RegisterRowMapper(TagLabelWithTargetMapper.class)
+    List<Pair<String, TagLabel>> getTagsInternalByPrefix(@BindFQN("targetFQNHashPrefix") String targetFQNHashPrefix);
+
+    @SqlQuery(
+        "SELECT targetFQNHash, source, tagFQN, labelType, state FROM tag_usage "
+            + "WHERE targetFQNHash IN (<targetFQNHashes>) ORDER BY tagFQN")
+    @RegisterRowMapper(TagLabelWithTargetMapper.class)
+    List<Pair<String, TagLabel>> getTagsInternalBatch(@BindList("targetFQNHashes") List<String> targetFQNHashes);
+
     @SqlQuery("SELECT * FROM tag_usage")
     @Deprecated(since = "Release 1.1")
     @RegisterRowMapper(TagLabelMapperMigration.class)
@@ -2190,6 +2531,23 @@ public interface CollectionDAO {
         "DELETE FROM tag_usage where targetFQNHash = :targetFQNHash OR targetFQNHash LIKE CONCAT(:targetFQNHash, '.%')")
     void deleteTagLabelsByTargetPrefix(@BindFQN("targetFQNHash") String targetFQNHash);
 
+    /** Delete the tag labels of the targets with the given FQN hashes and of all the targets under them */
+    default void deleteTagLabelsByTargetHashes(List<String> targetFQNHashes) {
+      for (List<String> batch : Lists.partition(targetFQNHashes, EntityDAO.PREFIX_BATCH_SIZE)) {
+        Map<String, String> bindMap = new HashMap<>();
+        List<String> conditions = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+          bindMap.put("hash" + i, batch.get(i));
+          bindMap.put("prefix" + i, batch.get(i) + Entity.SEPARATOR + "%");
+          conditions.add(String.format("targetFQNHash = :hash%d OR targetFQNHash LIKE :prefix%d", i, i));
+        }
+        deleteTagLabelsInternal("WHERE " + String.join(" OR ", conditions), bindMap);
+      }
+    }
+
+    @SqlUpdate("DELETE FROM tag_usage <cond>")
+    void deleteTagLabelsInternal(@Define("cond") String cond, @BindMap Map<String, String> bindings);
+
     @Deprecated(since = "Release 1.1")
     @ConnectionAwareSqlUpdate(
         value =
@@ -2255,6 +2613,15 @@ public interface CollectionDAO {
       }
     }
 
+    class TagLabelWithTargetMapper implements RowMapper<Pair<String, TagLabel>> {
+      private final TagLabelMapper tagLabelMapper = new TagLabelMapper();
+
+      @Override
+      public Pair<String, TagLabel> map(ResultSet r, StatementContext ctx) throws SQLException {
+        return Pair.of(r.getString("targetFQNHash"), tagLabelMapper.map(r, ctx));
+      }
+    }
+
     @Getter
     @Setter
     @Deprecated(since = "Release 1.1")
@@ -2466,6 +2833,17 @@ public interface CollectionDAO {
             + "(SELECT toId FROM entity_relationship "
             + "WHERE fromId != :teamId AND fromEntity = 'team' AND relation = :relation AND toEntity = 'team')")
     List<String> listTeamsUnderOrganization(@BindUUID("teamId") UUID teamId, @Bind("relation") int relation);
+
+    @SqlQuery("SELECT id, name FROM team_entity WHERE deleted = FALSE")
+    @RegisterRowMapper(TeamNameMapper.class)
+    List<Pair<String, String>> listTeamNames();
+
+    class TeamNameMapper implements RowMapper<Pair<String, String>> {
+      @Override
+      public Pair<String, String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return Pair.of(rs.getString("id"), rs.getString("name"));
+      }
+    }
   }
 
   interface TopicDAO extends EntityDAO<Topic> {
@@ -2557,27 +2935,36 @@ public interface CollectionDAO {
             + "WHERE usageDate IN (SELECT MAX(usageDate) FROM entity_usage WHERE id = :id) AND id = :id")
     UsageDetails getLatestUsage(@Bind("id") String id);
 
+    /** Get latest usage record of each of the given entities */
+    @SqlQuery(
+        "SELECT u.id, u.usageDate, u.entityType, u.count1, u.count7, u.count30, "
+            + "u.percentile1, u.percentile7, u.percentile30 FROM entity_usage u "
+            + "JOIN (SELECT id, MAX(usageDate) AS usageDate FROM entity_usage WHERE id IN (<ids>) GROUP BY id) latest "
+            + "ON u.id = latest.id AND u.usageDate = latest.usageDate")
+    @RegisterRowMapper(UsageDetailsWithIdMapper.class)
+    List<Pair<String, UsageDetails>> getLatestUsageBatch(@BindList("ids") List<String> ids);
+
     @SqlUpdate("DELETE FROM entity_usage WHERE id = :id")
     void delete(@BindUUID("id") UUID id);
 
+    @SqlUpdate("DELETE FROM entity_usage WHERE id IN (<ids>)")
+    void delete(@BindList("ids") List<String> ids);
+
     /**
-     * TODO: Not sure I get what the next comment means, but tests now use mysql 8 so maybe tests can be improved here
-     * Note not using in following percentile computation PERCENT_RANK function as unit tests use mysql5.7, and it does
-     * not have window function
+     * Percentile rank of the daily, weekly and monthly counts of each entity among the entities of the same type on the
+     * given date, as the percentage of entities with a lower count. The ranks are computed in a single pass over the
+     * usage of the date with window functions, where RANK() - 1 is the number of entities with a lower count.
      */
     @ConnectionAwareSqlUpdate(
         value =
             "UPDATE entity_usage u JOIN ( "
-                + "SELECT u1.id, "
-                + "(SELECT COUNT(*) FROM entity_usage as u2 WHERE u2.count1 <  u1.count1 AND u2.entityType = :entityType "
-                + "AND u2.usageDate = :date) as p1, "
-                + "(SELECT COUNT(*) FROM entity_usage as u3 WHERE u3.count7 <  u1.count7 AND u3.entityType = :entityType "
-                + "AND u3.usageDate = :date) as p7, "
-                + "(SELECT COUNT(*) FROM entity_usage as u4 WHERE u4.count30 <  u1.count30 AND u4.entityType = :entityType "
-                + "AND u4.usageDate = :date) as p30, "
-                + "(SELECT COUNT(*) FROM entity_usage WHERE entityType = :entityType AND usageDate = :date) as total "
-                + "FROM entity_usage u1 WHERE u1.entityType = :entityType AND u1.usageDate = :date"
-                + ") vals ON u.id = vals.id AND usageDate = :date "
+                + "SELECT id, "
+                + "RANK() OVER (ORDER BY count1) - 1 AS p1, "
+                + "RANK() OVER (ORDER BY count7) - 1 AS p7, "
+                + "RANK() OVER (ORDER BY count30) - 1 AS p30, "
+                + "COUNT(*) OVER () AS total "
+                + "FROM entity_usage WHERE entityType = :entityType AND usageDate = :date"
+                + ") vals ON u.id = vals.id AND u.usageDate = :date "
                 + "SET u.percentile1 = ROUND(100 * p1/total, 2), u.percentile7 = ROUND(p7 * 100/total, 2), u.percentile30 ="
                 + " ROUND(p30*100/total, 2)",
         connectionType = MYSQL)
@@ -2586,15 +2973,14 @@ public interface CollectionDAO {
             "UPDATE entity_usage u "
                 + "SET percentile1 = ROUND(100 * p1 / total, 2), percentile7 = ROUND(p7 * 100 / total, 2), percentile30 = ROUND(p30 * 100 / total, 2) "
                 + "FROM ("
-                + "   SELECT u1.id, "
-                + "       (SELECT COUNT(*) FROM entity_usage as u2 WHERE u2.count1 < u1.count1 AND u2.entityType = :entityType AND u2.usageDate = (:date :: date)) as p1, "
-                + "       (SELECT COUNT(*) FROM entity_usage as u3 WHERE u3.count7 < u1.count7 AND u3.entityType = :entityType AND u3.usageDate = (:date :: date)) as p7, "
-                + "       (SELECT COUNT(*) FROM entity_usage as u4 WHERE u4.count30 < u1.count30 AND u4.entityType = :entityType AND u4.usageDate = (:date :: date)) as p30, "
-                + "       (SELECT COUNT(*) FROM entity_usage WHERE entityType = :entityType AND usageDate = (:date :: date)"
-                + "   ) as total FROM entity_usage u1 "
-                + "   WHERE u1.entityType = :entityType AND u1.usageDate = (:date :: date)"
+                + "   SELECT id, "
+                + "       RANK() OVER (ORDER BY count1) - 1 AS p1, "
+                + "       RANK() OVER (ORDER BY count7) - 1 AS p7, "
+                + "       RANK() OVER (ORDER BY count30) - 1 AS p30, "
+                + "       COUNT(*) OVER () AS total "
+                + "   FROM entity_usage WHERE entityType = :entityType AND usageDate = (:date :: date)"
                 + ") vals "
-                + "WHERE u.id = vals.id AND usageDate = (:date :: date);",
+                + "WHERE u.id = vals.id AND u.usageDate = (:date :: date)",
         connectionType = POSTGRES)
     void computePercentile(@Bind("entityType") String entityType, @Bind("date") String date);
 
@@ -2614,6 +3000,15 @@ public interface CollectionDAO {
             .withMonthlyStats(monthlyStats);
       }
     }
+
+    class UsageDetailsWithIdMapper implements RowMapper<Pair<String, UsageDetails>> {
+      private final UsageDetailsMapper usageDetailsMapper = new UsageDetailsMapper();
+
+      @Override
+      public Pair<String, UsageDetails> map(ResultSet r, StatementContext ctx) throws SQLException {
+        return Pair.of(r.getString("id"), usageDetailsMapper.map(r, ctx));
+      }
+    }
   }
 
   interface UserDAO extends EntityDAO<User> {
@@ -2909,30 +3304,115 @@ public interface CollectionDAO {
     @SqlUpdate("DELETE FROM change_event WHERE entityType = :entityType")
     void deleteAll(@Bind("entityType") String entityType);
 
-    default List<String> list(String eventType, List<String> entityTypes, long timestamp) {
-      if (CommonUtil.nullOrEmpty(entityTypes)) {
-        return Collections.emptyList();
-      }
-      if (entityTypes.get(0).equals("*")) {
-        return listWithoutEntityFilter(eventType, timestamp);
-      }
-      return listWithEntityFilter(eventType, entityTypes, timestamp);
-    }
+    /** Events matching the condition in the order of event time, with the event offset breaking ties */
+    @RegisterRowMapper(ChangeEventRecordMapper.class)
+    @SqlQuery(
+        "SELECT eventOffset, eventTime, json FROM change_event <cond> "
+            + "ORDER BY eventTime, eventOffset LIMIT :limit")
+    List<ChangeEventRecord> list(@Define("cond") String cond, @BindMap Map<String, Object> bindings);
 
+    /** Delete up to {@code limit} events older than the cutoff time, and at or before the given offset */
+    @ConnectionAwareSqlUpdate(
+        value =
+            "DELETE FROM change_event WHERE eventTime < :cutoff AND eventOffset <= :maxOffset "
+                + "ORDER BY eventOffset LIMIT :limit",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "DELETE FROM change_event WHERE eventOffset IN (SELECT eventOffset FROM change_event "
+                + "WHERE eventTime < :cutoff AND eventOffset <= :maxOffset ORDER BY eventOffset LIMIT :limit)",
+        connectionType = POSTGRES)
+    int deleteBefore(@Bind("cutoff") long cutoff, @Bind("maxOffset") long maxOffset, @Bind("limit") int limit);
+
+    @SqlQuery("SELECT MIN(eventTime) FROM change_event")
+    Long getOldestEventTime();
+
+    @RegisterRowMapper(ChangeEventRecordMapper.class)
     @SqlQuery(
-        "SELECT json FROM change_event WHERE "
-            + "eventType = :eventType AND (entityType IN (<entityTypes>)) AND eventTime >= :timestamp "
-            + "ORDER BY eventTime ASC")
-    List<String> listWithEntityFilter(
-        @Bind("eventType") String eventType,
-        @BindList("entityTypes") List<String> entityTypes,
-        @Bind("timestamp") long timestamp);
+        "SELECT eventOffset, eventTime, json FROM change_event WHERE eventOffset > :offset "
+            + "ORDER BY eventOffset LIMIT :limit")
+    List<ChangeEventRecord> listAfterOffset(@Bind("offset") long offset, @Bind("limit") int limit);
+
+    @SqlQuery("SELECT COALESCE(MAX(eventOffset), 0) FROM change_event")
+    long getLatestOffset();
 
     @SqlQuery(
-        "SELECT json FROM change_event WHERE "
-            + "eventType = :eventType AND eventTime >= :timestamp "
-            + "ORDER BY eventTime ASC")
-    List<String> listWithoutEntityFilter(@Bind("eventType") String eventType, @Bind("timestamp") long timestamp);
+        "SELECT eventOffset FROM change_event WHERE eventTime >= :eventTime ORDER BY eventTime, eventOffset LIMIT 1")
+    Long getFirstOffsetSince(@Bind("eventTime") long eventTime);
+
+    @Getter
+    @Builder
+    class ChangeEventRecord {
+      private long offset;
+      private long eventTime;
+      private String json;
+    }
+
+    class ChangeEventRecordMapper implements RowMapper<ChangeEventRecord> {
+      @Override
+      public ChangeEventRecord map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return ChangeEventRecord.builder()
+            .offset(rs.getLong("eventOffset"))
+            .eventTime(rs.getLong("eventTime"))
+            .json(rs.getString("json"))
+            .build();
+      }
+    }
+  }
+
+  /**
+   * Offsets in the change event log up to which the change event consumers have processed the events, and the leases of
+   * the servers running the consumers
+   */
+  interface ChangeEventConsumerDAO {
+    @SqlQuery("SELECT eventOffset FROM change_event_consumers WHERE id = :id")
+    Long getOffset(@Bind("id") String id);
+
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT IGNORE INTO change_event_consumers(id, eventOffset, updatedAt) VALUES (:id, :offset, :updatedAt)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO change_event_consumers(id, eventOffset, updatedAt) VALUES (:id, :offset, :updatedAt) "
+                + "ON CONFLICT (id) DO NOTHING",
+        connectionType = POSTGRES)
+    void insertIfAbsent(@Bind("id") String id, @Bind("offset") long offset, @Bind("updatedAt") long updatedAt);
+
+    /** Take the lease of a consumer that is free or expired, or renew it. Returns 0 when another server holds it. */
+    @SqlUpdate(
+        "UPDATE change_event_consumers SET leaseOwner = :owner, leaseExpiry = :leaseExpiry WHERE id = :id "
+            + "AND (leaseOwner IS NULL OR leaseOwner = :owner OR leaseExpiry < :now)")
+    int acquireLease(
+        @Bind("id") String id,
+        @Bind("owner") String owner,
+        @Bind("now") long now,
+        @Bind("leaseExpiry") long leaseExpiry);
+
+    @SqlUpdate(
+        "UPDATE change_event_consumers SET leaseOwner = NULL, leaseExpiry = NULL "
+            + "WHERE id = :id AND leaseOwner = :owner")
+    void releaseLease(@Bind("id") String id, @Bind("owner") String owner);
+
+    /** Checkpoint the offset of a consumer. Returns 0 when the server does not hold the lease of the consumer. */
+    @SqlUpdate(
+        "UPDATE change_event_consumers SET eventOffset = :offset, updatedAt = :updatedAt "
+            + "WHERE id = :id AND leaseOwner = :owner")
+    int updateOffset(
+        @Bind("id") String id,
+        @Bind("owner") String owner,
+        @Bind("offset") long offset,
+        @Bind("updatedAt") long updatedAt);
+
+    @SqlUpdate("DELETE FROM change_event_consumers WHERE id = :id")
+    void delete(@Bind("id") String id);
+
+    /** Offset of the consumer that is the furthest behind, null when there are no consumers */
+    @SqlQuery("SELECT MIN(eventOffset) FROM change_event_consumers")
+    Long getMinOffset();
+
+    @SqlQuery("SELECT id FROM change_event_consumers WHERE eventOffset = :offset")
+    List<String> listAtOffset(@Bind("offset") long offset);
   }
 
   interface TypeEntityDAO extends EntityDAO<Type> {
@@ -3156,6 +3636,83 @@ public interface CollectionDAO {
     }
   }
 
+  /** Status of the latest result of each test case of a test suite, from which the test suite summary is computed */
+  interface TestSuiteResultSummaryDAO {
+    /** Store the result summary unless a more recent result of the test case is already stored */
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO test_suite_result_summary(testSuiteId, testCaseFQNHash, timestamp, status, json) "
+                + "VALUES (:testSuiteId, :testCaseFQNHash, :timestamp, :status, :json) "
+                + "ON DUPLICATE KEY UPDATE status = IF(:timestamp >= timestamp, :status, status), "
+                + "json = IF(:timestamp >= timestamp, :json, json), timestamp = GREATEST(timestamp, :timestamp)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO test_suite_result_summary(testSuiteId, testCaseFQNHash, timestamp, status, json) "
+                + "VALUES (:testSuiteId, :testCaseFQNHash, :timestamp, :status, :json :: jsonb) "
+                + "ON CONFLICT (testSuiteId, testCaseFQNHash) DO UPDATE SET timestamp = EXCLUDED.timestamp, "
+                + "status = EXCLUDED.status, json = EXCLUDED.json "
+                + "WHERE test_suite_result_summary.timestamp <= EXCLUDED.timestamp",
+        connectionType = POSTGRES)
+    void upsert(
+        @BindUUID("testSuiteId") UUID testSuiteId,
+        @BindFQN("testCaseFQNHash") String testCaseFQN,
+        @Bind("timestamp") long timestamp,
+        @Bind("status") String status,
+        @Bind("json") String json);
+
+    /** Replace the result summary stored for a result at or before the given time, after that result is deleted */
+    @ConnectionAwareSqlUpdate(
+        value =
+            "UPDATE test_suite_result_summary SET timestamp = :timestamp, status = :status, json = :json "
+                + "WHERE testCaseFQNHash = :testCaseFQNHash AND timestamp <= :deletedTimestamp",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "UPDATE test_suite_result_summary SET timestamp = :timestamp, status = :status, json = (:json :: jsonb) "
+                + "WHERE testCaseFQNHash = :testCaseFQNHash AND timestamp <= :deletedTimestamp",
+        connectionType = POSTGRES)
+    void replaceDeleted(
+        @BindFQN("testCaseFQNHash") String testCaseFQN,
+        @Bind("deletedTimestamp") long deletedTimestamp,
+        @Bind("timestamp") long timestamp,
+        @Bind("status") String status,
+        @Bind("json") String json);
+
+    @SqlUpdate(
+        "DELETE FROM test_suite_result_summary "
+            + "WHERE testCaseFQNHash = :testCaseFQNHash AND timestamp <= :deletedTimestamp")
+    void deleteDeleted(@BindFQN("testCaseFQNHash") String testCaseFQN, @Bind("deletedTimestamp") long deletedTimestamp);
+
+    @SqlUpdate(
+        "DELETE FROM test_suite_result_summary "
+            + "WHERE testSuiteId = :testSuiteId AND testCaseFQNHash = :testCaseFQNHash")
+    void delete(@BindUUID("testSuiteId") UUID testSuiteId, @BindFQN("testCaseFQNHash") String testCaseFQN);
+
+    @SqlUpdate("DELETE FROM test_suite_result_summary WHERE testCaseFQNHash = :testCaseFQNHash")
+    void deleteByTestCase(@BindFQN("testCaseFQNHash") String testCaseFQN);
+
+    @SqlUpdate("DELETE FROM test_suite_result_summary WHERE testSuiteId = :testSuiteId")
+    void deleteByTestSuite(@BindUUID("testSuiteId") UUID testSuiteId);
+
+    @SqlQuery("SELECT json FROM test_suite_result_summary WHERE testSuiteId = :testSuiteId")
+    List<String> listByTestSuite(@BindUUID("testSuiteId") UUID testSuiteId);
+
+    /** Count of the test cases of the test suites by status of their latest result */
+    @RegisterRowMapper(StatusCountMapper.class)
+    @SqlQuery(
+        "SELECT status, COUNT(*) AS count FROM test_suite_result_summary "
+            + "WHERE testSuiteId IN (<testSuiteIds>) GROUP BY status")
+    List<Pair<String, Integer>> countByStatus(@BindList("testSuiteIds") List<String> testSuiteIds);
+
+    class StatusCountMapper implements RowMapper<Pair<String, Integer>> {
+      @Override
+      public Pair<String, Integer> map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return Pair.of(rs.getString("status"), rs.getInt("count"));
+      }
+    }
+  }
+
   interface TestCaseDAO extends EntityDAO<TestCase> {
     @Override
     default String getTableName() {
@@ -3317,6 +3874,62 @@ public interface CollectionDAO {
     }
   }
 
+  interface ProfilerDataLatestDAO {
+    /** Store the profiles unless a more recent profile of the same entity is already stored */
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO profiler_data_latest(entityFQNHash, extension, timestamp, json) VALUES <values> "
+                + "ON DUPLICATE KEY UPDATE json = IF(VALUES(timestamp) >= timestamp, VALUES(json), json), "
+                + "timestamp = GREATEST(timestamp, VALUES(timestamp))",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO profiler_data_latest(entityFQNHash, extension, timestamp, json) "
+                + "SELECT entityFQNHash, extension, timestamp, (json :: jsonb) "
+                + "FROM (VALUES <values>) AS v(entityFQNHash, extension, timestamp, json) "
+                + "ON CONFLICT (entityFQNHash, extension) DO UPDATE SET timestamp = EXCLUDED.timestamp, "
+                + "json = EXCLUDED.json WHERE profiler_data_latest.timestamp <= EXCLUDED.timestamp",
+        connectionType = POSTGRES)
+    void bulkUpsert(
+        @BindBeanList(
+                value = "values",
+                propertyNames = {"entityFQNHash", "extension", "timestamp", "json"})
+            List<TimeSeriesRecord> records);
+
+    /** Upsert the profiles in batches of {@link EntityDAO#BATCH_SIZE}. A batch must have one profile per entity */
+    default void upsert(List<TimeSeriesRecord> records) {
+      for (List<TimeSeriesRecord> batch : Lists.partition(records, EntityDAO.BATCH_SIZE)) {
+        bulkUpsert(batch);
+      }
+    }
+
+    @SqlQuery("SELECT json FROM profiler_data_latest WHERE entityFQNHash = :entityFQNHash AND extension = :extension")
+    String getLatest(@BindFQN("entityFQNHash") String entityFQN, @Bind("extension") String extension);
+
+    /** Latest profiles of the entities with the given FQN hashes, as pairs of FQN hash and profile */
+    @RegisterRowMapper(LatestProfileMapper.class)
+    @SqlQuery(
+        "SELECT entityFQNHash, json FROM profiler_data_latest "
+            + "WHERE entityFQNHash IN (<entityFQNHashes>) AND extension = :extension")
+    List<Pair<String, String>> listLatest(
+        @BindList("entityFQNHashes") List<String> entityFQNHashes, @Bind("extension") String extension);
+
+    @SqlUpdate(
+        "DELETE FROM profiler_data_latest "
+            + "WHERE entityFQNHash = :entityFQNHash AND extension = :extension AND timestamp = :timestamp")
+    int deleteAtTimestamp(
+        @BindFQN("entityFQNHash") String entityFQN,
+        @Bind("extension") String extension,
+        @Bind("timestamp") Long timestamp);
+
+    class LatestProfileMapper implements RowMapper<Pair<String, String>> {
+      @Override
+      public Pair<String, String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return Pair.of(rs.getString("entityFQNHash"), rs.getString("json"));
+      }
+    }
+  }
+
   interface DataQualityDataTimeSeriesDAO extends EntityTimeSeriesDAO {
     @Override
     default String getTimeSeriesTableName() {
@@ -3860,4 +4473,45 @@ public interface CollectionDAO {
         @Define("mysqlCond") String mysqlCond,
         @Define("psqlCond") String psqlCond);
   }
+
+  interface SearchIndexPendingWriteDAO {
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO search_index_pending_write(entityId, entityType, queuedAt) "
+                + "VALUES (:entityId, :entityType, :queuedAt) "
+                + "ON DUPLICATE KEY UPDATE entityType = :entityType, queuedAt = :queuedAt",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO search_index_pending_write(entityId, entityType, queuedAt) "
+                + "VALUES (:entityId, :entityType, :queuedAt) "
+                + "ON CONFLICT (entityId) DO UPDATE SET entityType = EXCLUDED.entityType, queuedAt = EXCLUDED.queuedAt",
+        connectionType = POSTGRES)
+    void insert(
+        @BindUUID("entityId") UUID entityId, @Bind("entityType") String entityType, @Bind("queuedAt") long queuedAt);
+
+    /** Delete the pending write unless the entity was queued again after the given time */
+    @SqlUpdate("DELETE FROM search_index_pending_write WHERE entityId = :entityId AND queuedAt <= :queuedAt")
+    void delete(@BindUUID("entityId") UUID entityId, @Bind("queuedAt") long queuedAt);
+
+    @RegisterRowMapper(PendingWriteMapper.class)
+    @SqlQuery(
+        "SELECT entityId, entityType FROM search_index_pending_write WHERE entityId > :after "
+            + "ORDER BY entityId LIMIT :limit")
+    List<PendingWrite> listAfter(@Bind("after") String after, @Bind("limit") int limit);
+
+    @Getter
+    @Builder
+    class PendingWrite {
+      private String entityId;
+      private String entityType;
+    }
+
+    class PendingWriteMapper implements RowMapper<PendingWrite> {
+      @Override
+      public PendingWrite map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return PendingWrite.builder().entityId(rs.getString("entityId")).entityType(rs.getString("entityType")).build();
+      }
+    }
+  }
 }
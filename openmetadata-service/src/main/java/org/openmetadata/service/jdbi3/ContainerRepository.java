@@ -47,6 +47,7 @@ public class ContainerRepository extends EntityRepository<Container> {
         CONTAINER_PATCH_FIELDS,
         CONTAINER_UPDATE_FIELDS);
     supportsSearch = true;
+    supportsBatchDelete = true;
   }
 
   @Override
@@ -66,9 +67,14 @@ public class ContainerRepository extends EntityRepository<Container> {
   }
 
   private void populateDataModelColumnTags(boolean setTags, List<Column> columns) {
+    if (setTags) {
+      // The container FQN is also the prefix of the nested containers, so the tags are read by the column FQNs
+      populateColumnTagsByColumnFqns(columns);
+      return;
+    }
     for (Column c : listOrEmpty(columns)) {
-      c.setTags(setTags ? getTags(c.getFullyQualifiedName()) : null);
-      populateDataModelColumnTags(setTags, c.getChildren());
+      c.setTags(null);
+      populateDataModelColumnTags(false, c.getChildren());
     }
   }
 
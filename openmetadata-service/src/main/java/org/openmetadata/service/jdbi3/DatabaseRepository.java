@@ -35,6 +35,7 @@ public class DatabaseRepository extends EntityRepository<Database> {
   public DatabaseRepository(CollectionDAO dao) {
     super(DatabaseResource.COLLECTION_PATH, Entity.DATABASE, Database.class, dao.databaseDAO(), dao, "", "");
     supportsSearch = true;
+    supportsBatchDelete = true;
   }
 
   @Override
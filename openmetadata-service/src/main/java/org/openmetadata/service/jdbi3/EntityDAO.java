@@ -19,10 +19,20 @@ import static org.openmetadata.service.jdbi3.ListFilter.escapeApostrophe;
 import static org.openmetadata.service.jdbi3.locator.ConnectionType.MYSQL;
 import static org.openmetadata.service.jdbi3.locator.ConnectionType.POSTGRES;
 
+import com.google.common.collect.Lists;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.SneakyThrows;
+import org.apache.commons.lang3.tuple.Pair;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.customizer.Define;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
@@ -39,6 +49,12 @@ import org.openmetadata.service.util.jdbi.BindFQN;
 import org.openmetadata.service.util.jdbi.BindUUID;
 
 public interface EntityDAO<T extends EntityInterface> {
+  /** Maximum number of ids bound in a single IN list */
+  int BATCH_SIZE = 1000;
+
+  /** Maximum number of FQN prefixes matched with LIKE in a single statement */
+  int PREFIX_BATCH_SIZE = 100;
+
   org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(EntityDAO.class);
 
   /** Methods that need to be overridden by interfaces extending this */
@@ -125,6 +141,15 @@ public interface EntityDAO<T extends EntityInterface> {
   @SqlQuery("SELECT json FROM <table> WHERE id = :id <cond>")
   String findById(@Define("table") String table, @BindUUID("id") UUID id, @Define("cond") String cond);
 
+  @SqlQuery("SELECT json FROM <table> WHERE id IN (<ids>)")
+  List<String> findByIds(@Define("table") String table, @BindList("ids") List<String> ids);
+
+  @SqlQuery("SELECT <nameHashColumn> FROM <table> WHERE id IN (<ids>)")
+  List<String> findNameHashesByIds(
+      @Define("table") String table,
+      @Define("nameHashColumn") String nameHashColumn,
+      @BindList("ids") List<String> ids);
+
   @SqlQuery("SELECT json FROM <table> WHERE <nameColumn> = :name <cond>")
   String findByName(
       @Define("table") String table,
@@ -226,6 +251,19 @@ public interface EntityDAO<T extends EntityInterface> {
   @SqlQuery("SELECT json FROM <table> LIMIT :limit OFFSET :offset")
   List<String> listAfterWithOffset(@Define("table") String table, @Bind("limit") int limit, @Bind("offset") int offset);
 
+  @RegisterRowMapper(NameHashAndJsonMapper.class)
+  @SqlQuery(
+      "SELECT <nameHashColumn>, json FROM <table> <cond> AND "
+          + "<nameHashColumn> > :after "
+          + "ORDER BY <nameHashColumn> "
+          + "LIMIT :limit")
+  List<Pair<String, String>> listAfterByNameHash(
+      @Define("table") String table,
+      @Define("nameHashColumn") String nameHashColumn,
+      @Define("cond") String cond,
+      @Bind("limit") int limit,
+      @Bind("after") String after);
+
   @SqlQuery("SELECT json FROM <table> WHERE <nameHashColumn> = '' or <nameHashColumn> is null LIMIT :limit")
   List<String> migrationListAfterWithOffset(
       @Define("table") String table, @Define("nameHashColumn") String nameHashColumnName, @Bind("limit") int limit);
@@ -250,6 +288,9 @@ public interface EntityDAO<T extends EntityInterface> {
   @SqlUpdate("DELETE FROM <table> WHERE id = :id")
   int delete(@Define("table") String table, @BindUUID("id") UUID id);
 
+  @SqlUpdate("DELETE FROM <table> WHERE id IN (<ids>)")
+  int delete(@Define("table") String table, @BindList("ids") List<String> ids);
+
   /** Default methods that interfaces with implementation. Don't override */
   default void insert(EntityInterface entity, String fqn) {
     insert(getTableName(), getNameHashColumn(), fqn, JsonUtils.pojoToJson(entity));
@@ -296,6 +337,16 @@ public interface EntityDAO<T extends EntityInterface> {
     return jsonToEntity(findById(getTableName(), id, getCondition(include)), id);
   }
 
+  /** Find the entities with the given ids, including deleted ones. Entities that do not exist are skipped. */
+  default List<T> findEntitiesByIds(List<UUID> ids) {
+    List<T> entities = new ArrayList<>();
+    for (List<UUID> batch : Lists.partition(ids, BATCH_SIZE)) {
+      List<String> jsons = findByIds(getTableName(), batch.stream().map(UUID::toString).collect(Collectors.toList()));
+      jsons.forEach(json -> entities.add(JsonUtils.readValue(json, getEntityClass())));
+    }
+    return entities;
+  }
+
   default T findEntityById(UUID id) {
     return findEntityById(id, Include.NON_DELETED);
   }
@@ -353,6 +404,16 @@ public interface EntityDAO<T extends EntityInterface> {
     return listAfterWithOffset(getTableName(), limit, offset);
   }
 
+  /**
+   * Forward scrolling by seeking past the name hash of the last row of the previous page. Name hash is unique and
+   * indexed, so every page costs the same irrespective of how deep into the table it is, unlike paging with OFFSET.
+   * Returns pairs of name hash and entity json.
+   */
+  default List<Pair<String, String>> listAfterByNameHash(ListFilter filter, int limit, String afterNameHash) {
+    return listAfterByNameHash(
+        getTableName(), getNameHashColumn(), filter.getCondition(), limit, afterNameHash == null ? "" : afterNameHash);
+  }
+
   default List<String> migrationListAfterWithOffset(int limit, String nameHashColumn) {
     // No ordering
     return migrationListAfterWithOffset(getTableName(), nameHashColumn, limit);
@@ -384,4 +445,21 @@ public interface EntityDAO<T extends EntityInterface> {
     }
     return rowsDeleted;
   }
+
+  /** Delete the entities with the given ids, ignoring the ids of entities that do not exist */
+  default int delete(List<String> ids) {
+    return delete(getTableName(), ids);
+  }
+
+  default List<String> findNameHashes(List<String> ids) {
+    return findNameHashesByIds(getTableName(), getNameHashColumn(), ids);
+  }
+
+  class NameHashAndJsonMapper implements RowMapper<Pair<String, String>> {
+    @Override
+    public Pair<String, String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+      // Column name of the name hash differs across entities, hence read by position
+      return Pair.of(rs.getString(1), rs.getString(2));
+    }
+  }
 }
@@ -48,7 +48,9 @@ import static org.openmetadata.service.search.SearchRepository.ADD;
 import static org.openmetadata.service.search.SearchRepository.DEFAULT_UPDATE_SCRIPT;
 import static org.openmetadata.service.search.SearchRepository.DELETE;
 import static org.openmetadata.service.search.SearchRepository.UPDATE;
+import static org.openmetadata.service.util.EntityUtil.columnNameKey;
 import static org.openmetadata.service.util.EntityUtil.compareTagLabel;
+import static org.openmetadata.service.util.EntityUtil.entityReferenceKey;
 import static org.openmetadata.service.util.EntityUtil.entityReferenceMatch;
 import static org.openmetadata.service.util.EntityUtil.fieldAdded;
 import static org.openmetadata.service.util.EntityUtil.fieldDeleted;
@@ -58,19 +60,18 @@ import static org.openmetadata.service.util.EntityUtil.getExtensionField;
 import static org.openmetadata.service.util.EntityUtil.nextMajorVersion;
 import static org.openmetadata.service.util.EntityUtil.nextVersion;
 import static org.openmetadata.service.util.EntityUtil.objectMatch;
+import static org.openmetadata.service.util.EntityUtil.tagLabelKey;
 import static org.openmetadata.service.util.EntityUtil.tagLabelMatch;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.common.collect.Lists;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.ValidationMessage;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -82,19 +83,14 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import javax.annotation.CheckForNull;
 import javax.json.JsonPatch;
-import javax.validation.constraints.NotNull;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.UriInfo;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.EntityInterface;
@@ -128,19 +124,23 @@ import org.openmetadata.schema.utils.EntityInterfaceUtil;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.OpenMetadataApplicationConfig;
 import org.openmetadata.service.TypeRegistry;
+import org.openmetadata.service.cache.EntityCache;
+import org.openmetadata.service.cache.EntityCacheFactory;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.exception.UnhandledServerException;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipObject;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
-import org.openmetadata.service.jdbi3.CollectionDAO.EntityVersionPair;
 import org.openmetadata.service.jdbi3.CollectionDAO.ExtensionRecord;
 import org.openmetadata.service.jdbi3.FeedRepository.TaskWorkflow;
 import org.openmetadata.service.jdbi3.FeedRepository.ThreadContext;
+import org.openmetadata.service.resources.tags.TagDictionary;
 import org.openmetadata.service.resources.tags.TagLabelUtil;
 import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.EntityUtil.Fields;
 import org.openmetadata.service.util.FullyQualifiedName;
 import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.MatchIndex;
 import org.openmetadata.service.util.RestUtil;
 import org.openmetadata.service.util.RestUtil.DeleteResponse;
 import org.openmetadata.service.util.RestUtil.PatchResponse;
@@ -182,23 +182,14 @@ import org.openmetadata.service.util.ResultList;
 @Repository()
 public abstract class EntityRepository<T extends EntityInterface> {
 
-  public static final LoadingCache<Pair<String, String>, EntityInterface> CACHE_WITH_NAME =
-      CacheBuilder.newBuilder()
-          .maximumSize(5000)
-          .expireAfterWrite(30, TimeUnit.SECONDS)
-          .recordStats()
-          .build(new EntityLoaderWithName());
-  public static final LoadingCache<Pair<String, UUID>, EntityInterface> CACHE_WITH_ID =
-      CacheBuilder.newBuilder()
-          .maximumSize(5000)
-          .expireAfterWrite(30, TimeUnit.SECONDS)
-          .recordStats()
-          .build(new EntityLoaderWithId());
   private final String collectionPath;
   private final Class<T> entityClass;
   @Getter protected final String entityType;
   @Getter protected final EntityDAO<T> dao;
   @Getter protected final CollectionDAO daoCollection;
+  /** Cache of entities with only the core fields stored as JSON. Invalidated on every write of the entity */
+  @Getter protected final EntityCache<T> cache;
+
   @Getter protected final Set<String> allowedFields;
   public final boolean supportsSoftDelete;
   @Getter protected final boolean supportsTags;
@@ -214,6 +205,23 @@ public abstract class EntityRepository<T extends EntityInterface> {
   @Getter protected final boolean supportsExperts;
   protected boolean quoteFqn = false; // Entity fqns not hierarchical such user, teams, services need to be quoted
 
+  /**
+   * Common fields loaded for a whole page of entities with a few IN-list queries when listing entities. A repository
+   * that loads one of these fields in its own way removes it from this set.
+   */
+  protected final Set<String> bulkFields =
+      new HashSet<>(
+          Set.of(
+              FIELD_OWNER,
+              FIELD_TAGS,
+              FIELD_EXTENSION,
+              FIELD_DOMAIN,
+              FIELD_DATA_PRODUCTS,
+              FIELD_FOLLOWERS,
+              FIELD_EXPERTS,
+              FIELD_REVIEWERS,
+              FIELD_VOTES));
+
   /** Fields that can be updated during PATCH operation */
   @Getter private final Fields patchFields;
 
@@ -222,6 +230,13 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
   protected boolean supportsSearch = false;
 
+  /**
+   * Set to true for entities that can be hard deleted by {@link #deleteInBatch} when the entity containing them is
+   * deleted by a background delete job, because they don't need {@link #preDelete}, {@link #cleanup} or {@link
+   * #postDelete} to run for each entity.
+   */
+  @Getter protected boolean supportsBatchDelete = false;
+
   protected EntityRepository(
       String collectionPath,
       String entityType,
@@ -238,6 +253,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
     this.entityType = entityType;
     this.patchFields = getFields(patchFields);
     this.putFields = getFields(putFields);
+    this.cache = EntityCacheFactory.createEntityCache(entityType);
 
     this.supportsTags = allowedFields.contains(FIELD_TAGS);
     if (supportsTags) {
@@ -444,20 +460,16 @@ public abstract class EntityRepository<T extends EntityInterface> {
   /** Used for getting an entity with a set of requested fields */
   public final T get(UriInfo uriInfo, UUID id, Fields fields, Include include, boolean fromCache) {
     if (!fromCache) {
-      // Clear the cache and always get the entity from the database to ensure read-after-write consistency
-      CACHE_WITH_ID.invalidate(new ImmutablePair<>(entityType, id));
+      // Clear the cache and always get the entity from the database
+      cache.invalidate(id);
     }
-    // Find the entity from the cache. Set all the fields that are not already set
-    T entity = find(id, include);
+    // Find the entity from the cache and clone it. Cloning is necessary to ensure different threads making a call to
+    // this method don't overwrite the fields of the entity in the cache
+    T entity = JsonUtils.deepCopy(find(id, include), entityClass);
     setFieldsInternal(entity, fields);
     setInheritedFields(entity, fields);
-
-    // Clone the entity from the cache and reset all the fields that are not already set
-    // Cloning is necessary to ensure different threads making a call to this method don't
-    // overwrite the fields of the entity being returned
-    T entityClone = JsonUtils.deepCopy(entity, entityClass);
-    clearFieldsInternal(entityClone, fields);
-    return withHref(uriInfo, entityClone);
+    clearFieldsInternal(entity, fields);
+    return withHref(uriInfo, entity);
   }
 
   /** getReference is used for getting the entity references from the entity in the cache. */
@@ -466,20 +478,31 @@ public abstract class EntityRepository<T extends EntityInterface> {
   }
 
   /**
-   * Find method is used for getting an entity only with core fields stored as JSON without any relational fields set
+   * Get the references of the entities with the given ids, loading the entities missing from the cache in a single
+   * query. Ids of entities that do not exist or do not match {@code include} are skipped.
    */
-  public T find(UUID id, Include include) throws EntityNotFoundException {
-    try {
-      @SuppressWarnings("unchecked")
-      T entity = (T) CACHE_WITH_ID.get(new ImmutablePair<>(entityType, id));
+  public final List<EntityReference> getReferences(Collection<UUID> ids, Include include) {
+    List<EntityReference> references = new ArrayList<>();
+    for (T entity : cache.getAllById(ids, dao::findEntitiesByIds).values()) {
       if (include == NON_DELETED && Boolean.TRUE.equals(entity.getDeleted())
           || include == DELETED && !Boolean.TRUE.equals(entity.getDeleted())) {
-        throw new EntityNotFoundException(entityNotFound(entityType, id));
+        continue;
       }
-      return entity;
-    } catch (ExecutionException | UncheckedExecutionException e) {
+      references.add(entity.getEntityReference());
+    }
+    return references;
+  }
+
+  /**
+   * Find method is used for getting an entity only with core fields stored as JSON without any relational fields set
+   */
+  public T find(UUID id, Include include) throws EntityNotFoundException {
+    T entity = cache.getById(id, entityId -> dao.findEntityById(entityId, ALL));
+    if (include == NON_DELETED && Boolean.TRUE.equals(entity.getDeleted())
+        || include == DELETED && !Boolean.TRUE.equals(entity.getDeleted())) {
       throw new EntityNotFoundException(entityNotFound(entityType, id));
     }
+    return entity;
   }
 
   public T getByName(UriInfo uriInfo, String fqn, Fields fields) {
@@ -489,20 +512,16 @@ public abstract class EntityRepository<T extends EntityInterface> {
   public final T getByName(UriInfo uriInfo, String fqn, Fields fields, Include include, boolean fromCache) {
     fqn = quoteFqn ? EntityInterfaceUtil.quoteName(fqn) : fqn;
     if (!fromCache) {
-      // Clear the cache and always get the entity from the database to ensure read-after-write consistency
-      CACHE_WITH_NAME.invalidate(new ImmutablePair<>(entityType, fqn));
+      // Clear the cache and always get the entity from the database
+      cache.invalidateByName(fqn);
     }
-    // Find the entity from the cache. Set all the fields that are not already set
-    T entity = findByName(fqn, include);
+    // Find the entity from the cache and clone it. Cloning is necessary to ensure different threads making a call to
+    // this method don't overwrite the fields of the entity in the cache
+    T entity = JsonUtils.deepCopy(findByName(fqn, include), entityClass);
     setFieldsInternal(entity, fields);
     setInheritedFields(entity, fields);
-
-    // Clone the entity from the cache and reset all the fields that are not already set
-    // Cloning is necessary to ensure different threads making a call to this method don't
-    // overwrite the fields of the entity being returned
-    T entityClone = JsonUtils.deepCopy(entity, entityClass);
-    clearFieldsInternal(entityClone, fields);
-    return withHref(uriInfo, entityClone);
+    clearFieldsInternal(entity, fields);
+    return withHref(uriInfo, entity);
   }
 
   public final EntityReference getReferenceByName(String fqn, Include include) {
@@ -523,28 +542,19 @@ public abstract class EntityRepository<T extends EntityInterface> {
    */
   public T findByName(String fqn, Include include) {
     fqn = quoteFqn ? EntityInterfaceUtil.quoteName(fqn) : fqn;
-    try {
-      @SuppressWarnings("unchecked")
-      T entity = (T) CACHE_WITH_NAME.get(new ImmutablePair<>(entityType, fqn));
-      if (include == NON_DELETED && Boolean.TRUE.equals(entity.getDeleted())
-          || include == DELETED && !Boolean.TRUE.equals(entity.getDeleted())) {
-        throw new EntityNotFoundException(entityNotFound(entityType, fqn));
-      }
-      return entity;
-    } catch (ExecutionException | UncheckedExecutionException e) {
+    T entity = cache.getByName(fqn, name -> dao.findEntityByName(name, ALL));
+    if (include == NON_DELETED && Boolean.TRUE.equals(entity.getDeleted())
+        || include == DELETED && !Boolean.TRUE.equals(entity.getDeleted())) {
       throw new EntityNotFoundException(entityNotFound(entityType, fqn));
     }
+    return entity;
   }
 
   public final List<T> listAll(Fields fields, ListFilter filter) {
     // forward scrolling, if after == null then first page is being asked
     List<String> jsons = dao.listAfter(filter, Integer.MAX_VALUE, "");
-    List<T> entities = new ArrayList<>();
-    for (String json : jsons) {
-      T entity = setFieldsInternal(JsonUtils.readValue(json, entityClass), fields);
-      entity = clearFieldsInternal(entity, fields);
-      entities.add(entity);
-    }
+    List<T> entities = setFieldsInternal(JsonUtils.readObjects(jsons, entityClass), fields);
+    entities.forEach(entity -> clearFieldsInternal(entity, fields));
     return entities;
   }
 
@@ -555,8 +565,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
       // forward scrolling, if after == null then first page is being asked
       List<String> jsons = dao.listAfter(filter, limitParam + 1, after == null ? "" : RestUtil.decodeCursor(after));
 
-      for (String json : jsons) {
-        T entity = setFieldsInternal(JsonUtils.readValue(json, entityClass), fields);
+      for (T entity : setFieldsInternal(JsonUtils.readObjects(jsons, entityClass), fields)) {
         entity = clearFieldsInternal(entity, fields);
         entities.add(withHref(uriInfo, entity));
       }
@@ -577,16 +586,29 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
   public ResultList<T> listAfterWithSkipFailure(
       UriInfo uriInfo, Fields fields, ListFilter filter, int limitParam, String after) throws IOException {
+    return listAfterWithSkipFailure(uriInfo, fields, filter, limitParam, after, dao.listCount(filter));
+  }
+
+  /**
+   * Same as {@link #listAfterWithSkipFailure(UriInfo, Fields, ListFilter, int, String)} for callers that walk the whole
+   * table, such as the reindexing jobs, and count the entities once up front instead of once per page.
+   */
+  public ResultList<T> listAfterWithSkipFailure(
+      UriInfo uriInfo, Fields fields, ListFilter filter, int limitParam, String after, int total) throws IOException {
     List<String> errors = new ArrayList<>();
     List<T> entities = new ArrayList<>();
-    int beforeOffset = Integer.parseInt(RestUtil.decodeCursor(after));
-    int currentOffset = beforeOffset;
-    int total = dao.listCount(filter);
     if (limitParam > 0) {
       // forward scrolling, if after == null then first page is being asked
-      List<String> jsons = dao.listAfterWithOffset(limitParam, currentOffset);
+      String afterNameHash = RestUtil.decodeCursor(after);
+      List<Pair<String, String>> rows = dao.listAfterByNameHash(filter, limitParam + 1, afterNameHash);
 
-      for (String json : jsons) {
+      String afterCursor = null;
+      if (rows.size() > limitParam) { // If extra result exists, then next page exists - return after cursor
+        rows = rows.subList(0, limitParam);
+        afterCursor = rows.get(limitParam - 1).getLeft();
+      }
+      for (Pair<String, String> row : rows) {
+        String json = row.getRight();
         try {
           T entity = setFieldsInternal(JsonUtils.readValue(json, entityClass), fields);
           entity = clearFieldsInternal(entity, fields);
@@ -596,9 +618,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
           errors.add(json);
         }
       }
-      currentOffset = currentOffset + limitParam;
-      String newAfter = currentOffset > total ? null : String.valueOf(currentOffset);
-      return getResultList(entities, errors, String.valueOf(beforeOffset), newAfter, total);
+      return getResultList(entities, errors, afterNameHash, afterCursor, total);
     } else {
       // limit == 0 , return total count of entity.
       return getResultList(entities, errors, null, null, total);
@@ -610,8 +630,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
     List<String> jsons = dao.listBefore(filter, limitParam + 1, RestUtil.decodeCursor(before));
 
     List<T> entities = new ArrayList<>();
-    for (String json : jsons) {
-      T entity = setFieldsInternal(JsonUtils.readValue(json, entityClass), fields);
+    for (T entity : setFieldsInternal(JsonUtils.readObjects(jsons, entityClass), fields)) {
       entity = clearFieldsInternal(entity, fields);
       entities.add(withHref(uriInfo, entity));
     }
@@ -629,10 +648,9 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
   public T getVersion(UUID id, String version) {
     Double requestedVersion = Double.parseDouble(version);
-    String extension = EntityUtil.getVersionExtension(entityType, requestedVersion);
 
     // Get previous version from version history
-    String json = daoCollection.entityExtensionDAO().getExtension(id, extension);
+    String json = getVersionHistory().get(id, requestedVersion);
     if (json != null) {
       return JsonUtils.readValue(json, entityClass);
     }
@@ -646,17 +664,26 @@ public abstract class EntityRepository<T extends EntityInterface> {
   }
 
   public EntityHistory listVersions(UUID id) {
-    T latest = setFieldsInternal(dao.findEntityById(id, ALL), putFields);
-    String extensionPrefix = EntityUtil.getVersionExtensionPrefix(entityType);
-    List<ExtensionRecord> records = daoCollection.entityExtensionDAO().getExtensions(id, extensionPrefix);
-    List<EntityVersionPair> oldVersions = new ArrayList<>();
-    records.forEach(r -> oldVersions.add(new EntityVersionPair(r)));
-    oldVersions.sort(EntityUtil.compareVersion.reversed());
+    return listVersions(id, Integer.MAX_VALUE, null);
+  }
+
+  /**
+   * Up to limit versions of the entity older than the given version, from the latest to the oldest. Without a version,
+   * the versions start with the current version of the entity.
+   */
+  public EntityHistory listVersions(UUID id, int limit, Double before) {
+    final List<Object> versions = new ArrayList<>();
+    if (before == null) {
+      T latest = setFieldsInternal(dao.findEntityById(id, ALL), putFields);
+      versions.add(JsonUtils.pojoToJson(latest));
+      before = latest.getVersion();
+    }
+    versions.addAll(getVersionHistory().list(id, before, limit - versions.size()));
+    return new EntityHistory().withEntityType(entityType).withVersions(versions);
+  }
 
-    final List<Object> allVersions = new ArrayList<>();
-    allVersions.add(JsonUtils.pojoToJson(latest));
-    oldVersions.forEach(version -> allVersions.add(version.getEntityJson()));
-    return new EntityHistory().withEntityType(entityType).withVersions(allVersions);
+  private EntityVersionHistory getVersionHistory() {
+    return new EntityVersionHistory(daoCollection.entityVersionDAO());
   }
 
   public final T create(UriInfo uriInfo, T entity) {
@@ -689,20 +716,277 @@ public abstract class EntityRepository<T extends EntityInterface> {
   }
 
   public T setFieldsInternal(T entity, Fields fields) {
-    entity.setOwner(fields.contains(FIELD_OWNER) ? getOwner(entity) : entity.getOwner());
-    entity.setTags(fields.contains(FIELD_TAGS) ? getTags(entity) : entity.getTags());
-    entity.setExtension(fields.contains(FIELD_EXTENSION) ? getExtension(entity) : entity.getExtension());
-    entity.setDomain(fields.contains(FIELD_DOMAIN) ? getDomain(entity) : entity.getDomain());
-    entity.setDataProducts(fields.contains(FIELD_DATA_PRODUCTS) ? getDataProducts(entity) : entity.getDataProducts());
-    entity.setFollowers(fields.contains(FIELD_FOLLOWERS) ? getFollowers(entity) : entity.getFollowers());
+    return setFieldsInternal(entity, fields, Collections.emptySet());
+  }
+
+  /**
+   * Set the fields of a page of entities. The {@link #bulkFields} are loaded for all the entities at once, then {@link
+   * #setFieldsInBulk(List, Fields)} loads the fields the repository opted in, and the remaining fields are set per
+   * entity.
+   */
+  public final List<T> setFieldsInternal(List<T> entities, Fields fields) {
+    if (entities.isEmpty()) {
+      return entities;
+    }
+    Set<String> loadedFields = new HashSet<>();
+    for (String field : bulkFields) {
+      if (fields.contains(field)) {
+        loadedFields.add(field);
+      }
+    }
+    if (!loadedFields.isEmpty()) {
+      setCommonFieldsInBulk(entities, loadedFields);
+    }
+    setFieldsInBulk(entities, fields);
+    for (T entity : entities) {
+      setFieldsInternal(entity, fields, loadedFields);
+    }
+    return entities;
+  }
+
+  /**
+   * Override this method to load repository specific fields for a page of entities with a few queries. {@link
+   * #setFields(EntityInterface, Fields)} is called for each entity afterwards and must not load again a field that is
+   * already set.
+   */
+  protected void setFieldsInBulk(List<T> entities, Fields fields) {
+    // Fields of a repository are loaded per entity by default
+  }
+
+  private T setFieldsInternal(T entity, Fields fields, Set<String> loadedFields) {
+    if (fields.contains(FIELD_OWNER) && !loadedFields.contains(FIELD_OWNER)) {
+      entity.setOwner(getOwner(entity));
+    }
+    if (fields.contains(FIELD_TAGS) && !loadedFields.contains(FIELD_TAGS)) {
+      entity.setTags(getTags(entity));
+    }
+    if (fields.contains(FIELD_EXTENSION) && !loadedFields.contains(FIELD_EXTENSION)) {
+      entity.setExtension(getExtension(entity));
+    }
+    if (fields.contains(FIELD_DOMAIN) && !loadedFields.contains(FIELD_DOMAIN)) {
+      entity.setDomain(getDomain(entity));
+    }
+    if (fields.contains(FIELD_DATA_PRODUCTS) && !loadedFields.contains(FIELD_DATA_PRODUCTS)) {
+      entity.setDataProducts(getDataProducts(entity));
+    }
+    if (fields.contains(FIELD_FOLLOWERS) && !loadedFields.contains(FIELD_FOLLOWERS)) {
+      entity.setFollowers(getFollowers(entity));
+    }
     entity.setChildren(fields.contains(FIELD_CHILDREN) ? getChildren(entity) : entity.getChildren());
-    entity.setExperts(fields.contains(FIELD_EXPERTS) ? getExperts(entity) : entity.getExperts());
-    entity.setReviewers(fields.contains(FIELD_REVIEWERS) ? getReviewers(entity) : entity.getReviewers());
-    entity.setVotes(fields.contains(FIELD_VOTES) ? getVotes(entity) : entity.getVotes());
+    if (fields.contains(FIELD_EXPERTS) && !loadedFields.contains(FIELD_EXPERTS)) {
+      entity.setExperts(getExperts(entity));
+    }
+    if (fields.contains(FIELD_REVIEWERS) && !loadedFields.contains(FIELD_REVIEWERS)) {
+      entity.setReviewers(getReviewers(entity));
+    }
+    if (fields.contains(FIELD_VOTES) && !loadedFields.contains(FIELD_VOTES)) {
+      entity.setVotes(getVotes(entity));
+    }
     setFields(entity, fields);
     return entity;
   }
 
+  private void setCommonFieldsInBulk(List<T> entities, Set<String> fields) {
+    List<String> ids = entities.stream().map(entity -> entity.getId().toString()).collect(Collectors.toList());
+    if (fields.contains(FIELD_OWNER)) {
+      Map<UUID, List<EntityReference>> owners =
+          supportsOwner ? findFromInBulk(ids, Relationship.OWNS, null) : Collections.emptyMap();
+      entities.forEach(entity -> entity.setOwner(single(entity, Relationship.OWNS, owners)));
+    }
+    if (fields.contains(FIELD_TAGS)) {
+      Map<String, List<TagLabel>> tags =
+          supportsTags
+              ? daoCollection
+                  .tagUsageDAO()
+                  .getTagsByTargets(entities.stream().map(T::getFullyQualifiedName).collect(Collectors.toSet()))
+              : Collections.emptyMap();
+      entities.forEach(entity -> entity.setTags(tags.get(entity.getFullyQualifiedName())));
+    }
+    if (fields.contains(FIELD_EXTENSION)) {
+      Map<UUID, Object> extensions = supportsExtension ? getExtensionsInBulk(ids) : Collections.emptyMap();
+      entities.forEach(entity -> entity.setExtension(extensions.get(entity.getId())));
+    }
+    if (fields.contains(FIELD_DOMAIN)) {
+      Map<UUID, List<EntityReference>> domains =
+          supportsDomain ? findFromInBulk(ids, Relationship.HAS, DOMAIN) : Collections.emptyMap();
+      entities.forEach(entity -> entity.setDomain(single(entity, Relationship.HAS, domains)));
+    }
+    if (fields.contains(FIELD_DATA_PRODUCTS) && supportsDataProducts) {
+      Map<UUID, List<EntityReference>> dataProducts = findFromInBulk(ids, Relationship.HAS, DATA_PRODUCT);
+      entities.forEach(entity -> entity.setDataProducts(sorted(dataProducts.get(entity.getId()))));
+    } else if (fields.contains(FIELD_DATA_PRODUCTS)) {
+      entities.forEach(entity -> entity.setDataProducts(null));
+    }
+    if (fields.contains(FIELD_FOLLOWERS)) {
+      Map<UUID, List<EntityReference>> followers =
+          supportsFollower ? findFromInBulk(ids, Relationship.FOLLOWS, USER) : Collections.emptyMap();
+      entities.forEach(entity -> entity.setFollowers(sorted(followers.get(entity.getId()))));
+    }
+    if (fields.contains(FIELD_EXPERTS) && supportsExperts) {
+      Map<UUID, List<EntityReference>> experts = findToInBulk(ids, Relationship.EXPERT, USER);
+      entities.forEach(entity -> entity.setExperts(sorted(experts.get(entity.getId()))));
+    } else if (fields.contains(FIELD_EXPERTS)) {
+      entities.forEach(entity -> entity.setExperts(null));
+    }
+    if (fields.contains(FIELD_REVIEWERS) && supportsReviewers) {
+      Map<UUID, List<EntityReference>> reviewers = findFromInBulk(ids, Relationship.REVIEWS, USER);
+      entities.forEach(entity -> entity.setReviewers(sorted(reviewers.get(entity.getId()))));
+    } else if (fields.contains(FIELD_REVIEWERS)) {
+      entities.forEach(entity -> entity.setReviewers(null));
+    }
+    if (fields.contains(FIELD_VOTES)) {
+      Map<UUID, Votes> votes = supportsVotes ? getVotesInBulk(ids) : Collections.emptyMap();
+      entities.forEach(entity -> entity.setVotes(votes.getOrDefault(entity.getId(), new Votes())));
+    }
+  }
+
+  /** Entities related to each of the given entities by {@code fromEntity -- relationship --> entity} */
+  private Map<UUID, List<EntityReference>> findFromInBulk(
+      List<String> toIds, Relationship relationship, String fromEntityType) {
+    List<EntityRelationshipObject> records = new ArrayList<>();
+    for (List<String> ids : Lists.partition(toIds, EntityDAO.BATCH_SIZE)) {
+      records.addAll(
+          fromEntityType == null
+              ? daoCollection.relationshipDAO().findFromBatch(ids, relationship.ordinal())
+              : daoCollection.relationshipDAO().findFromBatch(ids, relationship.ordinal(), fromEntityType));
+    }
+    Map<UUID, EntityReference> references =
+        getReferencesInBulk(records, EntityRelationshipObject::getFromEntity, EntityRelationshipObject::getFromId);
+    Map<UUID, List<EntityReference>> related = new HashMap<>();
+    for (EntityRelationshipObject rec : records) {
+      EntityReference reference = references.get(UUID.fromString(rec.getFromId()));
+      if (reference != null) {
+        related.computeIfAbsent(UUID.fromString(rec.getToId()), id -> new ArrayList<>()).add(reference);
+      } else {
+        LOG.warn(
+            "Possible database issues - missing {} {} related to {} {}",
+            rec.getFromEntity(),
+            rec.getFromId(),
+            rec.getToEntity(),
+            rec.getToId());
+      }
+    }
+    return related;
+  }
+
+  /** Entities related to each of the given entities by {@code entity -- relationship --> toEntity} */
+  private Map<UUID, List<EntityReference>> findToInBulk(
+      List<String> fromIds, Relationship relationship, String toEntityType) {
+    List<EntityRelationshipObject> records = new ArrayList<>();
+    for (List<String> ids : Lists.partition(fromIds, EntityDAO.BATCH_SIZE)) {
+      records.addAll(daoCollection.relationshipDAO().findToBatch(ids, relationship.ordinal(), toEntityType));
+    }
+    Map<UUID, EntityReference> references =
+        getReferencesInBulk(records, EntityRelationshipObject::getToEntity, EntityRelationshipObject::getToId);
+    Map<UUID, List<EntityReference>> related = new HashMap<>();
+    for (EntityRelationshipObject rec : records) {
+      EntityReference reference = references.get(UUID.fromString(rec.getToId()));
+      if (reference != null) {
+        related.computeIfAbsent(UUID.fromString(rec.getFromId()), id -> new ArrayList<>()).add(reference);
+      } else {
+        LOG.warn(
+            "Possible database issues - missing {} {} related to {} {}",
+            rec.getToEntity(),
+            rec.getToId(),
+            rec.getFromEntity(),
+            rec.getFromId());
+      }
+    }
+    return related;
+  }
+
+  /** Load the references of the related entities with one query per entity type */
+  private static Map<UUID, EntityReference> getReferencesInBulk(
+      List<EntityRelationshipObject> records,
+      Function<EntityRelationshipObject, String> entityType,
+      Function<EntityRelationshipObject, String> entityId) {
+    Map<String, Set<UUID>> idsByType = new HashMap<>();
+    for (EntityRelationshipObject rec : records) {
+      idsByType
+          .computeIfAbsent(entityType.apply(rec), type -> new HashSet<>())
+          .add(UUID.fromString(entityId.apply(rec)));
+    }
+    Map<UUID, EntityReference> references = new HashMap<>();
+    for (Entry<String, Set<UUID>> entry : idsByType.entrySet()) {
+      for (EntityReference reference : Entity.getEntityReferencesByIds(entry.getKey(), entry.getValue(), ALL)) {
+        references.put(reference.getId(), reference);
+      }
+    }
+    return references;
+  }
+
+  private Map<UUID, Object> getExtensionsInBulk(List<String> ids) {
+    String fieldFQNPrefix = TypeRegistry.getCustomPropertyFQNPrefix(entityType);
+    Map<UUID, Object> extensions = new HashMap<>();
+    for (List<String> batch : Lists.partition(ids, EntityDAO.BATCH_SIZE)) {
+      for (Pair<String, ExtensionRecord> row :
+          daoCollection.entityExtensionDAO().getExtensionsBatch(batch, fieldFQNPrefix)) {
+        ObjectNode objectNode =
+            (ObjectNode) extensions.computeIfAbsent(UUID.fromString(row.getLeft()), id -> JsonUtils.getObjectNode());
+        String fieldName = TypeRegistry.getPropertyName(row.getRight().getExtensionName());
+        objectNode.set(fieldName, JsonUtils.readTree(row.getRight().getExtensionJson()));
+      }
+    }
+    return extensions;
+  }
+
+  private Map<UUID, Votes> getVotesInBulk(List<String> ids) {
+    List<EntityRelationshipObject> records = new ArrayList<>();
+    for (List<String> batch : Lists.partition(ids, EntityDAO.BATCH_SIZE)) {
+      records.addAll(daoCollection.relationshipDAO().findFromBatch(batch, Relationship.VOTED.ordinal(), USER));
+    }
+    Map<UUID, EntityReference> voters =
+        getReferencesInBulk(records, EntityRelationshipObject::getFromEntity, EntityRelationshipObject::getFromId);
+    Map<UUID, Votes> votes = new HashMap<>();
+    for (String id : ids) {
+      votes.put(UUID.fromString(id), new Votes().withUpVoters(new ArrayList<>()).withDownVoters(new ArrayList<>()));
+    }
+    for (EntityRelationshipObject rec : records) {
+      Votes entityVotes = votes.get(UUID.fromString(rec.getToId()));
+      EntityReference voter = voters.get(UUID.fromString(rec.getFromId()));
+      if (voter == null) {
+        LOG.warn(
+            "Possible database issues - missing user {} voting for {} {}", rec.getFromId(), entityType, rec.getToId());
+        continue;
+      }
+      VoteRequest.VoteType type = JsonUtils.readValue(rec.getJson(), VoteRequest.VoteType.class);
+      if (type == VoteRequest.VoteType.VOTED_UP) {
+        entityVotes.getUpVoters().add(voter);
+      } else if (type == VoteRequest.VoteType.VOTED_DOWN) {
+        entityVotes.getDownVoters().add(voter);
+      }
+    }
+    votes.values().forEach(v -> v.withUpVotes(v.getUpVoters().size()).withDownVotes(v.getDownVoters().size()));
+    return votes;
+  }
+
+  /**
+   * The entity related to an entity by a relationship it can have only once, such as its owner. Multiple relations are
+   * logged as in {@link #ensureSingleRelationship}.
+   */
+  private EntityReference single(T entity, Relationship relationship, Map<UUID, List<EntityReference>> related) {
+    List<EntityReference> references = related.get(entity.getId());
+    if (nullOrEmpty(references)) {
+      return null;
+    }
+    if (references.size() != 1) {
+      LOG.warn(
+          "Possible database issues - multiple relations {} for entity {}:{}",
+          relationship.value(),
+          entityType,
+          entity.getId());
+    }
+    return references.get(0);
+  }
+
+  private static List<EntityReference> sorted(List<EntityReference> references) {
+    if (references == null) {
+      return new ArrayList<>();
+    }
+    references.sort(EntityUtil.compareEntityReference);
+    return references;
+  }
+
   public T clearFieldsInternal(T entity, Fields fields) {
     entity.setOwner(fields.contains(FIELD_OWNER) ? entity.getOwner() : null);
     entity.setTags(fields.contains(FIELD_TAGS) ? entity.getTags() : null);
@@ -901,6 +1185,13 @@ public abstract class EntityRepository<T extends EntityInterface> {
     return response;
   }
 
+  /** Entity to hard delete with a background delete job, after checking that it can be deleted */
+  public final T findForDelete(UUID id) {
+    T entity = find(id, ALL);
+    checkSystemEntityDeletion(entity);
+    return entity;
+  }
+
   protected void preDelete(T entity, String deletedBy) {
     // Override this method to perform any operation required after deletion.
     // For example ingestion pipeline deletes a pipeline in AirFlow.
@@ -1002,12 +1293,15 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
     // Delete all the relationships to other entities
     daoCollection.relationshipDAO().deleteAll(id, entityType);
+    // Cached lineage edges of the neighbours to the deleted entity are skipped, as the entity no longer exists
+    invalidateLineage(id);
 
     // Delete all the field relationships to other entities
     daoCollection.fieldRelationshipDAO().deleteAllByPrefix(entityInterface.getFullyQualifiedName());
 
-    // Delete all the extensions of entity
+    // Delete all the extensions and the version history of entity
     daoCollection.entityExtensionDAO().deleteAll(id);
+    getVersionHistory().deleteAll(id);
 
     // Delete all the tag labels
     daoCollection.tagUsageDAO().deleteTagLabelsByTargetPrefix(entityInterface.getFullyQualifiedName());
@@ -1030,9 +1324,42 @@ public abstract class EntityRepository<T extends EntityInterface> {
     dao.delete(id);
   }
 
+  /**
+   * Hard delete contained entities with a few set-based statements instead of running {@link #cleanup} for each of
+   * them. The entities contained by them must already be deleted. The tag labels and field relationships of the
+   * entities and of their columns and fields are deleted by the FQN hashes of the entities, so that a delete job that
+   * stops midway leaves none of them behind. The relationships are deleted last, so that a delete job that stops midway
+   * finds the remaining entities again.
+   */
+  public final void deleteInBatch(List<UUID> ids) {
+    List<String> idList = ids.stream().map(UUID::toString).collect(Collectors.toList());
+    List<String> fqnHashes = dao.findNameHashes(idList);
+    daoCollection.tagUsageDAO().deleteTagLabelsByTargetHashes(fqnHashes);
+    daoCollection.fieldRelationshipDAO().deleteAllByHashes(fqnHashes);
+    daoCollection.entityExtensionDAO().deleteAll(idList);
+    daoCollection.entityVersionDAO().deleteAll(idList);
+    daoCollection.usageDAO().delete(idList);
+    Entity.getFeedRepository().deleteByAbout(idList);
+    dao.delete(idList);
+    ids.forEach(this::invalidate);
+    daoCollection.relationshipDAO().deleteAllWithIds(idList);
+    invalidateLineage(ids.toArray(new UUID[0]));
+  }
+
+  /** Delete the search documents of the entities deleted by {@link #deleteInBatch} */
+  public final void deleteFromSearchInBatch(List<UUID> ids) {
+    if (supportsSearch) {
+      searchRepository.deleteEntities(entityType, ids);
+    }
+  }
+
   private void invalidate(T entity) {
-    CACHE_WITH_ID.invalidate(new ImmutablePair<>(entityType, entity.getId()));
-    CACHE_WITH_NAME.invalidate(new ImmutablePair<>(entityType, entity.getFullyQualifiedName()));
+    cache.invalidate(entity);
+  }
+
+  /** Invalidate the cached entity after its JSON is updated directly in the database without {@link #store} */
+  public final void invalidate(UUID id) {
+    cache.invalidate(id);
   }
 
   public PutResponse<T> deleteFollower(String updatedBy, UUID entityId, UUID userId) {
@@ -1243,7 +1570,8 @@ public abstract class EntityRepository<T extends EntityInterface> {
   /** Get tags associated with a given set of tags */
   private List<TagLabel> getDerivedTags(TagLabel tagLabel) {
     if (tagLabel.getSource() == TagLabel.TagSource.GLOSSARY) { // Related tags are only supported for Glossary
-      List<TagLabel> derivedTags = daoCollection.tagUsageDAO().getTags(tagLabel.getTagFQN());
+      List<TagLabel> derivedTags = TagDictionary.getGlossaryTermTags(tagLabel.getTagFQN());
+      TagLabelUtil.applyTagCommonFields(derivedTags);
       derivedTags.forEach(tag -> tag.setLabelType(TagLabel.LabelType.DERIVED));
       return derivedTags;
     }
@@ -1261,11 +1589,11 @@ public abstract class EntityRepository<T extends EntityInterface> {
   public void applyTags(List<TagLabel> tagLabels, String targetFQN) {
     for (TagLabel tagLabel : listOrEmpty(tagLabels)) {
       if (tagLabel.getSource() == TagSource.CLASSIFICATION) {
-        Tag tag = daoCollection.tagDAO().findEntityByName(tagLabel.getTagFQN());
+        Tag tag = TagLabelUtil.getTag(tagLabel.getTagFQN());
         tagLabel.withDescription(tag.getDescription());
         tagLabel.setSource(TagSource.CLASSIFICATION);
       } else if (tagLabel.getSource() == TagLabel.TagSource.GLOSSARY) {
-        GlossaryTerm term = daoCollection.glossaryTermDAO().findEntityByName(tagLabel.getTagFQN(), NON_DELETED);
+        GlossaryTerm term = TagLabelUtil.getGlossaryTerm(tagLabel.getTagFQN());
         tagLabel.withDescription(term.getDescription());
         tagLabel.setSource(TagLabel.TagSource.GLOSSARY);
       }
@@ -1303,6 +1631,59 @@ public abstract class EntityRepository<T extends EntityInterface> {
     return !supportsTags ? null : daoCollection.tagUsageDAO().getTags(fqn);
   }
 
+  /**
+   * Set the tags of the columns of an entity and their nested children. The tags of all the columns are loaded with one
+   * query on the tag usage of the targets under the entity FQN, instead of a query per column.
+   */
+  protected void populateColumnTags(String entityFqn, List<Column> columns) {
+    if (nullOrEmpty(columns)) {
+      return;
+    }
+    Map<String, List<TagLabel>> tags = supportsTags ? daoCollection.tagUsageDAO().getTagsByPrefix(entityFqn) : null;
+    populateColumnTags(tags, columns);
+  }
+
+  /**
+   * Set the tags of the columns of an entity whose FQN is also the prefix of other entities, such as the child
+   * containers of a container. The tags are loaded with one query on the column FQNs, as a query on the entity FQN
+   * prefix reads the tags of all the nested entities and their columns.
+   */
+  protected void populateColumnTagsByColumnFqns(List<Column> columns) {
+    if (nullOrEmpty(columns)) {
+      return;
+    }
+    Map<String, List<TagLabel>> tags = null;
+    if (supportsTags) {
+      List<String> columnFqns = new ArrayList<>();
+      collectColumnFqns(columns, columnFqns);
+      tags = new HashMap<>();
+      for (Map.Entry<String, List<TagLabel>> entry :
+          daoCollection.tagUsageDAO().getTagsByTargets(columnFqns).entrySet()) {
+        tags.put(FullyQualifiedName.buildHash(entry.getKey()), entry.getValue());
+      }
+    }
+    populateColumnTags(tags, columns);
+  }
+
+  private static void collectColumnFqns(List<Column> columns, List<String> columnFqns) {
+    for (Column column : listOrEmpty(columns)) {
+      columnFqns.add(column.getFullyQualifiedName());
+      collectColumnFqns(column.getChildren(), columnFqns);
+    }
+  }
+
+  private static void populateColumnTags(Map<String, List<TagLabel>> tags, List<Column> columns) {
+    for (Column column : listOrEmpty(columns)) {
+      if (tags == null) {
+        column.setTags(null);
+      } else {
+        List<TagLabel> columnTags = tags.get(FullyQualifiedName.buildHash(column.getFullyQualifiedName()));
+        column.setTags(columnTags == null ? new ArrayList<>() : columnTags);
+      }
+      populateColumnTags(tags, column.getChildren());
+    }
+  }
+
   protected List<EntityReference> getFollowers(T entity) {
     return !supportsFollower || entity == null
         ? Collections.emptyList()
@@ -1396,6 +1777,9 @@ public abstract class EntityRepository<T extends EntityInterface> {
       to = fromId;
     }
     daoCollection.relationshipDAO().insert(from, to, fromEntity, toEntity, relationship.ordinal(), json);
+    if (relationship == Relationship.UPSTREAM) {
+      invalidateLineage(from, to);
+    }
   }
 
   public final void bulkAddToRelationship(
@@ -1491,15 +1875,38 @@ public abstract class EntityRepository<T extends EntityInterface> {
   public void deleteRelationship(
       UUID fromId, String fromEntityType, UUID toId, String toEntityType, Relationship relationship) {
     daoCollection.relationshipDAO().delete(fromId, fromEntityType, toId, toEntityType, relationship.ordinal());
+    if (relationship == Relationship.UPSTREAM) {
+      invalidateLineage(fromId, toId);
+    }
   }
 
   public void deleteTo(UUID toId, String toEntityType, Relationship relationship, String fromEntityType) {
     daoCollection.relationshipDAO().deleteTo(toId, toEntityType, relationship.ordinal(), fromEntityType);
+    if (relationship == Relationship.UPSTREAM) {
+      invalidateLineage();
+    }
   }
 
   public void deleteFrom(UUID fromId, String fromEntityType, Relationship relationship, String toEntityType) {
     // Remove relationships from original
     daoCollection.relationshipDAO().deleteFrom(fromId, fromEntityType, relationship.ordinal(), toEntityType);
+    if (relationship == Relationship.UPSTREAM) {
+      invalidateLineage();
+    }
+  }
+
+  /** Lineage edges are also added outside the lineage API, such as the ML model feature sources */
+  private static void invalidateLineage(UUID... ids) {
+    LineageRepository lineageRepository = Entity.getLineageRepository();
+    if (lineageRepository == null) {
+      return;
+    }
+    if (ids.length == 0) {
+      // The other ends of the deleted edges are not known
+      lineageRepository.invalidateAll();
+    } else {
+      lineageRepository.invalidate(ids);
+    }
   }
 
   public void validateUsers(List<EntityReference> entityReferences) {
@@ -1904,7 +2311,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
       List<TagLabel> addedTags = new ArrayList<>();
       List<TagLabel> deletedTags = new ArrayList<>();
-      recordListChange(fieldName, origTags, updatedTags, addedTags, deletedTags, tagLabelMatch);
+      recordListChange(fieldName, origTags, updatedTags, addedTags, deletedTags, tagLabelMatch, tagLabelKey);
       updatedTags.sort(compareTagLabel);
       applyTags(updatedTags, fqn);
     }
@@ -2142,21 +2549,39 @@ public abstract class EntityRepository<T extends EntityInterface> {
         List<K> addedItems,
         List<K> deletedItems,
         BiPredicate<K, K> typeMatch) {
+      return recordListChange(field, origList, updatedList, addedItems, deletedItems, typeMatch, null);
+    }
+
+    /**
+     * Record the items added to and deleted from a list. The lists are indexed by the given key so that each item is
+     * only tested against the items with the same key. The key must be equal for any two items that match with
+     * typeMatch. Without a key, each item is tested against all the items of the other list.
+     */
+    public final <K> boolean recordListChange(
+        String field,
+        List<K> origList,
+        List<K> updatedList,
+        List<K> addedItems,
+        List<K> deletedItems,
+        BiPredicate<K, K> typeMatch,
+        Function<K, ?> key) {
       origList = listOrEmpty(origList);
       updatedList = listOrEmpty(updatedList);
       List<K> updatedItems = new ArrayList<>();
 
+      MatchIndex<K> updatedIndex = MatchIndex.of(updatedList, key, typeMatch);
       for (K stored : origList) {
         // If an entry in the original list is not in updated list, then it is deleted during update
-        K u = updatedList.stream().filter(c -> typeMatch.test(c, stored)).findAny().orElse(null);
+        K u = updatedIndex.find(stored);
         if (u == null) {
           deletedItems.add(stored);
         }
       }
 
+      MatchIndex<K> origIndex = MatchIndex.of(origList, key, typeMatch);
       for (K U : updatedList) {
         // If an entry in the updated list is not in original list, then it is added during update
-        K stored = origList.stream().filter(c -> typeMatch.test(c, U)).findAny().orElse(null);
+        K stored = origIndex.find(U);
         if (stored == null) { // New entry added
           addedItems.add(U);
         } else if (!typeMatch.test(stored, U)) {
@@ -2192,7 +2617,8 @@ public abstract class EntityRepository<T extends EntityInterface> {
         boolean bidirectional) {
       List<EntityReference> added = new ArrayList<>();
       List<EntityReference> deleted = new ArrayList<>();
-      if (!recordListChange(field, origToRefs, updatedToRefs, added, deleted, entityReferenceMatch)) {
+      if (!recordListChange(
+          field, origToRefs, updatedToRefs, added, deleted, entityReferenceMatch, entityReferenceKey)) {
         return; // No changes between original and updated.
       }
       // Remove relationships from original
@@ -2244,7 +2670,8 @@ public abstract class EntityRepository<T extends EntityInterface> {
         UUID toId) {
       List<EntityReference> added = new ArrayList<>();
       List<EntityReference> deleted = new ArrayList<>();
-      if (!recordListChange(field, originFromRefs, updatedFromRefs, added, deleted, entityReferenceMatch)) {
+      if (!recordListChange(
+          field, originFromRefs, updatedFromRefs, added, deleted, entityReferenceMatch, entityReferenceKey)) {
         return; // No changes between original and updated.
       }
       // Remove relationships from original
@@ -2289,10 +2716,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
     }
 
     private void storeOldVersion() {
-      String extensionName = EntityUtil.getVersionExtension(entityType, original.getVersion());
-      daoCollection
-          .entityExtensionDAO()
-          .insert(original.getId(), extensionName, entityType, JsonUtils.pojoToJson(original));
+      getVersionHistory().store(original.getId(), original.getVersion(), JsonUtils.pojoToJson(original));
     }
 
     private void storeNewVersion() {
@@ -2311,6 +2735,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
       super(original, updated, operation);
     }
 
+    /** Update the columns. The columnMatch must only match columns with the same name, ignoring case */
     public void updateColumns(
         String fieldName,
         List<Column> origColumns,
@@ -2318,7 +2743,8 @@ public abstract class EntityRepository<T extends EntityInterface> {
         BiPredicate<Column, Column> columnMatch) {
       List<Column> deletedColumns = new ArrayList<>();
       List<Column> addedColumns = new ArrayList<>();
-      recordListChange(fieldName, origColumns, updatedColumns, addedColumns, deletedColumns, columnMatch);
+      recordListChange(
+          fieldName, origColumns, updatedColumns, addedColumns, deletedColumns, columnMatch, columnNameKey);
       // carry forward tags and description if deletedColumns matches added column
       Map<String, Column> addedColumnMap =
           addedColumns.stream().collect(Collectors.toMap(Column::getName, Function.identity()));
@@ -2345,9 +2771,10 @@ public abstract class EntityRepository<T extends EntityInterface> {
       }
 
       // Carry forward the user generated metadata from existing columns to new columns
+      MatchIndex<Column> origIndex = MatchIndex.of(origColumns, columnNameKey, columnMatch);
       for (Column updated : updatedColumns) {
         // Find stored column matching name, data type and ordinal position
-        Column stored = origColumns.stream().filter(c -> columnMatch.test(c, updated)).findAny().orElse(null);
+        Column stored = origIndex.find(updated);
         if (stored == null) { // New column added
           continue;
         }
@@ -2431,26 +2858,6 @@ public abstract class EntityRepository<T extends EntityInterface> {
     }
   }
 
-  static class EntityLoaderWithName extends CacheLoader<Pair<String, String>, EntityInterface> {
-    @Override
-    public EntityInterface load(@CheckForNull Pair<String, String> fqnPair) throws IOException {
-      String entityType = fqnPair.getLeft();
-      String fqn = fqnPair.getRight();
-      EntityRepository<? extends EntityInterface> repository = Entity.getEntityRepository(entityType);
-      return repository.getDao().findEntityByName(fqn, ALL);
-    }
-  }
-
-  static class EntityLoaderWithId extends CacheLoader<Pair<String, UUID>, EntityInterface> {
-    @Override
-    public EntityInterface load(@NotNull Pair<String, UUID> idPair) throws IOException {
-      String entityType = idPair.getLeft();
-      UUID id = idPair.getRight();
-      EntityRepository<? extends EntityInterface> repository = Entity.getEntityRepository(entityType);
-      return repository.getDao().findEntityById(id, ALL);
-    }
-  }
-
   public static class DescriptionTaskWorkflow extends TaskWorkflow {
     DescriptionTaskWorkflow(ThreadContext threadContext) {
       super(threadContext);
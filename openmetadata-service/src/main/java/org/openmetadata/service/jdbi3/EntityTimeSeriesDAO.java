@@ -3,13 +3,16 @@ package org.openmetadata.service.jdbi3;
 import static org.openmetadata.service.jdbi3.locator.ConnectionType.MYSQL;
 import static org.openmetadata.service.jdbi3.locator.ConnectionType.POSTGRES;
 
+import com.google.common.collect.Lists;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import lombok.Getter;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindBeanList;
 import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.customizer.Define;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
@@ -17,6 +20,7 @@ import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 import org.openmetadata.schema.analytics.ReportData;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlQuery;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlUpdate;
+import org.openmetadata.service.util.FullyQualifiedName;
 import org.openmetadata.service.util.JsonUtils;
 import org.openmetadata.service.util.jdbi.BindFQN;
 
@@ -60,6 +64,76 @@ public interface EntityTimeSeriesDAO {
     insert(getTimeSeriesTableName(), entityFQNHash, extension, jsonSchema, json);
   }
 
+  @ConnectionAwareSqlUpdate(
+      value = "INSERT INTO <table>(entityFQNHash, extension, jsonSchema, json) VALUES <values>",
+      connectionType = MYSQL)
+  @ConnectionAwareSqlUpdate(
+      value =
+          "INSERT INTO <table>(entityFQNHash, extension, jsonSchema, json) "
+              + "SELECT entityFQNHash, extension, jsonSchema, (json :: jsonb) "
+              + "FROM (VALUES <values>) AS v(entityFQNHash, extension, jsonSchema, json)",
+      connectionType = POSTGRES)
+  void bulkInsert(
+      @Define("table") String table,
+      @BindBeanList(
+              value = "values",
+              propertyNames = {"entityFQNHash", "extension", "jsonSchema", "json"})
+          List<TimeSeriesRecord> records);
+
+  /** Insert the records with multi-row inserts of {@link EntityDAO#BATCH_SIZE} records */
+  default void bulkInsert(List<TimeSeriesRecord> records) {
+    for (List<TimeSeriesRecord> batch : Lists.partition(records, EntityDAO.BATCH_SIZE)) {
+      bulkInsert(getTimeSeriesTableName(), batch);
+    }
+  }
+
+  @ConnectionAwareSqlUpdate(
+      value =
+          "INSERT INTO <table>(entityFQNHash, extension, jsonSchema, json) VALUES <values> "
+              + "ON DUPLICATE KEY UPDATE json = VALUES(json)",
+      connectionType = MYSQL)
+  @ConnectionAwareSqlUpdate(
+      value =
+          "INSERT INTO <table>(entityFQNHash, extension, jsonSchema, json) "
+              + "SELECT entityFQNHash, extension, jsonSchema, (json :: jsonb) "
+              + "FROM (VALUES <values>) AS v(entityFQNHash, extension, jsonSchema, json) "
+              + "ON CONFLICT (entityFQNHash, extension, operation, timestamp) DO UPDATE SET json = EXCLUDED.json",
+      connectionType = POSTGRES)
+  void bulkUpsertWithOperation(
+      @Define("table") String table,
+      @BindBeanList(
+              value = "values",
+              propertyNames = {"entityFQNHash", "extension", "jsonSchema", "json"})
+          List<TimeSeriesRecord> records);
+
+  /**
+   * Insert the records, or replace the stored records with the same entity, extension, operation and timestamp. A batch
+   * must not have two records with the same operation and timestamp.
+   */
+  default void bulkUpsertWithOperation(List<TimeSeriesRecord> records) {
+    for (List<TimeSeriesRecord> batch : Lists.partition(records, EntityDAO.BATCH_SIZE)) {
+      bulkUpsertWithOperation(getTimeSeriesTableName(), batch);
+    }
+  }
+
+  /** A time series record to write in bulk, with the hash of the entity FQN */
+  @Getter
+  class TimeSeriesRecord {
+    private final String entityFQNHash;
+    private final String extension;
+    private final String jsonSchema;
+    private final String json;
+    private final Long timestamp;
+
+    public TimeSeriesRecord(String entityFQN, String extension, String jsonSchema, String json, Long timestamp) {
+      this.entityFQNHash = FullyQualifiedName.buildHash(entityFQN);
+      this.extension = extension;
+      this.jsonSchema = jsonSchema;
+      this.json = json;
+      this.timestamp = timestamp;
+    }
+  }
+
   @ConnectionAwareSqlUpdate(
       value =
           "UPDATE <table> set json = :json where entityFQNHash=:entityFQNHash and extension=:extension and timestamp=:timestamp",
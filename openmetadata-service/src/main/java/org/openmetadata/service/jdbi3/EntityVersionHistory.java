@@ -0,0 +1,176 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonPatch;
+import javax.json.JsonValue;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityVersionDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityVersionRecord;
+import org.openmetadata.service.util.JsonUtils;
+
+/**
+ * Previous versions of entities. A version is stored either in full as a checkpoint, or as the JSON patch from the
+ * latest checkpoint to the version. A new checkpoint is stored after {@link #CHECKPOINT_INTERVAL} patches, or when the
+ * patch is not much smaller than the version, so that reading a version never needs more than a checkpoint and a patch.
+ */
+@Slf4j
+final class EntityVersionHistory {
+  /** Maximum number of versions stored as a patch from the same checkpoint */
+  static final int CHECKPOINT_INTERVAL = 10;
+
+  /** Number of versions read at a time when listing versions */
+  static final int PAGE_SIZE = 100;
+
+  private final EntityVersionDAO dao;
+
+  EntityVersionHistory(EntityVersionDAO dao) {
+    this.dao = dao;
+  }
+
+  void store(UUID id, double version, String json) {
+    EntityVersionRecord checkpoint = dao.getLatestCheckpoint(id);
+    if (checkpoint != null
+        && checkpoint.getVersion() < version
+        && dao.countDeltas(id, checkpoint.getVersion()) < CHECKPOINT_INTERVAL) {
+      String delta = getDelta(checkpoint.getJson(), json);
+      if (delta != null) {
+        dao.insert(id, version, checkpoint.getVersion(), delta);
+        return;
+      }
+    }
+    dao.insert(id, version, version, json);
+  }
+
+  /** JSON of the entity at the given version, or null when the version is not stored */
+  String get(UUID id, double version) {
+    EntityVersionRecord record = dao.get(id, version);
+    if (record == null || record.isCheckpoint()) {
+      return record == null ? null : record.getJson();
+    }
+    EntityVersionRecord checkpoint = dao.get(id, record.getCheckpointVersion());
+    return applyDelta(checkpoint.getJson(), record.getJson());
+  }
+
+  /** JSON of up to limit versions older than the given version, from the latest to the oldest */
+  List<String> list(UUID id, double before, int limit) {
+    List<String> versions = new ArrayList<>();
+    Map<Double, String> checkpoints = new HashMap<>();
+    while (versions.size() < limit) {
+      List<EntityVersionRecord> records = dao.listBefore(id, before, Math.min(PAGE_SIZE, limit - versions.size()));
+      if (records.isEmpty()) {
+        break;
+      }
+      // Read the checkpoints of the patches in the page that were not read with the page or a previous page
+      for (EntityVersionRecord record : records) {
+        if (record.isCheckpoint()) {
+          checkpoints.put(record.getVersion(), record.getJson());
+        }
+      }
+      List<Double> missing = new ArrayList<>();
+      for (EntityVersionRecord record : records) {
+        if (!checkpoints.containsKey(record.getCheckpointVersion())
+            && !missing.contains(record.getCheckpointVersion())) {
+          missing.add(record.getCheckpointVersion());
+        }
+      }
+      if (!missing.isEmpty()) {
+        dao.get(id, missing).forEach(checkpoint -> checkpoints.put(checkpoint.getVersion(), checkpoint.getJson()));
+      }
+      for (EntityVersionRecord record : records) {
+        versions.add(
+            record.isCheckpoint()
+                ? record.getJson()
+                : applyDelta(checkpoints.get(record.getCheckpointVersion()), record.getJson()));
+      }
+      before = records.get(records.size() - 1).getVersion();
+    }
+    return versions;
+  }
+
+  void deleteAll(UUID id) {
+    dao.deleteAll(id);
+  }
+
+  /**
+   * JSON patch from the checkpoint to the entity. Returns null when the patch is more than half the size of the entity,
+   * or when applying the patch does not give back the entity.
+   */
+  static String getDelta(String checkpointJson, String json) {
+    try {
+      JsonObject source = JsonUtils.readJson(checkpointJson).asJsonObject();
+      JsonObject target = JsonUtils.readJson(json).asJsonObject();
+      JsonPatch patch = Json.createPatch(reorderRemovals(Json.createDiff(source, target).toJsonArray()));
+      String delta = patch.toJsonArray().toString();
+      if (delta.length() > json.length() / 2 || !patch.apply(source).equals(target)) {
+        return null;
+      }
+      return delta;
+    } catch (RuntimeException e) {
+      LOG.debug("Failed to compute the version delta, storing a checkpoint", e);
+      return null;
+    }
+  }
+
+  /**
+   * The diff removes the trailing elements of an array starting from the first one, which fails once the array is
+   * shorter than the index of the next element to remove. Remove them starting from the last one instead.
+   */
+  private static JsonArray reorderRemovals(JsonArray operations) {
+    JsonArrayBuilder reordered = Json.createArrayBuilder();
+    List<JsonObject> removals = new ArrayList<>();
+    String removalsParent = null;
+    for (JsonValue value : operations) {
+      JsonObject operation = value.asJsonObject();
+      String path = operation.getString("path");
+      String parent = path.substring(0, path.lastIndexOf('/') + 1);
+      boolean arrayRemoval =
+          operation.getString("op").equals("remove") && path.substring(parent.length()).matches("\\d+");
+      if (!arrayRemoval || !parent.equals(removalsParent)) {
+        addReversed(reordered, removals);
+        removalsParent = null;
+      }
+      if (arrayRemoval) {
+        removals.add(operation);
+        removalsParent = parent;
+      } else {
+        reordered.add(operation);
+      }
+    }
+    addReversed(reordered, removals);
+    return reordered.build();
+  }
+
+  private static void addReversed(JsonArrayBuilder builder, List<JsonObject> operations) {
+    for (int i = operations.size() - 1; i >= 0; i--) {
+      builder.add(operations.get(i));
+    }
+    operations.clear();
+  }
+
+  static String applyDelta(String checkpointJson, String delta) {
+    JsonPatch patch = Json.createPatch(JsonUtils.readJson(delta).asJsonArray());
+    JsonValue entity = patch.apply(JsonUtils.readJson(checkpointJson).asJsonObject());
+    return entity.toString();
+  }
+}
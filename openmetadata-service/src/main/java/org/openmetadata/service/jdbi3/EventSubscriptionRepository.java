@@ -15,7 +15,6 @@ package org.openmetadata.service.jdbi3;
 
 import static org.openmetadata.schema.api.events.CreateEventSubscription.SubscriptionType.ACTIVITY_FEED;
 
-import com.lmax.disruptor.BatchEventProcessor;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
@@ -28,6 +27,7 @@ import org.openmetadata.schema.entity.events.SubscriptionStatus;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.events.EventPubSub;
 import org.openmetadata.service.events.scheduled.ReportsHandler;
+import org.openmetadata.service.events.subscription.AlertConditionCache;
 import org.openmetadata.service.events.subscription.AlertUtil;
 import org.openmetadata.service.events.subscription.SubscriptionPublisher;
 import org.openmetadata.service.resources.events.subscription.EventSubscriptionResource;
@@ -93,6 +93,13 @@ public class EventSubscriptionRepository extends EntityRepository<EventSubscript
     // No relationships to store beyond what is stored in the super class
   }
 
+  @Override
+  protected void postDelete(EventSubscription entity) {
+    AlertConditionCache.remove(entity.getId());
+    // The subscription does not resume from its offset in the change event log anymore
+    daoCollection.changeEventConsumerDAO().delete(entity.getId().toString());
+  }
+
   @Override
   public void restorePatchAttributes(EventSubscription original, EventSubscription updated) {
     updated.withId(original.getId()).withName(original.getName());
@@ -111,8 +118,10 @@ public class EventSubscriptionRepository extends EntityRepository<EventSubscript
           eventSubscription.setStatusDetails(getSubscriptionStatusAtCurrentTime(SubscriptionStatus.Status.DISABLED));
         } else {
           eventSubscription.setStatusDetails(getSubscriptionStatusAtCurrentTime(SubscriptionStatus.Status.ACTIVE));
-          BatchEventProcessor<EventPubSub.ChangeEventHolder> processor = EventPubSub.addEventHandler(publisher);
-          publisher.setProcessor(processor);
+          // A new alert publishes the events since backfillFrom, an existing alert resumes from its checkpoint
+          publisher.setConsumer(
+              EventPubSub.addConsumer(
+                  eventSubscription.getId().toString(), publisher, eventSubscription.getBackfillFrom()));
         }
         subscriptionPublisherMap.put(eventSubscription.getId(), publisher);
         LOG.info(
@@ -138,6 +147,7 @@ public class EventSubscriptionRepository extends EntityRepository<EventSubscript
   public void updateEventSubscription(EventSubscription eventSubscription) {
     switch (eventSubscription.getAlertType()) {
       case CHANGE_EVENT:
+        AlertConditionCache.invalidate(eventSubscription.getId());
         if (Boolean.TRUE.equals(eventSubscription.getEnabled())) { // Only add webhook that is enabled for publishing
           // If there was a previous webhook either in disabled state or stopped due
           // to errors, update it and restart publishing
@@ -169,10 +179,9 @@ public class EventSubscriptionRepository extends EntityRepository<EventSubscript
   public void removeProcessorForEventSubscription(UUID id, SubscriptionStatus reasonForRemoval)
       throws InterruptedException {
     SubscriptionPublisher publisher = subscriptionPublisherMap.get(id);
-    if (publisher != null) {
-      publisher.getProcessor().halt();
+    if (publisher != null && publisher.getConsumer() != null) {
+      EventPubSub.removeConsumer(publisher.getConsumer());
       publisher.awaitShutdown();
-      EventPubSub.removeProcessor(publisher.getProcessor());
       publisher.getEventSubscription().setStatusDetails(reasonForRemoval);
       LOG.info("Webhook publisher deleted for {}", publisher.getEventSubscription().getName());
     }
@@ -182,11 +191,11 @@ public class EventSubscriptionRepository extends EntityRepository<EventSubscript
       throws InterruptedException, SchedulerException {
     switch (deletedEntity.getAlertType()) {
       case CHANGE_EVENT:
+        AlertConditionCache.invalidate(deletedEntity.getId());
         SubscriptionPublisher publisher = subscriptionPublisherMap.remove(deletedEntity.getId());
-        if (publisher != null && publisher.getProcessor() != null) {
-          publisher.getProcessor().halt();
+        if (publisher != null && publisher.getConsumer() != null) {
+          EventPubSub.removeConsumer(publisher.getConsumer());
           publisher.awaitShutdown();
-          EventPubSub.removeProcessor(publisher.getProcessor());
           LOG.info("Webhook publisher deleted for {}", publisher.getEventSubscription().getName());
         }
         break;
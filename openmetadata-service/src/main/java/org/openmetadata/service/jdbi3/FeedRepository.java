@@ -32,10 +32,13 @@ import static org.openmetadata.service.util.RestUtil.DELETED_TEAM_NAME;
 import static org.openmetadata.service.util.RestUtil.DELETED_USER_DISPLAY;
 import static org.openmetadata.service.util.RestUtil.DELETED_USER_NAME;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jsonwebtoken.lang.Collections;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -78,6 +81,7 @@ import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.formatter.decorators.FeedMessageDecorator;
 import org.openmetadata.service.formatter.decorators.MessageDecorator;
 import org.openmetadata.service.formatter.util.FeedMessage;
+import org.openmetadata.service.jdbi3.CollectionDAO.PostDAO.ThreadPost;
 import org.openmetadata.service.resources.feeds.FeedResource;
 import org.openmetadata.service.resources.feeds.FeedUtil;
 import org.openmetadata.service.resources.feeds.MessageParser;
@@ -221,7 +225,7 @@ public class FeedRepository {
 
   public void store(ThreadContext threadContext) {
     // Insert a new thread
-    dao.feedDAO().insert(JsonUtils.pojoToJson(threadContext.getThread()));
+    dao.feedDAO().insert(threadJson(threadContext.getThread()));
   }
 
   public void storeRelationships(ThreadContext threadContext) {
@@ -264,7 +268,8 @@ public class FeedRepository {
         UUID threadId = UUID.fromString(task.getLeft());
         Thread thread = EntityUtil.validate(threadId, dao.feedDAO().findById(threadId), Thread.class);
         if (thread.getTask() != null && thread.getTask().getType() == taskType) {
-          return thread;
+          // The task may be closed by the caller, which reads and adds to its posts
+          return populatePosts(thread);
         }
       }
     }
@@ -288,13 +293,12 @@ public class FeedRepository {
 
   public Thread get(UUID id) {
     Thread thread = EntityUtil.validate(id, dao.feedDAO().findById(id), Thread.class);
-    sortPosts(thread);
-    return thread;
+    return populatePosts(thread);
   }
 
   public Thread getTask(Integer id) {
     Thread task = EntityUtil.validate(id, dao.feedDAO().findByTaskId(id), Thread.class);
-    sortPosts(task);
+    populatePosts(task);
     return populateAssignees(task);
   }
 
@@ -357,7 +361,8 @@ public class FeedRepository {
             .withFrom(user)
             .withReactions(java.util.Collections.emptyList())
             .withPostTs(System.currentTimeMillis());
-    addPostToThread(thread.getId(), post, user);
+    storePost(thread, post, user);
+    FeedUtil.addPost(thread, post);
   }
 
   public void closeTask(Thread thread, String user, CloseTask closeTask) {
@@ -371,9 +376,8 @@ public class FeedRepository {
     task.withStatus(TaskStatus.Closed).withClosedBy(user).withClosedAt(System.currentTimeMillis());
     thread.withTask(task).withUpdatedBy(user).withUpdatedAt(System.currentTimeMillis());
 
-    dao.feedDAO().update(thread.getId(), JsonUtils.pojoToJson(thread));
+    dao.feedDAO().update(thread.getId(), threadJson(thread));
     addClosingPost(thread, user, closeTask.getComment());
-    sortPosts(thread);
   }
 
   private void storeMentions(Thread thread, String message) {
@@ -398,26 +402,27 @@ public class FeedRepository {
   }
 
   public Thread addPostToThread(UUID id, Post post, String userName) {
+    Thread thread = EntityUtil.validate(id, dao.feedDAO().findById(id), Thread.class);
+    storePost(thread, post, userName);
+    return get(id);
+  }
+
+  private void storePost(Thread thread, Post post, String userName) {
     // Validate the user posting the message
     UUID fromUserId = Entity.getEntityReferenceByName(USER, post.getFrom(), NON_DELETED).getId();
 
-    // Update the thread with the new post
-    Thread thread = EntityUtil.validate(id, dao.feedDAO().findById(id), Thread.class);
-    thread.withUpdatedBy(userName).withUpdatedAt(System.currentTimeMillis());
-    FeedUtil.addPost(thread, post);
-    dao.feedDAO().update(id, JsonUtils.pojoToJson(thread));
+    // Append the post without rewriting the thread or its other posts
+    dao.postDAO().insert(post.getId(), thread.getId(), post.getPostTs(), JsonUtils.pojoToJson(post));
+    long now = System.currentTimeMillis();
+    dao.feedDAO().updateUpdatedAt(thread.getId(), now, userName);
+    thread.withUpdatedBy(userName).withUpdatedAt(now);
 
     // Add relation User -- repliedTo --> Thread
-    // Add relationship from thread to the user entity that is posting a reply
-    boolean relationAlreadyExists = thread.getPosts().stream().anyMatch(p -> p.getFrom().equals(post.getFrom()));
-    if (!relationAlreadyExists) {
-      dao.relationshipDAO().insert(fromUserId, thread.getId(), USER, Entity.THREAD, REPLIED_TO.ordinal());
-    }
+    // Add relationship from thread to the user entity that is posting a reply. The relationship is inserted only once.
+    dao.relationshipDAO().insert(fromUserId, thread.getId(), USER, Entity.THREAD, REPLIED_TO.ordinal());
 
     // Add mentions into field relationship table
     storeMentions(thread, post.getMessage());
-    sortPostsInThreads(List.of(thread));
-    return thread;
   }
 
   public Post getPostById(Thread thread, UUID postId) {
@@ -432,13 +437,10 @@ public class FeedRepository {
     List<Post> posts = thread.getPosts();
     // Remove the post to be deleted from the posts list
     posts = posts.stream().filter(p -> !p.getId().equals(post.getId())).collect(Collectors.toList());
-    thread
-        .withUpdatedAt(System.currentTimeMillis())
-        .withUpdatedBy(userName)
-        .withPosts(posts)
-        .withPostsCount(posts.size());
-    // update the json document
-    dao.feedDAO().update(thread.getId(), JsonUtils.pojoToJson(thread));
+    long now = System.currentTimeMillis();
+    thread.withUpdatedAt(now).withUpdatedBy(userName).withPosts(posts).withPostsCount(posts.size());
+    dao.postDAO().delete(post.getId());
+    dao.feedDAO().updateUpdatedAt(thread.getId(), now, userName);
     return new DeleteResponse<>(post, RestUtil.ENTITY_DELETED);
   }
 
@@ -455,12 +457,21 @@ public class FeedRepository {
     // Delete all the field relationships to other entities
     dao.fieldRelationshipDAO().deleteAllByPrefix(id.toString());
 
-    // Finally, delete the thread
+    // Finally, delete the posts and the thread
+    dao.postDAO().deleteByThreadId(id);
     dao.feedDAO().delete(id);
   }
 
   public void deleteByAbout(UUID entityId) {
-    List<String> threadIds = listOrEmpty(dao.feedDAO().findByEntityId(entityId.toString()));
+    deleteThreads(listOrEmpty(dao.feedDAO().findByEntityId(entityId.toString())));
+  }
+
+  /** Delete all the threads that are about the given entities, finding them with a single query */
+  public void deleteByAbout(List<String> entityIds) {
+    deleteThreads(listOrEmpty(dao.feedDAO().findByEntityIds(entityIds)));
+  }
+
+  private void deleteThreads(List<String> threadIds) {
     for (String threadId : threadIds) {
       try {
         deleteThreadInternal(UUID.fromString(threadId));
@@ -523,7 +534,8 @@ public class FeedRepository {
   }
 
   public List<Post> listPosts(UUID threadId) {
-    return get(threadId).getPosts();
+    EntityUtil.validate(threadId, dao.feedDAO().findById(threadId), Thread.class);
+    return JsonUtils.readObjects(dao.postDAO().listByThreadId(threadId), Post.class);
   }
 
   /** List threads based on the filters and limits in the order of the updated timestamp. */
@@ -590,7 +602,7 @@ public class FeedRepository {
         total = filteredThreads.getTotalCount();
       }
     }
-    sortAndLimitPosts(threads, limitPosts);
+    populateLastPosts(threads, limitPosts);
     populateAssignees(threads);
 
     String beforeCursor = null;
@@ -642,13 +654,13 @@ public class FeedRepository {
     List<Post> posts = thread.getPosts();
     posts = posts.stream().filter(p -> !p.getId().equals(post.getId())).collect(Collectors.toList());
     posts.add(updated);
+    posts.sort(Comparator.comparing(Post::getPostTs));
     thread.withPosts(posts).withUpdatedAt(System.currentTimeMillis()).withUpdatedBy(user);
 
     if (!updated.getReactions().isEmpty()) {
       updated.getReactions().forEach(reaction -> storeReactions(thread, reaction.getUser().getName()));
     }
 
-    sortPosts(thread);
     String change = patchUpdate(thread, post, updated) ? RestUtil.ENTITY_UPDATED : RestUtil.ENTITY_NO_CHANGE;
     return new PatchResponse<>(Status.OK, updated, change);
   }
@@ -685,7 +697,6 @@ public class FeedRepository {
 
     // Update the attributes
     String change = patchUpdate(original, updated) ? RestUtil.ENTITY_UPDATED : RestUtil.ENTITY_NO_CHANGE;
-    sortPosts(updated);
     Thread updatedHref = FeedResource.addHref(uriInfo, updated);
     return new PatchResponse<>(Status.OK, updatedHref, change);
   }
@@ -761,7 +772,7 @@ public class FeedRepository {
     // if there is no change, there is no need to apply patch
     if (fieldsChanged(original, updated)) {
       populateUserReactions(updated.getReactions());
-      dao.feedDAO().update(updated.getId(), JsonUtils.pojoToJson(updated));
+      dao.feedDAO().update(updated.getId(), threadJson(updated));
       return true;
     }
     return false;
@@ -771,7 +782,8 @@ public class FeedRepository {
     // store the updated post
     // if there is no change, there is no need to apply patch
     if (fieldsChanged(originalPost, updatedPost)) {
-      dao.feedDAO().update(thread.getId(), JsonUtils.pojoToJson(thread));
+      dao.postDAO().update(updatedPost.getId(), JsonUtils.pojoToJson(updatedPost));
+      dao.feedDAO().updateUpdatedAt(thread.getId(), thread.getUpdatedAt(), thread.getUpdatedBy());
       return true;
     }
     return false;
@@ -803,23 +815,40 @@ public class FeedRepository {
                 || !original.getTask().getAssignees().containsAll(updated.getTask().getAssignees())));
   }
 
-  private void sortPosts(Thread thread) {
-    thread.getPosts().sort(Comparator.comparing(Post::getPostTs));
+  /** Posts are stored apart from the thread. Store the thread without its posts. */
+  private static String threadJson(Thread thread) {
+    ObjectNode json = (ObjectNode) JsonUtils.valueToTree(thread);
+    json.remove("posts");
+    json.remove("postsCount");
+    return json.toString();
   }
 
-  private void sortPostsInThreads(List<Thread> threads) {
-    threads.forEach(this::sortPosts);
+  /** Add all the posts of the thread in the order of the post time. */
+  private Thread populatePosts(Thread thread) {
+    List<Post> posts = JsonUtils.readObjects(dao.postDAO().listByThreadId(thread.getId()), Post.class);
+    return thread.withPosts(posts).withPostsCount(posts.size());
   }
 
-  /** Limit the number of posts within each thread to the requested limitPosts. */
-  private void sortAndLimitPosts(List<Thread> threads, int limitPosts) {
-    for (Thread t : threads) {
-      List<Post> posts = t.getPosts();
-      sortPosts(t);
+  /** Add the last "n" posts to each thread, along with the count of all the posts of the thread. */
+  private void populateLastPosts(List<Thread> threads, int limitPosts) {
+    Map<String, Thread> threadsById = new HashMap<>();
+    for (Thread thread : threads) {
+      thread.withPosts(new ArrayList<>()).withPostsCount(0);
+      threadsById.put(thread.getId().toString(), thread);
+    }
+    if (threadsById.isEmpty()) {
+      return;
+    }
+    for (ThreadPost threadPost : dao.postDAO().listLastPosts(new ArrayList<>(threadsById.keySet()), limitPosts)) {
+      Thread thread = threadsById.get(threadPost.getThreadId());
+      thread.withPostsCount(threadPost.getPostsCount());
+      thread.getPosts().add(JsonUtils.readValue(threadPost.getJson(), Post.class));
+    }
+    for (Thread thread : threads) {
+      // One post is read even when no posts are requested, to get the count of posts of the thread
+      List<Post> posts = thread.getPosts();
       if (posts.size() > limitPosts) {
-        // Only keep the last "n" number of posts
-        posts = posts.subList(posts.size() - limitPosts, posts.size());
-        t.withPosts(posts);
+        thread.withPosts(new ArrayList<>(posts.subList(posts.size() - limitPosts, posts.size())));
       }
     }
   }
@@ -37,7 +37,6 @@ import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVPrinter;
 import org.apache.commons.csv.CSVRecord;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openmetadata.csv.CsvUtil;
 import org.openmetadata.csv.EntityCsv;
 import org.openmetadata.schema.EntityInterface;
@@ -57,6 +56,7 @@ import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
 import org.openmetadata.service.resources.glossary.GlossaryResource;
+import org.openmetadata.service.resources.tags.TagDictionary;
 import org.openmetadata.service.util.EntityUtil.Fields;
 import org.openmetadata.service.util.FullyQualifiedName;
 
@@ -125,6 +125,17 @@ public class GlossaryRepository extends EntityRepository<Glossary> {
     return new GlossaryUpdater(original, updated, operation);
   }
 
+  @Override
+  protected void postUpdate(Glossary original, Glossary updated) {
+    super.postUpdate(original, updated);
+    TagDictionary.invalidate(GLOSSARY, original, updated);
+  }
+
+  @Override
+  protected void postDelete(Glossary entity) {
+    TagDictionary.invalidate(GLOSSARY, entity.getFullyQualifiedName());
+  }
+
   /** Export glossary as CSV */
   @Override
   public String exportToCsv(String name, String user) throws IOException {
@@ -309,7 +320,7 @@ public class GlossaryRepository extends EntityRepository<Glossary> {
 
     public void invalidateGlossary(UUID classificationId) {
       // Glossary name changed. Invalidate the glossary and its children terms
-      CACHE_WITH_ID.invalidate(new ImmutablePair<>(GLOSSARY, classificationId));
+      invalidate(classificationId);
       List<EntityRelationshipRecord> tags =
           findToRecords(classificationId, GLOSSARY, Relationship.CONTAINS, GLOSSARY_TERM);
       for (EntityRelationshipRecord tagRecord : tags) {
@@ -321,7 +332,7 @@ public class GlossaryRepository extends EntityRepository<Glossary> {
       // The name of the glossary changed or parent changed. Invalidate that tag and all the children from the cache
       List<EntityRelationshipRecord> tagRecords =
           findToRecords(termId, GLOSSARY_TERM, Relationship.CONTAINS, GLOSSARY_TERM);
-      CACHE_WITH_ID.invalidate(new ImmutablePair<>(GLOSSARY_TERM, termId));
+      Entity.getEntityRepository(GLOSSARY_TERM).invalidate(termId);
       for (EntityRelationshipRecord tagRecord : tagRecords) {
         invalidateTerms(tagRecord.getId());
       }
@@ -35,7 +35,6 @@ import java.util.Objects;
 import java.util.UUID;
 import javax.json.JsonPatch;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.api.data.TermReference;
 import org.openmetadata.schema.api.feed.CloseTask;
@@ -62,6 +61,7 @@ import org.openmetadata.service.jdbi3.FeedRepository.ThreadContext;
 import org.openmetadata.service.resources.feeds.FeedResource;
 import org.openmetadata.service.resources.feeds.MessageParser.EntityLink;
 import org.openmetadata.service.resources.glossary.GlossaryTermResource;
+import org.openmetadata.service.resources.tags.TagDictionary;
 import org.openmetadata.service.security.AuthorizationException;
 import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.EntityUtil.Fields;
@@ -225,6 +225,7 @@ public class GlossaryTermRepository extends EntityRepository<GlossaryTerm> {
   @Override
   public void postUpdate(GlossaryTerm original, GlossaryTerm updated) {
     super.postUpdate(original, updated);
+    TagDictionary.invalidate(GLOSSARY_TERM, original, updated);
     if (original.getStatus() == Status.DRAFT) {
       if (updated.getStatus() == Status.APPROVED) {
         closeApprovalTask(updated, "Approved the glossary term");
@@ -246,6 +247,7 @@ public class GlossaryTermRepository extends EntityRepository<GlossaryTerm> {
   protected void postDelete(GlossaryTerm entity) {
     // Cleanup all the tag labels using this glossary term
     daoCollection.tagUsageDAO().deleteTagLabels(TagSource.GLOSSARY.ordinal(), entity.getFullyQualifiedName());
+    TagDictionary.invalidate(GLOSSARY_TERM, entity.getFullyQualifiedName());
   }
 
   public TaskWorkflow getTaskWorkflow(ThreadContext threadContext) {
@@ -524,7 +526,7 @@ public class GlossaryTermRepository extends EntityRepository<GlossaryTerm> {
       // The name of the glossary term changed or parent change. Invalidate that tag and all the children from the cache
       List<EntityRelationshipRecord> tagRecords =
           findToRecords(termId, GLOSSARY_TERM, Relationship.CONTAINS, GLOSSARY_TERM);
-      CACHE_WITH_ID.invalidate(new ImmutablePair<>(GLOSSARY_TERM, termId));
+      invalidate(termId);
       for (EntityRelationshipRecord tagRecord : tagRecords) {
         invalidateTerm(tagRecord.getId());
       }
@@ -13,10 +13,20 @@
 
 package org.openmetadata.service.jdbi3;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 import org.openmetadata.schema.ColumnsEntityInterface;
 import org.openmetadata.schema.api.lineage.AddLineage;
 import org.openmetadata.schema.entity.data.Table;
@@ -28,19 +38,47 @@ import org.openmetadata.schema.type.Include;
 import org.openmetadata.schema.type.LineageDetails;
 import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.cache.EntityCacheConfiguration;
+import org.openmetadata.service.cache.EntityCacheFactory;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipObject;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
 import org.openmetadata.service.util.FullyQualifiedName;
 import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
 
 @Repository
 public class LineageRepository {
+  private static final String LINEAGE = "lineage";
   private final CollectionDAO dao;
 
+  /**
+   * Upstream and downstream edges of an entity, keyed by the entity id. The edges are invalidated when lineage is added
+   * or deleted through this server, and expire like the entity caches to bound the staleness across servers.
+   */
+  private final Cache<UUID, List<EntityRelationshipRecord>> upstreamEdges;
+
+  private final Cache<UUID, List<EntityRelationshipRecord>> downstreamEdges;
+
   public LineageRepository(CollectionDAO dao) {
     this.dao = dao;
+    EntityCacheConfiguration config = EntityCacheFactory.getConfiguration();
+    this.upstreamEdges = newCache(config);
+    this.downstreamEdges = newCache(config);
+    GuavaCacheMetrics.monitor(
+        MicrometerBundleSingleton.prometheusMeterRegistry, upstreamEdges, "lineage_cache", "direction", "upstream");
+    GuavaCacheMetrics.monitor(
+        MicrometerBundleSingleton.prometheusMeterRegistry, downstreamEdges, "lineage_cache", "direction", "downstream");
     Entity.setLineageRepository(this);
   }
 
+  private static Cache<UUID, List<EntityRelationshipRecord>> newCache(EntityCacheConfiguration config) {
+    return CacheBuilder.newBuilder()
+        .maximumSize(config.getMaximumSize(LINEAGE))
+        .expireAfterWrite(config.getExpireAfterWriteSeconds(), TimeUnit.SECONDS)
+        .recordStats()
+        .build();
+  }
+
   public EntityLineage get(String entityType, String id, int upstreamDepth, int downstreamDepth) {
     EntityReference ref = Entity.getEntityReferenceById(entityType, UUID.fromString(id), Include.NON_DELETED);
     return getLineage(ref, upstreamDepth, downstreamDepth);
@@ -74,9 +112,20 @@ public class LineageRepository {
     // Validate lineage details
     String detailsJson = validateLineageDetails(from, to, addLineage.getEdge().getLineageDetails());
 
+    // The edge is cached for the pipeline of the edge being replaced, if any
+    EntityReference previousPipeline = getPipeline(from, to);
+
     // Finally, add lineage relationship
     dao.relationshipDAO()
         .insert(from.getId(), to.getId(), from.getType(), to.getType(), Relationship.UPSTREAM.ordinal(), detailsJson);
+    invalidate(from.getId(), to.getId());
+    if (previousPipeline != null) {
+      invalidate(previousPipeline.getId());
+    }
+    if (addLineage.getEdge().getLineageDetails() != null
+        && addLineage.getEdge().getLineageDetails().getPipeline() != null) {
+      invalidate(addLineage.getEdge().getLineageDetails().getPipeline().getId());
+    }
   }
 
   private String validateLineageDetails(EntityReference from, EntityReference to, LineageDetails details) {
@@ -126,87 +175,166 @@ public class LineageRepository {
     // Validate to entity
     EntityReference to = Entity.getEntityReferenceById(toEntity, UUID.fromString(toId), Include.NON_DELETED);
 
+    // The edge is also cached for the pipeline in its lineage details
+    EntityReference pipeline = getPipeline(from, to);
+
     // Finally, delete lineage relationship
-    return dao.relationshipDAO()
-            .delete(from.getId(), from.getType(), to.getId(), to.getType(), Relationship.UPSTREAM.ordinal())
-        > 0;
+    boolean deleted =
+        dao.relationshipDAO()
+                .delete(from.getId(), from.getType(), to.getId(), to.getType(), Relationship.UPSTREAM.ordinal())
+            > 0;
+    invalidate(from.getId(), to.getId());
+    if (pipeline != null) {
+      invalidate(pipeline.getId());
+    }
+    return deleted;
+  }
+
+  /** Pipeline in the lineage details of the existing edge between the entities */
+  private EntityReference getPipeline(EntityReference from, EntityReference to) {
+    return dao.relationshipDAO().findFrom(to.getId(), to.getType(), Relationship.UPSTREAM.ordinal(), from.getType())
+        .stream()
+        .filter(r -> r.getId().equals(from.getId()))
+        .map(r -> JsonUtils.readValue(r.getJson(), LineageDetails.class))
+        .filter(details -> details != null && details.getPipeline() != null)
+        .map(LineageDetails::getPipeline)
+        .findFirst()
+        .orElse(null);
+  }
+
+  /** Remove the cached edges of the given entities, after lineage edges from or to them are added or removed */
+  public void invalidate(UUID... ids) {
+    for (UUID id : ids) {
+      upstreamEdges.invalidate(id);
+      downstreamEdges.invalidate(id);
+    }
+  }
+
+  public void invalidateAll() {
+    upstreamEdges.invalidateAll();
+    downstreamEdges.invalidateAll();
   }
 
   private EntityLineage getLineage(EntityReference primary, int upstreamDepth, int downstreamDepth) {
-    List<EntityReference> entities = new ArrayList<>();
+    Map<UUID, EntityReference> nodes = new LinkedHashMap<>();
     EntityLineage lineage =
         new EntityLineage()
             .withEntity(primary)
-            .withNodes(entities)
             .withUpstreamEdges(new ArrayList<>())
             .withDownstreamEdges(new ArrayList<>());
-    getUpstreamLineage(primary.getId(), primary.getType(), lineage, upstreamDepth);
-    getDownstreamLineage(primary.getId(), primary.getType(), lineage, downstreamDepth);
-
-    // Remove duplicate nodes
-    lineage.withNodes(lineage.getNodes().stream().distinct().collect(Collectors.toList()));
-    return lineage;
+    traverse(primary, upstreamDepth, true, lineage.getUpstreamEdges(), nodes);
+    traverse(primary, downstreamDepth, false, lineage.getDownstreamEdges(), nodes);
+    return lineage.withNodes(new ArrayList<>(nodes.values()));
   }
 
-  private void getUpstreamLineage(UUID id, String entityType, EntityLineage lineage, int upstreamDepth) {
-    if (upstreamDepth == 0) {
-      return;
-    }
-    List<EntityRelationshipRecord> records;
-    // pipeline information is not maintained
-    if (entityType.equals(Entity.PIPELINE) || entityType.equals(Entity.STORED_PROCEDURE)) {
-      records = dao.relationshipDAO().findFromPipeline(id, Relationship.UPSTREAM.ordinal());
-    } else {
-      records = dao.relationshipDAO().findFrom(id, entityType, Relationship.UPSTREAM.ordinal());
-    }
-    final List<EntityReference> upstreamEntityReferences = new ArrayList<>();
-    for (EntityRelationshipRecord entityRelationshipRecord : records) {
-      EntityReference ref =
-          Entity.getEntityReferenceById(
-              entityRelationshipRecord.getType(), entityRelationshipRecord.getId(), Include.ALL);
-      LineageDetails lineageDetails = JsonUtils.readValue(entityRelationshipRecord.getJson(), LineageDetails.class);
-      upstreamEntityReferences.add(ref);
-      lineage
-          .getUpstreamEdges()
-          .add(new Edge().withFromEntity(ref.getId()).withToEntity(id).withLineageDetails(lineageDetails));
-    }
-    lineage.getNodes().addAll(upstreamEntityReferences);
-    // from this id ---> find other ids
-
-    upstreamDepth--;
-    // Recursively add upstream nodes and edges
-    for (EntityReference entity : upstreamEntityReferences) {
-      getUpstreamLineage(entity.getId(), entity.getType(), lineage, upstreamDepth);
+  /**
+   * Breadth first traversal of the lineage graph. The edges of each level are fetched for all the entities in the level
+   * at once and the entities at the other end are resolved in bulk. Entities already visited are not expanded again.
+   */
+  private void traverse(
+      EntityReference primary, int depth, boolean upstream, List<Edge> edges, Map<UUID, EntityReference> nodes) {
+    Set<UUID> visited = new HashSet<>();
+    visited.add(primary.getId());
+    List<EntityReference> level = List.of(primary);
+    for (int i = 0; i < depth && !level.isEmpty(); i++) {
+      Map<UUID, List<EntityRelationshipRecord>> levelEdges = getEdges(level, upstream);
+      Map<UUID, EntityReference> references = getReferences(levelEdges.values());
+      List<EntityReference> nextLevel = new ArrayList<>();
+      for (EntityReference entity : level) {
+        for (EntityRelationshipRecord edgeRecord : levelEdges.getOrDefault(entity.getId(), List.of())) {
+          EntityReference ref = references.get(edgeRecord.getId());
+          if (ref == null) {
+            continue; // Entity at the other end of the edge was deleted
+          }
+          LineageDetails lineageDetails = JsonUtils.readValue(edgeRecord.getJson(), LineageDetails.class);
+          Edge edge =
+              upstream
+                  ? new Edge().withFromEntity(ref.getId()).withToEntity(entity.getId())
+                  : new Edge().withFromEntity(entity.getId()).withToEntity(ref.getId());
+          edges.add(edge.withLineageDetails(lineageDetails));
+          nodes.putIfAbsent(ref.getId(), ref);
+          if (visited.add(ref.getId())) {
+            nextLevel.add(ref);
+          }
+        }
+      }
+      level = nextLevel;
     }
   }
 
-  private void getDownstreamLineage(UUID id, String entityType, EntityLineage lineage, int downstreamDepth) {
-    if (downstreamDepth == 0) {
-      return;
+  /** Get the upstream or downstream edges of the entities, from the cache or else from the database */
+  private Map<UUID, List<EntityRelationshipRecord>> getEdges(List<EntityReference> entities, boolean upstream) {
+    Cache<UUID, List<EntityRelationshipRecord>> cache = upstream ? upstreamEdges : downstreamEdges;
+    Map<UUID, List<EntityRelationshipRecord>> edges = new HashMap<>();
+    List<String> ids = new ArrayList<>();
+    // Pipeline information is not maintained as entity relationship, but in the lineage details of the edges
+    List<String> pipelineIds = new ArrayList<>();
+    for (EntityReference entity : entities) {
+      List<EntityRelationshipRecord> cached = cache.getIfPresent(entity.getId());
+      if (cached != null) {
+        edges.put(entity.getId(), cached);
+      } else if (entity.getType().equals(Entity.PIPELINE) || entity.getType().equals(Entity.STORED_PROCEDURE)) {
+        pipelineIds.add(entity.getId().toString());
+      } else {
+        ids.add(entity.getId().toString());
+      }
     }
-    List<EntityRelationshipRecord> records;
-    if (entityType.equals(Entity.PIPELINE) || entityType.equals(Entity.STORED_PROCEDURE)) {
-      records = dao.relationshipDAO().findToPipeline(id, Relationship.UPSTREAM.ordinal());
-    } else {
-      records = dao.relationshipDAO().findTo(id, entityType, Relationship.UPSTREAM.ordinal());
+    Map<UUID, List<EntityRelationshipRecord>> loaded = new HashMap<>();
+    ids.forEach(id -> loaded.put(UUID.fromString(id), new ArrayList<>()));
+    pipelineIds.forEach(id -> loaded.put(UUID.fromString(id), new ArrayList<>()));
+    int relation = Relationship.UPSTREAM.ordinal();
+    for (List<String> batch : Lists.partition(ids, EntityDAO.BATCH_SIZE)) {
+      List<EntityRelationshipObject> records =
+          upstream
+              ? dao.relationshipDAO().findFromBatch(batch, relation)
+              : dao.relationshipDAO().findToBatch(batch, relation);
+      records.forEach(r -> addEdge(loaded, upstream ? r.getToId() : r.getFromId(), r, upstream));
     }
-    final List<EntityReference> downstreamEntityReferences = new ArrayList<>();
-    for (EntityRelationshipRecord entityRelationshipRecord : records) {
-      EntityReference ref =
-          Entity.getEntityReferenceById(
-              entityRelationshipRecord.getType(), entityRelationshipRecord.getId(), Include.ALL);
-      LineageDetails lineageDetails = JsonUtils.readValue(entityRelationshipRecord.getJson(), LineageDetails.class);
-      downstreamEntityReferences.add(ref);
-      lineage
-          .getDownstreamEdges()
-          .add(new Edge().withToEntity(ref.getId()).withFromEntity(id).withLineageDetails(lineageDetails));
+    for (List<String> batch : Lists.partition(pipelineIds, EntityDAO.BATCH_SIZE)) {
+      List<EntityRelationshipObject> records =
+          upstream
+              ? dao.relationshipDAO().findFromPipelineBatch(batch, relation)
+              : dao.relationshipDAO().findToPipelineBatch(batch, relation);
+      for (EntityRelationshipObject r : records) {
+        String nodeId = upstream ? r.getToId() : r.getFromId();
+        if (batch.contains(nodeId)) {
+          addEdge(loaded, nodeId, r, upstream);
+        }
+        LineageDetails details = JsonUtils.readValue(r.getJson(), LineageDetails.class);
+        if (details != null && details.getPipeline() != null) {
+          String pipelineId = details.getPipeline().getId().toString();
+          if (!pipelineId.equals(nodeId) && batch.contains(pipelineId)) {
+            addEdge(loaded, pipelineId, r, upstream);
+          }
+        }
+      }
     }
-    lineage.getNodes().addAll(downstreamEntityReferences);
+    cache.putAll(loaded);
+    edges.putAll(loaded);
+    return edges;
+  }
 
-    downstreamDepth--;
-    // Recursively add upstream nodes and edges
-    for (EntityReference entity : downstreamEntityReferences) {
-      getDownstreamLineage(entity.getId(), entity.getType(), lineage, downstreamDepth);
-    }
+  private static void addEdge(
+      Map<UUID, List<EntityRelationshipRecord>> edges, String nodeId, EntityRelationshipObject r, boolean upstream) {
+    EntityRelationshipRecord edge =
+        EntityRelationshipRecord.builder()
+            .id(UUID.fromString(upstream ? r.getFromId() : r.getToId()))
+            .type(upstream ? r.getFromEntity() : r.getToEntity())
+            .json(r.getJson())
+            .build();
+    edges.get(UUID.fromString(nodeId)).add(edge);
+  }
+
+  /** Resolve the entities at the other end of the edges, with one lookup per entity type */
+  private Map<UUID, EntityReference> getReferences(Collection<List<EntityRelationshipRecord>> edges) {
+    Map<String, Set<UUID>> idsByType = new HashMap<>();
+    edges.forEach(
+        list -> list.forEach(e -> idsByType.computeIfAbsent(e.getType(), t -> new HashSet<>()).add(e.getId())));
+    Map<UUID, EntityReference> references = new HashMap<>();
+    idsByType.forEach(
+        (entityType, ids) ->
+            Entity.getEntityReferencesByIds(entityType, ids, Include.ALL)
+                .forEach(ref -> references.put(ref.getId(), ref)));
+    return references;
   }
 }
@@ -64,6 +64,7 @@ public class MlModelRepository extends EntityRepository<MlModel> {
         MODEL_PATCH_FIELDS,
         MODEL_UPDATE_FIELDS);
     supportsSearch = true;
+    supportsBatchDelete = true;
   }
 
   public static MlFeature findMlFeature(List<MlFeature> features, String featureName) {
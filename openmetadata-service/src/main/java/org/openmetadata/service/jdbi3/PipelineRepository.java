@@ -64,6 +64,7 @@ public class PipelineRepository extends EntityRepository<Pipeline> {
         PIPELINE_PATCH_FIELDS,
         PIPELINE_UPDATE_FIELDS);
     supportsSearch = true;
+    supportsBatchDelete = true;
   }
 
   @Override
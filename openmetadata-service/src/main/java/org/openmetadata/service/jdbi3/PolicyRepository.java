@@ -39,6 +39,7 @@ import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.resources.policies.PolicyResource;
 import org.openmetadata.service.security.policyevaluator.CompiledRule;
+import org.openmetadata.service.security.policyevaluator.SubjectCache;
 import org.openmetadata.service.util.EntityUtil.Fields;
 
 @Slf4j
@@ -86,6 +87,17 @@ public class PolicyRepository extends EntityRepository<Policy> {
     // No relationships to store beyond what is stored in the super class
   }
 
+  @Override
+  protected void postUpdate(Policy original, Policy updated) {
+    super.postUpdate(original, updated);
+    SubjectCache.invalidateAll();
+  }
+
+  @Override
+  protected void postDelete(Policy entity) {
+    SubjectCache.invalidateAll();
+  }
+
   @Override
   public PolicyUpdater getUpdater(Policy original, Policy updated, Operation operation) {
     return new PolicyUpdater(original, updated, operation);
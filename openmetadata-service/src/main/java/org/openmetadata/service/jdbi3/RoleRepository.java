@@ -28,6 +28,7 @@ import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.resources.teams.RoleResource;
+import org.openmetadata.service.security.policyevaluator.SubjectCache;
 import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.EntityUtil.Fields;
 
@@ -103,6 +104,17 @@ public class RoleRepository extends EntityRepository<Role> {
     }
   }
 
+  @Override
+  protected void postUpdate(Role original, Role updated) {
+    super.postUpdate(original, updated);
+    SubjectCache.invalidateAll();
+  }
+
+  @Override
+  protected void postDelete(Role entity) {
+    SubjectCache.invalidateAll();
+  }
+
   @Override
   public RoleUpdater getUpdater(Role original, Role updated, Operation operation) {
     return new RoleUpdater(original, updated, operation);
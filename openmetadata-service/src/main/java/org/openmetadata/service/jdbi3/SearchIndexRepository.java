@@ -18,7 +18,6 @@ import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
 import static org.openmetadata.schema.type.Include.ALL;
 import static org.openmetadata.service.Entity.FIELD_DESCRIPTION;
 import static org.openmetadata.service.Entity.FIELD_DISPLAY_NAME;
-import static org.openmetadata.service.Entity.FIELD_FOLLOWERS;
 import static org.openmetadata.service.Entity.FIELD_TAGS;
 import static org.openmetadata.service.Entity.SEARCH_SERVICE;
 import static org.openmetadata.service.util.EntityUtil.getSearchIndexField;
@@ -51,6 +50,7 @@ import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.EntityUtil.Fields;
 import org.openmetadata.service.util.FullyQualifiedName;
 import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.MatchIndex;
 
 public class SearchIndexRepository extends EntityRepository<SearchIndex> {
 
@@ -58,6 +58,7 @@ public class SearchIndexRepository extends EntityRepository<SearchIndex> {
     super(
         SearchIndexResource.COLLECTION_PATH, Entity.SEARCH_INDEX, SearchIndex.class, dao.searchIndexDAO(), dao, "", "");
     supportsSearch = true;
+    supportsBatchDelete = true;
   }
 
   @Override
@@ -119,7 +120,6 @@ public class SearchIndexRepository extends EntityRepository<SearchIndex> {
   @Override
   public SearchIndex setFields(SearchIndex searchIndex, Fields fields) {
     searchIndex.setService(getContainer(searchIndex.getId()));
-    searchIndex.setFollowers(fields.contains(FIELD_FOLLOWERS) ? getFollowers(searchIndex) : null);
     if (searchIndex.getFields() != null) {
       getFieldTags(fields.contains(FIELD_TAGS), searchIndex.getFields());
     }
@@ -391,7 +391,8 @@ public class SearchIndexRepository extends EntityRepository<SearchIndex> {
         BiPredicate<SearchIndexField, SearchIndexField> fieldMatch) {
       List<SearchIndexField> deletedFields = new ArrayList<>();
       List<SearchIndexField> addedFields = new ArrayList<>();
-      recordListChange(fieldName, origFields, updatedFields, addedFields, deletedFields, fieldMatch);
+      recordListChange(
+          fieldName, origFields, updatedFields, addedFields, deletedFields, fieldMatch, EntityUtil.searchIndexFieldKey);
       // carry forward tags and description if deletedFields matches added field
       Map<String, SearchIndexField> addedFieldMap =
           addedFields.stream().collect(Collectors.toMap(SearchIndexField::getName, Function.identity()));
@@ -417,9 +418,10 @@ public class SearchIndexRepository extends EntityRepository<SearchIndex> {
       }
 
       // Carry forward the user generated metadata from existing fields to new fields
+      MatchIndex<SearchIndexField> origIndex = MatchIndex.of(origFields, EntityUtil.searchIndexFieldKey, fieldMatch);
       for (SearchIndexField updated : updatedFields) {
         // Find stored field matching name, data type and ordinal position
-        SearchIndexField stored = origFields.stream().filter(c -> fieldMatch.test(c, updated)).findAny().orElse(null);
+        SearchIndexField stored = origIndex.find(updated);
         if (stored == null) { // New field added
           continue;
         }
@@ -87,6 +87,7 @@ public abstract class ServiceEntityRepository<
     T service = dao.findEntityById(serviceId);
     service.setTestConnectionResult(testConnectionResult);
     dao.update(serviceId, service.getFullyQualifiedName(), JsonUtils.pojoToJson(service));
+    invalidate(serviceId);
     return service;
   }
 
@@ -2,7 +2,6 @@ package org.openmetadata.service.jdbi3;
 
 import static org.openmetadata.schema.type.Include.ALL;
 import static org.openmetadata.service.Entity.DATABASE_SCHEMA;
-import static org.openmetadata.service.Entity.FIELD_FOLLOWERS;
 import static org.openmetadata.service.Entity.STORED_PROCEDURE;
 
 import org.openmetadata.schema.EntityInterface;
@@ -30,6 +29,7 @@ public class StoredProcedureRepository extends EntityRepository<StoredProcedure>
         PATCH_FIELDS,
         UPDATE_FIELDS);
     supportsSearch = true;
+    supportsBatchDelete = true;
   }
 
   @Override
@@ -79,7 +79,6 @@ public class StoredProcedureRepository extends EntityRepository<StoredProcedure>
   @Override
   public StoredProcedure setFields(StoredProcedure storedProcedure, EntityUtil.Fields fields) {
     setDefaultFields(storedProcedure);
-    storedProcedure.setFollowers(fields.contains(FIELD_FOLLOWERS) ? getFollowers(storedProcedure) : null);
     return storedProcedure;
   }
 
@@ -26,11 +26,13 @@ import static org.openmetadata.service.Entity.getEntity;
 import static org.openmetadata.service.util.LambdaExceptionUtil.ignoringComparator;
 import static org.openmetadata.service.util.LambdaExceptionUtil.rethrowFunction;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -68,9 +70,11 @@ import org.openmetadata.schema.type.TableProfile;
 import org.openmetadata.schema.type.TableProfilerConfig;
 import org.openmetadata.schema.type.TagLabel;
 import org.openmetadata.schema.type.TaskType;
+import org.openmetadata.schema.type.UsageDetails;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.exception.EntityNotFoundException;
+import org.openmetadata.service.jdbi3.EntityTimeSeriesDAO.TimeSeriesRecord;
 import org.openmetadata.service.jdbi3.FeedRepository.TaskWorkflow;
 import org.openmetadata.service.jdbi3.FeedRepository.ThreadContext;
 import org.openmetadata.service.resources.databases.DatabaseUtil;
@@ -116,6 +120,7 @@ public class TableRepository extends EntityRepository<Table> {
         PATCH_FIELDS,
         UPDATE_FIELDS);
     supportsSearch = true;
+    supportsBatchDelete = true;
   }
 
   @Override
@@ -127,7 +132,9 @@ public class TableRepository extends EntityRepository<Table> {
               ? EntityUtil.getLatestUsage(daoCollection.usageDAO(), table.getId())
               : table.getUsageSummary());
     }
-    getColumnTags(fields.contains(FIELD_TAGS), table.getColumns());
+    if (fields.contains(FIELD_TAGS)) {
+      populateColumnTags(table.getFullyQualifiedName(), table.getColumns());
+    }
     table.setJoins(fields.contains("joins") ? getJoins(table) : table.getJoins());
     table.setTableProfilerConfig(
         fields.contains(TABLE_PROFILER_CONFIG) ? getTableProfilerConfig(table) : table.getTableProfilerConfig());
@@ -136,6 +143,22 @@ public class TableRepository extends EntityRepository<Table> {
     return table;
   }
 
+  @Override
+  protected void setFieldsInBulk(List<Table> tables, Fields fields) {
+    if (!fields.contains("usageSummary")) {
+      return;
+    }
+    Map<String, UsageDetails> usage = new HashMap<>();
+    List<String> ids = tables.stream().map(table -> table.getId().toString()).collect(Collectors.toList());
+    for (List<String> batch : Lists.partition(ids, EntityDAO.BATCH_SIZE)) {
+      daoCollection.usageDAO().getLatestUsageBatch(batch).forEach(row -> usage.put(row.getLeft(), row.getRight()));
+    }
+    for (Table table : tables) {
+      UsageDetails details = usage.get(table.getId().toString());
+      table.setUsageSummary(details != null ? details : EntityUtil.getDefaultUsage());
+    }
+  }
+
   @Override
   public Table clearFields(Table table, Fields fields) {
     table.setTableConstraints(fields.contains("tableConstraints") ? table.getTableConstraints() : null);
@@ -249,7 +272,7 @@ public class TableRepository extends EntityRepository<Table> {
 
     // Set the column tags. Will be used to mask the sample data
     if (!authorizePII) {
-      getColumnTags(true, table.getColumns());
+      populateColumnTags(table.getFullyQualifiedName(), table.getColumns());
       table.setTags(getTags(table));
       return PIIMasker.getSampleData(table);
     }
@@ -323,77 +346,71 @@ public class TableRepository extends EntityRepository<Table> {
     return table;
   }
 
-  private Column getColumnNameForProfiler(List<Column> columnList, ColumnProfile columnProfile, String parentName) {
-    for (Column col : columnList) {
-      String columnName;
-      if (parentName != null) {
-        columnName = String.format("%s.%s", parentName, col.getName());
-      } else {
-        columnName = col.getName();
-      }
-      if (columnName.equals(columnProfile.getName())) {
-        return col;
-      }
-      if (col.getChildren() != null) {
-        Column childColumn = getColumnNameForProfiler(col.getChildren(), columnProfile, columnName);
-        if (childColumn != null) {
-          return childColumn;
-        }
-      }
+  /** Columns of the table by the names used in column profiles, where nested columns are named `parent.child` */
+  private static Map<String, Column> getColumnsForProfiler(List<Column> columnList) {
+    Map<String, Column> columns = new HashMap<>();
+    addColumnsForProfiler(columns, columnList, null);
+    return columns;
+  }
+
+  private static void addColumnsForProfiler(Map<String, Column> columns, List<Column> columnList, String parentName) {
+    for (Column col : listOrEmpty(columnList)) {
+      String columnName = parentName != null ? String.format("%s.%s", parentName, col.getName()) : col.getName();
+      columns.putIfAbsent(columnName, col);
+      addColumnsForProfiler(columns, col.getChildren(), columnName);
     }
-    return null;
   }
 
   public Table addTableProfileData(UUID tableId, CreateTableProfile createTableProfile) {
     // Validate the request content
     Table table = dao.findEntityById(tableId);
-    daoCollection
-        .profilerDataTimeSeriesDao()
-        .insert(
+    List<TimeSeriesRecord> profiles = new ArrayList<>();
+    profiles.add(
+        new TimeSeriesRecord(
             table.getFullyQualifiedName(),
             TABLE_PROFILE_EXTENSION,
             "tableProfile",
-            JsonUtils.pojoToJson(createTableProfile.getTableProfile()));
+            JsonUtils.pojoToJson(createTableProfile.getTableProfile()),
+            createTableProfile.getTableProfile().getTimestamp()));
 
-    for (ColumnProfile columnProfile : createTableProfile.getColumnProfile()) {
+    Map<String, Column> columns = getColumnsForProfiler(table.getColumns());
+    for (ColumnProfile columnProfile : listOrEmpty(createTableProfile.getColumnProfile())) {
       // Validate all the columns
-      Column column = getColumnNameForProfiler(table.getColumns(), columnProfile, null);
+      Column column = columns.get(columnProfile.getName());
       if (column == null) {
         throw new IllegalArgumentException("Invalid column name " + columnProfile.getName());
       }
-      daoCollection
-          .profilerDataTimeSeriesDao()
-          .insert(
+      profiles.add(
+          new TimeSeriesRecord(
               column.getFullyQualifiedName(),
               TABLE_COLUMN_PROFILE_EXTENSION,
               "columnProfile",
-              JsonUtils.pojoToJson(columnProfile));
+              JsonUtils.pojoToJson(columnProfile),
+              columnProfile.getTimestamp()));
     }
+    daoCollection.profilerDataTimeSeriesDao().bulkInsert(profiles);
 
-    List<SystemProfile> systemProfiles = createTableProfile.getSystemProfile();
-    if (systemProfiles != null && !systemProfiles.isEmpty()) {
-      for (SystemProfile systemProfile : createTableProfile.getSystemProfile()) {
-        // system metrics timestamp is the one of the operation. We'll need to
-        // update the entry if it already exists in the database
-        String storedSystemProfile =
-            daoCollection
-                .profilerDataTimeSeriesDao()
-                .getExtensionAtTimestampWithOperation(
-                    table.getFullyQualifiedName(),
-                    SYSTEM_PROFILE_EXTENSION,
-                    systemProfile.getTimestamp(),
-                    systemProfile.getOperation().value());
-        daoCollection
-            .profilerDataTimeSeriesDao()
-            .storeTimeSeriesWithOperation(
-                table.getFullyQualifiedName(),
-                SYSTEM_PROFILE_EXTENSION,
-                "systemProfile",
-                JsonUtils.pojoToJson(systemProfile),
-                systemProfile.getTimestamp(),
-                systemProfile.getOperation().value(),
-                storedSystemProfile != null);
-      }
+    // Keep the latest profile of the table and of each column, read by getLatestTableProfile
+    Map<String, TimeSeriesRecord> latestProfiles = new LinkedHashMap<>();
+    for (TimeSeriesRecord profile : profiles) {
+      latestProfiles.merge(profile.getEntityFQNHash(), profile, (a, b) -> a.getTimestamp() >= b.getTimestamp() ? a : b);
+    }
+    daoCollection.profilerDataLatestDAO().upsert(new ArrayList<>(latestProfiles.values()));
+
+    // System metrics timestamp is the one of the operation. The stored entry is replaced if it already exists
+    Map<Pair<Long, String>, TimeSeriesRecord> systemProfiles = new LinkedHashMap<>();
+    for (SystemProfile systemProfile : listOrEmpty(createTableProfile.getSystemProfile())) {
+      systemProfiles.put(
+          Pair.of(systemProfile.getTimestamp(), systemProfile.getOperation().value()),
+          new TimeSeriesRecord(
+              table.getFullyQualifiedName(),
+              SYSTEM_PROFILE_EXTENSION,
+              "systemProfile",
+              JsonUtils.pojoToJson(systemProfile),
+              systemProfile.getTimestamp()));
+    }
+    if (!systemProfiles.isEmpty()) {
+      daoCollection.profilerDataTimeSeriesDao().bulkUpsertWithOperation(new ArrayList<>(systemProfiles.values()));
     }
 
     setFieldsInternal(table, Fields.EMPTY_FIELDS);
@@ -413,6 +430,21 @@ public class TableRepository extends EntityRepository<Table> {
       throw new IllegalArgumentException("entityType must be table, column or system");
     }
     daoCollection.profilerDataTimeSeriesDao().deleteAtTimestamp(fqn, extension, timestamp);
+
+    // Replace the latest profile with the one before it, if the latest profile was deleted
+    if (!extension.equals(SYSTEM_PROFILE_EXTENSION)
+        && daoCollection.profilerDataLatestDAO().deleteAtTimestamp(fqn, extension, timestamp) > 0) {
+      String json = daoCollection.profilerDataTimeSeriesDao().getLatestExtension(fqn, extension);
+      if (json != null) {
+        Long latestTimestamp =
+            extension.equals(TABLE_PROFILE_EXTENSION)
+                ? JsonUtils.readValue(json, TableProfile.class).getTimestamp()
+                : JsonUtils.readValue(json, ColumnProfile.class).getTimestamp();
+        daoCollection
+            .profilerDataLatestDAO()
+            .upsert(List.of(new TimeSeriesRecord(fqn, extension, null, json, latestTimestamp)));
+      }
+    }
   }
 
   public ResultList<TableProfile> getTableProfiles(String fqn, Long startTs, Long endTs) {
@@ -451,35 +483,39 @@ public class TableRepository extends EntityRepository<Table> {
     return new ResultList<>(systemProfiles, startTs.toString(), endTs.toString(), systemProfiles.size());
   }
 
+  /** Set the latest profile of the columns and their nested columns, reading the profiles in batches */
   private void setColumnProfile(List<Column> columnList) {
-    for (Column column : columnList) {
-      ColumnProfile columnProfile =
-          JsonUtils.readValue(
-              daoCollection
-                  .profilerDataTimeSeriesDao()
-                  .getLatestExtension(column.getFullyQualifiedName(), TABLE_COLUMN_PROFILE_EXTENSION),
-              ColumnProfile.class);
-      column.setProfile(columnProfile);
-      if (column.getChildren() != null) {
-        setColumnProfile(column.getChildren());
+    Map<String, Column> columns = new HashMap<>();
+    addColumnsByFQNHash(columns, columnList);
+    List<String> hashes = new ArrayList<>(columns.keySet());
+    for (List<String> batch : Lists.partition(hashes, EntityDAO.BATCH_SIZE)) {
+      for (Pair<String, String> profile :
+          daoCollection.profilerDataLatestDAO().listLatest(batch, TABLE_COLUMN_PROFILE_EXTENSION)) {
+        columns.get(profile.getLeft()).setProfile(JsonUtils.readValue(profile.getRight(), ColumnProfile.class));
       }
     }
   }
 
+  private static void addColumnsByFQNHash(Map<String, Column> columns, List<Column> columnList) {
+    for (Column column : listOrEmpty(columnList)) {
+      column.setProfile(null);
+      columns.put(FullyQualifiedName.buildHash(column.getFullyQualifiedName()), column);
+      addColumnsByFQNHash(columns, column.getChildren());
+    }
+  }
+
   public Table getLatestTableProfile(String fqn, boolean authorizePII) {
     Table table = dao.findEntityByName(fqn, ALL);
     TableProfile tableProfile =
         JsonUtils.readValue(
-            daoCollection
-                .profilerDataTimeSeriesDao()
-                .getLatestExtension(table.getFullyQualifiedName(), TABLE_PROFILE_EXTENSION),
+            daoCollection.profilerDataLatestDAO().getLatest(table.getFullyQualifiedName(), TABLE_PROFILE_EXTENSION),
             TableProfile.class);
     table.setProfile(tableProfile);
     setColumnProfile(table.getColumns());
 
     // Set the column tags. Will be used to hide the data
     if (!authorizePII) {
-      getColumnTags(true, table.getColumns());
+      populateColumnTags(table.getFullyQualifiedName(), table.getColumns());
       return PIIMasker.getTableProfile(table);
     }
 
@@ -583,6 +619,7 @@ public class TableRepository extends EntityRepository<Table> {
     }
     applyTags(table.getColumns());
     dao.update(table.getId(), table.getFullyQualifiedName(), JsonUtils.pojoToJson(table));
+    invalidate(table.getId());
     setFieldsInternal(table, new Fields(Set.of(FIELD_OWNER), FIELD_OWNER));
     setFieldsInternal(table, new Fields(Set.of(FIELD_TAGS), FIELD_TAGS));
     return table;
@@ -781,14 +818,6 @@ public class TableRepository extends EntityRepository<Table> {
     return childrenColumn;
   }
 
-  // TODO duplicated code
-  private void getColumnTags(boolean setTags, List<Column> columns) {
-    for (Column c : listOrEmpty(columns)) {
-      c.setTags(setTags ? getTags(c.getFullyQualifiedName()) : c.getTags());
-      getColumnTags(setTags, c.getChildren());
-    }
-  }
-
   private void validateTableFQN(String fqn) {
     try {
       dao.existsByName(fqn);
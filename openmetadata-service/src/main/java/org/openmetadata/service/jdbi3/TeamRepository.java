@@ -47,6 +47,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -68,7 +69,9 @@ import org.openmetadata.schema.type.csv.CsvImportResult;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
+import org.openmetadata.service.resources.teams.TeamClosure;
 import org.openmetadata.service.resources.teams.TeamResource;
+import org.openmetadata.service.security.policyevaluator.SubjectCache;
 import org.openmetadata.service.security.policyevaluator.SubjectContext;
 import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.EntityUtil.Fields;
@@ -184,6 +187,29 @@ public class TeamRepository extends EntityRepository<Team> {
     return team;
   }
 
+  @Override
+  protected void postCreate(Team entity) {
+    super.postCreate(entity);
+    TeamClosure.invalidate();
+    SubjectCache.invalidateAll();
+  }
+
+  @Override
+  protected void postUpdate(Team original, Team updated) {
+    super.postUpdate(original, updated);
+    if (!Objects.equals(original.getName(), updated.getName())
+        || !Objects.equals(original.getDeleted(), updated.getDeleted())) {
+      TeamClosure.invalidate(); // Team is renamed or restored
+    }
+    SubjectCache.invalidateAll();
+  }
+
+  @Override
+  protected void postDelete(Team entity) {
+    TeamClosure.invalidate();
+    SubjectCache.invalidateAll();
+  }
+
   @Override
   public TeamUpdater getUpdater(Team original, Team updated, Operation operation) {
     return new TeamUpdater(original, updated, operation);
@@ -711,6 +737,7 @@ public class TeamRepository extends EntityRepository<Team> {
       List<EntityReference> updatedParents = listOrEmpty(updated.getParents());
       updateFromRelationships(
           PARENTS_FIELD, TEAM, origParents, updatedParents, Relationship.PARENT_OF, TEAM, original.getId());
+      invalidateClosure(origParents, updatedParents);
     }
 
     private void updateChildren(Team original, Team updated) {
@@ -718,6 +745,13 @@ public class TeamRepository extends EntityRepository<Team> {
       List<EntityReference> updatedParents = listOrEmpty(updated.getChildren());
       updateToRelationships(
           "children", TEAM, original.getId(), Relationship.PARENT_OF, TEAM, origParents, updatedParents, false);
+      invalidateClosure(origParents, updatedParents);
+    }
+
+    private void invalidateClosure(List<EntityReference> origTeams, List<EntityReference> updatedTeams) {
+      if (!new HashSet<>(EntityUtil.refToIds(origTeams)).equals(new HashSet<>(EntityUtil.refToIds(updatedTeams)))) {
+        TeamClosure.invalidate(); // Team is moved in the hierarchy
+      }
     }
 
     private void updatePolicies(Team original, Team updated) {
@@ -1,6 +1,5 @@
 package org.openmetadata.service.jdbi3;
 
-import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 import static org.openmetadata.service.Entity.TEST_CASE;
 import static org.openmetadata.service.Entity.TEST_DEFINITION;
 import static org.openmetadata.service.Entity.TEST_SUITE;
@@ -37,6 +36,8 @@ import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.schema.utils.EntityInterfaceUtil;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.EntityNotFoundException;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
+import org.openmetadata.service.jdbi3.CollectionDAO.TestSuiteResultSummaryDAO;
 import org.openmetadata.service.resources.feeds.MessageParser.EntityLink;
 import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.EntityUtil.Fields;
@@ -258,60 +259,57 @@ public class TestCaseRepository extends EntityRepository<TestCase> {
 
   private void setTestSuiteSummary(
       TestCase testCase, Long timestamp, TestCaseStatus testCaseStatus, boolean isDeleted) {
-    ResultSummary resultSummary = getResultSummary(testCase, timestamp, testCaseStatus);
-
-    // list all executable and logical test suite linked to the test case
-    List<TestSuite> testSuites = getTestSuites(testCase);
-
-    // update the summary for each test suite
-    for (TestSuite testSuite : testSuites) {
-      testSuite.setSummary(null); // we don't want to store the summary in the database
-      List<ResultSummary> resultSummaries = listOrEmpty(testSuite.getTestCaseResultSummary());
-      if ((isDeleted) && (resultSummaries.isEmpty())) {
-        continue; // if we try to delete the state but not state is set then nothing to do
-      }
-
-      ResultSummary storedResultSummary = findMatchingResultSummary(resultSummaries, resultSummary.getTestCaseName());
-
-      if (!shouldUpdateResultSummary(storedResultSummary, timestamp, isDeleted)) {
-        continue; // if the state should not be updated then nothing to do
-      }
-
-      if (storedResultSummary != null) {
-        resultSummaries.removeIf(summary -> summary.getTestCaseName().equals(resultSummary.getTestCaseName()));
-      }
-
-      if (!isDeleted) {
-        resultSummaries.add(resultSummary);
-      } else {
-        // Add the latest state when removing a state
-        String json =
-            daoCollection
-                .dataQualityDataTimeSeriesDao()
-                .getLatestExtension(testCase.getFullyQualifiedName(), TESTCASE_RESULT_EXTENSION);
-        TestCaseResult testCaseResult = JsonUtils.readValue(json, TestCaseResult.class);
-        ResultSummary newResultSummary =
-            getResultSummary(testCase, testCaseResult.getTimestamp(), testCaseResult.getTestCaseStatus());
-        resultSummaries.add(newResultSummary);
+    TestSuiteResultSummaryDAO summaryDAO = daoCollection.testSuiteResultSummaryDAO();
+    String testCaseFqn = testCase.getFullyQualifiedName();
+    if (!isDeleted) {
+      // update the summary of all executable and logical test suite linked to the test case
+      ResultSummary resultSummary = getResultSummary(testCase, timestamp, testCaseStatus);
+      for (EntityRelationshipRecord testSuite :
+          findFromRecords(testCase.getId(), entityType, Relationship.CONTAINS, TEST_SUITE)) {
+        storeResultSummary(testSuite.getId(), resultSummary);
       }
-
-      // Update test case result summary for the test suite
-      testSuite.setTestCaseResultSummary(resultSummaries);
-      daoCollection
-          .testSuiteDAO()
-          .update(testSuite.getId(), testSuite.getFullyQualifiedName(), JsonUtils.pojoToJson(testSuite));
+      return;
     }
-  }
 
-  private ResultSummary findMatchingResultSummary(List<ResultSummary> resultSummaries, String testCaseNameToMatch) {
-    return resultSummaries.stream()
-        .filter(summary -> summary.getTestCaseName().equals(testCaseNameToMatch))
-        .findFirst()
-        .orElse(null);
+    // The test suites with the deleted result or an older one as their state get the latest result as the new state
+    String json =
+        daoCollection.dataQualityDataTimeSeriesDao().getLatestExtension(testCaseFqn, TESTCASE_RESULT_EXTENSION);
+    if (json == null) {
+      summaryDAO.deleteDeleted(testCaseFqn, timestamp);
+      return;
+    }
+    TestCaseResult testCaseResult = JsonUtils.readValue(json, TestCaseResult.class);
+    ResultSummary resultSummary =
+        getResultSummary(testCase, testCaseResult.getTimestamp(), testCaseResult.getTestCaseStatus());
+    summaryDAO.replaceDeleted(
+        testCaseFqn,
+        timestamp,
+        resultSummary.getTimestamp(),
+        resultSummary.getStatus().value(),
+        JsonUtils.pojoToJson(resultSummary));
+  }
+
+  /** The summaries of the test suites dropped the test case when it was deleted. Add its latest result back. */
+  void restoreTestSuiteSummary(TestCase testCase) {
+    String json =
+        daoCollection
+            .dataQualityDataTimeSeriesDao()
+            .getLatestExtension(testCase.getFullyQualifiedName(), TESTCASE_RESULT_EXTENSION);
+    if (json != null) {
+      TestCaseResult testCaseResult = JsonUtils.readValue(json, TestCaseResult.class);
+      setTestSuiteSummary(testCase, testCaseResult.getTimestamp(), testCaseResult.getTestCaseStatus(), false);
+    }
   }
 
-  private boolean shouldUpdateResultSummary(ResultSummary storedResultSummary, Long timestamp, boolean isDeleted) {
-    return storedResultSummary == null || timestamp >= storedResultSummary.getTimestamp();
+  private void storeResultSummary(UUID testSuiteId, ResultSummary resultSummary) {
+    daoCollection
+        .testSuiteResultSummaryDAO()
+        .upsert(
+            testSuiteId,
+            resultSummary.getTestCaseName(),
+            resultSummary.getTimestamp(),
+            resultSummary.getStatus().value(),
+            JsonUtils.pojoToJson(resultSummary));
   }
 
   // Stores the test case result with the test case entity for the latest execution
@@ -334,6 +332,7 @@ public class TestCaseRepository extends EntityRepository<TestCase> {
       testCase.setTestCaseResult(latestTestCaseResult);
     }
     dao.update(testCase.getId(), testCase.getFullyQualifiedName(), JsonUtils.pojoToJson(testCase));
+    invalidate(testCase.getId());
   }
 
   private boolean compareTestCaseResult(TestCase testCase, TestCaseResult testCaseResult) {
@@ -415,7 +414,6 @@ public class TestCaseRepository extends EntityRepository<TestCase> {
   public RestUtil.PutResponse<TestSuite> addTestCasesToLogicalTestSuite(TestSuite testSuite, List<UUID> testCaseIds) {
     bulkAddToRelationship(testSuite.getId(), testCaseIds, TEST_SUITE, TEST_CASE, Relationship.CONTAINS);
     List<EntityReference> testCasesEntityReferences = new ArrayList<>();
-    List<ResultSummary> resultSummaries = listOrEmpty(testSuite.getTestCaseResultSummary());
     for (UUID testCaseId : testCaseIds) {
       TestCase testCase = Entity.getEntity(Entity.TEST_CASE, testCaseId, "*", Include.ALL);
       postUpdate(testCase, testCase);
@@ -426,10 +424,9 @@ public class TestCaseRepository extends EntityRepository<TestCase> {
               .getLatestExtension(testCase.getFullyQualifiedName(), TESTCASE_RESULT_EXTENSION);
       if (result != null) {
         TestCaseResult testCaseResult = JsonUtils.readValue(result, TestCaseResult.class);
-        ResultSummary resultSummary =
-            getResultSummary(testCase, testCaseResult.getTimestamp(), testCaseResult.getTestCaseStatus());
-        resultSummaries.removeIf(summary -> summary.getTestCaseName().equals(resultSummary.getTestCaseName()));
-        resultSummaries.add(resultSummary);
+        storeResultSummary(
+            testSuite.getId(),
+            getResultSummary(testCase, testCaseResult.getTimestamp(), testCaseResult.getTestCaseStatus()));
       }
       testCasesEntityReferences.add(
           new EntityReference()
@@ -441,14 +438,6 @@ public class TestCaseRepository extends EntityRepository<TestCase> {
               .withHref(testCase.getHref())
               .withDeleted(testCase.getDeleted()));
     }
-    // set test case result summary for logical test suite
-    // and update it in the database
-    testSuite.setTestCaseResultSummary(resultSummaries);
-    testSuite.setSummary(null); // we don't want to store the summary in the database
-    daoCollection
-        .testSuiteDAO()
-        .update(testSuite.getId(), testSuite.getFullyQualifiedName(), JsonUtils.pojoToJson(testSuite));
-
     testSuite.setTests(testCasesEntityReferences);
     return new RestUtil.PutResponse<>(Response.Status.OK, testSuite, LOGICAL_TEST_CASES_ADDED);
   }
@@ -463,16 +452,9 @@ public class TestCaseRepository extends EntityRepository<TestCase> {
     return new RestUtil.DeleteResponse<>(testCase, RestUtil.ENTITY_DELETED);
   }
 
-  /** Remove test case from test suite summary and update test suite */
+  /** Remove test case from test suite summary */
   private void removeTestCaseFromTestSuiteResultSummary(UUID testSuiteId, String testCaseFqn) {
-    TestSuite testSuite = Entity.getEntity(TEST_SUITE, testSuiteId, "*", Include.ALL, false);
-    testSuite.setSummary(null); // we don't want to store the summary in the database
-    List<ResultSummary> resultSummaries = testSuite.getTestCaseResultSummary();
-    resultSummaries.removeIf(summary -> summary.getTestCaseName().equals(testCaseFqn));
-    testSuite.setTestCaseResultSummary(resultSummaries);
-    daoCollection
-        .testSuiteDAO()
-        .update(testSuite.getId(), testSuite.getFullyQualifiedName(), JsonUtils.pojoToJson(testSuite));
+    daoCollection.testSuiteResultSummaryDAO().delete(testSuiteId, testCaseFqn);
   }
 
   @Override
@@ -482,14 +464,8 @@ public class TestCaseRepository extends EntityRepository<TestCase> {
 
   @Override
   protected void preDelete(TestCase entity, String deletedBy) {
-    // delete test case from test suite summary when test case is deleted
-    // from an executable test suite
-    List<TestSuite> testSuites = getTestSuites(entity);
-    if (!testSuites.isEmpty()) {
-      for (TestSuite testSuite : testSuites) {
-        removeTestCaseFromTestSuiteResultSummary(testSuite.getId(), entity.getFullyQualifiedName());
-      }
-    }
+    // delete test case from the summary of all the test suites when test case is deleted
+    daoCollection.testSuiteResultSummaryDAO().deleteByTestCase(entity.getFullyQualifiedName());
   }
 
   @Override
@@ -596,6 +572,9 @@ public class TestCaseRepository extends EntityRepository<TestCase> {
           TEST_CASE,
           updated.getId());
       recordChange("parameterValues", original.getParameterValues(), updated.getParameterValues());
+      if (isEntityRestored()) {
+        restoreTestSuiteSummary(updated);
+      }
     }
   }
 }
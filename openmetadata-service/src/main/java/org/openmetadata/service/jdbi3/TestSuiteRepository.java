@@ -5,15 +5,16 @@ import static org.openmetadata.service.Entity.TEST_CASE;
 import static org.openmetadata.service.Entity.TEST_SUITE;
 import static org.openmetadata.service.util.FullyQualifiedName.quoteName;
 
+import com.google.common.collect.Lists;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.SecurityContext;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
 import org.openmetadata.schema.entity.data.Table;
 import org.openmetadata.schema.tests.ResultSummary;
-import org.openmetadata.schema.tests.TestCase;
 import org.openmetadata.schema.tests.TestSuite;
 import org.openmetadata.schema.tests.type.TestCaseStatus;
 import org.openmetadata.schema.tests.type.TestSummary;
@@ -48,7 +49,10 @@ public class TestSuiteRepository extends EntityRepository<TestSuite> {
   @Override
   public TestSuite setFields(TestSuite entity, EntityUtil.Fields fields) {
     entity.setPipelines(fields.contains("pipelines") ? getIngestionPipelines(entity) : entity.getPipelines());
-    entity.setSummary(fields.contains("summary") ? getTestCasesExecutionSummary(entity) : entity.getSummary());
+    if (fields.contains("summary")) {
+      entity.setTestCaseResultSummary(getResultSummaries(entity));
+      entity.setSummary(getTestCasesExecutionSummary(List.of(entity.getId())));
+    }
     return entity.withTests(fields.contains("tests") ? getTestCases(entity) : entity.getTests());
   }
 
@@ -78,43 +82,23 @@ public class TestSuiteRepository extends EntityRepository<TestSuite> {
     }
   }
 
-  private HashMap<String, Integer> getResultSummary(TestSuite testSuite) {
-    HashMap<String, Integer> testCaseSummary = new HashMap<>();
-    for (ResultSummary resultSummary : testSuite.getTestCaseResultSummary()) {
-      String status = resultSummary.getStatus().toString();
-      testCaseSummary.put(status, testCaseSummary.getOrDefault(status, 0) + 1);
-    }
-
-    return testCaseSummary;
-  }
-
-  private ResultSummary getResultSummary(TestCase testCase, Long timestamp, TestCaseStatus testCaseStatus) {
-    return new ResultSummary()
-        .withTestCaseName(testCase.getFullyQualifiedName())
-        .withStatus(testCaseStatus)
-        .withTimestamp(timestamp);
-  }
-
-  private TestSummary getTestCasesExecutionSummary(TestSuite entity) {
-    if (entity.getTestCaseResultSummary().isEmpty()) return new TestSummary();
-    HashMap<String, Integer> testSummary = getResultSummary(entity);
-    return buildTestSummary(testSummary, entity.getTestCaseResultSummary().size());
+  private List<ResultSummary> getResultSummaries(TestSuite testSuite) {
+    return JsonUtils.readObjects(
+        daoCollection.testSuiteResultSummaryDAO().listByTestSuite(testSuite.getId()), ResultSummary.class);
   }
 
-  private TestSummary getTestCasesExecutionSummary(List<TestSuite> entities) {
-    if (entities.isEmpty()) return new TestSummary();
-
+  /** Count the test cases of the test suites by the status of their latest result */
+  private TestSummary getTestCasesExecutionSummary(List<UUID> testSuiteIds) {
     HashMap<String, Integer> testsSummary = new HashMap<>();
     int total = 0;
-    for (TestSuite testSuite : entities) {
-      HashMap<String, Integer> testSummary = getResultSummary(testSuite);
-      for (Map.Entry<String, Integer> entry : testSummary.entrySet()) {
-        testsSummary.put(entry.getKey(), testsSummary.getOrDefault(entry.getKey(), 0) + entry.getValue());
+    List<String> ids = testSuiteIds.stream().map(UUID::toString).collect(Collectors.toList());
+    for (List<String> batch : Lists.partition(ids, EntityDAO.BATCH_SIZE)) {
+      for (Pair<String, Integer> statusCount : daoCollection.testSuiteResultSummaryDAO().countByStatus(batch)) {
+        testsSummary.merge(statusCount.getLeft(), statusCount.getRight(), Integer::sum);
+        total += statusCount.getRight();
       }
-      total += testSuite.getTestCaseResultSummary().size();
     }
-
-    return buildTestSummary(testsSummary, total);
+    return total == 0 ? new TestSummary() : buildTestSummary(testsSummary, total);
   }
 
   public TestSummary getTestSummary(UUID testSuiteId) {
@@ -123,11 +107,12 @@ public class TestSuiteRepository extends EntityRepository<TestSuite> {
       ListFilter filter = new ListFilter();
       filter.addQueryParam("testSuiteType", "executable");
       List<TestSuite> testSuites = listAll(EntityUtil.Fields.EMPTY_FIELDS, filter);
-      testSummary = getTestCasesExecutionSummary(testSuites);
+      testSummary =
+          getTestCasesExecutionSummary(testSuites.stream().map(TestSuite::getId).collect(Collectors.toList()));
     } else {
-      // don't want to get it from the cache as test results summary may be stale
-      TestSuite testSuite = Entity.getEntity(TEST_SUITE, testSuiteId, "", Include.ALL, false);
-      testSummary = getTestCasesExecutionSummary(testSuite);
+      // Validate that the test suite exists
+      Entity.getEntityReferenceById(TEST_SUITE, testSuiteId, Include.ALL);
+      testSummary = getTestCasesExecutionSummary(List.of(testSuiteId));
     }
     return testSummary;
   }
@@ -149,7 +134,21 @@ public class TestSuiteRepository extends EntityRepository<TestSuite> {
 
   @Override
   public void storeEntity(TestSuite entity, boolean update) {
+    // The result summaries are stored in their own table and not as part of json
+    List<ResultSummary> resultSummaries = entity.getTestCaseResultSummary();
+    TestSummary summary = entity.getSummary();
+    entity.withTestCaseResultSummary(null).withSummary(null);
+
     store(entity, update);
+
+    // Restore the result summaries
+    entity.withTestCaseResultSummary(resultSummaries).withSummary(summary);
+  }
+
+  @Override
+  protected void cleanup(TestSuite testSuite) {
+    daoCollection.testSuiteResultSummaryDAO().deleteByTestSuite(testSuite.getId());
+    super.cleanup(testSuite);
   }
 
   @Override
@@ -53,6 +53,7 @@ import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.EntityUtil.Fields;
 import org.openmetadata.service.util.FullyQualifiedName;
 import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.MatchIndex;
 
 public class TopicRepository extends EntityRepository<Topic> {
   @Override
@@ -66,6 +67,7 @@ public class TopicRepository extends EntityRepository<Topic> {
   public TopicRepository(CollectionDAO dao) {
     super(TopicResource.COLLECTION_PATH, Entity.TOPIC, Topic.class, dao.topicDAO(), dao, "", "");
     supportsSearch = true;
+    supportsBatchDelete = true;
   }
 
   @Override
@@ -431,7 +433,8 @@ public class TopicRepository extends EntityRepository<Topic> {
         String fieldName, List<Field> origFields, List<Field> updatedFields, BiPredicate<Field, Field> fieldMatch) {
       List<Field> deletedFields = new ArrayList<>();
       List<Field> addedFields = new ArrayList<>();
-      recordListChange(fieldName, origFields, updatedFields, addedFields, deletedFields, fieldMatch);
+      recordListChange(
+          fieldName, origFields, updatedFields, addedFields, deletedFields, fieldMatch, EntityUtil.schemaFieldKey);
       // carry forward tags and description if deletedFields matches added field
       Map<String, Field> addedFieldMap =
           addedFields.stream().collect(Collectors.toMap(Field::getName, Function.identity()));
@@ -457,9 +460,10 @@ public class TopicRepository extends EntityRepository<Topic> {
       }
 
       // Carry forward the user generated metadata from existing fields to new fields
+      MatchIndex<Field> origIndex = MatchIndex.of(origFields, EntityUtil.schemaFieldKey, fieldMatch);
       for (Field updated : updatedFields) {
         // Find stored field matching name, data type and ordinal position
-        Field stored = origFields.stream().filter(c -> fieldMatch.test(c, updated)).findAny().orElse(null);
+        Field stored = origIndex.find(updated);
         if (stored == null) { // New field added
           continue;
         }
@@ -60,6 +60,7 @@ import org.openmetadata.service.resources.teams.UserResource;
 import org.openmetadata.service.secrets.SecretsManager;
 import org.openmetadata.service.secrets.SecretsManagerFactory;
 import org.openmetadata.service.security.SecurityUtil;
+import org.openmetadata.service.security.policyevaluator.SubjectCache;
 import org.openmetadata.service.security.policyevaluator.SubjectContext;
 import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.EntityUtil.Fields;
@@ -186,6 +187,17 @@ public class UserRepository extends EntityRepository<User> {
     return user;
   }
 
+  @Override
+  protected void postUpdate(User original, User updated) {
+    super.postUpdate(original, updated);
+    SubjectCache.invalidateUser(updated.getName());
+  }
+
+  @Override
+  protected void postDelete(User entity) {
+    SubjectCache.invalidateUser(entity.getName());
+  }
+
   @Override
   public UserUpdater getUpdater(User original, User updated, Operation operation) {
     return new UserUpdater(original, updated, operation);
@@ -1,11 +1,16 @@
 package org.openmetadata.service.migration.utils.v120;
 
+import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
+
+import java.util.List;
 import javax.json.Json;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.jdbi.v3.core.Handle;
 import org.openmetadata.schema.entity.data.Query;
+import org.openmetadata.schema.tests.ResultSummary;
+import org.openmetadata.schema.tests.TestSuite;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.jdbi3.QueryRepository;
@@ -110,4 +115,42 @@ public class MigrationUtil {
       LOG.warn("Error running the query migration ", ex);
     }
   }
+
+  /**
+   * Test suites had the latest result of each of their test cases in their `testCaseResultSummary` field. Move the
+   * result summaries to the test_suite_result_summary table and remove them from the test suites.
+   */
+  public static void migrateTestSuiteResultSummaries(CollectionDAO collectionDAO) {
+    int batchSize = 100;
+    int offset = 0;
+    List<String> jsons;
+    do {
+      jsons = collectionDAO.testSuiteDAO().listAfterWithOffset(batchSize, offset);
+      offset += batchSize;
+      for (String json : jsons) {
+        try {
+          TestSuite testSuite = JsonUtils.readValue(json, TestSuite.class);
+          if (nullOrEmpty(testSuite.getTestCaseResultSummary())) {
+            continue;
+          }
+          for (ResultSummary resultSummary : testSuite.getTestCaseResultSummary()) {
+            collectionDAO
+                .testSuiteResultSummaryDAO()
+                .upsert(
+                    testSuite.getId(),
+                    resultSummary.getTestCaseName(),
+                    resultSummary.getTimestamp(),
+                    resultSummary.getStatus().value(),
+                    JsonUtils.pojoToJson(resultSummary));
+          }
+          testSuite.withTestCaseResultSummary(null).withSummary(null);
+          collectionDAO
+              .testSuiteDAO()
+              .update(testSuite.getId(), testSuite.getFullyQualifiedName(), JsonUtils.pojoToJson(testSuite));
+        } catch (Exception ex) {
+          LOG.warn(String.format("Error migrating the result summaries of test suite [%s] due to [%s]", json, ex));
+        }
+      }
+    } while (jsons.size() == batchSize);
+  }
 }
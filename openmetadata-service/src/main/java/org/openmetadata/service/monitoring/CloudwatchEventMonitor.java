@@ -88,7 +88,7 @@ public class CloudwatchEventMonitor extends EventMonitor {
 
   protected List<PutMetricDataRequest> buildMetricRequest(ChangeEvent event) {
     String fqn = event.getEntityFullyQualifiedName();
-    IngestionPipeline ingestionPipeline = (IngestionPipeline) event.getEntity();
+    IngestionPipeline ingestionPipeline = getIngestionPipeline(event);
     String pipelineType = ingestionPipeline.getPipelineType().toString();
     Long timestamp = event.getTimestamp();
 
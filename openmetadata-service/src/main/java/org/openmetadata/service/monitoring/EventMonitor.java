@@ -13,8 +13,10 @@
 package org.openmetadata.service.monitoring;
 
 import lombok.Getter;
+import org.openmetadata.schema.entity.services.ingestionPipelines.IngestionPipeline;
 import org.openmetadata.schema.monitoring.EventMonitorProvider;
 import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.service.util.JsonUtils;
 
 public abstract class EventMonitor {
 
@@ -34,6 +36,17 @@ public abstract class EventMonitor {
     return String.format("%s/%s", this.clusterPrefix, namespace);
   }
 
+  /** The ingestion pipeline of an event, which is a JSON string when the event is read from the change event log */
+  protected static IngestionPipeline getIngestionPipeline(ChangeEvent event) {
+    Object entity = event.getEntity();
+    if (entity instanceof IngestionPipeline) {
+      return (IngestionPipeline) entity;
+    }
+    return entity instanceof String
+        ? JsonUtils.readValue((String) entity, IngestionPipeline.class)
+        : JsonUtils.convertValue(entity, IngestionPipeline.class);
+  }
+
   protected abstract void pushMetric(ChangeEvent event);
 
   protected abstract void close();
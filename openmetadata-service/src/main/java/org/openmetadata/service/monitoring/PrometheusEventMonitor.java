@@ -42,7 +42,7 @@ public class PrometheusEventMonitor extends EventMonitor {
   @Override
   protected void pushMetric(ChangeEvent event) {
     String fqn = event.getEntityFullyQualifiedName();
-    IngestionPipeline ingestionPipeline = (IngestionPipeline) event.getEntity();
+    IngestionPipeline ingestionPipeline = getIngestionPipeline(event);
     String pipelineType = ingestionPipeline.getPipelineType().toString();
 
     try {
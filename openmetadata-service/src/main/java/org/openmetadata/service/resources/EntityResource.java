@@ -22,6 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.CreateEntity;
 import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.service.configuration.elasticsearch.ElasticSearchConfiguration;
+import org.openmetadata.schema.system.EntityDeleteJob;
 import org.openmetadata.schema.type.EntityHistory;
 import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.Include;
@@ -39,6 +40,7 @@ import org.openmetadata.service.security.policyevaluator.CreateResourceContext;
 import org.openmetadata.service.security.policyevaluator.OperationContext;
 import org.openmetadata.service.security.policyevaluator.ResourceContext;
 import org.openmetadata.service.security.policyevaluator.ResourceContextInterface;
+import org.openmetadata.service.util.DeleteJobHandler;
 import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.EntityUtil.Fields;
 import org.openmetadata.service.util.RestUtil;
@@ -167,7 +169,7 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
       OperationContext operationContext,
       ResourceContextInterface resourceContext) {
     authorizer.authorize(securityContext, operationContext, resourceContext);
-    return addHref(uriInfo, repository.get(uriInfo, id, fields, include, false));
+    return addHref(uriInfo, repository.get(uriInfo, id, fields, include, true));
   }
 
   public T getVersionInternal(SecurityContext securityContext, UUID id, String version) {
@@ -199,6 +201,12 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
     return repository.listVersions(id);
   }
 
+  protected EntityHistory listVersionsInternal(SecurityContext securityContext, UUID id, int limit, Double before) {
+    OperationContext operationContext = new OperationContext(entityType, MetadataOperation.VIEW_BASIC);
+    authorizer.authorize(securityContext, operationContext, getResourceContextById(id));
+    return repository.listVersions(id, limit, before);
+  }
+
   public T getByNameInternal(
       UriInfo uriInfo, SecurityContext securityContext, String name, String fieldsParam, Include include) {
     Fields fields = getFields(fieldsParam);
@@ -216,7 +224,7 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
       OperationContext operationContext,
       ResourceContextInterface resourceContext) {
     authorizer.authorize(securityContext, operationContext, resourceContext);
-    return addHref(uriInfo, repository.getByName(uriInfo, name, fields, include, false));
+    return addHref(uriInfo, repository.getByName(uriInfo, name, fields, include, true));
   }
 
   public Response create(UriInfo uriInfo, SecurityContext securityContext, T entity) {
@@ -265,6 +273,16 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
     return response.toResponse();
   }
 
+  /** Hard delete the entity and all the entities it contains in a background job, returning the job to track it */
+  public Response deleteAsync(SecurityContext securityContext, UUID id) {
+    OperationContext operationContext = new OperationContext(entityType, MetadataOperation.DELETE);
+    authorizer.authorize(securityContext, operationContext, getResourceContextById(id));
+    T entity = repository.findForDelete(id);
+    EntityDeleteJob job =
+        DeleteJobHandler.getInstance().createDeleteJob(securityContext.getUserPrincipal().getName(), entity);
+    return Response.accepted(job).build();
+  }
+
   public Response deleteByName(
       UriInfo uriInfo, SecurityContext securityContext, String name, boolean recursive, boolean hardDelete) {
     OperationContext operationContext = new OperationContext(entityType, MetadataOperation.DELETE);
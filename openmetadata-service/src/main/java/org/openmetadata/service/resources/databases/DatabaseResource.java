@@ -50,6 +50,7 @@ import org.openmetadata.schema.api.VoteRequest;
 import org.openmetadata.schema.api.data.CreateDatabase;
 import org.openmetadata.schema.api.data.RestoreEntity;
 import org.openmetadata.schema.entity.data.Database;
+import org.openmetadata.schema.system.EntityDeleteJob;
 import org.openmetadata.schema.type.ChangeEvent;
 import org.openmetadata.schema.type.EntityHistory;
 import org.openmetadata.schema.type.Include;
@@ -340,6 +341,29 @@ public class DatabaseResource extends EntityResource<Database, DatabaseRepositor
     return delete(uriInfo, securityContext, id, recursive, hardDelete);
   }
 
+  @DELETE
+  @Path("/async/{id}")
+  @Operation(
+      operationId = "deleteDatabaseAsync",
+      summary = "Asynchronously hard delete a database by Id",
+      description =
+          "Hard delete a database and all its schemas and tables in a background job. "
+              + "Track the job with `/v1/system/deleteJobs/{jobId}`.",
+      responses = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "The delete job",
+            content =
+                @Content(mediaType = "application/json", schema = @Schema(implementation = EntityDeleteJob.class))),
+        @ApiResponse(responseCode = "404", description = "Database for instance {id} is not found")
+      })
+  public Response deleteAsync(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(description = "Id of the database", schema = @Schema(type = "UUID")) @PathParam("id") UUID id) {
+    return deleteAsync(securityContext, id);
+  }
+
   @PUT
   @Path("/{id}/vote")
   @Operation(
@@ -50,6 +50,7 @@ import org.openmetadata.schema.api.VoteRequest;
 import org.openmetadata.schema.api.data.CreateDatabaseSchema;
 import org.openmetadata.schema.api.data.RestoreEntity;
 import org.openmetadata.schema.entity.data.DatabaseSchema;
+import org.openmetadata.schema.system.EntityDeleteJob;
 import org.openmetadata.schema.type.ChangeEvent;
 import org.openmetadata.schema.type.EntityHistory;
 import org.openmetadata.schema.type.Include;
@@ -366,6 +367,29 @@ public class DatabaseSchemaResource extends EntityResource<DatabaseSchema, Datab
     return delete(uriInfo, securityContext, id, recursive, hardDelete);
   }
 
+  @DELETE
+  @Path("/async/{id}")
+  @Operation(
+      operationId = "deleteDatabaseSchemaAsync",
+      summary = "Asynchronously hard delete a database schema by Id",
+      description =
+          "Hard delete a database schema and all its tables and stored procedures in a background job. "
+              + "Track the job with `/v1/system/deleteJobs/{jobId}`.",
+      responses = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "The delete job",
+            content =
+                @Content(mediaType = "application/json", schema = @Schema(implementation = EntityDeleteJob.class))),
+        @ApiResponse(responseCode = "404", description = "DatabaseSchema for instance {id} is not found")
+      })
+  public Response deleteAsync(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(description = "Id of the database schema", schema = @Schema(type = "UUID")) @PathParam("id") UUID id) {
+    return deleteAsync(securityContext, id);
+  }
+
   @DELETE
   @Path("/name/{fqn}")
   @Operation(
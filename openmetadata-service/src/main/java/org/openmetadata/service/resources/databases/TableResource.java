@@ -270,7 +270,9 @@ public class TableResource extends EntityResource<Table, TableRepository> {
   @Operation(
       operationId = "listAllTableVersion",
       summary = "List table versions",
-      description = "Get a list of all the versions of a table identified by `Id`",
+      description =
+          "Get a list of all the versions of a table identified by `Id`, from the latest to the oldest. "
+              + "Use `limit` and `before` to page through the versions.",
       responses = {
         @ApiResponse(
             responseCode = "200",
@@ -280,8 +282,22 @@ public class TableResource extends EntityResource<Table, TableRepository> {
   public EntityHistory listVersions(
       @Context UriInfo uriInfo,
       @Context SecurityContext securityContext,
-      @Parameter(description = "Table Id", schema = @Schema(type = "string")) @PathParam("id") UUID id) {
-    return super.listVersionsInternal(securityContext, id);
+      @Parameter(description = "Table Id", schema = @Schema(type = "string")) @PathParam("id") UUID id,
+      @Parameter(description = "Limit the number of versions returned. All the versions are returned by default")
+          @Min(1)
+          @QueryParam("limit")
+          Integer limitParam,
+      @Parameter(
+              description =
+                  "Returns the versions older than this version. The versions start with the current version by "
+                      + "default",
+              schema = @Schema(type = "number"))
+          @QueryParam("before")
+          Double before) {
+    if (limitParam == null && before == null) {
+      return super.listVersionsInternal(securityContext, id);
+    }
+    return super.listVersionsInternal(securityContext, id, limitParam == null ? Integer.MAX_VALUE : limitParam, before);
   }
 
   @GET
@@ -19,16 +19,24 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.io.IOException;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import lombok.Getter;
 import org.openmetadata.schema.type.ChangeEvent;
@@ -37,7 +45,7 @@ import org.openmetadata.service.Entity.EntityList;
 import org.openmetadata.service.jdbi3.ChangeEventRepository;
 import org.openmetadata.service.resources.Collection;
 import org.openmetadata.service.security.Authorizer;
-import org.openmetadata.service.util.EntityUtil;
+import org.openmetadata.service.util.JsonUtils;
 import org.openmetadata.service.util.ResultList;
 
 @Path("/v1/events")
@@ -49,6 +57,8 @@ import org.openmetadata.service.util.ResultList;
 @Consumes(MediaType.APPLICATION_JSON)
 @Collection(name = "events")
 public class EventResource {
+  private static final String NDJSON = "application/x-ndjson";
+  private static final int STREAM_PAGE_SIZE = 1000;
   @Getter private final ChangeEventRepository repository;
 
   public static class EventList extends ResultList<ChangeEvent> {
@@ -70,7 +80,9 @@ public class EventResource {
   @Operation(
       operationId = "listChangeEvents",
       summary = "Get change events",
-      description = "Get a list of change events matching event types, entity type, from a given date",
+      description =
+          "Get a list of change events matching event types, entity type, from a given date, in the order of event "
+              + "time. Use the `after` cursor in the response paging to get the next page of events.",
       responses = {
         @ApiResponse(
             responseCode = "200",
@@ -104,12 +116,83 @@ public class EventResource {
               schema = @Schema(type = "string", example = "table,dashboard,..."))
           @QueryParam("entityRestored")
           String entityRestored,
+      @Parameter(
+              description =
+                  "List of comma separated entities requested for "
+                      + "`entityDeleted` event. When set to `*` all entities will be "
+                      + "returned",
+              schema = @Schema(type = "string", example = "table,dashboard,..."))
+          @QueryParam("entityDeleted")
+          String entityDeleted,
+      @Parameter(
+              description = "Events starting from this unix timestamp in milliseconds",
+              required = true,
+              schema = @Schema(type = "long", example = "1426349294842"))
+          @QueryParam("timestamp")
+          long timestamp,
+      @Parameter(description = "Limit the number of events returned. (1 to 10000, default = 1000)")
+          @DefaultValue("1000")
+          @Min(1)
+          @Max(10000)
+          @QueryParam("limit")
+          int limitParam,
+      @Parameter(description = "Returns list of events after this cursor", schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after) {
+    return repository.list(
+        timestamp,
+        EntityList.getEntityList("entityCreated", entityCreated),
+        EntityList.getEntityList("entityUpdated", entityUpdated),
+        EntityList.getEntityList("entityRestored", entityRestored),
+        EntityList.getEntityList("entityDeleted", entityDeleted),
+        limitParam,
+        after);
+  }
+
+  @GET
+  @Path("/stream")
+  @Produces(NDJSON)
+  @Operation(
+      operationId = "streamChangeEvents",
+      summary = "Stream change events",
+      description =
+          "Stream all the change events matching event types, entity type, from a given date as newline delimited "
+              + "JSON, one change event per line. Events are read from the database one page at a time.",
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Entity events", content = @Content(mediaType = NDJSON))
+      })
+  public Response stream(
+      @Context UriInfo uriInfo,
       @Parameter(
               description =
                   "List of comma separated entities requested for "
                       + "`entityCreated` event. When set to `*` all entities will be "
                       + "returned",
               schema = @Schema(type = "string", example = "table,dashboard,..."))
+          @QueryParam("entityCreated")
+          String entityCreated,
+      @Parameter(
+              description =
+                  "List of comma separated entities requested for "
+                      + "`entityUpdated` event. When set to `*` all entities will be "
+                      + "returned",
+              schema = @Schema(type = "string", example = "table,dashboard,..."))
+          @QueryParam("entityUpdated")
+          String entityUpdated,
+      @Parameter(
+              description =
+                  "List of comma separated entities requested for "
+                      + "`entityRestored` event. When set to `*` all entities will be "
+                      + "returned",
+              schema = @Schema(type = "string", example = "table,dashboard,..."))
+          @QueryParam("entityRestored")
+          String entityRestored,
+      @Parameter(
+              description =
+                  "List of comma separated entities requested for "
+                      + "`entityDeleted` event. When set to `*` all entities will be "
+                      + "returned",
+              schema = @Schema(type = "string", example = "table,dashboard,..."))
           @QueryParam("entityDeleted")
           String entityDeleted,
       @Parameter(
@@ -117,15 +200,34 @@ public class EventResource {
               required = true,
               schema = @Schema(type = "long", example = "1426349294842"))
           @QueryParam("timestamp")
-          long timestamp)
-      throws IOException {
+          long timestamp) {
+    // Validate the filters before the response is committed
     List<String> entityCreatedList = EntityList.getEntityList("entityCreated", entityCreated);
     List<String> entityUpdatedList = EntityList.getEntityList("entityUpdated", entityUpdated);
     List<String> entityRestoredList = EntityList.getEntityList("entityRestored", entityRestored);
     List<String> entityDeletedList = EntityList.getEntityList("entityDeleted", entityDeleted);
-    List<ChangeEvent> events =
-        repository.list(timestamp, entityCreatedList, entityUpdatedList, entityRestoredList, entityDeletedList);
-    events.sort(EntityUtil.compareChangeEvent); // Sort change events based on time
-    return new EventList(events, null, null, events.size());
+    StreamingOutput output =
+        outputStream -> {
+          Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+          String after = null;
+          do {
+            ResultList<ChangeEvent> page =
+                repository.list(
+                    timestamp,
+                    entityCreatedList,
+                    entityUpdatedList,
+                    entityRestoredList,
+                    entityDeletedList,
+                    STREAM_PAGE_SIZE,
+                    after);
+            for (ChangeEvent event : page.getData()) {
+              writer.write(JsonUtils.pojoToJson(event));
+              writer.write('\n');
+            }
+            writer.flush();
+            after = page.getPaging().getAfter();
+          } while (after != null);
+        };
+    return Response.ok(output, NDJSON).build();
   }
 }
@@ -550,6 +550,7 @@ public class EventSubscriptionResource extends EntityResource<EventSubscription,
         .withTrigger(create.getTrigger())
         .withEnabled(create.getEnabled())
         .withBatchSize(create.getBatchSize())
+        .withBackfillFrom(create.getBackfillFrom())
         .withTimeout(create.getTimeout())
         .withFilteringRules(create.getFilteringRules())
         .withSubscriptionType(create.getSubscriptionType())
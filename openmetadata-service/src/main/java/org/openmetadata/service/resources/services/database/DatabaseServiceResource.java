@@ -52,6 +52,7 @@ import org.openmetadata.schema.api.services.DatabaseConnection;
 import org.openmetadata.schema.entity.services.DatabaseService;
 import org.openmetadata.schema.entity.services.ServiceType;
 import org.openmetadata.schema.entity.services.connections.TestConnectionResult;
+import org.openmetadata.schema.system.EntityDeleteJob;
 import org.openmetadata.schema.type.EntityHistory;
 import org.openmetadata.schema.type.Include;
 import org.openmetadata.schema.type.MetadataOperation;
@@ -389,6 +390,30 @@ public class DatabaseServiceResource
     return delete(uriInfo, securityContext, id, recursive, hardDelete);
   }
 
+  @DELETE
+  @Path("/async/{id}")
+  @Operation(
+      operationId = "deleteDatabaseServiceAsync",
+      summary = "Asynchronously hard delete a database service by Id",
+      description =
+          "Hard delete a database service and all its databases, schemas and tables in a background job. "
+              + "Track the job with `/v1/system/deleteJobs/{jobId}`.",
+      responses = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "The delete job",
+            content =
+                @Content(mediaType = "application/json", schema = @Schema(implementation = EntityDeleteJob.class))),
+        @ApiResponse(responseCode = "404", description = "DatabaseService service for instance {id} is not found")
+      })
+  public Response deleteAsync(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(description = "Id of the database service", schema = @Schema(type = "UUID")) @PathParam("id")
+          UUID id) {
+    return deleteAsync(securityContext, id);
+  }
+
   @DELETE
   @Path("/name/{name}")
   @Operation(
@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.UUID;
 import javax.json.JsonPatch;
 import javax.validation.Valid;
 import javax.ws.rs.Consumes;
@@ -29,6 +30,7 @@ import javax.ws.rs.core.UriInfo;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.settings.Settings;
 import org.openmetadata.schema.settings.SettingsType;
+import org.openmetadata.schema.system.EntityDeleteJob;
 import org.openmetadata.schema.type.Include;
 import org.openmetadata.schema.util.EntitiesCount;
 import org.openmetadata.schema.util.ServicesCount;
@@ -38,6 +40,7 @@ import org.openmetadata.service.jdbi3.ListFilter;
 import org.openmetadata.service.jdbi3.SystemRepository;
 import org.openmetadata.service.resources.Collection;
 import org.openmetadata.service.security.Authorizer;
+import org.openmetadata.service.util.DeleteJobHandler;
 import org.openmetadata.service.util.ResultList;
 
 @Path("/v1/system")
@@ -56,6 +59,7 @@ public class SystemResource {
   public SystemResource(Authorizer authorizer) {
     this.systemRepository = Entity.getSystemRepository();
     this.authorizer = authorizer;
+    DeleteJobHandler.initialize();
   }
 
   @SuppressWarnings("unused") // Method used for reflection
@@ -220,4 +224,60 @@ public class SystemResource {
     ListFilter filter = new ListFilter(include);
     return systemRepository.getAllServicesCount(filter);
   }
+
+  @GET
+  @Path("/deleteJobs/{jobId}")
+  @Operation(
+      operationId = "getDeleteJobWithId",
+      summary = "Get a Delete Job with Id",
+      description = "Get the status and progress of a job deleting an entity and all the entities it contains",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "The delete job",
+            content =
+                @Content(mediaType = "application/json", schema = @Schema(implementation = EntityDeleteJob.class))),
+        @ApiResponse(responseCode = "404", description = "Delete Job for instance {jobId} is not found")
+      })
+  public EntityDeleteJob getDeleteJob(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(description = "Id of the delete job", schema = @Schema(type = "UUID")) @PathParam("jobId")
+          UUID jobId) {
+    EntityDeleteJob job = DeleteJobHandler.getInstance().getJob(jobId);
+    authorizeDeleteJob(securityContext, job);
+    return job;
+  }
+
+  @PUT
+  @Path("/deleteJobs/stop/{jobId}")
+  @Operation(
+      operationId = "stopDeleteJobWithId",
+      summary = "Stop a Delete Job",
+      description =
+          "Stop a running Delete Job. The entities deleted so far stay deleted, and the entity is kept with the "
+              + "entities it still contains.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "The delete job",
+            content =
+                @Content(mediaType = "application/json", schema = @Schema(implementation = EntityDeleteJob.class))),
+        @ApiResponse(responseCode = "400", description = "Delete Job is not running")
+      })
+  public EntityDeleteJob stopDeleteJob(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(description = "Id of the delete job", schema = @Schema(type = "UUID")) @PathParam("jobId")
+          UUID jobId) {
+    authorizeDeleteJob(securityContext, DeleteJobHandler.getInstance().getJob(jobId));
+    return DeleteJobHandler.getInstance().stopRunningJob(jobId);
+  }
+
+  private void authorizeDeleteJob(SecurityContext securityContext, EntityDeleteJob job) {
+    // Jobs can be read and stopped by the user who started them
+    if (!securityContext.getUserPrincipal().getName().equals(job.getStartedBy())) {
+      authorizer.authorizeAdminOrBot(securityContext);
+    }
+  }
 }
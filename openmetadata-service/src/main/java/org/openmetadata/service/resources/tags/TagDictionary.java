@@ -0,0 +1,267 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.resources.tags;
+
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.entity.classification.Classification;
+import org.openmetadata.schema.entity.classification.Tag;
+import org.openmetadata.schema.entity.data.Glossary;
+import org.openmetadata.schema.entity.data.GlossaryTerm;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.schema.type.TagLabel;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.EntityDAO;
+import org.openmetadata.service.util.FullyQualifiedName;
+import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+
+/**
+ * Classifications, tags, glossaries and glossary terms by FQN, along with the tags related to each glossary term. The
+ * vocabulary is loaded in full on first use and is rarely changed, so tag labels are resolved without going through the
+ * entity cache and the database. Writes to the vocabulary remove the changed entry along with the glossary term tags
+ * referring to it, or drop the whole dictionary when FQNs change, and entries missing from the dictionary are looked up
+ * and added on demand. The dictionary expires after a few minutes to pick up the changes made through other servers.
+ */
+@Slf4j
+public final class TagDictionary {
+  static final long EXPIRY_MILLIS = TimeUnit.MINUTES.toMillis(5);
+  private static final Timer RELOAD_LATENCY =
+      Timer.builder("tag_dictionary_reload_latency")
+          .description("Latency of loading all the classifications, tags, glossaries and glossary terms.")
+          .register(MicrometerBundleSingleton.prometheusMeterRegistry);
+  /** Incremented on every change to the vocabulary, so that entries read before the change are not cached */
+  private static final AtomicLong GENERATION = new AtomicLong();
+  /** Incremented when the whole dictionary is dropped, so that a dictionary loaded before is not used */
+  private static final AtomicLong FULL_GENERATION = new AtomicLong();
+  /** Entries changed while the dictionary is loaded, removed from the dictionary once loaded */
+  private static volatile Set<Pair<String, String>> invalidatedWhileLoading;
+
+  private static volatile Dictionary dictionary;
+
+  static {
+    Gauge.builder("tag_dictionary_size", () -> dictionary == null ? 0 : dictionary.size())
+        .description("Number of classifications, tags, glossaries and glossary terms in the tag dictionary.")
+        .register(MicrometerBundleSingleton.prometheusMeterRegistry);
+  }
+
+  private TagDictionary() {
+    // Private constructor for static class
+  }
+
+  public static Classification getClassification(String fqn) {
+    return get(Entity.CLASSIFICATION, fqn, d -> d.classifications);
+  }
+
+  public static Tag getTag(String fqn) {
+    return get(Entity.TAG, fqn, d -> d.tags);
+  }
+
+  public static Glossary getGlossary(String fqn) {
+    return get(Entity.GLOSSARY, fqn, d -> d.glossaries);
+  }
+
+  public static GlossaryTerm getGlossaryTerm(String fqn) {
+    return get(Entity.GLOSSARY_TERM, fqn, d -> d.glossaryTerms);
+  }
+
+  /** Copies of the tags related to a glossary term, without the common fields applied */
+  public static List<TagLabel> getGlossaryTermTags(String fqn) {
+    long generation = GENERATION.get();
+    Dictionary current = getDictionary();
+    List<TagLabel> tags = current == null ? null : current.glossaryTermTags.get(fqn);
+    if (tags == null) {
+      tags = Entity.getCollectionDAO().tagUsageDAO().getTagsInternal(fqn);
+      if (current != null && generation == GENERATION.get()) {
+        current.glossaryTermTags.put(fqn, tags);
+      }
+    }
+    List<TagLabel> copies = new ArrayList<>(tags.size());
+    for (TagLabel tag : tags) {
+      copies.add(
+          new TagLabel()
+              .withSource(tag.getSource())
+              .withTagFQN(tag.getTagFQN())
+              .withLabelType(tag.getLabelType())
+              .withState(tag.getState()));
+    }
+    return copies;
+  }
+
+  /** Remove a changed classification, tag, glossary or glossary term */
+  public static void invalidate(String entityType, String fqn) {
+    GENERATION.incrementAndGet();
+    Set<Pair<String, String>> pending = invalidatedWhileLoading;
+    if (pending != null) {
+      pending.add(Pair.of(entityType, fqn));
+    }
+    Dictionary current = dictionary;
+    if (current != null) {
+      current.remove(entityType, fqn);
+    }
+  }
+
+  /** Remove an updated classification, tag, glossary or glossary term, or drop the dictionary when it is renamed */
+  public static void invalidate(String entityType, EntityInterface original, EntityInterface updated) {
+    if (Objects.equals(original.getFullyQualifiedName(), updated.getFullyQualifiedName())) {
+      invalidate(entityType, updated.getFullyQualifiedName());
+    } else {
+      invalidateAll();
+    }
+  }
+
+  /** Drop the dictionary when FQNs of the vocabulary change. It is loaded again on next use. */
+  public static void invalidateAll() {
+    GENERATION.incrementAndGet();
+    FULL_GENERATION.incrementAndGet();
+    dictionary = null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T extends EntityInterface> T get(
+      String entityType, String fqn, Function<Dictionary, Map<String, ? extends EntityInterface>> entities) {
+    long generation = GENERATION.get();
+    Dictionary current = getDictionary();
+    T entity = current == null ? null : (T) entities.apply(current).get(fqn);
+    if (entity == null) {
+      // Not in the vocabulary or not loaded yet. Throws EntityNotFoundException when the entity does not exist
+      entity = Entity.getEntityByName(entityType, fqn, "", Include.NON_DELETED);
+      if (current != null && generation == GENERATION.get()) {
+        ((Map<String, T>) entities.apply(current)).put(fqn, entity);
+      }
+    }
+    return entity;
+  }
+
+  private static Dictionary getDictionary() {
+    Dictionary current = dictionary;
+    if ((current == null || current.isExpired()) && Entity.getCollectionDAO() != null) {
+      synchronized (TagDictionary.class) {
+        current = dictionary;
+        if (current == null || current.isExpired()) {
+          long generation = FULL_GENERATION.get();
+          Set<Pair<String, String>> pending = ConcurrentHashMap.newKeySet();
+          invalidatedWhileLoading = pending;
+          try {
+            current = load(Entity.getCollectionDAO());
+          } finally {
+            invalidatedWhileLoading = null;
+          }
+          for (Pair<String, String> entry : pending) {
+            current.remove(entry.getLeft(), entry.getRight());
+          }
+          if (generation == FULL_GENERATION.get()) {
+            dictionary = current;
+          }
+        }
+      }
+    }
+    return current;
+  }
+
+  private static Dictionary load(CollectionDAO collectionDAO) {
+    long start = System.nanoTime();
+    Dictionary loaded = new Dictionary();
+    loadEntities(collectionDAO.classificationDAO(), loaded.classifications);
+    loadEntities(collectionDAO.tagDAO(), loaded.tags);
+    loadEntities(collectionDAO.glossaryDAO(), loaded.glossaries);
+    loadEntities(collectionDAO.glossaryTermDAO(), loaded.glossaryTerms);
+
+    // Tags related to the glossary terms, used for deriving tags when a glossary term is applied
+    Map<String, String> termByHash = new HashMap<>();
+    for (String term : loaded.glossaryTerms.keySet()) {
+      termByHash.put(FullyQualifiedName.buildHash(term), term);
+      loaded.glossaryTermTags.put(term, Collections.emptyList());
+    }
+    for (List<String> hashes : Lists.partition(new ArrayList<>(termByHash.keySet()), EntityDAO.BATCH_SIZE)) {
+      Map<String, List<TagLabel>> termTags = new HashMap<>();
+      for (Pair<String, TagLabel> row : collectionDAO.tagUsageDAO().getTagsInternalBatch(hashes)) {
+        termTags.computeIfAbsent(termByHash.get(row.getLeft()), term -> new ArrayList<>()).add(row.getRight());
+      }
+      loaded.glossaryTermTags.putAll(termTags);
+    }
+    long elapsed = System.nanoTime() - start;
+    RELOAD_LATENCY.record(elapsed, TimeUnit.NANOSECONDS);
+    LOG.info("Loaded {} entries in the tag dictionary in {} ms", loaded.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    return loaded;
+  }
+
+  private static <T extends EntityInterface> void loadEntities(EntityDAO<T> dao, Map<String, T> entities) {
+    for (String json : dao.listAfterWithOffset(Integer.MAX_VALUE, 0)) {
+      T entity = JsonUtils.readValue(json, dao.getEntityClass());
+      if (!Boolean.TRUE.equals(entity.getDeleted())) {
+        entities.put(entity.getFullyQualifiedName(), entity);
+      }
+    }
+  }
+
+  private static class Dictionary {
+    private final long loadedAt = System.currentTimeMillis();
+    private final Map<String, Classification> classifications = new ConcurrentHashMap<>();
+    private final Map<String, Tag> tags = new ConcurrentHashMap<>();
+    private final Map<String, Glossary> glossaries = new ConcurrentHashMap<>();
+    private final Map<String, GlossaryTerm> glossaryTerms = new ConcurrentHashMap<>();
+    private final Map<String, List<TagLabel>> glossaryTermTags = new ConcurrentHashMap<>();
+
+    int size() {
+      return classifications.size() + tags.size() + glossaries.size() + glossaryTerms.size();
+    }
+
+    boolean isExpired() {
+      return System.currentTimeMillis() - loadedAt >= EXPIRY_MILLIS;
+    }
+
+    void remove(String entityType, String fqn) {
+      switch (entityType) {
+        case Entity.CLASSIFICATION:
+          classifications.remove(fqn);
+          break;
+        case Entity.TAG:
+          tags.remove(fqn);
+          break;
+        case Entity.GLOSSARY:
+          glossaries.remove(fqn);
+          break;
+        case Entity.GLOSSARY_TERM:
+          glossaryTerms.remove(fqn);
+          glossaryTermTags.remove(fqn);
+          break;
+        default:
+          return;
+      }
+      // Tags related to a glossary term are applied along with the term, and must not refer to a removed tag or term
+      String prefix = fqn + Entity.SEPARATOR;
+      glossaryTermTags
+          .values()
+          .removeIf(
+              tags -> tags.stream().anyMatch(tag -> tag.getTagFQN().equals(fqn) || tag.getTagFQN().startsWith(prefix)));
+    }
+  }
+}
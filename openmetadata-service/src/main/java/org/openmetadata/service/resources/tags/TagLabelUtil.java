@@ -13,16 +13,17 @@
 
 package org.openmetadata.service.resources.tags;
 
-import static org.openmetadata.schema.type.Include.NON_DELETED;
-
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
 import org.openmetadata.schema.entity.classification.Classification;
 import org.openmetadata.schema.entity.classification.Tag;
 import org.openmetadata.schema.entity.data.Glossary;
 import org.openmetadata.schema.entity.data.GlossaryTerm;
 import org.openmetadata.schema.type.TagLabel;
 import org.openmetadata.schema.type.TagLabel.TagSource;
-import org.openmetadata.service.Entity;
 import org.openmetadata.service.util.FullyQualifiedName;
 
 @Slf4j
@@ -32,19 +33,19 @@ public class TagLabelUtil {
   }
 
   public static Classification getClassification(String classificationName) {
-    return Entity.getEntityByName(Entity.CLASSIFICATION, classificationName, "", NON_DELETED);
+    return TagDictionary.getClassification(classificationName);
   }
 
   public static Tag getTag(String tagFqn) {
-    return Entity.getEntityByName(Entity.TAG, tagFqn, "", NON_DELETED);
+    return TagDictionary.getTag(tagFqn);
   }
 
   public static Glossary getGlossary(String glossaryName) {
-    return Entity.getEntityByName(Entity.GLOSSARY, glossaryName, "", NON_DELETED);
+    return TagDictionary.getGlossary(glossaryName);
   }
 
   public static GlossaryTerm getGlossaryTerm(String glossaryTermFqn) {
-    return Entity.getEntityByName(Entity.GLOSSARY_TERM, glossaryTermFqn, "", NON_DELETED);
+    return TagDictionary.getGlossaryTerm(glossaryTermFqn);
   }
 
   public static void applyTagCommonFields(TagLabel label) {
@@ -65,6 +66,22 @@ public class TagLabelUtil {
     }
   }
 
+  /** Apply the common fields to a list of tag labels, looking up each distinct tag or glossary term once */
+  public static void applyTagCommonFields(List<TagLabel> labels) {
+    Map<Pair<TagSource, String>, TagLabel> applied = new HashMap<>();
+    for (TagLabel label : labels) {
+      TagLabel other = applied.putIfAbsent(Pair.of(label.getSource(), label.getTagFQN()), label);
+      if (other == null) {
+        applyTagCommonFields(label);
+      } else {
+        label.setName(other.getName());
+        label.setDisplayName(other.getDisplayName());
+        label.setDescription(other.getDescription());
+        label.setStyle(other.getStyle());
+      }
+    }
+  }
+
   /** Returns true if the parent of the tag label is mutually exclusive */
   public static boolean mutuallyExclusive(TagLabel label) {
     String[] fqnParts = FullyQualifiedName.split(label.getTagFQN());
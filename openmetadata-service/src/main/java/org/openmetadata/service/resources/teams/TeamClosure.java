@@ -0,0 +1,158 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.resources.teams;
+
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.Gauge;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openmetadata.schema.type.Relationship;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipObject;
+import org.openmetadata.service.jdbi3.EntityDAO;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+
+/**
+ * Transitive closure of the team hierarchy. For every team that is not deleted, it holds the names of the team and all
+ * its ancestor teams, so that checking whether a team is under another team does not walk the hierarchy one team at a
+ * time. The closure is loaded in full on first use and dropped when the team hierarchy changes. It expires after a few
+ * minutes, like the {@link org.openmetadata.service.security.policyevaluator.SubjectCache}, to pick up the changes made
+ * through other servers.
+ */
+@Slf4j
+public final class TeamClosure {
+  private static final long EXPIRY_MILLIS = TimeUnit.MINUTES.toMillis(5);
+  /** Incremented on every change to the hierarchy, so that a closure loaded before the change is not used */
+  private static final AtomicLong GENERATION = new AtomicLong();
+
+  private static volatile Map<UUID, Set<String>> closure;
+  private static volatile long loadedAt;
+
+  static {
+    Gauge.builder("team_closure_size", () -> closure == null ? 0 : closure.size())
+        .description("Number of teams in the team hierarchy closure.")
+        .register(MicrometerBundleSingleton.prometheusMeterRegistry);
+  }
+
+  private TeamClosure() {
+    // Private constructor for static class
+  }
+
+  /**
+   * Names of the team and all its ancestor teams. Returns null when the closure is not available or does not know the
+   * team, in which case the caller walks the hierarchy.
+   */
+  public static Set<String> getTeamNames(UUID teamId) {
+    Map<UUID, Set<String>> current = getClosure();
+    return current == null ? null : current.get(teamId);
+  }
+
+  /** Drop the closure when teams are added, deleted, restored, renamed or moved. It is loaded again on next use. */
+  public static void invalidate() {
+    GENERATION.incrementAndGet();
+    closure = null;
+  }
+
+  private static Map<UUID, Set<String>> getClosure() {
+    Map<UUID, Set<String>> current = closure;
+    if ((current == null || isExpired()) && Entity.getCollectionDAO() != null) {
+      synchronized (TeamClosure.class) {
+        current = closure;
+        if (current == null || isExpired()) {
+          long generation = GENERATION.get();
+          long start = System.currentTimeMillis();
+          current = load(Entity.getCollectionDAO());
+          if (generation == GENERATION.get()) {
+            loadedAt = start;
+            closure = current;
+          }
+        }
+      }
+    }
+    return current;
+  }
+
+  private static boolean isExpired() {
+    return System.currentTimeMillis() - loadedAt >= EXPIRY_MILLIS;
+  }
+
+  private static Map<UUID, Set<String>> load(CollectionDAO collectionDAO) {
+    long start = System.nanoTime();
+    Map<UUID, String> names = new HashMap<>();
+    for (Pair<String, String> team : collectionDAO.teamDAO().listTeamNames()) {
+      names.put(UUID.fromString(team.getLeft()), team.getRight());
+    }
+    Map<UUID, List<UUID>> parents = new HashMap<>();
+    List<String> ids = names.keySet().stream().map(UUID::toString).collect(Collectors.toList());
+    for (List<String> batch : Lists.partition(ids, EntityDAO.BATCH_SIZE)) {
+      for (EntityRelationshipObject row :
+          collectionDAO.relationshipDAO().findToBatch(batch, Relationship.PARENT_OF.ordinal(), Entity.TEAM)) {
+        UUID child = UUID.fromString(row.getToId());
+        parents.computeIfAbsent(child, k -> new ArrayList<>()).add(UUID.fromString(row.getFromId()));
+      }
+    }
+    Map<UUID, Set<String>> loaded = build(names, parents);
+    LOG.info(
+        "Loaded the closure of {} teams in {} ms",
+        loaded.size(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    return loaded;
+  }
+
+  /** Names of each team and its ancestors, given the names of the teams and the parents of each team */
+  static Map<UUID, Set<String>> build(Map<UUID, String> names, Map<UUID, List<UUID>> parents) {
+    Map<UUID, Set<String>> teamNames = new HashMap<>();
+    for (UUID teamId : names.keySet()) {
+      addTeamNames(teamId, names, parents, teamNames, new HashSet<>());
+    }
+    return Collections.unmodifiableMap(teamNames);
+  }
+
+  private static Set<String> addTeamNames(
+      UUID teamId,
+      Map<UUID, String> names,
+      Map<UUID, List<UUID>> parents,
+      Map<UUID, Set<String>> teamNames,
+      Set<UUID> visiting) {
+    Set<String> result = teamNames.get(teamId);
+    if (result != null) {
+      return result;
+    }
+    result = new HashSet<>();
+    result.add(names.get(teamId));
+    visiting.add(teamId);
+    for (UUID parent : parents.getOrDefault(teamId, Collections.emptyList())) {
+      // Deleted parents are not part of the hierarchy, and a cycle is only followed once
+      if (names.containsKey(parent) && !visiting.contains(parent)) {
+        result.addAll(addTeamNames(parent, names, parents, teamNames, visiting));
+      }
+    }
+    visiting.remove(teamId);
+    Set<String> unmodifiable = Collections.unmodifiableSet(result);
+    teamNames.put(teamId, unmodifiable);
+    return unmodifiable;
+  }
+}
@@ -60,6 +60,8 @@ public class SearchIndexDefinition {
     ENTITY_TO_CHILDREN_MAPPING.put(Entity.DATABASE, DATABASE_ALIAS);
     ENTITY_TO_CHILDREN_MAPPING.put(Entity.DATABASE_SCHEMA, DATABASE_SCHEMA_ALIAS);
     ENTITY_TO_CHILDREN_MAPPING.put(Entity.CLASSIFICATION, CLASSIFICATION_ALIAS);
+    // Databases, schemas, tables and stored procedures are all in the global alias
+    ENTITY_TO_CHILDREN_MAPPING.put(Entity.DATABASE_SERVICE, GLOBAL_SEARCH_ALIAS);
     ENTITY_TO_CHILDREN_MAPPING.put(Entity.DASHBOARD_SERVICE, DASHBOARD_SERVICE_ALIAS);
     ENTITY_TO_CHILDREN_MAPPING.put(Entity.MESSAGING_SERVICE, MESSAGING_SERVICE_ALIAS);
     ENTITY_TO_CHILDREN_MAPPING.put(Entity.PIPELINE_SERVICE, PIPELINE_SERVICE_ALIAS);
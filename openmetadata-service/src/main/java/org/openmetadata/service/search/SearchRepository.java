@@ -21,6 +21,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.UUID;
 import javax.ws.rs.core.Response;
 import lombok.SneakyThrows;
 import org.openmetadata.schema.EntityInterface;
@@ -276,6 +277,9 @@ public interface SearchRepository {
 
   void deleteEntity(EntityInterface entity, String script, String field, String alias);
 
+  /** Delete the documents of hard deleted entities of a type */
+  void deleteEntities(String entityType, List<UUID> entityIds);
+
   void softDeleteOrRestoreEntity(EntityInterface entity, boolean delete);
 
   void softDeleteOrRestoreChildren(EntityInterface entity, boolean delete, String field, String alias);
@@ -286,6 +290,9 @@ public interface SearchRepository {
 
   void close();
 
+  /** Re-send the queued index writes that were not flushed before the server stopped. */
+  default void replayPendingWrites() {}
+
   default BulkResponse bulk(BulkRequest data, RequestOptions options) throws IOException {
     throw new CustomExceptionMessage(Response.Status.NOT_IMPLEMENTED, NOT_IMPLEMENTED_METHOD);
   }
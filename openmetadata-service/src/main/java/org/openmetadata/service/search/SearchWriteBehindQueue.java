@@ -0,0 +1,210 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.search;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.service.configuration.elasticsearch.WriteBehindConfiguration;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.exception.EntityNotFoundException;
+import org.openmetadata.service.jdbi3.CollectionDAO.SearchIndexPendingWriteDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.SearchIndexPendingWriteDAO.PendingWrite;
+
+/**
+ * Write-behind queue for the index writes of entities. Writes are held per entity and sent in a single bulk request
+ * once {@code batchSize} writes are queued or {@code flushIntervalMillis} has passed, with the refresh policy of the
+ * configuration instead of an immediate refresh per write.
+ *
+ * <p>A write of the whole document or a delete replaces the writes queued before it for the same entity, while partial
+ * (scripted) updates are kept in order behind it. Every queued entity is recorded in {@code search_index_pending_write}
+ * until the search cluster acknowledges its writes, so that the entities left in the queue when the server stopped are
+ * indexed again from the database by {@link #replay} on the next start.
+ *
+ * @param <R> request type of the search client
+ */
+@Slf4j
+public class SearchWriteBehindQueue<R> {
+  private static final List<SearchWriteBehindQueue<?>> QUEUES = new CopyOnWriteArrayList<>();
+  private static final int REPLAY_BATCH_SIZE = 1000;
+
+  public enum WriteType {
+    /** Write of the whole document, replaces the writes queued before it */
+    DOCUMENT,
+    /** Partial update of the document, applied after the writes queued before it */
+    PARTIAL_UPDATE,
+    /** Delete of the document, replaces the writes queued before it */
+    DELETE
+  }
+
+  /** Sends a bulk request and returns the ids of the documents the search cluster failed to write */
+  @FunctionalInterface
+  public interface BulkWriter<R> {
+    Set<String> write(List<R> requests) throws Exception;
+  }
+
+  private final int batchSize;
+  private final int maxQueuedWrites;
+  private final BulkWriter<R> writer;
+  private final SearchIndexPendingWriteDAO pendingWriteDAO;
+  private final ScheduledExecutorService executor;
+  private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+  private final Map<UUID, EntityWrites<R>> writes = new LinkedHashMap<>();
+  @Getter private int queuedWrites;
+  private long sequence;
+
+  public SearchWriteBehindQueue(
+      WriteBehindConfiguration config, BulkWriter<R> writer, SearchIndexPendingWriteDAO pendingWriteDAO) {
+    this.batchSize = Math.max(1, config.getBatchSize());
+    this.maxQueuedWrites = batchSize * 20;
+    this.writer = writer;
+    this.pendingWriteDAO = pendingWriteDAO;
+    this.executor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("search-write-behind-%d").setDaemon(true).build());
+    long flushInterval = Math.max(1, config.getFlushIntervalMillis());
+    executor.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    QUEUES.add(this);
+  }
+
+  public void add(String entityType, UUID entityId, WriteType writeType, R request) {
+    long queuedAt = nextSequence();
+    pendingWriteDAO.insert(entityId, entityType, queuedAt);
+    int queued;
+    synchronized (this) {
+      EntityWrites<R> entityWrites = writes.computeIfAbsent(entityId, id -> new EntityWrites<>());
+      if (writeType != WriteType.PARTIAL_UPDATE) {
+        queuedWrites -= entityWrites.requests.size();
+        entityWrites.requests.clear();
+        entityWrites.replacesEarlierWrites = true;
+      }
+      entityWrites.requests.add(request);
+      entityWrites.queuedAt = queuedAt;
+      queued = ++queuedWrites;
+    }
+    if (queued >= batchSize && flushRequested.compareAndSet(false, true)) {
+      executor.execute(this::flush);
+    }
+  }
+
+  /** Send all the queued writes to the search cluster. */
+  public void flush() {
+    flushRequested.set(false);
+    Map<UUID, EntityWrites<R>> batch;
+    synchronized (this) {
+      if (writes.isEmpty()) {
+        return;
+      }
+      batch = new LinkedHashMap<>(writes);
+      writes.clear();
+      queuedWrites = 0;
+    }
+    List<R> requests = new ArrayList<>();
+    batch.values().forEach(entityWrites -> requests.addAll(entityWrites.requests));
+    try {
+      Set<String> failedIds = writer.write(requests);
+      if (!failedIds.isEmpty()) {
+        // Failed documents keep their pending write and are indexed again on the next start
+        LOG.warn("[SearchWriteBehindQueue] Failed to write {} documents to the search index", failedIds.size());
+      }
+      for (Map.Entry<UUID, EntityWrites<R>> entry : batch.entrySet()) {
+        if (!failedIds.contains(entry.getKey().toString())) {
+          pendingWriteDAO.delete(entry.getKey(), entry.getValue().queuedAt);
+        }
+      }
+    } catch (Exception e) {
+      LOG.error("[SearchWriteBehindQueue] Failed to send {} writes to the search index", requests.size(), e);
+      requeue(batch);
+    }
+  }
+
+  /**
+   * Queue the entities left with pending writes at the last shutdown. Entities that still exist are indexed again as a
+   * whole from the database, and the documents of entities that no longer exist are deleted.
+   */
+  public void replay(Consumer<EntityInterface> indexEntity, BiConsumer<String, UUID> deleteEntity) {
+    int replayed = 0;
+    String after = "";
+    List<PendingWrite> pendingWrites;
+    do {
+      pendingWrites = pendingWriteDAO.listAfter(after, REPLAY_BATCH_SIZE);
+      for (PendingWrite pendingWrite : pendingWrites) {
+        UUID entityId = UUID.fromString(pendingWrite.getEntityId());
+        try {
+          indexEntity.accept(Entity.getEntity(pendingWrite.getEntityType(), entityId, "*", Include.ALL));
+        } catch (EntityNotFoundException e) {
+          deleteEntity.accept(pendingWrite.getEntityType(), entityId);
+        } catch (Exception e) {
+          LOG.error("[SearchWriteBehindQueue] Failed to replay the pending write of {}", entityId, e);
+        }
+        after = pendingWrite.getEntityId();
+      }
+      replayed += pendingWrites.size();
+    } while (pendingWrites.size() == REPLAY_BATCH_SIZE);
+    LOG.info("[SearchWriteBehindQueue] Replayed the pending writes of {} entities", replayed);
+  }
+
+  /** Send the writes queued by all the queues, used when the server shuts down. */
+  public static void flushAll() {
+    QUEUES.forEach(SearchWriteBehindQueue::flush);
+  }
+
+  private void requeue(Map<UUID, EntityWrites<R>> batch) {
+    synchronized (this) {
+      Iterator<Map.Entry<UUID, EntityWrites<R>>> iterator = batch.entrySet().iterator();
+      while (iterator.hasNext() && queuedWrites < maxQueuedWrites) {
+        Map.Entry<UUID, EntityWrites<R>> entry = iterator.next();
+        EntityWrites<R> failed = entry.getValue();
+        EntityWrites<R> newer = writes.get(entry.getKey());
+        if (newer == null) {
+          writes.put(entry.getKey(), failed);
+          queuedWrites += failed.requests.size();
+        } else if (!newer.replacesEarlierWrites) {
+          newer.requests.addAll(0, failed.requests);
+          queuedWrites += failed.requests.size();
+          newer.replacesEarlierWrites = failed.replacesEarlierWrites;
+        }
+      }
+    }
+    // Writes that do not fit in the queue stay recorded as pending and are replayed on the next start
+  }
+
+  private synchronized long nextSequence() {
+    // Strictly increasing, so that a flush only clears the pending writes recorded before it
+    sequence = Math.max(sequence + 1, System.currentTimeMillis());
+    return sequence;
+  }
+
+  private static class EntityWrites<R> {
+    private final List<R> requests = new ArrayList<>();
+    private long queuedAt;
+    private boolean replacesEarlierWrites;
+  }
+}
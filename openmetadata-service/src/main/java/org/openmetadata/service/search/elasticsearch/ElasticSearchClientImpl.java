@@ -29,10 +29,12 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -48,6 +50,7 @@ import org.apache.http.client.CredentialsProvider;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.elasticsearch.ElasticsearchException;
 import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.DocWriteRequest;
 import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
 import org.elasticsearch.action.bulk.BulkItemResponse;
@@ -122,6 +125,7 @@ import org.openmetadata.schema.EntityTimeSeriesInterface;
 import org.openmetadata.schema.analytics.ReportData;
 import org.openmetadata.schema.dataInsight.DataInsightChartResult;
 import org.openmetadata.schema.service.configuration.elasticsearch.ElasticSearchConfiguration;
+import org.openmetadata.schema.service.configuration.elasticsearch.WriteBehindConfiguration;
 import org.openmetadata.schema.system.EventPublisherJob;
 import org.openmetadata.service.dataInsight.DataInsightAggregatorInterface;
 import org.openmetadata.service.jdbi3.CollectionDAO;
@@ -133,6 +137,8 @@ import org.openmetadata.service.search.SearchIndexFactory;
 import org.openmetadata.service.search.SearchRepository;
 import org.openmetadata.service.search.SearchRequest;
 import org.openmetadata.service.search.SearchRetriableException;
+import org.openmetadata.service.search.SearchWriteBehindQueue;
+import org.openmetadata.service.search.SearchWriteBehindQueue.WriteType;
 import org.openmetadata.service.search.UpdateSearchEventsConstant;
 import org.openmetadata.service.search.indexes.ContainerIndex;
 import org.openmetadata.service.search.indexes.DashboardDataModelIndex;
@@ -155,6 +161,7 @@ import org.openmetadata.service.util.JsonUtils;
 @Slf4j
 // Not tagged with Repository annotation as it is programmatically initialized
 public class ElasticSearchClientImpl implements SearchRepository {
+  private static SearchWriteBehindQueue<DocWriteRequest<?>> writeBehindQueue;
 
   @SuppressWarnings("deprecated")
   private final RestHighLevelClient client;
@@ -167,6 +174,60 @@ public class ElasticSearchClientImpl implements SearchRepository {
   public ElasticSearchClientImpl(ElasticSearchConfiguration esConfig, CollectionDAO dao) {
     this.client = createElasticSearchClient(esConfig);
     this.dao = dao;
+    initializeWriteBehindQueue(esConfig, dao);
+  }
+
+  /** Queue shared by all the clients, with its own connection to the search cluster to send the bulk requests */
+  private static synchronized void initializeWriteBehindQueue(ElasticSearchConfiguration esConfig, CollectionDAO dao) {
+    WriteBehindConfiguration config = esConfig.getWriteBehind();
+    if (writeBehindQueue != null || config == null || !Boolean.TRUE.equals(config.getEnabled())) {
+      return;
+    }
+    RestHighLevelClient bulkClient = createElasticSearchClient(esConfig);
+    WriteRequest.RefreshPolicy refreshPolicy =
+        config.getRefreshPolicy() == WriteBehindConfiguration.RefreshPolicy.WAIT_UNTIL
+            ? WriteRequest.RefreshPolicy.WAIT_UNTIL
+            : WriteRequest.RefreshPolicy.NONE;
+    writeBehindQueue =
+        new SearchWriteBehindQueue<>(
+            config,
+            requests -> {
+              BulkRequest bulkRequest = new BulkRequest().setRefreshPolicy(refreshPolicy);
+              requests.forEach(bulkRequest::add);
+              BulkResponse response = bulkClient.bulk(bulkRequest, RequestOptions.DEFAULT);
+              Set<String> failedIds = new HashSet<>();
+              for (BulkItemResponse itemResponse : response) {
+                if (itemResponse.isFailed()) {
+                  LOG.error("Failed to index {}: {}", itemResponse.getId(), itemResponse.getFailureMessage());
+                  failedIds.add(itemResponse.getId());
+                }
+              }
+              return failedIds;
+            },
+            dao.searchIndexPendingWriteDAO());
+  }
+
+  /** Queue the write when write-behind is enabled. Otherwise the caller sends it right away. */
+  private static boolean queueWrite(String entityType, UUID entityId, WriteType writeType, DocWriteRequest<?> request) {
+    if (writeBehindQueue == null || request == null) {
+      return false;
+    }
+    writeBehindQueue.add(entityType, entityId, writeType, request);
+    return true;
+  }
+
+  @Override
+  public void replayPendingWrites() {
+    if (writeBehindQueue != null) {
+      writeBehindQueue.replay(
+          this::createEntity,
+          (entityType, entityId) ->
+              queueWrite(
+                  entityType,
+                  entityId,
+                  WriteType.DELETE,
+                  new DeleteRequest(IndexUtil.getIndexMappingByEntityType(entityType).indexName, entityId.toString())));
+    }
   }
 
   @Override
@@ -932,6 +993,9 @@ public class ElasticSearchClientImpl implements SearchRepository {
       ElasticSearchIndex index = SearchIndexFactory.buildIndex(entityType, entity);
       updateRequest.doc(JsonUtils.pojoToJson(index.buildESDoc()), XContentType.JSON);
       updateRequest.docAsUpsert(true);
+      if (queueWrite(entityType, entity.getId(), WriteType.DOCUMENT, updateRequest)) {
+        return;
+      }
       updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
       try {
         updateElasticSearch(updateRequest);
@@ -1007,9 +1071,11 @@ public class ElasticSearchClientImpl implements SearchRepository {
       String entityType = entity.getEntityReference().getType();
       SearchIndexDefinition.ElasticSearchIndexType indexType = IndexUtil.getIndexMappingByEntityType(entityType);
       DeleteRequest deleteRequest = new DeleteRequest(indexType.indexName, entity.getId().toString());
-      deleteRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
       try {
-        deleteEntityFromElasticSearch(deleteRequest);
+        if (!queueWrite(entityType, entity.getId(), WriteType.DELETE, deleteRequest)) {
+          deleteRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+          deleteEntityFromElasticSearch(deleteRequest);
+        }
         if (!CommonUtil.nullOrEmpty(field)) {
           BoolQueryBuilder queryBuilder = new BoolQueryBuilder();
           DeleteByQueryRequest request = new DeleteByQueryRequest(alias);
@@ -1028,6 +1094,28 @@ public class ElasticSearchClientImpl implements SearchRepository {
     }
   }
 
+  @Override
+  public void deleteEntities(String entityType, List<UUID> entityIds) {
+    SearchIndexDefinition.ElasticSearchIndexType indexType = IndexUtil.getIndexMappingByEntityType(entityType);
+    BulkRequest bulkRequest = new BulkRequest().setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+    for (UUID entityId : entityIds) {
+      DeleteRequest deleteRequest = new DeleteRequest(indexType.indexName, entityId.toString());
+      if (!queueWrite(entityType, entityId, WriteType.DELETE, deleteRequest)) {
+        bulkRequest.add(deleteRequest);
+      }
+    }
+    if (bulkRequest.numberOfActions() > 0) {
+      String contextInfo = String.format("Entity Info : %d %s entities", entityIds.size(), entityType);
+      try {
+        bulk(bulkRequest, RequestOptions.DEFAULT);
+      } catch (ElasticsearchException e) {
+        handleElasticsearchException(contextInfo, e);
+      } catch (IOException ie) {
+        handleIOException(contextInfo, ie);
+      }
+    }
+  }
+
   @Override
   public void softDeleteOrRestoreEntity(EntityInterface entity, boolean delete) {
     if (entity != null) {
@@ -1037,6 +1125,9 @@ public class ElasticSearchClientImpl implements SearchRepository {
       String scriptTxt = String.format(SOFT_DELETE_RESTORE_SCRIPT, delete);
       Script script = new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, scriptTxt, new HashMap<>());
       updateRequest.script(script);
+      if (queueWrite(entityType, entity.getId(), WriteType.PARTIAL_UPDATE, updateRequest)) {
+        return;
+      }
       updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
       try {
         updateElasticSearch(updateRequest);
@@ -1085,6 +1176,12 @@ public class ElasticSearchClientImpl implements SearchRepository {
         Script script = new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, scriptTxt, JsonUtils.getMap(doc));
         updateRequest.script(script);
         updateRequest.scriptedUpsert(true);
+      }
+      // Queued behind the earlier writes of the entity, so that a queued upsert does not overwrite the update
+      if (queueWrite(entityType, entity.getId(), WriteType.PARTIAL_UPDATE, updateRequest)) {
+        return;
+      }
+      if (updateRequest != null) {
         updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
       }
       try {
@@ -129,6 +129,7 @@ public class SecretsManagerUpdateService {
                   service.getName(),
                   repository.getServiceType()));
       repository.getDao().update(service);
+      repository.invalidate(service.getId());
     } catch (Exception e) {
       throw new SecretsManagerUpdateException(e.getMessage(), e.getCause());
     }
@@ -216,6 +217,7 @@ public class SecretsManagerUpdateService {
       oldSecretManager.decryptAuthenticationMechanism(botUser.getName(), user.getAuthenticationMechanism());
       secretManager.encryptAuthenticationMechanism(botUser.getName(), user.getAuthenticationMechanism());
       userRepository.getDao().update(user);
+      userRepository.invalidate(user.getId());
     } catch (Exception e) {
       throw new SecretsManagerUpdateException(e.getMessage(), e.getCause());
     }
@@ -258,6 +260,7 @@ public class SecretsManagerUpdateService {
       oldSecretManager.decryptIngestionPipeline(ingestionPipeline);
       secretManager.encryptIngestionPipeline(ingestionPipeline);
       ingestionPipelineRepository.getDao().update(ingestion);
+      ingestionPipelineRepository.invalidate(ingestion.getId());
     } catch (Exception e) {
       throw new SecretsManagerUpdateException(e.getMessage(), e.getCause());
     }
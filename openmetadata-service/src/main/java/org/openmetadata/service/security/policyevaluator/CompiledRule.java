@@ -20,11 +20,14 @@ import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
-/** This class is used in a single threaded model and hence does not have concurrency support */
+/**
+ * Compiled rules are shared by the cached subject contexts. The condition is parsed once, when the subject context is
+ * compiled, and evaluating the rule does not change it.
+ */
 @Slf4j
 public class CompiledRule extends Rule {
   private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
-  @JsonIgnore private Expression expression;
+  @JsonIgnore private volatile Expression expression;
 
   public CompiledRule(Rule rule) {
     super();
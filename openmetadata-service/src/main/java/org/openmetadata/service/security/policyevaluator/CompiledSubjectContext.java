@@ -0,0 +1,105 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.security.policyevaluator;
+
+import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.entity.teams.User;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.security.policyevaluator.SubjectCache.TeamContext;
+
+/**
+ * Subject context with the team hierarchy, the inherited roles and the policies of the user resolved up front. It is
+ * immutable and shared by the requests of the user through {@link SubjectCache}.
+ */
+@Slf4j
+class CompiledSubjectContext extends SubjectContext {
+  private final Set<String> teamNames = new HashSet<>();
+  private final Set<String> roleNames = new HashSet<>();
+  private final Set<UUID> teamsVisited;
+  private final List<PolicyContext> policies;
+
+  CompiledSubjectContext(User user) {
+    super(user);
+    listOrEmpty(user.getRoles()).forEach(role -> roleNames.add(role.getName()));
+    for (EntityReference team : listOrEmpty(user.getTeams())) {
+      try {
+        TeamContext teamContext = SubjectCache.getTeamContext(team.getId());
+        teamNames.addAll(teamContext.getTeamNames());
+        roleNames.addAll(teamContext.getRoleNames());
+      } catch (Exception ex) {
+        LOG.debug("Skipping team {} of user {}", team.getName(), user.getName(), ex);
+      }
+    }
+    List<UUID> visited = new ArrayList<>();
+    policies = SubjectCache.compile(new UserPolicyIterator(user, null, visited));
+    teamsVisited = new HashSet<>(visited);
+  }
+
+  @Override
+  public boolean isUserUnderTeam(String parentTeam) {
+    return teamNames.contains(parentTeam);
+  }
+
+  @Override
+  public boolean isTeamAsset(String parentTeam, EntityReference owner) {
+    if (owner.getType().equals(Entity.USER)) {
+      return SubjectCache.getSubjectContext(owner.getName()).isUserUnderTeam(parentTeam);
+    } else if (owner.getType().equals(Entity.TEAM)) {
+      return isInTeam(parentTeam, owner);
+    }
+    return false;
+  }
+
+  @Override
+  public boolean hasAnyRole(String roles) {
+    return roleNames.contains(roles);
+  }
+
+  @Override
+  public Iterator<PolicyContext> getPolicies(EntityReference resourceOwner) {
+    if (resourceOwner == null || !resourceOwner.getType().equals(Entity.TEAM)) {
+      return policies.iterator();
+    }
+    // Policies of the teams that own the resource, other than those already inherited by the user
+    List<PolicyContext> ownerPolicies = new ArrayList<>();
+    try {
+      for (Map.Entry<UUID, List<PolicyContext>> entry :
+          SubjectCache.getTeamContext(resourceOwner.getId()).getPolicies().entrySet()) {
+        if (!teamsVisited.contains(entry.getKey())) {
+          ownerPolicies.addAll(entry.getValue());
+        }
+      }
+    } catch (Exception ex) {
+      // Ignore
+    }
+    if (ownerPolicies.isEmpty()) {
+      return policies.iterator();
+    }
+    List<PolicyContext> all = new ArrayList<>(policies.size() + ownerPolicies.size());
+    all.addAll(policies);
+    all.addAll(ownerPolicies);
+    return Collections.unmodifiableList(all).iterator();
+  }
+}
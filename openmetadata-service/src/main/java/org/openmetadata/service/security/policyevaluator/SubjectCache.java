@@ -0,0 +1,176 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.security.policyevaluator;
+
+import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
+import static org.openmetadata.schema.type.Include.NON_DELETED;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.entity.teams.Team;
+import org.openmetadata.schema.entity.teams.User;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.security.policyevaluator.SubjectContext.PolicyContext;
+import org.openmetadata.service.security.policyevaluator.SubjectContext.PolicyIterator;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+
+/**
+ * Subject contexts of the users with their roles, policies and team hierarchy resolved and the policy rules compiled,
+ * so that authorizing a request does not read users, teams, roles and policies. Changes to a user drop the context of
+ * that user. Changes to teams, roles and policies drop all the contexts, as they are shared by many users. The changes
+ * made through other servers are picked up from the change event log by {@link SubjectCacheInvalidator}, a second or so
+ * after they are made.
+ *
+ * <p>Entries also expire after {@link #EXPIRY_SECONDS}, in case the change event log is read late or a change event is
+ * not stored. This bounds how long a revoked permission may still be granted, at the cost of compiling the subject
+ * context of active users again that often.
+ */
+@Slf4j
+public final class SubjectCache {
+  private static final long EXPIRY_SECONDS = 30;
+  private static final Cache<String, SubjectContext> USER_CONTEXTS =
+      CacheBuilder.newBuilder()
+          .maximumSize(10000)
+          .expireAfterWrite(EXPIRY_SECONDS, TimeUnit.SECONDS)
+          .recordStats()
+          .build();
+  private static final Cache<UUID, TeamContext> TEAM_CONTEXTS =
+      CacheBuilder.newBuilder().maximumSize(5000).expireAfterWrite(EXPIRY_SECONDS, TimeUnit.SECONDS).build();
+  /** Incremented on every invalidation, so that contexts compiled before a change are not cached */
+  private static final AtomicLong GENERATION = new AtomicLong();
+
+  static {
+    Gauge.builder("subject_cache_hit_rate", () -> USER_CONTEXTS.stats().hitRate())
+        .description("Ratio of authorization requests served with a cached subject context.")
+        .register(MicrometerBundleSingleton.prometheusMeterRegistry);
+    Gauge.builder("subject_cache_size", USER_CONTEXTS::size)
+        .description("Number of subject contexts in the subject cache.")
+        .register(MicrometerBundleSingleton.prometheusMeterRegistry);
+    FunctionCounter.builder("subject_cache_misses", USER_CONTEXTS, c -> c.stats().missCount())
+        .description("Number of subject contexts compiled on a cache miss.")
+        .register(MicrometerBundleSingleton.prometheusMeterRegistry);
+  }
+
+  private SubjectCache() {
+    // Private constructor for static class
+  }
+
+  /** Subject context of a user. Throws EntityNotFoundException when the user does not exist */
+  public static SubjectContext getSubjectContext(String userName) {
+    SubjectContext subjectContext = USER_CONTEXTS.getIfPresent(userName);
+    if (subjectContext == null) {
+      long generation = GENERATION.get();
+      User user = Entity.getEntityByName(Entity.USER, userName, SubjectContext.USER_FIELDS, NON_DELETED);
+      subjectContext = new CompiledSubjectContext(user);
+      if (generation == GENERATION.get()) {
+        USER_CONTEXTS.put(userName, subjectContext);
+      }
+    }
+    return subjectContext;
+  }
+
+  /**
+   * Drop the subject context of a changed user. The name is matched ignoring case, as the change event log has the
+   * lower case fully qualified name of the user.
+   */
+  public static void invalidateUser(String userName) {
+    GENERATION.incrementAndGet();
+    USER_CONTEXTS.asMap().keySet().removeIf(name -> name.equalsIgnoreCase(userName));
+  }
+
+  /** Drop all the subject contexts when teams, roles or policies change */
+  public static void invalidateAll() {
+    GENERATION.incrementAndGet();
+    USER_CONTEXTS.invalidateAll();
+    TEAM_CONTEXTS.invalidateAll();
+  }
+
+  /** Team hierarchy and policies of a team. Throws EntityNotFoundException when the team does not exist */
+  static TeamContext getTeamContext(UUID teamId) {
+    TeamContext teamContext = TEAM_CONTEXTS.getIfPresent(teamId);
+    if (teamContext == null) {
+      long generation = GENERATION.get();
+      Team team = Entity.getEntity(Entity.TEAM, teamId, SubjectContext.TEAM_FIELDS, NON_DELETED);
+      teamContext = new TeamContext(team);
+      if (generation == GENERATION.get()) {
+        TEAM_CONTEXTS.put(teamId, teamContext);
+      }
+    }
+    return teamContext;
+  }
+
+  /** A team along with the names of the teams and default roles in its hierarchy and its policies */
+  @Getter
+  static class TeamContext {
+    /** Names of the team and all its ancestor teams */
+    private final Set<String> teamNames = new HashSet<>();
+    /** Names of the default roles of the team and all its ancestor teams */
+    private final Set<String> roleNames = new HashSet<>();
+    /**
+     * Policies attached directly to the team and its ancestor teams by team id, in the order the teams are visited for
+     * policy evaluation. Policies from the default roles are not included, as they are not inherited by the resources
+     * owned by the team.
+     */
+    private final Map<UUID, List<PolicyContext>> policies = new LinkedHashMap<>();
+
+    TeamContext(Team team) {
+      teamNames.add(team.getName());
+      listOrEmpty(team.getDefaultRoles()).forEach(role -> roleNames.add(role.getName()));
+      policies.put(team.getId(), compile(new PolicyIterator(Entity.TEAM, team.getName(), null, team.getPolicies())));
+      for (EntityReference parent : listOrEmpty(team.getParents())) {
+        try {
+          TeamContext parentContext = getTeamContext(parent.getId());
+          teamNames.addAll(parentContext.teamNames);
+          roleNames.addAll(parentContext.roleNames);
+          parentContext.policies.forEach(policies::putIfAbsent);
+        } catch (Exception ex) {
+          LOG.debug("Skipping parent team {} of team {}", parent.getName(), team.getName(), ex);
+        }
+      }
+    }
+  }
+
+  /** Read all the policies of an iterator and parse the conditions of their rules */
+  static List<PolicyContext> compile(Iterator<PolicyContext> iterator) {
+    List<PolicyContext> policies = new ArrayList<>();
+    while (iterator.hasNext()) {
+      PolicyContext policy = iterator.next();
+      for (CompiledRule rule : policy.getRules()) {
+        try {
+          rule.getExpression();
+        } catch (IllegalArgumentException ex) {
+          // Reported when the rule is evaluated
+        }
+      }
+      policies.add(policy);
+    }
+    return Collections.unmodifiableList(policies);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.security.policyevaluator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.events.AbstractEventPublisher;
+import org.openmetadata.service.resources.events.EventResource.EventList;
+import org.openmetadata.service.util.FullyQualifiedName;
+
+/**
+ * Invalidates the {@link SubjectCache} of this server on the changes to users, teams, roles and policies in the change
+ * event log, including the changes made through other servers. It runs as a local consumer on every server.
+ */
+@Slf4j
+public class SubjectCacheInvalidator extends AbstractEventPublisher {
+  public static final String CONSUMER_ID = "subjectCache";
+  private static final int BATCH_SIZE = 100;
+
+  public SubjectCacheInvalidator() {
+    super(BATCH_SIZE);
+  }
+
+  @Override
+  public void onStart() {
+    LOG.info("Subject cache invalidator started");
+  }
+
+  @Override
+  public void onShutdown() {
+    LOG.info("Subject cache invalidator stopped");
+  }
+
+  @Override
+  public void publish(EventList events) {
+    for (ChangeEvent event : events.getData()) {
+      String entityType = event.getEntityType();
+      if (Entity.USER.equals(entityType)) {
+        if (event.getEntityFullyQualifiedName() == null) {
+          SubjectCache.invalidateAll();
+        } else {
+          SubjectCache.invalidateUser(FullyQualifiedName.unquoteName(event.getEntityFullyQualifiedName()));
+        }
+      } else if (Entity.TEAM.equals(entityType) || Entity.ROLE.equals(entityType) || Entity.POLICY.equals(entityType)) {
+        SubjectCache.invalidateAll();
+      }
+    }
+  }
+}
@@ -22,6 +22,7 @@ import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.Getter;
@@ -34,11 +35,12 @@ import org.openmetadata.schema.entity.teams.User;
 import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.Include;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.resources.teams.TeamClosure;
 
 /** Subject context used for Access Control Policies */
 @Slf4j
 public class SubjectContext {
-  private static final String USER_FIELDS = "roles,teams,isAdmin,profile";
+  static final String USER_FIELDS = "roles,teams,isAdmin,profile";
   public static final String TEAM_FIELDS = "defaultRoles, policies, parents, profile";
   @Getter protected final User user;
 
@@ -46,9 +48,9 @@ public class SubjectContext {
     this.user = user;
   }
 
+  /** Subject context of a user, compiled and cached by {@link SubjectCache} */
   public static SubjectContext getSubjectContext(String userName) {
-    User user = Entity.getEntityByName(Entity.USER, userName, USER_FIELDS, NON_DELETED);
-    return new SubjectContext(user);
+    return SubjectCache.getSubjectContext(userName);
   }
 
   public boolean isAdmin() {
@@ -92,18 +94,18 @@ public class SubjectContext {
       SubjectContext subjectContext = getSubjectContext(owner.getName());
       return subjectContext.isUserUnderTeam(parentTeam);
     } else if (owner.getType().equals(Entity.TEAM)) {
-      try {
-        Team team = Entity.getEntity(Entity.TEAM, owner.getId(), TEAM_FIELDS, Include.NON_DELETED);
-        return isInTeam(parentTeam, team.getEntityReference());
-      } catch (Exception ex) {
-        // Ignore and return false
-      }
+      return isInTeam(parentTeam, owner);
     }
     return false;
   }
 
   /** Return true if the team is part of the hierarchy of parentTeam */
   public static boolean isInTeam(String parentTeam, EntityReference team) {
+    Set<String> teamNames = TeamClosure.getTeamNames(team.getId());
+    if (teamNames != null) {
+      return teamNames.contains(parentTeam);
+    }
+    // Team is deleted or not in the closure yet, walk up the hierarchy
     Deque<EntityReference> stack = new ArrayDeque<>();
     stack.push(team); // Start with team and see if the parent matches
     while (!stack.isEmpty()) {
@@ -25,6 +25,7 @@ public class WebSocketManager {
   public static final String FEED_BROADCAST_CHANNEL = "activityFeed";
   public static final String TASK_BROADCAST_CHANNEL = "taskChannel";
   public static final String JOB_STATUS_BROADCAST_CHANNEL = "jobStatus";
+  public static final String DELETE_JOB_STATUS_BROADCAST_CHANNEL = "deleteJobStatus";
   public static final String MENTION_CHANNEL = "mentionChannel";
   public static final String ANNOUNCEMENT_CHANNEL = "announcementChannel";
   @Getter private final Map<UUID, Map<String, SocketIoSocket>> activityFeedEndpoints = new ConcurrentHashMap<>();
@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2022 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.util;
+
+import static org.openmetadata.service.jdbi3.unitofwork.JdbiUnitOfWorkProvider.getWrappedInstanceForDaoClass;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.system.EntityDeleteJob;
+import org.openmetadata.schema.system.StepStats;
+import org.openmetadata.service.exception.CustomExceptionMessage;
+import org.openmetadata.service.exception.UnhandledServerException;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.workflows.delete.RecursiveDeleteWorkflow;
+
+/** Runs the jobs hard deleting entities with all the entities they contain in the background */
+@Slf4j
+public class DeleteJobHandler {
+  public static final String DELETE_JOB_EXTENSION = "delete.entityDeleteJob";
+  private static final int MAX_PENDING_JOBS = 5;
+  private static DeleteJobHandler instance;
+  private static volatile boolean initialized = false;
+  private static CollectionDAO dao;
+  private static ExecutorService threadScheduler;
+  private static final Map<UUID, RecursiveDeleteWorkflow> DELETE_JOB_MAP = new ConcurrentHashMap<>();
+  private static BlockingQueue<Runnable> taskQueue;
+
+  private DeleteJobHandler() {}
+
+  public static DeleteJobHandler getInstance() {
+    return instance;
+  }
+
+  public static void initialize() {
+    if (!initialized) {
+      dao = (CollectionDAO) getWrappedInstanceForDaoClass(CollectionDAO.class);
+      taskQueue = new ArrayBlockingQueue<>(MAX_PENDING_JOBS);
+      // Jobs deleting large services run one after the other, to limit the load on the database
+      threadScheduler = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, taskQueue);
+      instance = new DeleteJobHandler();
+      initialized = true;
+    } else {
+      LOG.info("Delete Job Handler is already initialized");
+    }
+  }
+
+  public synchronized EntityDeleteJob createDeleteJob(String startedBy, EntityInterface entity) {
+    for (RecursiveDeleteWorkflow job : DELETE_JOB_MAP.values()) {
+      if (job.getJobData().getEntityId().equals(entity.getId())) {
+        throw new UnhandledServerException(
+            String.format("There is already a Delete Job for %s. Please try later.", entity.getFullyQualifiedName()));
+      }
+    }
+    if (taskQueue.size() >= MAX_PENDING_JOBS) {
+      throw new UnhandledServerException("Cannot create new Delete Jobs. There are pending jobs.");
+    }
+    long now = System.currentTimeMillis();
+    EntityDeleteJob jobData =
+        new EntityDeleteJob()
+            .withId(UUID.randomUUID())
+            .withEntityType(entity.getEntityReference().getType())
+            .withEntityId(entity.getId())
+            .withEntityFullyQualifiedName(entity.getFullyQualifiedName())
+            .withStartedBy(startedBy)
+            .withTimestamp(now)
+            .withStartTime(now)
+            .withStatus(EntityDeleteJob.Status.STARTED)
+            .withStats(new StepStats().withTotalRecords(0).withProcessedRecords(0).withSuccessRecords(0));
+
+    // Keep the last runs only
+    dao.entityExtensionTimeSeriesDao().deleteLastRecords(DELETE_JOB_EXTENSION, 10);
+    dao.entityExtensionTimeSeriesDao()
+        .insert(jobData.getId().toString(), DELETE_JOB_EXTENSION, "entityDeleteJob", JsonUtils.pojoToJson(jobData));
+    RecursiveDeleteWorkflow job = new RecursiveDeleteWorkflow(jobData);
+    DELETE_JOB_MAP.put(jobData.getId(), job);
+    threadScheduler.submit(job);
+    LOG.info("Delete Job {} created for {} {}", jobData.getId(), jobData.getEntityType(), entity.getId());
+    return jobData;
+  }
+
+  public EntityDeleteJob stopRunningJob(UUID jobId) {
+    RecursiveDeleteWorkflow job = DELETE_JOB_MAP.get(jobId);
+    if (job != null) {
+      job.stopJob();
+      return job.getJobData();
+    }
+    throw new CustomExceptionMessage(Response.Status.BAD_REQUEST, "Job is not in Running state.");
+  }
+
+  public void removeCompletedJob(UUID jobId) {
+    DELETE_JOB_MAP.remove(jobId);
+  }
+
+  public EntityDeleteJob getJob(UUID jobId) {
+    RecursiveDeleteWorkflow job = DELETE_JOB_MAP.get(jobId);
+    if (job != null) {
+      return job.getJobData();
+    }
+    String recordString = dao.entityExtensionTimeSeriesDao().getLatestExtension(jobId.toString(), DELETE_JOB_EXTENSION);
+    if (recordString == null) {
+      throw new CustomExceptionMessage(Response.Status.NOT_FOUND, String.format("Delete Job %s is not found", jobId));
+    }
+    return JsonUtils.readValue(recordString, EntityDeleteJob.class);
+  }
+}
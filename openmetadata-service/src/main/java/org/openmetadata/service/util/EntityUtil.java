@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
@@ -52,21 +53,20 @@ import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
-import org.openmetadata.service.jdbi3.CollectionDAO.EntityVersionPair;
 import org.openmetadata.service.jdbi3.CollectionDAO.UsageDAO;
 import org.openmetadata.service.resources.feeds.MessageParser.EntityLink;
 import org.openmetadata.service.security.policyevaluator.ResourceContext;
 
 @Slf4j
 public final class EntityUtil {
+  /** MD5 digest per thread, as looking up the digest is costly and a digest is not thread safe */
+  private static final ThreadLocal<MessageDigest> MD5 = ThreadLocal.withInitial(EntityUtil::md5);
 
   //
   // Comparators used for sorting list based on the given type
   //
   public static final Comparator<EntityReference> compareEntityReference =
       Comparator.comparing(EntityReference::getName);
-  public static final Comparator<EntityVersionPair> compareVersion =
-      Comparator.comparing(EntityVersionPair::getVersion);
   public static final Comparator<TagLabel> compareTagLabel = Comparator.comparing(TagLabel::getTagFQN);
   public static final Comparator<FieldChange> compareFieldChange = Comparator.comparing(FieldChange::getName);
   public static final Comparator<TableConstraint> compareTableConstraint =
@@ -131,8 +131,22 @@ public final class EntityUtil {
       (field1, field2) ->
           field1.getName().equalsIgnoreCase(field2.getName()) && field1.getDataType() == field2.getDataType();
 
+  // Keys to index lists by with MatchIndex. The key is equal for any two items that match with the matchers above
+  public static final Function<EntityReference, Object> entityReferenceKey = EntityReference::getId;
+  public static final Function<TagLabel, Object> tagLabelKey = TagLabel::getTagFQN;
+  public static final Function<Column, Object> columnNameKey = column -> ignoreCaseKey(column.getName());
+  public static final Function<Field, Object> schemaFieldKey = field -> ignoreCaseKey(field.getName());
+  public static final Function<SearchIndexField, Object> searchIndexFieldKey = field -> ignoreCaseKey(field.getName());
+
   private EntityUtil() {}
 
+  /** Key equal for any two strings that are equal ignoring case, as compared by {@link String#equalsIgnoreCase} */
+  public static String ignoreCaseKey(String value) {
+    StringBuilder key = new StringBuilder(value.length());
+    value.codePoints().forEach(c -> key.appendCodePoint(Character.toLowerCase(Character.toUpperCase(c))));
+    return key.toString();
+  }
+
   /** Validate that JSON payload can be turned into POJO object */
   public static <T> T validate(Object id, String json, Class<T> clz) throws WebApplicationException {
     T entity = null;
@@ -187,17 +201,21 @@ public final class EntityUtil {
     UsageDetails details = usageDAO.getLatestUsage(entityId.toString());
     if (details == null) {
       LOG.debug("Usage details not found. Sending default usage");
-      UsageStats stats = new UsageStats().withCount(0).withPercentileRank(0.0);
-      details =
-          new UsageDetails()
-              .withDailyStats(stats)
-              .withWeeklyStats(stats)
-              .withMonthlyStats(stats)
-              .withDate(RestUtil.DATE_FORMAT.format(new Date()));
+      details = getDefaultUsage();
     }
     return details;
   }
 
+  /** Usage of an entity without any usage recorded */
+  public static UsageDetails getDefaultUsage() {
+    UsageStats stats = new UsageStats().withCount(0).withPercentileRank(0.0);
+    return new UsageDetails()
+        .withDailyStats(stats)
+        .withWeeklyStats(stats)
+        .withMonthlyStats(stats)
+        .withDate(RestUtil.DATE_FORMAT.format(new Date()));
+  }
+
   /** Merge two sets of tags */
   public static void mergeTags(List<TagLabel> mergeTo, List<TagLabel> mergeFrom) {
     if (nullOrEmpty(mergeFrom)) {
@@ -305,22 +323,6 @@ public final class EntityUtil {
     }
   }
 
-  /** Entity version extension name formed by entityType.version.versionNumber. Example - `table.version.0.1` */
-  public static String getVersionExtension(String entityType, Double version) {
-    return String.format("%s.%s", getVersionExtensionPrefix(entityType), version.toString());
-  }
-
-  /** Entity version extension name prefix formed by `entityType.version`. Example - `table.version` */
-  public static String getVersionExtensionPrefix(String entityType) {
-    return String.format("%s.%s", entityType, "version");
-  }
-
-  public static Double getVersion(String extension) {
-    String[] s = extension.split("\\.");
-    String versionString = s[2] + "." + s[3];
-    return Double.valueOf(versionString);
-  }
-
   public static String getLocalColumnName(String tableFqn, String columnFqn) {
     // Return for fqn=service:database:table:c1 -> c1
     // Return for fqn=service:database:table:c1:c2 -> c1:c2 (note different from just the local name of the column c2)
@@ -529,15 +531,19 @@ public final class EntityUtil {
     }
   }
 
-  @SneakyThrows
   public static String hash(String input) {
     if (input != null) {
-      byte[] checksum = MessageDigest.getInstance("MD5").digest(input.getBytes());
+      byte[] checksum = MD5.get().digest(input.getBytes());
       return Hex.encodeHexString(checksum);
     }
     return null;
   }
 
+  @SneakyThrows
+  private static MessageDigest md5() {
+    return MessageDigest.getInstance("MD5");
+  }
+
   public static boolean isDescriptionTask(TaskType taskType) {
     return taskType == TaskType.RequestDescription || taskType == TaskType.UpdateDescription;
   }
@@ -13,20 +13,13 @@
 
 package org.openmetadata.service.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import org.antlr.v4.runtime.BailErrorStrategy;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
-import org.openmetadata.schema.FqnBaseListener;
-import org.openmetadata.schema.FqnLexer;
-import org.openmetadata.schema.FqnParser;
-import org.openmetadata.schema.FqnParser.FqnContext;
-import org.openmetadata.schema.FqnParser.QuotedNameContext;
-import org.openmetadata.schema.FqnParser.UnquotedNameContext;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 
@@ -34,6 +27,9 @@ public class FullyQualifiedName {
   // Quoted name of format "sss" or unquoted string sss
   private static final Pattern namePattern = Pattern.compile("^(\")([^\"]+)(\")$|^(.*)$");
 
+  /** FQN hashes are computed for every FQN bound to a query, and the same FQNs are hashed repeatedly */
+  private static final Cache<String, String> HASH_CACHE = CacheBuilder.newBuilder().maximumSize(20000).build();
+
   private FullyQualifiedName() {
     /* Utility class with private constructor */
   }
@@ -62,26 +58,64 @@ public class FullyQualifiedName {
 
   public static String buildHash(String fullyQualifiedName) {
     if (fullyQualifiedName != null && !fullyQualifiedName.isEmpty()) {
-      String[] split = split(fullyQualifiedName);
-      return buildHash(split);
+      String hash = HASH_CACHE.getIfPresent(fullyQualifiedName);
+      if (hash == null) {
+        hash = buildHash(split(fullyQualifiedName));
+        HASH_CACHE.put(fullyQualifiedName, hash);
+      }
+      return hash;
     }
     return fullyQualifiedName;
   }
 
+  /**
+   * Split the FQN into its parts, following the grammar in Fqn.g4. A part is either a name without quotes and "." or a
+   * quoted name containing at least one ".", such as "a.b". Quoted parts are returned with their quotes.
+   *
+   * @throws ParseCancellationException when the FQN does not match the grammar, like the ANTLR parser of the grammar
+   */
   public static String[] split(String string) {
-    SplitListener listener = new SplitListener();
-    walk(string, listener);
-    return listener.split();
+    List<String> parts = new ArrayList<>(6);
+    int length = string.length();
+    int start = 0;
+    while (true) {
+      int end = endOfName(string, start);
+      parts.add(string.substring(start, end));
+      if (end == length) {
+        return parts.toArray(new String[0]);
+      }
+      if (string.charAt(end) != '.') {
+        throw invalidFqn(string);
+      }
+      start = end + 1;
+    }
+  }
+
+  /** Returns the end of the name starting at {@code start} */
+  private static int endOfName(String fqn, int start) {
+    if (start == fqn.length()) {
+      throw invalidFqn(fqn); // Empty FQN or FQN ending with "."
+    }
+    if (fqn.charAt(start) == '"') {
+      int closingQuote = fqn.indexOf('"', start + 1);
+      int reserved = fqn.indexOf('.', start + 1);
+      if (closingQuote < 0 || reserved < 0 || reserved > closingQuote) {
+        throw invalidFqn(fqn); // Quotes are allowed only around a name with "."
+      }
+      return closingQuote + 1;
+    }
+    int end = start;
+    while (end < fqn.length() && fqn.charAt(end) != '"' && fqn.charAt(end) != '.') {
+      end++;
+    }
+    if (end == start) {
+      throw invalidFqn(fqn); // Empty name
+    }
+    return end;
   }
 
-  private static <L extends FqnBaseListener> void walk(String string, L listener) {
-    FqnLexer fqnLexer = new FqnLexer(CharStreams.fromString(string));
-    CommonTokenStream tokens = new CommonTokenStream(fqnLexer);
-    FqnParser fqnParser = new FqnParser(tokens);
-    fqnParser.setErrorHandler(new BailErrorStrategy());
-    FqnContext fqn = fqnParser.fqn();
-    ParseTreeWalker walker = new ParseTreeWalker();
-    walker.walk(listener, fqn);
+  private static ParseCancellationException invalidFqn(String fqn) {
+    return new ParseCancellationException(CatalogExceptionMessage.invalidName(fqn));
   }
 
   public static String getParentFQN(String fqn) {
@@ -120,26 +154,11 @@ public class FullyQualifiedName {
     return childFqn.startsWith(parentFqn) && childFqn.length() > parentFqn.length();
   }
 
-  private static class SplitListener extends FqnBaseListener {
-    final List<String> list = new ArrayList<>();
-
-    public String[] split() {
-      return list.toArray(new String[0]);
-    }
-
-    @Override
-    public void enterQuotedName(QuotedNameContext ctx) {
-      list.add(ctx.getText());
-    }
-
-    @Override
-    public void enterUnquotedName(UnquotedNameContext ctx) {
-      list.add(ctx.getText());
-    }
-  }
-
   /** Adds quotes to name as required */
   public static String quoteName(String name) {
+    if (isPlainName(name)) {
+      return name; // Same as the unquoted match of the name pattern below, without the cost of matching it
+    }
     Matcher matcher = namePattern.matcher(name);
     if (!matcher.find() || matcher.end() != name.length()) {
       throw new IllegalArgumentException(CatalogExceptionMessage.invalidName(name));
@@ -161,6 +180,17 @@ public class FullyQualifiedName {
     throw new IllegalArgumentException(CatalogExceptionMessage.invalidName(name));
   }
 
+  /** Name without quotes, "." and line terminators, which the name pattern always leaves unchanged */
+  private static boolean isPlainName(String name) {
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (c == '"' || c == '.' || c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /** Adds quotes to name as required */
   public static String unquoteName(String name) {
     Matcher matcher = namePattern.matcher(name);
@@ -15,6 +15,7 @@ package org.openmetadata.service.util;
 
 import static org.openmetadata.service.util.RestUtil.DATE_TIME_FORMAT;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.StreamReadFeature;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -25,6 +26,7 @@ import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.fasterxml.jackson.datatype.jsr353.JSR353Module;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
@@ -496,11 +498,16 @@ public final class JsonUtils {
 
   @SneakyThrows
   public static <T> T deepCopy(T original, Class<T> clazz) {
-    // Serialize the original object to JSON
-    String json = pojoToJson(original);
-
-    // Deserialize the JSON back into a new object of the specified class
-    return OBJECT_MAPPER.readValue(json, clazz);
+    if (original == null) {
+      return null;
+    }
+    // Serialize the original object into a buffer of JSON tokens instead of JSON text. The copy is read back from the
+    // tokens, avoiding text generation and parsing. Strings are immutable and are shared by the original and the copy.
+    TokenBuffer buffer = new TokenBuffer(OBJECT_MAPPER, false);
+    OBJECT_MAPPER.writeValue(buffer, original);
+    try (JsonParser parser = buffer.asParser(OBJECT_MAPPER)) {
+      return OBJECT_MAPPER.readValue(parser, clazz);
+    }
   }
 
   static class SortedNodeFactory extends JsonNodeFactory {
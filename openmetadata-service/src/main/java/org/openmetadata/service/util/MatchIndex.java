@@ -0,0 +1,65 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.util;
+
+import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Index of the items of a list by key, to find the item matching another item without testing every item of the list.
+ * Only the items with the same key as the given item are tested with the matcher, so the key function must return equal
+ * keys for any two items that match. Without a key function, all the items are tested in list order.
+ */
+public final class MatchIndex<K> {
+  private final Map<Object, List<K>> index;
+  private final List<K> items;
+  private final Function<K, ?> key;
+  private final BiPredicate<K, K> match;
+
+  private MatchIndex(List<K> items, Function<K, ?> key, BiPredicate<K, K> match) {
+    this.items = listOrEmpty(items);
+    this.key = key;
+    this.match = match;
+    if (key == null) {
+      this.index = Collections.emptyMap();
+    } else {
+      this.index = new HashMap<>();
+      for (K item : this.items) {
+        index.computeIfAbsent(key.apply(item), k -> new ArrayList<>(1)).add(item);
+      }
+    }
+  }
+
+  public static <K> MatchIndex<K> of(List<K> items, Function<K, ?> key, BiPredicate<K, K> match) {
+    return new MatchIndex<>(items, key, match);
+  }
+
+  /** First item of the list for which {@code match.test(item, other)} is true, or null when there is none */
+  public K find(K other) {
+    List<K> candidates = key == null ? items : index.getOrDefault(key.apply(other), Collections.emptyList());
+    for (K candidate : candidates) {
+      if (match.test(candidate, other)) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+}
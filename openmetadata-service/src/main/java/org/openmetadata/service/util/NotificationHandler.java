@@ -133,7 +133,7 @@ public class NotificationHandler {
     if (thread.getPostsCount() == 0) {
       mentions = MessageParser.getEntityLinks(thread.getMessage());
     } else {
-      Post latestPost = thread.getPosts().get(thread.getPostsCount() - 1);
+      Post latestPost = thread.getPosts().get(thread.getPosts().size() - 1);
       mentions = MessageParser.getEntityLinks(latestPost.getMessage());
     }
     mentions.forEach(
@@ -228,6 +228,12 @@ public class ReIndexingHandler {
         .withBatchSize(job.getBatchSize())
         .withFailure(new Failure())
         .withRecreateIndex(job.getRecreateIndex())
+        .withPipelined(job.getPipelined())
+        .withReaderThreads(job.getReaderThreads())
+        .withProcessorThreads(job.getProcessorThreads())
+        .withSinkThreads(job.getSinkThreads())
+        .withQueueSize(job.getQueueSize())
+        .withBulkLatencyThreshold(job.getBulkLatencyThreshold())
         .withSearchIndexMappingLanguage(job.getSearchIndexMappingLanguage())
         .withAfterCursor(job.getAfterCursor());
   }
@@ -47,6 +47,7 @@ import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.schema.type.Webhook;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.events.subscription.SubscriptionPublisher;
+import org.openmetadata.service.exception.AlertRetriableException;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.jdbi3.ListFilter;
 import org.openmetadata.service.jdbi3.UserRepository;
@@ -213,8 +214,12 @@ public class SubscriptionUtil {
     return targets;
   }
 
+  /**
+   * Post a message to a webhook. A 4xx or 5xx response throws an {@link AlertRetriableException}, and the change event
+   * consumer of the alert publishes the events again after a backoff.
+   */
   public static void postWebhookMessage(SubscriptionPublisher publisher, Invocation.Builder target, Object message)
-      throws InterruptedException {
+      throws AlertRetriableException {
     long attemptTime = System.currentTimeMillis();
     Response response = target.post(javax.ws.rs.client.Entity.entity(message, MediaType.APPLICATION_JSON_TYPE));
     LOG.debug(
@@ -229,7 +234,12 @@ public class SubscriptionUtil {
       // 4xx, 5xx response retry delivering events after timeout
       publisher.setNextBackOff();
       publisher.setAwaitingRetry(attemptTime, response.getStatus(), response.getStatusInfo().getReasonPhrase());
-      Thread.sleep(publisher.getCurrentBackOff());
+      throw new AlertRetriableException(
+          String.format(
+              "Alert %s received response %d %s",
+              publisher.getEventSubscription().getName(),
+              response.getStatus(),
+              response.getStatusInfo().getReasonPhrase()));
     } else if (response.getStatus() == 200) {
       publisher.setSuccessStatus(System.currentTimeMillis());
     }
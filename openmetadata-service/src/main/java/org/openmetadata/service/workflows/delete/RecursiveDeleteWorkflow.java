@@ -0,0 +1,209 @@
+/*
+ *  Copyright 2022 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.workflows.delete;
+
+import static org.openmetadata.service.jdbi3.EntityDAO.BATCH_SIZE;
+import static org.openmetadata.service.jdbi3.unitofwork.JdbiUnitOfWorkProvider.getWrappedInstanceForDaoClass;
+import static org.openmetadata.service.util.DeleteJobHandler.DELETE_JOB_EXTENSION;
+
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang.exception.ExceptionUtils;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.system.EntityDeleteJob;
+import org.openmetadata.schema.system.FailureDetails;
+import org.openmetadata.schema.system.StepStats;
+import org.openmetadata.schema.type.Relationship;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.exception.EntityNotFoundException;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipObject;
+import org.openmetadata.service.jdbi3.EntityRepository;
+import org.openmetadata.service.socket.WebSocketManager;
+import org.openmetadata.service.util.DeleteJobHandler;
+import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.RestUtil.DeleteResponse;
+
+/**
+ * Hard deletes an entity and all the entities it contains. The containment tree is walked one level at a time with
+ * batched queries, and each level is deleted in batches with set-based statements, starting from the deepest level.
+ * Entities that need their own delete logic, such as ingestion pipelines and test suites, are deleted one at a time
+ * along with the entities they contain. The tag labels, field relationships and search documents of each batch are
+ * deleted along with it, and the job is stored after each level, so that its progress is visible from every server and
+ * a stopped or failed job leaves nothing of the deleted entities behind.
+ */
+@Slf4j
+public class RecursiveDeleteWorkflow implements Runnable {
+  private static final List<Integer> CONTAINS_RELATIONSHIPS =
+      List.of(Relationship.CONTAINS.ordinal(), Relationship.PARENT_OF.ordinal());
+  private final CollectionDAO dao;
+  @Getter private final EntityDeleteJob jobData;
+  private volatile boolean stopped = false;
+
+  public RecursiveDeleteWorkflow(EntityDeleteJob jobData) {
+    this((CollectionDAO) getWrappedInstanceForDaoClass(CollectionDAO.class), jobData);
+  }
+
+  RecursiveDeleteWorkflow(CollectionDAO dao, EntityDeleteJob jobData) {
+    this.dao = dao;
+    this.jobData = jobData;
+  }
+
+  @Override
+  public void run() {
+    try {
+      LOG.info("Executing Delete Job with JobData : {}", jobData);
+      jobData.setStatus(EntityDeleteJob.Status.RUNNING);
+      List<Map<String, List<UUID>>> levels = findContainedEntities();
+      updateRecordToDb();
+      // Entities left by a stopped job are still reachable from the entity, as their containers are deleted after them
+      for (int i = levels.size() - 1; i >= 0 && !stopped; i--) {
+        deleteLevel(levels.get(i));
+        updateRecordToDb();
+        sendUpdates();
+      }
+      if (stopped) {
+        jobData.setStatus(EntityDeleteJob.Status.STOPPED);
+      } else {
+        deleteEntity(Entity.getEntityRepository(jobData.getEntityType()), jobData.getEntityId());
+        jobData.setStatus(EntityDeleteJob.Status.COMPLETED);
+      }
+    } catch (Exception ex) {
+      LOG.error("Delete Job has encountered an exception. Job Data: {}", jobData, ex);
+      jobData.setStatus(EntityDeleteJob.Status.FAILED);
+      jobData.setFailure(
+          new FailureDetails()
+              .withContext("Failure in Job: Check Stack")
+              .withLastFailedAt(System.currentTimeMillis())
+              .withLastFailedReason(ExceptionUtils.getStackTrace(ex)));
+    } finally {
+      jobData.setEndTime(System.currentTimeMillis());
+      // store job details in Database
+      updateRecordToDb();
+      // Send update
+      sendUpdates();
+      // Remove from active jobs
+      DeleteJobHandler.getInstance().removeCompletedJob(jobData.getId());
+    }
+  }
+
+  /**
+   * Ids of the contained entities by level and entity type. Entities that are not deleted in batches are deleted along
+   * with the entities they contain, so the walk does not go below them.
+   */
+  private List<Map<String, List<UUID>>> findContainedEntities() {
+    List<Map<String, List<UUID>>> levels = new ArrayList<>();
+    Set<UUID> visited = new HashSet<>();
+    visited.add(jobData.getEntityId());
+    List<String> containers = List.of(jobData.getEntityId().toString());
+    int total = 0;
+    while (!containers.isEmpty() && !stopped) {
+      Map<String, List<UUID>> level = new TreeMap<>();
+      List<String> nextContainers = new ArrayList<>();
+      for (List<String> batch : Lists.partition(containers, BATCH_SIZE)) {
+        for (EntityRelationshipObject child : dao.relationshipDAO().findToBatch(batch, CONTAINS_RELATIONSHIPS)) {
+          UUID id = UUID.fromString(child.getToId());
+          if (visited.add(id)) {
+            level.computeIfAbsent(child.getToEntity(), type -> new ArrayList<>()).add(id);
+            if (Entity.getEntityRepository(child.getToEntity()).isSupportsBatchDelete()) {
+              nextContainers.add(child.getToId());
+            }
+            total++;
+          }
+        }
+      }
+      if (!level.isEmpty()) {
+        levels.add(level);
+      }
+      jobData.getStats().setTotalRecords(total);
+      containers = nextContainers;
+    }
+    LOG.info("Found {} entities contained by {} {}", total, jobData.getEntityType(), jobData.getEntityId());
+    return levels;
+  }
+
+  private void deleteLevel(Map<String, List<UUID>> level) {
+    for (Map.Entry<String, List<UUID>> entry : level.entrySet()) {
+      EntityRepository<?> repository = Entity.getEntityRepository(entry.getKey());
+      for (List<UUID> batch : Lists.partition(entry.getValue(), BATCH_SIZE)) {
+        if (stopped) {
+          return;
+        }
+        if (repository.isSupportsBatchDelete()) {
+          repository.deleteInBatch(batch);
+          repository.deleteFromSearchInBatch(batch);
+        } else {
+          batch.forEach(id -> deleteEntity(entry.getKey(), id));
+        }
+        updateStats(batch.size());
+      }
+    }
+  }
+
+  private void deleteEntity(String entityType, UUID id) {
+    try {
+      deleteEntity(Entity.getEntityRepository(entityType), id);
+    } catch (EntityNotFoundException e) {
+      // Already deleted along with another entity containing it
+      LOG.debug("{} {} is already deleted", entityType, id);
+    }
+  }
+
+  private <T extends EntityInterface> void deleteEntity(EntityRepository<T> repository, UUID id) {
+    DeleteResponse<T> response = repository.delete(jobData.getStartedBy(), id, true, true);
+    // Also deletes the search documents of the contained entities by query
+    repository.deleteFromSearch(response.getEntity(), response.getChangeType());
+  }
+
+  private void updateStats(int deleted) {
+    StepStats stats = jobData.getStats();
+    stats.setProcessedRecords(stats.getProcessedRecords() + deleted);
+    stats.setSuccessRecords(stats.getSuccessRecords() + deleted);
+  }
+
+  private void updateRecordToDb() {
+    try {
+      // The job is stored with its creation timestamp, which does not change
+      dao.entityExtensionTimeSeriesDao()
+          .update(
+              jobData.getId().toString(), DELETE_JOB_EXTENSION, JsonUtils.pojoToJson(jobData), jobData.getTimestamp());
+    } catch (Exception ex) {
+      LOG.error("Failed to store the delete job {}", jobData.getId(), ex);
+    }
+  }
+
+  private void sendUpdates() {
+    try {
+      WebSocketManager.getInstance()
+          .sendToOne(
+              jobData.getStartedBy(),
+              WebSocketManager.DELETE_JOB_STATUS_BROADCAST_CHANNEL,
+              JsonUtils.pojoToJson(jobData));
+    } catch (Exception ex) {
+      LOG.error("Failed to send updated stats with WebSocket", ex);
+    }
+  }
+
+  public void stopJob() {
+    stopped = true;
+  }
+}
@@ -20,4 +20,6 @@ public interface Source<R> extends Stats {
   R readNext(Map<String, Object> contextData) throws SourceException;
 
   void reset();
+
+  boolean isDone();
 }
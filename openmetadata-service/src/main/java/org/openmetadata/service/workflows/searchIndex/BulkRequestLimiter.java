@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2022 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.workflows.searchIndex;
+
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Limits the number of bulk requests in flight to the search cluster based on how long the cluster takes to respond.
+ * Every response slower than the latency threshold retires one permit, down to a single request in flight, and every
+ * response faster than half the threshold adds one back, up to the maximum. Sink workers waiting for a permit stop
+ * draining the queue in front of them, which in turn blocks the processors and readers of the pipeline.
+ */
+@Slf4j
+class BulkRequestLimiter {
+  private final int maxConcurrentRequests;
+  private final long latencyThresholdMillis;
+  private final Semaphore permits;
+  private int limit;
+
+  BulkRequestLimiter(int maxConcurrentRequests, long latencyThresholdMillis) {
+    this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+    this.latencyThresholdMillis = latencyThresholdMillis;
+    this.limit = this.maxConcurrentRequests;
+    this.permits = new Semaphore(this.maxConcurrentRequests, true);
+  }
+
+  void acquire() throws InterruptedException {
+    permits.acquire();
+  }
+
+  /** Return the permit taken by {@link #acquire()} once the bulk request took the given time to complete. */
+  void release(long latencyMillis) {
+    int permitsToRelease = 1;
+    synchronized (this) {
+      if (latencyMillis > latencyThresholdMillis && limit > 1) {
+        limit--;
+        permitsToRelease = 0;
+        LOG.debug("[BulkRequestLimiter] Bulk request took {} ms, reducing concurrency to {}", latencyMillis, limit);
+      } else if (latencyMillis < latencyThresholdMillis / 2 && limit < maxConcurrentRequests) {
+        limit++;
+        permitsToRelease = 2;
+      }
+    }
+    permits.release(permitsToRelease);
+  }
+
+  synchronized int getLimit() {
+    return limit;
+  }
+}
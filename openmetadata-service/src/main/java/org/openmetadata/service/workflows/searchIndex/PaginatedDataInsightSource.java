@@ -93,11 +93,11 @@ public class PaginatedDataInsightSource implements Source<ResultList<ReportData>
   public ResultList<ReportData> getReportDataPagination(String entityFQN, int limit, String after) {
     // workaround. Should be fixed in https://github.com/open-metadata/OpenMetadata/issues/12298
     String upperCaseFQN = StringUtils.capitalize(entityFQN);
-    int reportDataCount = dao.reportDataTimeSeriesDao().listCount(upperCaseFQN);
     List<CollectionDAO.ReportDataRow> reportDataList =
         dao.reportDataTimeSeriesDao()
             .getAfterExtension(upperCaseFQN, limit + 1, after == null ? "0" : RestUtil.decodeCursor(after));
-    return getAfterExtensionList(reportDataList, after, limit, reportDataCount);
+    // Total is counted once when the source is created rather than for every batch
+    return getAfterExtensionList(reportDataList, after, limit, stats.getTotalRecords());
   }
 
   private ResultList<ReportData> getAfterExtensionList(
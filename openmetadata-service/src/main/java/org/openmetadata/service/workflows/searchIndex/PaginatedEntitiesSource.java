@@ -27,7 +27,6 @@ import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.SourceException;
 import org.openmetadata.service.jdbi3.EntityRepository;
 import org.openmetadata.service.jdbi3.ListFilter;
-import org.openmetadata.service.util.RestUtil;
 import org.openmetadata.service.util.ResultList;
 import org.openmetadata.service.workflows.interfaces.Source;
 
@@ -39,7 +38,7 @@ public class PaginatedEntitiesSource implements Source<ResultList<? extends Enti
   private final StepStats stats = new StepStats();
   private String lastFailedCursor = null;
 
-  private String cursor = RestUtil.encodeCursor("0");
+  private String cursor = null;
   @Getter private boolean isDone = false;
 
   public PaginatedEntitiesSource(String entityType, int batchSize, List<String> fields) {
@@ -70,7 +69,12 @@ public class PaginatedEntitiesSource implements Source<ResultList<? extends Enti
     try {
       result =
           entityRepository.listAfterWithSkipFailure(
-              null, Entity.getFields(entityType, fields), new ListFilter(Include.ALL), batchSize, cursor);
+              null,
+              Entity.getFields(entityType, fields),
+              new ListFilter(Include.ALL),
+              batchSize,
+              cursor,
+              stats.getTotalRecords());
       if (!result.getErrors().isEmpty()) {
         lastFailedCursor = this.cursor;
         result
@@ -26,9 +26,12 @@ public class ReindexingUtil {
   public static final String ENTITY_TYPE_KEY = "entityType";
 
   public static void getUpdatedStats(StepStats stats, int currentSuccess, int currentFailed) {
-    stats.setProcessedRecords(stats.getProcessedRecords() + currentSuccess + currentFailed);
-    stats.setSuccessRecords(stats.getSuccessRecords() + currentSuccess);
-    stats.setFailedRecords(stats.getFailedRecords() + currentFailed);
+    // Processors and sinks are shared by the workers of a pipelined reindex
+    synchronized (stats) {
+      stats.setProcessedRecords(stats.getProcessedRecords() + currentSuccess + currentFailed);
+      stats.setSuccessRecords(stats.getSuccessRecords() + currentSuccess);
+      stats.setFailedRecords(stats.getFailedRecords() + currentFailed);
+    }
   }
 
   public static boolean isDataInsightIndex(String entityType) {
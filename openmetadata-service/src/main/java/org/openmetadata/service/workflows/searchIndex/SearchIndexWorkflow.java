@@ -20,13 +20,25 @@ import static org.openmetadata.service.workflows.searchIndex.ReindexingUtil.getT
 import static org.openmetadata.service.workflows.searchIndex.ReindexingUtil.getUpdatedStats;
 import static org.openmetadata.service.workflows.searchIndex.ReindexingUtil.isDataInsightIndex;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.exception.ExceptionUtils;
@@ -61,10 +73,12 @@ import org.openmetadata.service.util.ReIndexingHandler;
 import org.openmetadata.service.util.ResultList;
 import org.openmetadata.service.workflows.interfaces.Processor;
 import org.openmetadata.service.workflows.interfaces.Sink;
+import org.openmetadata.service.workflows.interfaces.Source;
 
 @Slf4j
 public class SearchIndexWorkflow implements Runnable {
   private static final String ENTITY_TYPE_ERROR_MSG = "EntityType: %s %n Cause: %s %n Stack: %s";
+  private static final long QUEUE_POLL_MILLIS = 1000;
   private final List<PaginatedEntitiesSource> paginatedEntitiesSources = new ArrayList<>();
   private final List<PaginatedDataInsightSource> paginatedDataInsightSources = new ArrayList<>();
   private final Processor entityProcessor;
@@ -74,6 +88,7 @@ public class SearchIndexWorkflow implements Runnable {
   @Getter final EventPublisherJob jobData;
   private final CollectionDAO dao;
   private volatile boolean stopped = false;
+  private final AtomicReference<Throwable> pipelineFailure = new AtomicReference<>();
 
   public SearchIndexWorkflow(SearchRepository client, EventPublisherJob request) {
     this.dao = (CollectionDAO) getWrappedInstanceForDaoClass(CollectionDAO.class);
@@ -117,8 +132,12 @@ public class SearchIndexWorkflow implements Runnable {
       // Update Job Status
       jobData.setStatus(EventPublisherJob.Status.RUNNING);
       // Run ReIndexing
-      entitiesReIndex();
-      dataInsightReindex();
+      if (Boolean.TRUE.equals(jobData.getPipelined())) {
+        pipelinedReIndex();
+      } else {
+        entitiesReIndex();
+        dataInsightReindex();
+      }
       // Mark Job as Completed
       updateJobStatus();
       jobData.setEndTime(System.currentTimeMillis());
@@ -298,6 +317,233 @@ public class SearchIndexWorkflow implements Runnable {
     }
   }
 
+  /**
+   * Reindex with the read, process and write steps running concurrently in their own worker pools. Readers walk several
+   * sources at once, one reader per source, and hand batches to the processors and sinks through bounded queues. A
+   * reader blocks when the processors fall behind, and the processors block when the sinks do, while the sinks send
+   * fewer bulk requests at a time when the search cluster slows down (see {@link BulkRequestLimiter}). A batch that
+   * fails is counted as failed, while a worker that fails takes the whole pipeline down with it so that no stage is
+   * left waiting on the queues.
+   */
+  private void pipelinedReIndex() throws InterruptedException {
+    int processorThreads = Math.max(1, jobData.getProcessorThreads());
+    int sinkThreads = Math.max(1, jobData.getSinkThreads());
+    BlockingQueue<IndexBatch> processQueue = new ArrayBlockingQueue<>(Math.max(1, jobData.getQueueSize()));
+    BlockingQueue<IndexBatch> sinkQueue = new ArrayBlockingQueue<>(Math.max(1, jobData.getQueueSize()));
+    BulkRequestLimiter limiter = new BulkRequestLimiter(sinkThreads, jobData.getBulkLatencyThreshold());
+
+    ExecutorService readers = newPool(Math.max(1, jobData.getReaderThreads()), "reindex-reader-%d");
+    ExecutorService processors = newPool(processorThreads, "reindex-processor-%d");
+    ExecutorService sinks = newPool(sinkThreads, "reindex-sink-%d");
+    try {
+      List<Future<?>> processorTasks = new ArrayList<>();
+      for (int i = 0; i < processorThreads; i++) {
+        processorTasks.add(processors.submit(stage(() -> processBatches(processQueue, sinkQueue))));
+      }
+      List<Future<?>> sinkTasks = new ArrayList<>();
+      for (int i = 0; i < sinkThreads; i++) {
+        sinkTasks.add(sinks.submit(stage(() -> writeBatches(sinkQueue, limiter))));
+      }
+      List<Future<?>> readerTasks = new ArrayList<>();
+      for (PaginatedEntitiesSource source : paginatedEntitiesSources) {
+        readerTasks.add(
+            readers.submit(
+                stage(
+                    () ->
+                        readBatches(
+                            source,
+                            source.getEntityType(),
+                            entityProcessor,
+                            source::getLastFailedCursor,
+                            processQueue))));
+      }
+      for (PaginatedDataInsightSource source : paginatedDataInsightSources) {
+        readerTasks.add(
+            readers.submit(
+                stage(
+                    () -> readBatches(source, source.getEntityType(), dataInsightProcessor, () -> "", processQueue))));
+      }
+
+      // Each stage is told to finish once all the batches of the stage before it are queued
+      awaitAll(readerTasks);
+      for (int i = 0; i < processorThreads; i++) {
+        enqueue(processQueue, IndexBatch.END);
+      }
+      awaitAll(processorTasks);
+      for (int i = 0; i < sinkThreads; i++) {
+        enqueue(sinkQueue, IndexBatch.END);
+      }
+      awaitAll(sinkTasks);
+    } finally {
+      readers.shutdownNow();
+      processors.shutdownNow();
+      sinks.shutdownNow();
+    }
+  }
+
+  private Void readBatches(
+      Source<? extends ResultList<?>> source,
+      String entityType,
+      Processor processor,
+      Supplier<String> lastFailedCursor,
+      BlockingQueue<IndexBatch> processQueue)
+      throws InterruptedException {
+    reCreateIndexes(entityType);
+    while (!stopped && !source.isDone()) {
+      long currentTime = System.currentTimeMillis();
+      try {
+        ResultList<?> resultList = source.readNext(null);
+        enqueue(
+            processQueue,
+            new IndexBatch(entityType, processor, source.getStats(), resultList, lastFailedCursor.get(), currentTime));
+      } catch (SourceException rx) {
+        handleSourceError(
+            rx.getMessage(),
+            String.format(ENTITY_TYPE_ERROR_MSG, entityType, rx.getCause(), ExceptionUtils.getStackTrace(rx)),
+            currentTime);
+        completeBatch(0, jobData.getBatchSize(), source.getStats(), processor.getStats());
+      } catch (RuntimeException rx) {
+        // The source cursor does not move past an unexpected error, so the rest of the source is counted as failed
+        handleSourceError(
+            rx.getMessage(),
+            String.format(ENTITY_TYPE_ERROR_MSG, entityType, rx.getCause(), ExceptionUtils.getStackTrace(rx)),
+            currentTime);
+        StepStats sourceStats = source.getStats();
+        completeBatch(
+            0,
+            Math.max(0, sourceStats.getTotalRecords() - sourceStats.getProcessedRecords()),
+            sourceStats,
+            processor.getStats());
+        break;
+      }
+    }
+    return null;
+  }
+
+  private Void processBatches(BlockingQueue<IndexBatch> processQueue, BlockingQueue<IndexBatch> sinkQueue)
+      throws InterruptedException {
+    for (IndexBatch batch = dequeue(processQueue); batch != IndexBatch.END; batch = dequeue(processQueue)) {
+      if (stopped) {
+        continue;
+      }
+      ResultList<?> resultList = batch.getData();
+      if (resultList.getData().isEmpty()) {
+        handleSourceError(resultList, batch.getLastFailedCursor(), batch.getStartTime());
+        completeBatch(0, 0, batch.getSourceStats(), batch.getProcessor().getStats());
+        continue;
+      }
+      try {
+        Map<String, Object> contextData = new HashMap<>();
+        contextData.put(ENTITY_TYPE_KEY, batch.getEntityType());
+        batch.setRequests(batch.getProcessor().process(resultList, contextData));
+        enqueue(sinkQueue, batch);
+      } catch (ProcessorException | RuntimeException px) {
+        handleProcessorError(
+            px.getMessage(),
+            String.format(
+                ENTITY_TYPE_ERROR_MSG, batch.getEntityType(), px.getCause(), ExceptionUtils.getStackTrace(px)),
+            batch.getStartTime());
+        completeBatch(0, batch.getRequestToProcess(), batch.getSourceStats(), batch.getProcessor().getStats());
+      }
+    }
+    return null;
+  }
+
+  private Void writeBatches(BlockingQueue<IndexBatch> sinkQueue, BulkRequestLimiter limiter)
+      throws InterruptedException {
+    for (IndexBatch batch = dequeue(sinkQueue); batch != IndexBatch.END; batch = dequeue(sinkQueue)) {
+      if (stopped) {
+        continue;
+      }
+      int success = 0;
+      limiter.acquire();
+      long bulkStartTime = System.currentTimeMillis();
+      try {
+        success = writeBatch(batch);
+      } catch (SinkException | RuntimeException wx) {
+        handleEsSinkError(
+            wx.getMessage(),
+            String.format(
+                ENTITY_TYPE_ERROR_MSG, batch.getEntityType(), wx.getCause(), ExceptionUtils.getStackTrace(wx)),
+            batch.getStartTime());
+      } finally {
+        limiter.release(System.currentTimeMillis() - bulkStartTime);
+        completeBatch(
+            success, batch.getRequestToProcess() - success, batch.getSourceStats(), batch.getProcessor().getStats());
+      }
+    }
+    return null;
+  }
+
+  private int writeBatch(IndexBatch batch) throws SinkException {
+    Map<String, Object> contextData = new HashMap<>();
+    contextData.put(ENTITY_TYPE_KEY, batch.getEntityType());
+    if (searchRepository.getSearchType().equals(ElasticSearchConfiguration.SearchType.OPENSEARCH)) {
+      org.opensearch.action.bulk.BulkResponse response =
+          (org.opensearch.action.bulk.BulkResponse) searchIndexSink.write(batch.getRequests(), contextData);
+      handleErrorsOs(batch.getData(), batch.getLastFailedCursor(), response, batch.getStartTime());
+      return searchRepository.getSuccessFromBulkResponse(response);
+    }
+    BulkResponse response = (BulkResponse) searchIndexSink.write(batch.getRequests(), contextData);
+    handleErrorsEs(batch.getData(), batch.getLastFailedCursor(), response, batch.getStartTime());
+    return searchRepository.getSuccessFromBulkResponse(response);
+  }
+
+  private synchronized void completeBatch(int success, int failed, StepStats reader, StepStats processor) {
+    updateStats(success, failed, reader, processor, searchIndexSink.getStats());
+    sendUpdates();
+  }
+
+  private static ExecutorService newPool(int threads, String nameFormat) {
+    return Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder().setNameFormat(nameFormat).build());
+  }
+
+  /** Run a pipeline worker, failing the pipeline when the worker fails. */
+  private Callable<Void> stage(Callable<Void> worker) {
+    return () -> {
+      try {
+        return worker.call();
+      } catch (Exception | Error e) {
+        pipelineFailure.compareAndSet(null, e);
+        throw e;
+      }
+    };
+  }
+
+  /** Put a batch on a queue, giving up when the pipeline failed and the queue is not drained anymore. */
+  private void enqueue(BlockingQueue<IndexBatch> queue, IndexBatch batch) throws InterruptedException {
+    while (!queue.offer(batch, QUEUE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+      checkPipeline();
+    }
+  }
+
+  /** Take a batch from a queue, giving up when the pipeline failed and the queue is not filled anymore. */
+  private IndexBatch dequeue(BlockingQueue<IndexBatch> queue) throws InterruptedException {
+    IndexBatch batch;
+    while ((batch = queue.poll(QUEUE_POLL_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+      checkPipeline();
+    }
+    return batch;
+  }
+
+  private void checkPipeline() {
+    Throwable failure = pipelineFailure.get();
+    if (failure != null) {
+      throw new IllegalStateException("Reindexing pipeline failed", failure);
+    }
+  }
+
+  private void awaitAll(List<Future<?>> tasks) throws InterruptedException {
+    for (Future<?> task : tasks) {
+      try {
+        task.get();
+      } catch (ExecutionException e) {
+        Throwable failure = pipelineFailure.get();
+        throw new IllegalStateException("Reindexing worker failed", failure != null ? failure : e.getCause());
+      }
+    }
+  }
+
   private void sendUpdates() {
     try {
       WebSocketManager.getInstance()
@@ -308,7 +554,7 @@ public class SearchIndexWorkflow implements Runnable {
     }
   }
 
-  public void updateStats(
+  public synchronized void updateStats(
       int currentSuccess, int currentFailed, StepStats reader, StepStats processor, StepStats writer) {
     // Job Level Stats
     Stats jobDataStats = jobData.getStats() != null ? jobData.getStats() : new Stats();
@@ -365,28 +611,28 @@ public class SearchIndexWorkflow implements Runnable {
     handleEsSinkErrors(response, time);
   }
 
-  private void handleSourceError(String context, String reason, long time) {
+  private synchronized void handleSourceError(String context, String reason, long time) {
     Failure failures = getFailure();
     FailureDetails readerFailures = getFailureDetails(context, reason, time);
     failures.setSourceError(readerFailures);
     jobData.setFailure(failures);
   }
 
-  private void handleProcessorError(String context, String reason, long time) {
+  private synchronized void handleProcessorError(String context, String reason, long time) {
     Failure failures = getFailure();
     FailureDetails processorError = getFailureDetails(context, reason, time);
     failures.setProcessorError(processorError);
     jobData.setFailure(failures);
   }
 
-  private void handleEsSinkError(String context, String reason, long time) {
+  private synchronized void handleEsSinkError(String context, String reason, long time) {
     Failure failures = getFailure();
     FailureDetails writerFailure = getFailureDetails(context, reason, time);
     failures.setSinkError(writerFailure);
     jobData.setFailure(failures);
   }
 
-  private void handleJobError(String context, String reason, long time) {
+  private synchronized void handleJobError(String context, String reason, long time) {
     Failure failures = getFailure();
     FailureDetails jobFailure = getFailureDetails(context, reason, time);
     failures.setJobError(jobFailure);
@@ -485,4 +731,37 @@ public class SearchIndexWorkflow implements Runnable {
   public void stopJob() {
     stopped = true;
   }
+
+  /** A batch handed from the reader to the processor and on to the sink of a pipelined reindex */
+  @Getter
+  private static final class IndexBatch {
+    private static final IndexBatch END = new IndexBatch(null, null, null, null, null, 0);
+
+    private final String entityType;
+    private final Processor processor;
+    private final StepStats sourceStats;
+    private final ResultList<?> data;
+    private final String lastFailedCursor;
+    private final long startTime;
+    @Setter private Object requests;
+
+    private IndexBatch(
+        String entityType,
+        Processor processor,
+        StepStats sourceStats,
+        ResultList<?> data,
+        String lastFailedCursor,
+        long startTime) {
+      this.entityType = entityType;
+      this.processor = processor;
+      this.sourceStats = sourceStats;
+      this.data = data;
+      this.lastFailedCursor = lastFailedCursor;
+      this.startTime = startTime;
+    }
+
+    private int getRequestToProcess() {
+      return data.getData().size() + data.getErrors().size();
+    }
+  }
 }
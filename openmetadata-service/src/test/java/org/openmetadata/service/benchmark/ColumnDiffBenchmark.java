@@ -0,0 +1,116 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.benchmark;
+
+import static org.openmetadata.service.util.EntityUtil.columnMatch;
+import static org.openmetadata.service.util.EntityUtil.columnNameKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openmetadata.schema.type.Column;
+import org.openmetadata.schema.type.ColumnDataType;
+import org.openmetadata.service.util.MatchIndex;
+
+/**
+ * Compares finding the added and deleted columns of a table by scanning the other list for each column, as
+ * EntityUpdater.recordListChange did, against looking them up in a {@link MatchIndex} keyed by column name. One in a
+ * hundred columns of the updated table is renamed and one in a hundred has a new data type. The setup fails when the
+ * two diffs differ. Run {@link #main} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColumnDiffBenchmark {
+  @Param({"100", "1000", "10000"})
+  private int columnCount;
+
+  private List<Column> origColumns;
+  private List<Column> updatedColumns;
+
+  @Setup
+  public void setup() {
+    origColumns = new ArrayList<>(columnCount);
+    updatedColumns = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      String name = "Column_" + i;
+      origColumns.add(new Column().withName(name).withDataType(ColumnDataType.VARCHAR));
+      if (i % 100 == 1) {
+        updatedColumns.add(new Column().withName(name + "_renamed").withDataType(ColumnDataType.VARCHAR));
+      } else if (i % 100 == 2) {
+        updatedColumns.add(new Column().withName(name).withDataType(ColumnDataType.TEXT));
+      } else {
+        updatedColumns.add(new Column().withName(name.toLowerCase()).withDataType(ColumnDataType.VARCHAR));
+      }
+    }
+    if (!scanDiff().equals(indexedDiff())) {
+      throw new IllegalStateException("Indexed diff differs from the scan");
+    }
+  }
+
+  @Benchmark
+  public List<Column> scanDiff() {
+    List<Column> changed = new ArrayList<>();
+    for (Column stored : origColumns) {
+      if (updatedColumns.stream().filter(c -> columnMatch.test(c, stored)).findAny().orElse(null) == null) {
+        changed.add(stored);
+      }
+    }
+    for (Column updated : updatedColumns) {
+      if (origColumns.stream().filter(c -> columnMatch.test(c, updated)).findAny().orElse(null) == null) {
+        changed.add(updated);
+      }
+    }
+    return changed;
+  }
+
+  @Benchmark
+  public List<Column> indexedDiff() {
+    List<Column> changed = new ArrayList<>();
+    MatchIndex<Column> updatedIndex = MatchIndex.of(updatedColumns, columnNameKey, columnMatch);
+    for (Column stored : origColumns) {
+      if (updatedIndex.find(stored) == null) {
+        changed.add(stored);
+      }
+    }
+    MatchIndex<Column> origIndex = MatchIndex.of(origColumns, columnNameKey, columnMatch);
+    for (Column updated : updatedColumns) {
+      if (origIndex.find(updated) == null) {
+        changed.add(updated);
+      }
+    }
+    return changed;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ColumnDiffBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openmetadata.schema.entity.data.Dashboard;
+import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.schema.entity.data.Topic;
+import org.openmetadata.schema.type.Column;
+import org.openmetadata.schema.type.ColumnDataType;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.Field;
+import org.openmetadata.schema.type.FieldDataType;
+import org.openmetadata.schema.type.MessageSchema;
+import org.openmetadata.schema.type.SchemaType;
+import org.openmetadata.schema.type.TagLabel;
+import org.openmetadata.service.util.JsonUtils;
+
+/**
+ * Compares {@link JsonUtils#deepCopy} against a copy made by serializing an entity to JSON text and parsing it back.
+ * Run {@link #main} from the test classpath; the GC profiler reports the bytes allocated per copy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityDeepCopyBenchmark {
+  /** Number of columns of the table, charts of the dashboard and schema fields of the topic */
+  @Param({"100", "1000"})
+  private int width;
+
+  private Table table;
+  private Dashboard dashboard;
+  private Topic topic;
+
+  @Setup
+  public void setup() {
+    table = table("service.db.schema.table", width);
+    dashboard = dashboard(width);
+    topic = topic(width);
+  }
+
+  @Benchmark
+  public Table tableJsonRoundTrip() {
+    return JsonUtils.readValue(JsonUtils.pojoToJson(table), Table.class);
+  }
+
+  @Benchmark
+  public Table tableDeepCopy() {
+    return JsonUtils.deepCopy(table, Table.class);
+  }
+
+  @Benchmark
+  public Dashboard dashboardJsonRoundTrip() {
+    return JsonUtils.readValue(JsonUtils.pojoToJson(dashboard), Dashboard.class);
+  }
+
+  @Benchmark
+  public Dashboard dashboardDeepCopy() {
+    return JsonUtils.deepCopy(dashboard, Dashboard.class);
+  }
+
+  @Benchmark
+  public Topic topicJsonRoundTrip() {
+    return JsonUtils.readValue(JsonUtils.pojoToJson(topic), Topic.class);
+  }
+
+  @Benchmark
+  public Topic topicDeepCopy() {
+    return JsonUtils.deepCopy(topic, Topic.class);
+  }
+
+  private static Dashboard dashboard(int charts) {
+    List<EntityReference> chartReferences = new ArrayList<>(charts);
+    for (int i = 0; i < charts; i++) {
+      chartReferences.add(
+          new EntityReference()
+              .withId(UUID.randomUUID())
+              .withType("chart")
+              .withName("chart_" + i)
+              .withFullyQualifiedName("service.chart_" + i)
+              .withDescription("Chart " + i + " of the dashboard"));
+    }
+    return new Dashboard()
+        .withId(UUID.randomUUID())
+        .withName("dashboard")
+        .withFullyQualifiedName("service.dashboard")
+        .withDescription("Dashboard with " + charts + " charts")
+        .withVersion(0.1)
+        .withUpdatedAt(System.currentTimeMillis())
+        .withUpdatedBy("admin")
+        .withCharts(chartReferences)
+        .withTags(tags());
+  }
+
+  private static Topic topic(int fields) {
+    List<Field> schemaFields = new ArrayList<>(fields);
+    for (int i = 0; i < fields; i++) {
+      String fqn = "service.topic.record.field_" + i;
+      schemaFields.add(
+          new Field()
+              .withName("field_" + i)
+              .withFullyQualifiedName(fqn)
+              .withDataType(FieldDataType.RECORD)
+              .withDescription("Field " + i)
+              .withTags(tags())
+              .withChildren(
+                  List.of(
+                      new Field()
+                          .withName("child")
+                          .withFullyQualifiedName(fqn + ".child")
+                          .withDataType(FieldDataType.STRING))));
+    }
+    return new Topic()
+        .withId(UUID.randomUUID())
+        .withName("topic")
+        .withFullyQualifiedName("service.topic")
+        .withVersion(0.1)
+        .withUpdatedAt(System.currentTimeMillis())
+        .withUpdatedBy("admin")
+        .withPartitions(16)
+        .withMessageSchema(new MessageSchema().withSchemaType(SchemaType.Avro).withSchemaFields(schemaFields))
+        .withTags(tags());
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(EntityDeepCopyBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+
+  private static Table table(String fqn, int columns) {
+    List<Column> tableColumns = new ArrayList<>(columns);
+    for (int i = 0; i < columns; i++) {
+      tableColumns.add(
+          new Column()
+              .withName("column_" + i)
+              .withFullyQualifiedName(fqn + ".column_" + i)
+              .withDataType(ColumnDataType.VARCHAR)
+              .withDataLength(256)
+              .withDataTypeDisplay("varchar(256)")
+              .withDescription("Column " + i + " of the table")
+              .withOrdinalPosition(i)
+              .withTags(tags()));
+    }
+    return new Table()
+        .withId(UUID.randomUUID())
+        .withName(fqn.substring(fqn.lastIndexOf('.') + 1))
+        .withFullyQualifiedName(fqn)
+        .withDescription("Table with " + columns + " columns")
+        .withVersion(0.1)
+        .withUpdatedAt(System.currentTimeMillis())
+        .withUpdatedBy("admin")
+        .withColumns(tableColumns)
+        .withTags(tags());
+  }
+
+  private static List<TagLabel> tags() {
+    return List.of(
+        new TagLabel()
+            .withTagFQN("PII.Sensitive")
+            .withSource(TagLabel.TagSource.CLASSIFICATION)
+            .withLabelType(TagLabel.LabelType.MANUAL)
+            .withState(TagLabel.State.CONFIRMED));
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.benchmark;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.codec.binary.Hex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openmetadata.service.util.FqnGrammar;
+import org.openmetadata.service.util.FullyQualifiedName;
+
+/**
+ * Compares {@link FullyQualifiedName#split} and {@link FullyQualifiedName#buildHash} against splitting with the ANTLR
+ * parser of Fqn.g4 and hashing each part with a new MD5 digest, over 4 to 6 part FQNs of tables, columns and nested
+ * columns. The setup fails when the split differs from the ANTLR parser for any of the FQNs. Run {@link #main} from the
+ * test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FqnBenchmark {
+  /** Number of distinct FQNs, a small number is served from the hash cache and a large number mostly misses it */
+  @Param({"100", "100000"})
+  private int fqnCount;
+
+  private String[] fqns;
+  private int next;
+
+  @Setup
+  public void setup() {
+    List<String> list = new ArrayList<>(fqnCount);
+    for (int i = 0; list.size() < fqnCount; i++) {
+      String table = "mysql_prod.\"sales.db\".public.orders_" + i;
+      list.add(table);
+      list.add(table + ".customer_id");
+      list.add(table + ".\"address.line1\".zip_code");
+    }
+    fqns = list.subList(0, fqnCount).toArray(new String[0]);
+    for (String fqn : fqns) {
+      if (!Arrays.equals(FqnGrammar.split(fqn), FullyQualifiedName.split(fqn))) {
+        throw new IllegalStateException("Split differs from the ANTLR parser for " + fqn);
+      }
+      if (!antlrBuildHash(fqn).equals(FullyQualifiedName.buildHash(fqn))) {
+        throw new IllegalStateException("Hash differs for " + fqn);
+      }
+    }
+  }
+
+  private String nextFqn() {
+    next = next + 1 == fqns.length ? 0 : next + 1;
+    return fqns[next];
+  }
+
+  @Benchmark
+  public void antlrSplit(Blackhole blackhole) {
+    blackhole.consume(FqnGrammar.split(nextFqn()));
+  }
+
+  @Benchmark
+  public void split(Blackhole blackhole) {
+    blackhole.consume(FullyQualifiedName.split(nextFqn()));
+  }
+
+  @Benchmark
+  public String antlrBuildHash() {
+    return antlrBuildHash(nextFqn());
+  }
+
+  @Benchmark
+  public String buildHash() {
+    return FullyQualifiedName.buildHash(nextFqn());
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(FqnBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build())
+        .run();
+  }
+
+  /** FQN hash as computed before, with the ANTLR parser and a new MD5 digest per part */
+  private static String antlrBuildHash(String fqn) {
+    List<String> hashes = new ArrayList<>();
+    for (String part : FqnGrammar.split(fqn)) {
+      try {
+        hashes.add(
+            Hex.encodeHexString(
+                MessageDigest.getInstance("MD5").digest(FullyQualifiedName.quoteName(part).getBytes())));
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+    return String.join(".", hashes);
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.entity.data.Table;
+
+class GuavaEntityCacheTest {
+  @Test
+  void test_cacheHitByIdAndName() {
+    GuavaEntityCache<Table> cache = new GuavaEntityCache<>("table", 100, 60);
+    Table table = table("db.schema.t1", 0.1, 1L);
+    AtomicInteger loads = new AtomicInteger();
+
+    assertSame(table, cache.getById(table.getId(), id -> load(loads, table)));
+    assertSame(table, cache.getById(table.getId(), id -> load(loads, table)));
+    assertSame(table, cache.getByName("db.schema.t1", fqn -> load(loads, table)));
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void test_staleSnapshotIsNotCachedAfterWrite() {
+    GuavaEntityCache<Table> cache = new GuavaEntityCache<>("table", 100, 60);
+    Table original = table("db.schema.t1", 0.1, 1L);
+    Table updated = table("db.schema.t1", 0.2, 2L).withId(original.getId());
+    AtomicInteger loads = new AtomicInteger();
+
+    // A write is recorded while a reader is still loading the previous version from the database
+    cache.invalidate(updated);
+    assertSame(original, cache.getById(original.getId(), id -> load(loads, original)));
+    assertSame(updated, cache.getById(original.getId(), id -> load(loads, updated)));
+    assertSame(updated, cache.getById(original.getId(), id -> load(loads, updated)));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void test_renamedEntityIsNotReturnedForOldName() {
+    GuavaEntityCache<Table> cache = new GuavaEntityCache<>("table", 100, 60);
+    Table original = table("db.schema.t1", 0.1, 1L);
+    Table renamed = table("db.schema.t2", 0.2, 2L).withId(original.getId());
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.getByName("db.schema.t1", fqn -> load(loads, original));
+    cache.invalidate(renamed);
+    assertSame(renamed, cache.getById(original.getId(), id -> load(loads, renamed)));
+    assertSame(renamed, cache.getByName("db.schema.t2", fqn -> load(loads, renamed)));
+    assertEquals(2, loads.get());
+
+    // Old name is no longer served from the cache and goes to the database
+    cache.getByName("db.schema.t1", fqn -> load(loads, original));
+    assertEquals(3, loads.get());
+  }
+
+  @Test
+  void test_getAllByIdLoadsMissesInOneCall() {
+    GuavaEntityCache<Table> cache = new GuavaEntityCache<>("table", 100, 60);
+    Table cached = table("db.schema.t1", 0.1, 1L);
+    Table notCached = table("db.schema.t2", 0.1, 1L);
+    UUID missing = UUID.randomUUID();
+    AtomicInteger loads = new AtomicInteger();
+    cache.getById(cached.getId(), id -> load(loads, cached));
+
+    List<List<UUID>> loadedIds = new ArrayList<>();
+    Map<UUID, Table> tables =
+        cache.getAllById(
+            List.of(cached.getId(), notCached.getId(), missing),
+            ids -> {
+              loadedIds.add(ids);
+              return List.of(notCached);
+            });
+    assertEquals(Map.of(cached.getId(), cached, notCached.getId(), notCached), tables);
+    assertEquals(List.of(List.of(notCached.getId(), missing)), loadedIds);
+
+    // Loaded entities are cached
+    assertSame(notCached, cache.getById(notCached.getId(), id -> load(loads, notCached)));
+    assertEquals(1, loads.get());
+  }
+
+  private static Table load(AtomicInteger loads, Table table) {
+    loads.incrementAndGet();
+    return table;
+  }
+
+  private static Table table(String fqn, double version, long updatedAt) {
+    return new Table()
+        .withId(UUID.randomUUID())
+        .withFullyQualifiedName(fqn)
+        .withVersion(version)
+        .withUpdatedAt(updatedAt);
+  }
+}
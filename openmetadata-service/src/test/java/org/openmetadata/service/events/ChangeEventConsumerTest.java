@@ -0,0 +1,195 @@
+package org.openmetadata.service.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.EventType;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventConsumerDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventDAO.ChangeEventRecord;
+import org.openmetadata.service.resources.events.EventResource.EventList;
+import org.openmetadata.service.util.JsonUtils;
+
+class ChangeEventConsumerTest {
+  private final ChangeEventDAO changeEventDAO = mock(ChangeEventDAO.class);
+  private final ChangeEventConsumerDAO consumerDAO = mock(ChangeEventConsumerDAO.class);
+  private final RecordingPublisher publisher = new RecordingPublisher(2);
+
+  @BeforeEach
+  void holdLease() {
+    when(consumerDAO.acquireLease(eq("alert"), eq("server1"), anyLong(), anyLong())).thenReturn(1);
+    when(consumerDAO.updateOffset(eq("alert"), eq("server1"), anyLong(), anyLong())).thenReturn(1);
+  }
+
+  @Test
+  void newConsumerStartsFromLatestOffset() {
+    when(consumerDAO.getOffset("alert")).thenReturn(null, 41L);
+    when(changeEventDAO.getLatestOffset()).thenReturn(41L);
+    ChangeEventConsumer consumer = newConsumer(null);
+    assertEquals(41, consumer.getOffset());
+    verify(consumerDAO).insertIfAbsent(eq("alert"), eq(41L), anyLong());
+  }
+
+  @Test
+  void newConsumerBackfillsFromStartTime() {
+    when(consumerDAO.getOffset("alert")).thenReturn(null, 6L);
+    when(changeEventDAO.getFirstOffsetSince(1000L)).thenReturn(7L);
+    ChangeEventConsumer consumer = newConsumer(1000L);
+    assertEquals(6, consumer.getOffset());
+    verify(consumerDAO).insertIfAbsent(eq("alert"), eq(6L), anyLong());
+    verify(changeEventDAO, never()).getLatestOffset();
+  }
+
+  @Test
+  void consumerPublishesOnlyWithTheLease() throws InterruptedException {
+    long now = System.currentTimeMillis();
+    when(consumerDAO.getOffset("alert")).thenReturn(10L, 10L, 12L);
+    when(consumerDAO.acquireLease(eq("alert"), eq("server2"), anyLong(), anyLong())).thenReturn(0, 1);
+    when(changeEventDAO.getLatestOffset()).thenReturn(12L);
+    when(changeEventDAO.listAfterOffset(12, 2)).thenReturn(List.of(record(13, now)));
+    ChangeEventConsumer consumer =
+        new ChangeEventConsumer(
+            "alert", publisher, changeEventDAO, consumerDAO, new SimpleMeterRegistry(), "server2", null);
+
+    // Another server holds the lease and has checkpointed offset 10
+    assertFalse(consumer.holdLease());
+    assertEquals(2, consumer.getLag());
+    // The lease expired, and the consumer resumes from the checkpoint of the other server
+    assertTrue(consumer.holdLease());
+    assertEquals(12, consumer.getOffset());
+    // The lease is renewed only once half of it has passed
+    assertTrue(consumer.holdLease());
+    verify(consumerDAO, times(2)).acquireLease(eq("alert"), eq("server2"), anyLong(), anyLong());
+    verify(changeEventDAO, never()).listAfterOffset(anyLong(), eq(2));
+
+    // Another server takes the lease meanwhile, so the checkpoint fails
+    when(consumerDAO.updateOffset(eq("alert"), eq("server2"), anyLong(), anyLong())).thenReturn(0);
+    when(consumerDAO.acquireLease(eq("alert"), eq("server2"), anyLong(), anyLong())).thenReturn(0);
+    assertTrue(consumer.processBatch());
+    assertEquals(12, consumer.getOffset());
+    assertFalse(consumer.holdLease());
+  }
+
+  @Test
+  void consumerResumesFromCheckpointInBatches() throws InterruptedException {
+    long now = System.currentTimeMillis();
+    when(consumerDAO.getOffset("alert")).thenReturn(10L);
+    when(changeEventDAO.getLatestOffset()).thenReturn(13L);
+    when(changeEventDAO.listAfterOffset(10, 2)).thenReturn(List.of(record(11, now), record(12, now)));
+    when(changeEventDAO.listAfterOffset(12, 2)).thenReturn(List.of(record(13, now)));
+    ChangeEventConsumer consumer = newConsumer(null);
+
+    assertTrue(consumer.processBatch());
+    assertEquals(12, consumer.getOffset());
+    assertTrue(consumer.processBatch());
+    assertEquals(13, consumer.getOffset());
+    assertEquals(0, consumer.getLag());
+    assertFalse(consumer.processBatch());
+
+    assertEquals(List.of(2, 1), publisher.batchSizes);
+    verify(consumerDAO).updateOffset(eq("alert"), eq("server1"), eq(12L), anyLong());
+    verify(consumerDAO).updateOffset(eq("alert"), eq("server1"), eq(13L), anyLong());
+  }
+
+  @Test
+  void consumerWaitsForMissingOffsetOfRecentEvents() throws InterruptedException {
+    long now = System.currentTimeMillis();
+    when(consumerDAO.getOffset("alert")).thenReturn(10L);
+    when(changeEventDAO.getLatestOffset()).thenReturn(13L);
+    // Offset 12 is allocated to an event that is not committed yet
+    when(changeEventDAO.listAfterOffset(10, 2)).thenReturn(List.of(record(11, now), record(13, now)));
+    when(changeEventDAO.listAfterOffset(11, 2)).thenReturn(List.of(record(13, now)));
+    ChangeEventConsumer consumer = newConsumer(null);
+
+    assertTrue(consumer.processBatch());
+    assertEquals(11, consumer.getOffset());
+    assertFalse(consumer.processBatch());
+    assertEquals(11, consumer.getOffset());
+    verify(consumerDAO, never()).updateOffset(eq("alert"), anyString(), eq(13L), anyLong());
+  }
+
+  @Test
+  void consumerSkipsMissingOffsetOfOldEvents() throws InterruptedException {
+    long old = System.currentTimeMillis() - ChangeEventConsumer.GAP_TIMEOUT_MILLIS - 1;
+    when(consumerDAO.getOffset("alert")).thenReturn(10L);
+    when(changeEventDAO.getLatestOffset()).thenReturn(13L);
+    // Offset 12 was purged
+    when(changeEventDAO.listAfterOffset(10, 2)).thenReturn(List.of(record(11, old), record(13, old)));
+    ChangeEventConsumer consumer = newConsumer(null);
+
+    assertTrue(consumer.processBatch());
+    assertEquals(13, consumer.getOffset());
+    assertEquals(List.of(2), publisher.batchSizes);
+  }
+
+  @Test
+  void localConsumerKeepsItsOffsetInMemory() throws InterruptedException {
+    long now = System.currentTimeMillis();
+    when(changeEventDAO.getLatestOffset()).thenReturn(10L, 11L);
+    when(changeEventDAO.listAfterOffset(10, 2)).thenReturn(List.of(record(11, now)));
+    ChangeEventConsumer consumer =
+        ChangeEventConsumer.local("alert", publisher, changeEventDAO, new SimpleMeterRegistry());
+    assertEquals(10, consumer.getOffset());
+
+    assertTrue(consumer.holdLease());
+    assertTrue(consumer.processBatch());
+    assertEquals(11, consumer.getOffset());
+    assertEquals(List.of(1), publisher.batchSizes);
+    verifyNoInteractions(consumerDAO);
+  }
+
+  private ChangeEventConsumer newConsumer(Long startTime) {
+    return new ChangeEventConsumer(
+        "alert", publisher, changeEventDAO, consumerDAO, new SimpleMeterRegistry(), "server1", startTime);
+  }
+
+  private static ChangeEventRecord record(long offset, long eventTime) {
+    ChangeEvent event =
+        new ChangeEvent()
+            .withEventType(EventType.ENTITY_CREATED)
+            .withEntityType("table")
+            .withEntityId(UUID.randomUUID())
+            .withTimestamp(eventTime);
+    return ChangeEventRecord.builder().offset(offset).eventTime(eventTime).json(JsonUtils.pojoToJson(event)).build();
+  }
+
+  private static class RecordingPublisher extends AbstractEventPublisher {
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    RecordingPublisher(int batchSize) {
+      super(batchSize);
+    }
+
+    @Override
+    public void onStart() {
+      // Nothing to start
+    }
+
+    @Override
+    public void onShutdown() {
+      // Nothing to stop
+    }
+
+    @Override
+    public void publish(EventList events) {
+      batchSizes.add(events.getData().size());
+    }
+  }
+}
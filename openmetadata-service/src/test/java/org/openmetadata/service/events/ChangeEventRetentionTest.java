@@ -0,0 +1,72 @@
+package org.openmetadata.service.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventConsumerDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventDAO;
+
+class ChangeEventRetentionTest {
+  private final ChangeEventDAO changeEventDAO = mock(ChangeEventDAO.class);
+  private final ChangeEventConsumerDAO consumerDAO = mock(ChangeEventConsumerDAO.class);
+
+  @BeforeEach
+  void noConsumers() {
+    when(consumerDAO.getMinOffset()).thenReturn(null);
+  }
+
+  @Test
+  void purgeDeletesInBatchesUntilNoOldEventsAreLeft() {
+    int batchSize = ChangeEventRetention.BATCH_SIZE;
+    when(changeEventDAO.deleteBefore(anyLong(), eq(Long.MAX_VALUE), eq(batchSize))).thenReturn(batchSize, batchSize, 5);
+    ChangeEventRetention retention = new ChangeEventRetention(changeEventDAO, consumerDAO, 7);
+
+    long start = System.currentTimeMillis();
+    assertEquals(2L * batchSize + 5, retention.purge());
+
+    ArgumentCaptor<Long> cutoff = ArgumentCaptor.forClass(Long.class);
+    verify(changeEventDAO, times(3)).deleteBefore(cutoff.capture(), eq(Long.MAX_VALUE), eq(batchSize));
+    long expectedCutoff = start - TimeUnit.DAYS.toMillis(7);
+    assertTrue(cutoff.getValue() >= expectedCutoff && cutoff.getValue() <= expectedCutoff + 60 * 1000L);
+  }
+
+  @Test
+  void purgeUsesDefaultRetentionWhenNotConfigured() {
+    ChangeEventRetention retention = new ChangeEventRetention(changeEventDAO, consumerDAO, null);
+
+    long start = System.currentTimeMillis();
+    assertEquals(0, retention.purge());
+    long end = System.currentTimeMillis();
+
+    ArgumentCaptor<Long> cutoff = ArgumentCaptor.forClass(Long.class);
+    verify(changeEventDAO).deleteBefore(cutoff.capture(), eq(Long.MAX_VALUE), eq(ChangeEventRetention.BATCH_SIZE));
+    long retentionMillis = TimeUnit.DAYS.toMillis(ChangeEventRetention.DEFAULT_RETENTION_DAYS);
+    assertTrue(cutoff.getValue() >= start - retentionMillis && cutoff.getValue() <= end - retentionMillis);
+  }
+
+  @Test
+  void purgeKeepsTheEventsNotCheckpointedByAllConsumers() {
+    // The alert consumer is behind at offset 40, and events older than the retention period are left after it
+    when(consumerDAO.getMinOffset()).thenReturn(40L);
+    when(consumerDAO.listAtOffset(40L)).thenReturn(List.of("alert"));
+    when(changeEventDAO.deleteBefore(anyLong(), eq(40L), eq(ChangeEventRetention.BATCH_SIZE))).thenReturn(3);
+    when(changeEventDAO.getOldestEventTime()).thenReturn(0L);
+    ChangeEventRetention retention = new ChangeEventRetention(changeEventDAO, consumerDAO, 7);
+
+    assertEquals(3, retention.purge());
+    verify(changeEventDAO, never()).deleteBefore(anyLong(), eq(Long.MAX_VALUE), eq(ChangeEventRetention.BATCH_SIZE));
+    verify(consumerDAO).listAtOffset(40L);
+  }
+}
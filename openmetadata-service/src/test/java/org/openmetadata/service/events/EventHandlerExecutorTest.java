@@ -0,0 +1,93 @@
+package org.openmetadata.service.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.api.configuration.events.EventHandlerConfiguration;
+import org.openmetadata.schema.api.configuration.events.EventHandlerConfiguration.OverflowPolicy;
+import org.openmetadata.service.OpenMetadataApplicationConfig;
+
+class EventHandlerExecutorTest {
+  @Test
+  void dropPolicyDiscardsEventsWhenQueueIsFull() throws InterruptedException {
+    BlockingEventHandler handler = new BlockingEventHandler();
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    EventHandlerExecutor executor = new EventHandlerExecutor(handler, config(OverflowPolicy.DROP), registry);
+
+    // One event is processed, one is queued and the last one is dropped
+    executor.submit(null, null);
+    assertTrue(handler.started.await(10, TimeUnit.SECONDS));
+    executor.submit(null, null);
+    executor.submit(null, null);
+    assertEquals(1, executor.getQueueDepth());
+    assertEquals(1, executor.getDroppedEvents());
+    assertEquals(1, registry.get("event_handler_queue_depth").tag("handler", "BlockingEventHandler").gauge().value());
+
+    handler.release.countDown();
+    executor.shutdown(10, TimeUnit.SECONDS);
+    assertEquals(2, handler.threads.size());
+    assertEquals(2, registry.get("event_handler_latency").timer().count());
+  }
+
+  @Test
+  void callerRunsPolicyProcessesEventInCallerThread() throws InterruptedException {
+    BlockingEventHandler handler = new BlockingEventHandler();
+    EventHandlerExecutor executor =
+        new EventHandlerExecutor(handler, config(OverflowPolicy.CALLER_RUNS), new SimpleMeterRegistry());
+
+    executor.submit(null, null);
+    assertTrue(handler.started.await(10, TimeUnit.SECONDS));
+    executor.submit(null, null);
+    executor.submit(null, null);
+    assertEquals(List.of(Thread.currentThread().getName()), handler.threads.subList(1, 2));
+
+    handler.release.countDown();
+    executor.shutdown(10, TimeUnit.SECONDS);
+    assertEquals(3, handler.threads.size());
+    assertEquals(0, executor.getDroppedEvents());
+  }
+
+  private static EventHandlerConfiguration config(OverflowPolicy overflowPolicy) {
+    return new EventHandlerConfiguration().withThreads(1).withQueueSize(1).withOverflowPolicy(overflowPolicy);
+  }
+
+  /** Event handler that holds its first event until released and records the threads processing events */
+  private static class BlockingEventHandler implements EventHandler {
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> threads = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void init(OpenMetadataApplicationConfig config) {
+      // Nothing to initialize
+    }
+
+    @Override
+    public Void process(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+      threads.add(Thread.currentThread().getName());
+      if (started.getCount() == 0) {
+        return null;
+      }
+      started.countDown();
+      try {
+        release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return null;
+    }
+
+    @Override
+    public void close() {
+      // Nothing to close
+    }
+  }
+}
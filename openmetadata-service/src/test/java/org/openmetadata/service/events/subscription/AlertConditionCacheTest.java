@@ -0,0 +1,63 @@
+package org.openmetadata.service.events.subscription;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.entity.events.EventFilterRule;
+import org.openmetadata.schema.entity.events.EventSubscription;
+import org.openmetadata.schema.entity.events.FilteringRules;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.EventType;
+
+class AlertConditionCacheTest {
+  @Test
+  void evaluateCompiledCondition() {
+    EventSubscription subscription = subscription("matchAnySource('table')", EventFilterRule.Effect.INCLUDE);
+    ChangeEvent tableEvent = new ChangeEvent().withEntityType("table").withEventType(EventType.ENTITY_CREATED);
+    ChangeEvent topicEvent = new ChangeEvent().withEntityType("topic").withEventType(EventType.ENTITY_CREATED);
+
+    // Evaluate repeatedly so that the expression is evaluated both interpreted and compiled
+    for (int i = 0; i < 5; i++) {
+      assertTrue(AlertUtil.evaluateAlertConditions(tableEvent, subscription));
+      assertFalse(AlertUtil.evaluateAlertConditions(topicEvent, subscription));
+    }
+    AlertConditionCache.remove(subscription.getId());
+  }
+
+  @Test
+  void recompileOnSubscriptionChange() {
+    EventSubscription subscription = subscription("matchAnySource('table')", EventFilterRule.Effect.INCLUDE);
+    ChangeEvent tableEvent = new ChangeEvent().withEntityType("table").withEventType(EventType.ENTITY_CREATED);
+    assertTrue(AlertUtil.evaluateAlertConditions(tableEvent, subscription));
+
+    // A new version of the subscription is compiled again
+    subscription.getFilteringRules().getRules().get(0).setEffect(EventFilterRule.Effect.EXCLUDE);
+    subscription.setVersion(0.2);
+    assertFalse(AlertUtil.evaluateAlertConditions(tableEvent, subscription));
+
+    // An updated subscription is compiled again after invalidation
+    subscription.getFilteringRules().getRules().get(0).setEffect(EventFilterRule.Effect.INCLUDE);
+    AlertConditionCache.invalidate(subscription.getId());
+    assertTrue(AlertUtil.evaluateAlertConditions(tableEvent, subscription));
+    AlertConditionCache.remove(subscription.getId());
+  }
+
+  @Test
+  void noRulesMatchAllEvents() {
+    EventSubscription subscription =
+        new EventSubscription().withId(UUID.randomUUID()).withName("noRules").withFilteringRules(null);
+    assertTrue(AlertUtil.evaluateAlertConditions(new ChangeEvent().withEntityType("table"), subscription));
+  }
+
+  private static EventSubscription subscription(String condition, EventFilterRule.Effect effect) {
+    EventFilterRule rule = new EventFilterRule().withName("rule").withCondition(condition).withEffect(effect);
+    return new EventSubscription()
+        .withId(UUID.randomUUID())
+        .withName("subscription" + UUID.randomUUID())
+        .withVersion(0.1)
+        .withFilteringRules(new FilteringRules().withRules(List.of(rule)));
+  }
+}
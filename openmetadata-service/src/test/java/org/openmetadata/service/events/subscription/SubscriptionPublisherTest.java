@@ -0,0 +1,118 @@
+package org.openmetadata.service.events.subscription;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.core.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.entity.events.EventSubscription;
+import org.openmetadata.schema.entity.events.SubscriptionStatus;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.EventType;
+import org.openmetadata.service.events.ChangeEventConsumer;
+import org.openmetadata.service.exception.AlertRetriableException;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventConsumerDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventDAO.ChangeEventRecord;
+import org.openmetadata.service.resources.events.EventResource.EventList;
+import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.SubscriptionUtil;
+
+class SubscriptionPublisherTest {
+  private final Invocation.Builder target = mock(Invocation.Builder.class);
+  private WebhookPublisher publisher;
+
+  @BeforeEach
+  void failingWebhook() {
+    Response response = mock(Response.class);
+    when(response.getStatus()).thenReturn(503);
+    when(response.getStatusInfo()).thenReturn(Response.Status.SERVICE_UNAVAILABLE);
+    when(target.post(any())).thenReturn(response);
+    publisher = new WebhookPublisher(new EventSubscription().withName("alert").withBatchSize(2), target);
+  }
+
+  @Test
+  void failingWebhookIsRetriedWithoutSleeping() {
+    publisher.onStart();
+    // The 24 hour backoff is reached
+    for (int i = 0; i < 5; i++) {
+      publisher.setNextBackOff();
+    }
+    EventList events = new EventList(List.of(event(System.currentTimeMillis())), null, null, 1);
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(5), () -> assertThrows(AlertRetriableException.class, () -> publisher.publish(events)));
+    assertEquals(
+        SubscriptionStatus.Status.AWAITING_RETRY, publisher.getEventSubscription().getStatusDetails().getStatus());
+  }
+
+  @Test
+  void failingWebhookDoesNotBlockTheConsumer() throws InterruptedException {
+    ChangeEventDAO changeEventDAO = mock(ChangeEventDAO.class);
+    ChangeEventConsumerDAO consumerDAO = mock(ChangeEventConsumerDAO.class);
+    long now = System.currentTimeMillis();
+    when(consumerDAO.getOffset("alert")).thenReturn(10L);
+    when(consumerDAO.acquireLease(eq("alert"), eq("server1"), anyLong(), anyLong())).thenReturn(1);
+    when(changeEventDAO.getLatestOffset()).thenReturn(11L);
+    when(changeEventDAO.listAfterOffset(10, 2)).thenReturn(List.of(record(11, now)));
+    ChangeEventConsumer consumer =
+        new ChangeEventConsumer(
+            "alert", publisher, changeEventDAO, consumerDAO, new SimpleMeterRegistry(), "server1", null);
+    Thread thread = new Thread(consumer);
+    thread.start();
+
+    // The consumer backs off after the failed delivery, and stops right away when halted
+    verify(target, timeout(5000)).post(any());
+    consumer.halt();
+    assertTrue(consumer.awaitTermination(1, TimeUnit.SECONDS));
+    verify(consumerDAO, never()).updateOffset(anyString(), anyString(), anyLong(), anyLong());
+    assertEquals(10, consumer.getOffset());
+  }
+
+  private static ChangeEvent event(long eventTime) {
+    return new ChangeEvent()
+        .withEventType(EventType.ENTITY_CREATED)
+        .withEntityType("table")
+        .withEntityId(UUID.randomUUID())
+        .withTimestamp(eventTime);
+  }
+
+  private static ChangeEventRecord record(long offset, long eventTime) {
+    return ChangeEventRecord.builder()
+        .offset(offset)
+        .eventTime(eventTime)
+        .json(JsonUtils.pojoToJson(event(eventTime)))
+        .build();
+  }
+
+  private static class WebhookPublisher extends SubscriptionPublisher {
+    private final Invocation.Builder target;
+
+    WebhookPublisher(EventSubscription eventSub, Invocation.Builder target) {
+      super(eventSub);
+      this.target = target;
+    }
+
+    @Override
+    protected void sendAlert(EventList list) {
+      SubscriptionUtil.postWebhookMessage(this, target, JsonUtils.pojoToJson(list));
+    }
+  }
+}
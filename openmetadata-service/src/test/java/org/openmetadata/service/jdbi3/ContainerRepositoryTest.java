@@ -0,0 +1,110 @@
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.openmetadata.schema.entity.data.Container;
+import org.openmetadata.schema.type.Column;
+import org.openmetadata.schema.type.ColumnDataType;
+import org.openmetadata.schema.type.ContainerDataModel;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.schema.type.Relationship;
+import org.openmetadata.schema.type.TagLabel;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
+import org.openmetadata.service.jdbi3.CollectionDAO.TagUsageDAO;
+import org.openmetadata.service.util.EntityUtil.Fields;
+
+class ContainerRepositoryTest {
+  private final TagUsageDAO tagUsageDAO = mock(TagUsageDAO.class);
+  private final EntityRelationshipDAO relationshipDAO = mock(EntityRelationshipDAO.class);
+  private MockedStatic<Entity> entity;
+  private ContainerRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    CollectionDAO collectionDAO = mock(CollectionDAO.class);
+    when(collectionDAO.tagUsageDAO()).thenReturn(tagUsageDAO);
+    when(collectionDAO.relationshipDAO()).thenReturn(relationshipDAO);
+    entity = mockStatic(Entity.class, CALLS_REAL_METHODS);
+    entity
+        .when(() -> Entity.registerEntity(any(), anyString(), any(EntityRepository.class)))
+        .thenAnswer(invocation -> null);
+    entity
+        .when(() -> Entity.getEntityReferenceById(eq(Entity.STORAGE_SERVICE), any(UUID.class), any(Include.class)))
+        .thenAnswer(invocation -> new EntityReference().withId(invocation.getArgument(1)).withType("storageService"));
+    repository = new ContainerRepository(collectionDAO);
+  }
+
+  @AfterEach
+  void tearDown() {
+    entity.close();
+  }
+
+  @Test
+  void dataModelColumnTagsAreReadByTheColumnsOfTheContainer() {
+    Column nested = column("service.bucket.record.id");
+    Column record = column("service.bucket.record").withChildren(new ArrayList<>(List.of(nested)));
+    Column name = column("service.bucket.name");
+    Container container =
+        new Container()
+            .withId(UUID.randomUUID())
+            .withFullyQualifiedName("service.bucket")
+            .withDataModel(new ContainerDataModel().withColumns(new ArrayList<>(List.of(record, name))));
+    when(relationshipDAO.findFrom(
+            container.getId(), Entity.CONTAINER, Relationship.CONTAINS.ordinal(), Entity.STORAGE_SERVICE))
+        .thenReturn(
+            List.of(EntityRelationshipRecord.builder().id(UUID.randomUUID()).type(Entity.STORAGE_SERVICE).build()));
+    List<Collection<String>> queried = new ArrayList<>();
+    when(tagUsageDAO.getTagsByTargets(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Collection<String> targets = invocation.getArgument(0);
+              queried.add(targets);
+              Map<String, List<TagLabel>> tags = new HashMap<>();
+              targets.forEach(target -> tags.put(target, new ArrayList<>()));
+              tags.put("service.bucket.record.id", List.of(new TagLabel().withTagFQN("pii.sensitive")));
+              return tags;
+            });
+
+    repository.setFields(container, new Fields(Set.of("tags")));
+
+    // Only the columns of the container are read, and not the nested containers under the same FQN prefix
+    assertEquals(
+        Set.of("service.bucket.record", "service.bucket.record.id", "service.bucket.name"), Set.copyOf(queried.get(0)));
+    verify(tagUsageDAO, never()).getTagsByPrefix(anyString());
+    assertEquals("pii.sensitive", nested.getTags().get(0).getTagFQN());
+    assertTrue(record.getTags().isEmpty());
+    assertTrue(name.getTags().isEmpty());
+  }
+
+  private static Column column(String fqn) {
+    return new Column()
+        .withName(fqn.substring(fqn.lastIndexOf('.') + 1))
+        .withFullyQualifiedName(fqn)
+        .withDataType(ColumnDataType.STRING);
+  }
+}
@@ -0,0 +1,102 @@
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO.FieldRelationshipDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.TableDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.TagUsageDAO;
+
+/** A batch of deleted entities takes its tag labels and field relationships with it */
+class EntityRepositoryBatchDeleteTest {
+  private final TableDAO tableDAO = mock(TableDAO.class);
+  private final TagUsageDAO tagUsageDAO = mock(TagUsageDAO.class, CALLS_REAL_METHODS);
+  private final FieldRelationshipDAO fieldRelationshipDAO = mock(FieldRelationshipDAO.class, CALLS_REAL_METHODS);
+  private MockedStatic<Entity> entity;
+  private TableRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    CollectionDAO collectionDAO = mock(CollectionDAO.class);
+    when(collectionDAO.tableDAO()).thenReturn(tableDAO);
+    when(collectionDAO.tagUsageDAO()).thenReturn(tagUsageDAO);
+    when(collectionDAO.fieldRelationshipDAO()).thenReturn(fieldRelationshipDAO);
+    when(collectionDAO.relationshipDAO()).thenReturn(mock(CollectionDAO.EntityRelationshipDAO.class));
+    when(collectionDAO.entityExtensionDAO()).thenReturn(mock(CollectionDAO.EntityExtensionDAO.class));
+    when(collectionDAO.entityVersionDAO()).thenReturn(mock(CollectionDAO.EntityVersionDAO.class));
+    when(collectionDAO.usageDAO()).thenReturn(mock(CollectionDAO.UsageDAO.class));
+    entity = mockStatic(Entity.class, CALLS_REAL_METHODS);
+    entity
+        .when(() -> Entity.registerEntity(any(), anyString(), any(EntityRepository.class)))
+        .thenAnswer(invocation -> null);
+    entity.when(Entity::getFeedRepository).thenReturn(mock(FeedRepository.class));
+    repository = new TableRepository(collectionDAO);
+  }
+
+  @AfterEach
+  void tearDown() {
+    entity.close();
+  }
+
+  @Test
+  void tagLabelsAndFieldRelationshipsAreDeletedWithEachBatch() {
+    // More entities than FQN prefixes matched in one statement
+    List<UUID> ids = IntStream.range(0, 150).mapToObj(i -> UUID.randomUUID()).collect(Collectors.toList());
+    List<String> idList = ids.stream().map(UUID::toString).collect(Collectors.toList());
+    List<String> hashes = IntStream.range(0, 150).mapToObj(i -> "service.table" + i).collect(Collectors.toList());
+    when(tableDAO.findNameHashes(idList)).thenReturn(hashes);
+
+    repository.deleteInBatch(ids);
+
+    ArgumentCaptor<String> tagConditions = ArgumentCaptor.forClass(String.class);
+    ArgumentCaptor<Map<String, String>> tagBindings = bindings();
+    verify(tagUsageDAO, times(2)).deleteTagLabelsInternal(tagConditions.capture(), tagBindings.capture());
+    assertPrefixes(tagBindings.getAllValues(), hashes);
+    assertTrue(tagConditions.getValue().startsWith("WHERE targetFQNHash = :hash0 OR targetFQNHash LIKE :prefix0 OR"));
+
+    ArgumentCaptor<String> fieldConditions = ArgumentCaptor.forClass(String.class);
+    ArgumentCaptor<Map<String, String>> fieldBindings = bindings();
+    verify(fieldRelationshipDAO, times(2))
+        .deleteAllByPrefixInternal(fieldConditions.capture(), fieldBindings.capture());
+    assertPrefixes(fieldBindings.getAllValues(), hashes);
+    verify(tableDAO).delete(idList);
+  }
+
+  private static void assertPrefixes(List<Map<String, String>> bindings, List<String> hashes) {
+    List<String> bound = new ArrayList<>();
+    List<String> prefixes = new ArrayList<>();
+    for (Map<String, String> batch : bindings) {
+      for (int i = 0; i < batch.size() / 2; i++) {
+        bound.add(batch.get("hash" + i));
+        prefixes.add(batch.get("prefix" + i));
+      }
+    }
+    assertEquals(hashes, bound);
+    assertEquals(hashes.stream().map(hash -> hash + ".%").collect(Collectors.toList()), prefixes);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ArgumentCaptor<Map<String, String>> bindings() {
+    return ArgumentCaptor.forClass(Map.class);
+  }
+}
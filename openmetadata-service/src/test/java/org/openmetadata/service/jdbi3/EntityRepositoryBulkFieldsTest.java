@@ -0,0 +1,283 @@
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.openmetadata.schema.api.VoteRequest;
+import org.openmetadata.schema.entity.data.DatabaseSchema;
+import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.schema.type.Relationship;
+import org.openmetadata.schema.type.TagLabel;
+import org.openmetadata.schema.type.UsageDetails;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityExtensionDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipObject;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
+import org.openmetadata.service.jdbi3.CollectionDAO.ExtensionRecord;
+import org.openmetadata.service.jdbi3.CollectionDAO.TagUsageDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.UsageDAO;
+import org.openmetadata.service.util.EntityUtil.Fields;
+import org.openmetadata.service.util.JsonUtils;
+
+/** Listing a page of entities loads the same fields as getting each of the entities on its own */
+class EntityRepositoryBulkFieldsTest {
+  private static final Fields FIELDS =
+      new Fields(Set.of("owner", "tags", "followers", "votes", "domain", "extension", "dataProducts", "usageSummary"));
+
+  private final List<EntityRelationshipObject> relationships = new ArrayList<>();
+  private final Map<UUID, EntityReference> references = new HashMap<>();
+  private final Map<String, List<TagLabel>> tags = new HashMap<>();
+  private final Map<UUID, List<ExtensionRecord>> extensions = new HashMap<>();
+  private final Map<UUID, UsageDetails> usage = new HashMap<>();
+  private final EntityReference schema = reference(Entity.DATABASE_SCHEMA, "service.db.schema");
+  private MockedStatic<Entity> entity;
+  private TableRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    entity = mockStatic(Entity.class, CALLS_REAL_METHODS);
+    entity
+        .when(() -> Entity.registerEntity(any(), anyString(), any(EntityRepository.class)))
+        .thenAnswer(invocation -> null);
+    entity
+        .when(() -> Entity.getEntityReferenceById(anyString(), any(UUID.class), any(Include.class)))
+        .thenAnswer(invocation -> references.get(invocation.<UUID>getArgument(1)));
+    entity
+        .when(() -> Entity.getEntityReferencesByIds(anyString(), anyCollection(), any(Include.class)))
+        .thenAnswer(
+            invocation ->
+                invocation.<Collection<UUID>>getArgument(1).stream()
+                    .filter(references::containsKey)
+                    .map(references::get)
+                    .collect(Collectors.toList()));
+    entity
+        .when(() -> Entity.getEntity(any(EntityReference.class), anyString(), any(Include.class)))
+        .thenReturn(new DatabaseSchema().withId(schema.getId()));
+
+    CollectionDAO.TableDAO tableDAO = mock(CollectionDAO.TableDAO.class);
+    EntityRelationshipDAO relationshipDAO = relationshipDAO();
+    TagUsageDAO tagUsageDAO = tagUsageDAO();
+    EntityExtensionDAO extensionDAO = extensionDAO();
+    UsageDAO usageDAO = usageDAO();
+    CollectionDAO collectionDAO = mock(CollectionDAO.class);
+    when(collectionDAO.tableDAO()).thenReturn(tableDAO);
+    when(collectionDAO.relationshipDAO()).thenReturn(relationshipDAO);
+    when(collectionDAO.tagUsageDAO()).thenReturn(tagUsageDAO);
+    when(collectionDAO.entityExtensionDAO()).thenReturn(extensionDAO);
+    when(collectionDAO.usageDAO()).thenReturn(usageDAO);
+    repository = new TableRepository(collectionDAO);
+  }
+
+  @AfterEach
+  void tearDown() {
+    entity.close();
+  }
+
+  @Test
+  void bulkFieldsMatchTheFieldsOfEachEntity() {
+    EntityReference user1 = reference(Entity.USER, "user1");
+    EntityReference user2 = reference(Entity.USER, "user2");
+    EntityReference team = reference(Entity.TEAM, "team");
+    EntityReference domain = reference(Entity.DOMAIN, "domain");
+    EntityReference dataProduct = reference(Entity.DATA_PRODUCT, "domain.product");
+
+    // A table with all the fields set
+    Table table1 = table("service.db.schema.table1");
+    relate(user1, table1, Relationship.OWNS, null);
+    relate(user2, table1, Relationship.FOLLOWS, null);
+    relate(user1, table1, Relationship.FOLLOWS, null);
+    relate(user1, table1, Relationship.VOTED, VoteRequest.VoteType.VOTED_UP);
+    relate(user2, table1, Relationship.VOTED, VoteRequest.VoteType.VOTED_DOWN);
+    relate(domain, table1, Relationship.HAS, null);
+    relate(dataProduct, table1, Relationship.HAS, null);
+    tags.put(table1.getFullyQualifiedName(), List.of(new TagLabel().withTagFQN("PII.Sensitive")));
+    extensions.put(
+        table1.getId(),
+        List.of(new ExtensionRecord("table.customProperties.businessImportance", JsonUtils.pojoToJson("High"))));
+    usage.put(table1.getId(), new UsageDetails().withDate("2023-10-01"));
+
+    // A table owned by a team, with a follower that does not exist anymore
+    Table table2 = table("service.db.schema.table2");
+    relate(team, table2, Relationship.OWNS, null);
+    relate(reference(Entity.USER, "deleted"), table2, Relationship.FOLLOWS, null);
+    references.remove(lastFromId());
+
+    // A table without any of the fields set
+    Table table3 = table("service.db.schema.table3");
+
+    List<Table> listed = repository.setFieldsInternal(List.of(copy(table1), copy(table2), copy(table3)), FIELDS);
+    Table got1 = repository.setFieldsInternal(copy(table1), FIELDS);
+    Table got3 = repository.setFieldsInternal(copy(table3), FIELDS);
+
+    assertEquals(JsonUtils.pojoToJson(got1), JsonUtils.pojoToJson(listed.get(0)));
+    assertEquals(JsonUtils.pojoToJson(got3), JsonUtils.pojoToJson(listed.get(2)));
+    assertEquals(user1.getId(), listed.get(0).getOwner().getId());
+    assertEquals(2, listed.get(0).getFollowers().size());
+    assertEquals(1, listed.get(0).getVotes().getUpVotes());
+    assertEquals(domain.getId(), listed.get(0).getDomain().getId());
+    assertEquals(dataProduct.getId(), listed.get(0).getDataProducts().get(0).getId());
+    assertEquals("PII.Sensitive", listed.get(0).getTags().get(0).getTagFQN());
+    assertEquals("{\"businessImportance\":\"High\"}", JsonUtils.pojoToJson(listed.get(0).getExtension()));
+    assertEquals("2023-10-01", listed.get(0).getUsageSummary().getDate());
+    assertEquals(team.getId(), listed.get(1).getOwner().getId());
+    // The follower that does not exist anymore is skipped
+    assertEquals(List.of(), listed.get(1).getFollowers());
+    assertNull(listed.get(2).getOwner());
+  }
+
+  @Test
+  void bulkOwnerIsTheFirstOfMultipleOwners() {
+    EntityReference user1 = reference(Entity.USER, "user1");
+    EntityReference user2 = reference(Entity.USER, "user2");
+    Table table = table("service.db.schema.table1");
+    relate(user1, table, Relationship.OWNS, null);
+    relate(user2, table, Relationship.OWNS, null);
+
+    List<Table> listed = repository.setFieldsInternal(List.of(copy(table)), FIELDS);
+    Table got = repository.setFieldsInternal(copy(table), FIELDS);
+    assertEquals(got.getOwner().getId(), listed.get(0).getOwner().getId());
+    assertEquals(user1.getId(), listed.get(0).getOwner().getId());
+  }
+
+  private EntityRelationshipDAO relationshipDAO() {
+    EntityRelationshipDAO dao = mock(EntityRelationshipDAO.class);
+    when(dao.findFrom(any(UUID.class), anyString(), anyInt()))
+        .thenAnswer(invocation -> records(invocation.<UUID>getArgument(0).toString(), invocation.getArgument(2), null));
+    when(dao.findFrom(any(UUID.class), anyString(), anyInt(), anyString()))
+        .thenAnswer(
+            invocation ->
+                records(
+                    invocation.<UUID>getArgument(0).toString(), invocation.getArgument(2), invocation.getArgument(3)));
+    when(dao.findFromBatch(anyList(), anyInt()))
+        .thenAnswer(invocation -> related(invocation.getArgument(0), invocation.getArgument(1), null));
+    when(dao.findFromBatch(anyList(), anyInt(), anyString()))
+        .thenAnswer(
+            invocation -> related(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+    return dao;
+  }
+
+  private TagUsageDAO tagUsageDAO() {
+    TagUsageDAO dao = mock(TagUsageDAO.class);
+    when(dao.getTags(anyString())).thenAnswer(invocation -> tagsOf(invocation.getArgument(0)));
+    when(dao.getTagsByTargets(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Map<String, List<TagLabel>> tagsByTarget = new HashMap<>();
+              invocation.<Collection<String>>getArgument(0).forEach(fqn -> tagsByTarget.put(fqn, tagsOf(fqn)));
+              return tagsByTarget;
+            });
+    return dao;
+  }
+
+  private EntityExtensionDAO extensionDAO() {
+    EntityExtensionDAO dao = mock(EntityExtensionDAO.class);
+    when(dao.getExtensions(any(UUID.class), anyString()))
+        .thenAnswer(invocation -> extensions.getOrDefault(invocation.<UUID>getArgument(0), List.of()));
+    when(dao.getExtensionsBatch(anyList(), anyString()))
+        .thenAnswer(
+            invocation -> {
+              List<Pair<String, ExtensionRecord>> rows = new ArrayList<>();
+              for (String id : invocation.<List<String>>getArgument(0)) {
+                extensions.getOrDefault(UUID.fromString(id), List.of()).forEach(row -> rows.add(Pair.of(id, row)));
+              }
+              return rows;
+            });
+    return dao;
+  }
+
+  private UsageDAO usageDAO() {
+    UsageDAO dao = mock(UsageDAO.class);
+    when(dao.getLatestUsage(anyString()))
+        .thenAnswer(invocation -> usage.get(UUID.fromString(invocation.getArgument(0))));
+    when(dao.getLatestUsageBatch(anyList()))
+        .thenAnswer(
+            invocation ->
+                invocation.<List<String>>getArgument(0).stream()
+                    .filter(id -> usage.containsKey(UUID.fromString(id)))
+                    .map(id -> Pair.of(id, usage.get(UUID.fromString(id))))
+                    .collect(Collectors.toList()));
+    return dao;
+  }
+
+  private List<TagLabel> tagsOf(String fqn) {
+    return new ArrayList<>(tags.getOrDefault(fqn, List.of()));
+  }
+
+  private List<EntityRelationshipRecord> records(String toId, int relation, String fromEntity) {
+    return related(List.of(toId), relation, fromEntity).stream()
+        .map(
+            rec ->
+                EntityRelationshipRecord.builder()
+                    .id(UUID.fromString(rec.getFromId()))
+                    .type(rec.getFromEntity())
+                    .json(rec.getJson())
+                    .build())
+        .collect(Collectors.toList());
+  }
+
+  private List<EntityRelationshipObject> related(List<String> toIds, int relation, String fromEntity) {
+    return relationships.stream()
+        .filter(rec -> toIds.contains(rec.getToId()) && rec.getRelation() == relation)
+        .filter(rec -> fromEntity == null || fromEntity.equals(rec.getFromEntity()))
+        .collect(Collectors.toList());
+  }
+
+  private void relate(EntityReference from, Table to, Relationship relationship, Object json) {
+    relationships.add(
+        EntityRelationshipObject.builder()
+            .fromId(from.getId().toString())
+            .fromEntity(from.getType())
+            .toId(to.getId().toString())
+            .toEntity(Entity.TABLE)
+            .relation(relationship.ordinal())
+            .json(json == null ? null : JsonUtils.pojoToJson(json))
+            .build());
+  }
+
+  private UUID lastFromId() {
+    return UUID.fromString(relationships.get(relationships.size() - 1).getFromId());
+  }
+
+  private Table table(String fqn) {
+    Table table = new Table().withId(UUID.randomUUID()).withName(fqn).withFullyQualifiedName(fqn);
+    references.put(table.getId(), table.getEntityReference());
+    relate(schema, table, Relationship.CONTAINS, null);
+    return table;
+  }
+
+  private EntityReference reference(String type, String fqn) {
+    EntityReference reference =
+        new EntityReference().withId(UUID.randomUUID()).withType(type).withName(fqn).withFullyQualifiedName(fqn);
+    references.put(reference.getId(), reference);
+    return reference;
+  }
+
+  private static Table copy(Table table) {
+    return JsonUtils.readValue(JsonUtils.pojoToJson(table), Table.class);
+  }
+}
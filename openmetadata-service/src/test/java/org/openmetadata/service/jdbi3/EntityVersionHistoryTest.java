@@ -0,0 +1,91 @@
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.schema.type.Column;
+import org.openmetadata.schema.type.ColumnDataType;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityVersionDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityVersionRecord;
+import org.openmetadata.service.util.JsonUtils;
+
+class EntityVersionHistoryTest {
+  private final UUID id = UUID.randomUUID();
+  private final EntityVersionDAO dao = mock(EntityVersionDAO.class);
+  private final EntityVersionHistory history = new EntityVersionHistory(dao);
+
+  @Test
+  void deltaGivesBackTheVersion() {
+    String checkpoint = JsonUtils.pojoToJson(table(100, "description"));
+    for (Table table : List.of(table(100, "updated"), table(90, "description"), table(101, "description"))) {
+      String json = JsonUtils.pojoToJson(table);
+      String delta = EntityVersionHistory.getDelta(checkpoint, json);
+      assertNotNull(delta);
+      assertEquals(table, JsonUtils.readValue(EntityVersionHistory.applyDelta(checkpoint, delta), Table.class));
+    }
+    // A delta that is not much smaller than the version is not used
+    assertNull(EntityVersionHistory.getDelta(checkpoint, JsonUtils.pojoToJson(table(1, "description"))));
+  }
+
+  @Test
+  void versionIsStoredAsDeltaFromTheLatestCheckpoint() {
+    String checkpoint = JsonUtils.pojoToJson(table(100, "description"));
+    String json = JsonUtils.pojoToJson(table(100, "updated"));
+
+    // The first version is a checkpoint
+    history.store(id, 0.1, checkpoint);
+    verify(dao).insert(id, 0.1, 0.1, checkpoint);
+
+    when(dao.getLatestCheckpoint(id)).thenReturn(new EntityVersionRecord(0.1, 0.1, checkpoint));
+    history.store(id, 0.2, json);
+    String delta = EntityVersionHistory.getDelta(checkpoint, json);
+    verify(dao).insert(id, 0.2, 0.1, delta);
+
+    when(dao.get(id, 0.1)).thenReturn(new EntityVersionRecord(0.1, 0.1, checkpoint));
+    when(dao.get(id, 0.2)).thenReturn(new EntityVersionRecord(0.2, 0.1, delta));
+    assertEquals(table(100, "updated"), JsonUtils.readValue(history.get(id, 0.2), Table.class));
+    assertNull(history.get(id, 0.3));
+
+    // A new checkpoint is stored once the checkpoint has enough deltas
+    when(dao.countDeltas(id, 0.1)).thenReturn(EntityVersionHistory.CHECKPOINT_INTERVAL);
+    history.store(id, 0.3, json);
+    verify(dao).insert(id, 0.3, 0.3, json);
+    verify(dao, never()).insert(eq(id), eq(0.3), eq(0.1), anyString());
+  }
+
+  @Test
+  void listReadsTheCheckpointsOfThePage() {
+    String checkpoint = JsonUtils.pojoToJson(table(100, "description"));
+    String delta = EntityVersionHistory.getDelta(checkpoint, JsonUtils.pojoToJson(table(100, "updated")));
+    when(dao.listBefore(eq(id), anyDouble(), eq(2)))
+        .thenReturn(List.of(new EntityVersionRecord(0.3, 0.1, delta), new EntityVersionRecord(0.2, 0.1, delta)));
+    when(dao.get(id, List.of(0.1))).thenReturn(List.of(new EntityVersionRecord(0.1, 0.1, checkpoint)));
+
+    List<String> versions = history.list(id, 0.4, 2);
+    assertEquals(2, versions.size());
+    assertEquals(table(100, "updated"), JsonUtils.readValue(versions.get(0), Table.class));
+  }
+
+  /** Table with the given number of columns and the description of its first column */
+  private Table table(int columnCount, String description) {
+    List<Column> columns = new ArrayList<>();
+    for (int i = 0; i < columnCount; i++) {
+      columns.add(
+          new Column().withName("c" + i).withDataType(ColumnDataType.INT).withDescription(i == 0 ? description : "c"));
+    }
+    return new Table().withId(id).withName("table").withVersion(0.1).withColumns(columns);
+  }
+}
@@ -0,0 +1,273 @@
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.json.Json;
+import org.apache.commons.lang3.tuple.Triple;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.openmetadata.schema.entity.feed.Thread;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.schema.type.Post;
+import org.openmetadata.schema.type.Relationship;
+import org.openmetadata.schema.type.TaskDetails;
+import org.openmetadata.schema.type.TaskStatus;
+import org.openmetadata.schema.type.TaskType;
+import org.openmetadata.schema.type.ThreadType;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.FeedDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.FieldRelationshipDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.PostDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.PostDAO.ThreadPost;
+import org.openmetadata.service.resources.feeds.MessageParser.EntityLink;
+import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.ResultList;
+
+/** The posts of a thread are stored apart from the thread, and read back with the thread */
+class FeedRepositoryPostsTest {
+  private static final String ABOUT = "<#E::table::service.db.schema.table>";
+
+  private final InMemoryPostDAO postDAO = new InMemoryPostDAO();
+  private final FeedDAO feedDAO = mock(FeedDAO.class);
+  private final FieldRelationshipDAO fieldRelationshipDAO = mock(FieldRelationshipDAO.class);
+  private MockedStatic<Entity> entity;
+  private FeedRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    EntityRelationshipDAO relationshipDAO = mock(EntityRelationshipDAO.class);
+    CollectionDAO collectionDAO = mock(CollectionDAO.class);
+    when(collectionDAO.postDAO()).thenReturn(postDAO);
+    when(collectionDAO.feedDAO()).thenReturn(feedDAO);
+    when(collectionDAO.fieldRelationshipDAO()).thenReturn(fieldRelationshipDAO);
+    when(collectionDAO.relationshipDAO()).thenReturn(relationshipDAO);
+    entity = mockStatic(Entity.class, CALLS_REAL_METHODS);
+    entity
+        .when(() -> Entity.getEntityReferenceByName(eq(Entity.USER), anyString(), any(Include.class)))
+        .thenAnswer(
+            invocation ->
+                new EntityReference()
+                    .withId(UUID.randomUUID())
+                    .withType(Entity.USER)
+                    .withName(invocation.getArgument(1)));
+    repository = new FeedRepository(collectionDAO);
+  }
+
+  @AfterEach
+  void tearDown() {
+    entity.close();
+  }
+
+  @Test
+  void postsAreAddedEditedAndDeletedWithoutRewritingTheThread() {
+    Thread thread = thread(ThreadType.Conversation);
+    Post first = post("first", 1L);
+    Post second = post("second", 2L);
+
+    repository.addPostToThread(thread.getId(), first, "alice");
+    Thread read = repository.addPostToThread(thread.getId(), second, "bob");
+    assertEquals(List.of("first", "second"), messages(read.getPosts()));
+    assertEquals(2, read.getPostsCount());
+
+    // Edit the first post
+    repository.patchPost(
+        read,
+        repository.getPostById(read, first.getId()),
+        "alice",
+        Json.createPatchBuilder().replace("/message", "edited").build());
+    read = repository.get(thread.getId());
+    assertEquals(List.of("edited", "second"), messages(read.getPosts()));
+    assertEquals(List.of("edited", "second"), messages(repository.listPosts(thread.getId())));
+
+    // Delete the second post
+    repository.deletePost(read, repository.getPostById(read, second.getId()), "bob");
+    read = repository.get(thread.getId());
+    assertEquals(List.of("edited"), messages(read.getPosts()));
+    assertEquals(1, read.getPostsCount());
+
+    // Posts only change the updated time of the thread, and are not stored in the thread itself
+    verify(feedDAO, never()).update(any(UUID.class), anyString());
+    verify(feedDAO, times(2)).updateUpdatedAt(eq(thread.getId()), any(Long.class), eq("alice"));
+    verify(feedDAO, times(2)).updateUpdatedAt(eq(thread.getId()), any(Long.class), eq("bob"));
+  }
+
+  @Test
+  void threadListHasTheLastPostsAndTheCountOfAllThePosts() {
+    Thread withPosts = thread(ThreadType.Conversation);
+    Thread withOnePost = thread(ThreadType.Conversation);
+    Thread withoutPosts = thread(ThreadType.Conversation);
+    for (int i = 1; i <= 5; i++) {
+      repository.addPostToThread(withPosts.getId(), post("post" + i, i), "alice");
+    }
+    repository.addPostToThread(withOnePost.getId(), post("only", 1L), "alice");
+    FeedFilter filter = FeedFilter.builder().build();
+    when(feedDAO.list(11, filter.getCondition()))
+        .thenReturn(
+            List.of(
+                JsonUtils.pojoToJson(withPosts),
+                JsonUtils.pojoToJson(withOnePost),
+                JsonUtils.pojoToJson(withoutPosts)));
+    when(feedDAO.listCount(filter.getCondition())).thenReturn(3);
+
+    List<Thread> threads = repository.list(filter, null, 3, null, 10).getData();
+    assertEquals(List.of("post3", "post4", "post5"), messages(threads.get(0).getPosts()));
+    assertEquals(5, threads.get(0).getPostsCount());
+    assertEquals(List.of("only"), messages(threads.get(1).getPosts()));
+    assertEquals(1, threads.get(1).getPostsCount());
+    assertTrue(threads.get(2).getPosts().isEmpty());
+    assertEquals(0, threads.get(2).getPostsCount());
+
+    // No posts are listed when none are requested, but the posts are still counted
+    ResultList<Thread> counted = repository.list(filter, null, 0, null, 10);
+    assertTrue(counted.getData().get(0).getPosts().isEmpty());
+    assertEquals(5, counted.getData().get(0).getPostsCount());
+  }
+
+  @Test
+  void taskFoundByItsEntityHasItsPosts() {
+    Thread task = thread(ThreadType.Task);
+    task.withTask(new TaskDetails().withType(TaskType.RequestDescription).withStatus(TaskStatus.Open));
+    when(feedDAO.findById(task.getId())).thenReturn(JsonUtils.pojoToJson(task));
+    repository.addPostToThread(task.getId(), post("first", 1L), "alice");
+    EntityLink about = EntityLink.parse(ABOUT);
+    when(fieldRelationshipDAO.findFrom(
+            about.getFullyQualifiedFieldValue(), about.getFullyQualifiedFieldType(), Relationship.IS_ABOUT.ordinal()))
+        .thenReturn(List.of(Triple.of(task.getId().toString(), Entity.THREAD, null)));
+
+    Thread found = repository.getTask(about, TaskType.RequestDescription);
+    assertEquals(List.of("first"), messages(found.getPosts()));
+    assertEquals(1, found.getPostsCount());
+  }
+
+  @Test
+  void migrationMovesThePostsOutOfTheThreads() throws IOException {
+    for (String database : List.of("mysql", "postgres")) {
+      String migration =
+          Files.readString(
+              Path.of("..", "bootstrap", "sql", "migrations", "native", "1.2.0", database, "schemaChanges.sql"));
+      String table = migration.substring(migration.indexOf("CREATE TABLE IF NOT EXISTS thread_post"));
+      table = table.substring(0, table.indexOf(");"));
+      for (String column : List.of("id VARCHAR(36) NOT NULL", "threadId VARCHAR(36) NOT NULL", "postTs BIGINT")) {
+        assertTrue(table.contains(column), database + " thread_post has no column " + column);
+      }
+      assertTrue(table.contains("PRIMARY KEY (id)"), database);
+      assertTrue(migration.contains("thread_post_thread_index"), database);
+      assertTrue(migration.contains("INSERT INTO thread_post (id, threadId, postTs, json)"), database);
+      assertTrue(migration.contains("UPDATE thread_entity SET json ="), database);
+    }
+  }
+
+  private Thread thread(ThreadType type) {
+    Thread thread =
+        new Thread()
+            .withId(UUID.randomUUID())
+            .withType(type)
+            .withAbout(ABOUT)
+            .withMessage("thread")
+            .withCreatedBy("alice")
+            .withThreadTs(0L)
+            .withUpdatedAt(0L)
+            .withUpdatedBy("alice")
+            .withResolved(false)
+            .withReactions(new ArrayList<>());
+    when(feedDAO.findById(thread.getId())).thenReturn(JsonUtils.pojoToJson(thread));
+    return thread;
+  }
+
+  private static Post post(String message, long postTs) {
+    return new Post()
+        .withId(UUID.randomUUID())
+        .withMessage(message)
+        .withFrom("alice")
+        .withPostTs(postTs)
+        .withReactions(new ArrayList<>());
+  }
+
+  private static List<String> messages(List<Post> posts) {
+    return posts.stream().map(Post::getMessage).collect(Collectors.toList());
+  }
+
+  /** The thread_post table, with the semantics of the queries of {@link PostDAO} */
+  private static class InMemoryPostDAO implements PostDAO {
+    private final Map<UUID, Post> posts = new HashMap<>();
+    private final Map<UUID, UUID> threadIds = new HashMap<>();
+
+    @Override
+    public void insert(UUID id, UUID threadId, long postTs, String json) {
+      posts.put(id, JsonUtils.readValue(json, Post.class));
+      threadIds.put(id, threadId);
+    }
+
+    @Override
+    public void update(UUID id, String json) {
+      posts.put(id, JsonUtils.readValue(json, Post.class));
+    }
+
+    @Override
+    public void delete(UUID id) {
+      posts.remove(id);
+      threadIds.remove(id);
+    }
+
+    @Override
+    public void deleteByThreadId(UUID threadId) {
+      threadIds.entrySet().removeIf(e -> e.getValue().equals(threadId));
+      posts.keySet().retainAll(threadIds.keySet());
+    }
+
+    @Override
+    public List<String> listByThreadId(UUID threadId) {
+      return postsOf(threadId).stream().map(JsonUtils::pojoToJson).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ThreadPost> listLastPosts(List<String> threadIds, int limitPosts) {
+      List<ThreadPost> lastPosts = new ArrayList<>();
+      for (String threadId : threadIds) {
+        List<Post> threadPosts = postsOf(UUID.fromString(threadId));
+        int from = Math.max(0, threadPosts.size() - Math.max(1, limitPosts));
+        for (Post post : threadPosts.subList(from, threadPosts.size())) {
+          lastPosts.add(
+              ThreadPost.builder()
+                  .threadId(threadId)
+                  .json(JsonUtils.pojoToJson(post))
+                  .postsCount(threadPosts.size())
+                  .build());
+        }
+      }
+      return lastPosts;
+    }
+
+    private List<Post> postsOf(UUID threadId) {
+      return posts.values().stream()
+          .filter(post -> threadId.equals(threadIds.get(post.getId())))
+          .sorted(Comparator.comparing(Post::getPostTs))
+          .collect(Collectors.toList());
+    }
+  }
+}
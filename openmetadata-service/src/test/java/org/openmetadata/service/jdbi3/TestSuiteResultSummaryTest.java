@@ -0,0 +1,316 @@
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.openmetadata.service.jdbi3.TestCaseRepository.TESTCASE_RESULT_EXTENSION;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.openmetadata.schema.tests.ResultSummary;
+import org.openmetadata.schema.tests.TestCase;
+import org.openmetadata.schema.tests.TestSuite;
+import org.openmetadata.schema.tests.type.TestCaseResult;
+import org.openmetadata.schema.tests.type.TestCaseStatus;
+import org.openmetadata.schema.tests.type.TestSummary;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO.DataQualityDataTimeSeriesDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
+import org.openmetadata.service.jdbi3.CollectionDAO.TestCaseDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.TestSuiteDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.TestSuiteResultSummaryDAO;
+import org.openmetadata.service.migration.utils.v120.MigrationUtil;
+import org.openmetadata.service.util.JsonUtils;
+
+/** The status counts of the test suites follow the results and the test cases of the suites */
+class TestSuiteResultSummaryTest {
+  private final InMemoryResultSummaryDAO summaryDAO = new InMemoryResultSummaryDAO();
+  private final Map<String, TreeMap<Long, TestCaseResult>> results = new HashMap<>();
+  private final Map<UUID, TestSuite> testSuites = new LinkedHashMap<>();
+  private final Map<UUID, List<EntityRelationshipRecord>> suitesOfTestCases = new HashMap<>();
+  private final TestCaseDAO testCaseDAO = mock(TestCaseDAO.class);
+  private final TestSuiteDAO testSuiteDAO = mock(TestSuiteDAO.class);
+  private MockedStatic<Entity> entity;
+  private TestCaseRepository testCaseRepository;
+  private TestSuiteRepository testSuiteRepository;
+
+  @BeforeEach
+  void setUp() {
+    DataQualityDataTimeSeriesDAO timeSeriesDAO = mock(DataQualityDataTimeSeriesDAO.class);
+    when(timeSeriesDAO.getLatestExtension(anyString(), eq(TESTCASE_RESULT_EXTENSION)))
+        .thenAnswer(
+            invocation -> {
+              TreeMap<Long, TestCaseResult> testCaseResults = results.get(invocation.<String>getArgument(0));
+              return testCaseResults == null || testCaseResults.isEmpty()
+                  ? null
+                  : JsonUtils.pojoToJson(testCaseResults.lastEntry().getValue());
+            });
+    when(timeSeriesDAO.getExtensionAtTimestamp(anyString(), eq(TESTCASE_RESULT_EXTENSION), anyLong()))
+        .thenAnswer(
+            invocation ->
+                JsonUtils.pojoToJson(
+                    results.get(invocation.<String>getArgument(0)).get(invocation.<Long>getArgument(2))));
+    doAnswer(invocation -> results.get(invocation.<String>getArgument(0)).remove(invocation.<Long>getArgument(2)))
+        .when(timeSeriesDAO)
+        .deleteAtTimestamp(anyString(), eq(TESTCASE_RESULT_EXTENSION), anyLong());
+    EntityRelationshipDAO relationshipDAO = mock(EntityRelationshipDAO.class);
+    when(relationshipDAO.findFrom(any(UUID.class), eq(Entity.TEST_CASE), anyInt(), eq(Entity.TEST_SUITE)))
+        .thenAnswer(invocation -> suitesOfTestCases.get(invocation.<UUID>getArgument(0)));
+
+    CollectionDAO collectionDAO = mock(CollectionDAO.class);
+    when(collectionDAO.testCaseDAO()).thenReturn(testCaseDAO);
+    when(collectionDAO.testSuiteDAO()).thenReturn(testSuiteDAO);
+    when(collectionDAO.testSuiteResultSummaryDAO()).thenReturn(summaryDAO);
+    when(collectionDAO.dataQualityDataTimeSeriesDao()).thenReturn(timeSeriesDAO);
+    when(collectionDAO.relationshipDAO()).thenReturn(relationshipDAO);
+    entity = mockStatic(Entity.class, CALLS_REAL_METHODS);
+    entity
+        .when(() -> Entity.registerEntity(any(), anyString(), any(EntityRepository.class)))
+        .thenAnswer(invocation -> null);
+    entity
+        .when(() -> Entity.getEntity(eq(Entity.TEST_SUITE), any(UUID.class), anyString(), any(Include.class)))
+        .thenAnswer(invocation -> testSuites.get(invocation.<UUID>getArgument(1)));
+    entity
+        .when(
+            () ->
+                Entity.getEntity(eq(Entity.TEST_SUITE), any(UUID.class), anyString(), any(Include.class), anyBoolean()))
+        .thenAnswer(invocation -> testSuites.get(invocation.<UUID>getArgument(1)));
+    entity
+        .when(() -> Entity.getEntityReferenceById(eq(Entity.TEST_SUITE), any(UUID.class), any(Include.class)))
+        .thenAnswer(invocation -> testSuites.get(invocation.<UUID>getArgument(1)).getEntityReference());
+    testCaseRepository = new TestCaseRepository(collectionDAO);
+    testSuiteRepository = new TestSuiteRepository(collectionDAO);
+  }
+
+  @AfterEach
+  void tearDown() {
+    entity.close();
+  }
+
+  @Test
+  void summariesFollowTheResultsAndTheTestCases() {
+    TestSuite executable = testSuite("table.testSuite", true);
+    TestSuite logical = testSuite("logical", false);
+    TestCase passing = testCase("table.passing", executable, logical);
+    TestCase failing = testCase("table.failing", executable);
+
+    addResult(passing, 1L, TestCaseStatus.Failed);
+    addResult(passing, 2L, TestCaseStatus.Success);
+    addResult(failing, 1L, TestCaseStatus.Failed);
+    // A result older than the latest one does not change the state of the test case
+    addResult(failing, 0L, TestCaseStatus.Success);
+    assertEquals(summary(1, 1, 0), testSuiteRepository.getTestSummary(executable.getId()));
+    assertEquals(summary(1, 0, 0), testSuiteRepository.getTestSummary(logical.getId()));
+
+    // Deleting the latest result makes the previous result the state of the test case in all its test suites
+    testCaseRepository.deleteTestCaseResult("admin", passing.getFullyQualifiedName(), 2L);
+    assertEquals(summary(0, 2, 0), testSuiteRepository.getTestSummary(executable.getId()));
+    assertEquals(summary(0, 1, 0), testSuiteRepository.getTestSummary(logical.getId()));
+
+    // Deleting the last result removes the test case from the summaries
+    testCaseRepository.deleteTestCaseResult("admin", passing.getFullyQualifiedName(), 1L);
+    assertEquals(summary(0, 1, 0), testSuiteRepository.getTestSummary(executable.getId()));
+    assertEquals(new TestSummary(), testSuiteRepository.getTestSummary(logical.getId()));
+
+    // Deleting a test case removes it from all its test suites, and restoring it adds its latest result back
+    addResult(passing, 3L, TestCaseStatus.Aborted);
+    testCaseRepository.preDelete(passing, "admin");
+    assertEquals(summary(0, 1, 0), testSuiteRepository.getTestSummary(executable.getId()));
+    assertEquals(new TestSummary(), testSuiteRepository.getTestSummary(logical.getId()));
+    testCaseRepository.restoreTestSuiteSummary(passing);
+    assertEquals(summary(0, 1, 1), testSuiteRepository.getTestSummary(executable.getId()));
+    assertEquals(summary(0, 0, 1), testSuiteRepository.getTestSummary(logical.getId()));
+  }
+
+  @Test
+  void migratedSummariesMatchTheSummariesStoredInTheTestSuites() {
+    // More test suites than a batch of the migration, with summaries in the test suite json as before 1.2.0
+    TestCaseStatus[] statuses = TestCaseStatus.values();
+    List<String> jsons = new ArrayList<>();
+    for (int i = 0; i < 150; i++) {
+      TestSuite testSuite = testSuite("suite" + i, i % 2 == 0);
+      List<ResultSummary> resultSummaries = new ArrayList<>();
+      for (int j = 0; j < i % 7; j++) {
+        resultSummaries.add(
+            new ResultSummary()
+                .withTestCaseName("table.test" + j)
+                .withStatus(statuses[(i + j) % statuses.length])
+                .withTimestamp((long) j));
+      }
+      jsons.add(JsonUtils.pojoToJson(testSuite.withTestCaseResultSummary(resultSummaries)));
+    }
+    when(testSuiteDAO.listAfterWithOffset(anyInt(), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              int limit = invocation.getArgument(0);
+              int offset = invocation.getArgument(1);
+              return jsons.subList(Math.min(offset, jsons.size()), Math.min(offset + limit, jsons.size()));
+            });
+    Map<UUID, String> updated = new HashMap<>();
+    doAnswer(invocation -> updated.put(invocation.getArgument(0), invocation.getArgument(2)))
+        .when(testSuiteDAO)
+        .update(any(UUID.class), anyString(), anyString());
+
+    MigrationUtil.migrateTestSuiteResultSummaries(mockCollectionDAO());
+
+    for (TestSuite testSuite : testSuites.values()) {
+      List<ResultSummary> stored = testSuite.getTestCaseResultSummary();
+      assertEquals(jsonSummary(stored), testSuiteRepository.getTestSummary(testSuite.getId()));
+      assertEquals(
+          stored.stream().map(JsonUtils::pojoToJson).sorted().collect(Collectors.toList()),
+          summaryDAO.listByTestSuite(testSuite.getId()).stream().sorted().collect(Collectors.toList()));
+      if (!stored.isEmpty()) {
+        String migrated = updated.get(testSuite.getId());
+        assertFalse(migrated.contains("testCaseResultSummary"));
+        assertNull(JsonUtils.readValue(migrated, TestSuite.class).getSummary());
+      }
+    }
+  }
+
+  private CollectionDAO mockCollectionDAO() {
+    CollectionDAO collectionDAO = mock(CollectionDAO.class);
+    when(collectionDAO.testSuiteDAO()).thenReturn(testSuiteDAO);
+    when(collectionDAO.testSuiteResultSummaryDAO()).thenReturn(summaryDAO);
+    return collectionDAO;
+  }
+
+  /** The summary computed from the result summaries in the test suite json before 1.2.0 */
+  private static TestSummary jsonSummary(List<ResultSummary> resultSummaries) {
+    if (resultSummaries.isEmpty()) {
+      return new TestSummary();
+    }
+    Map<TestCaseStatus, Integer> counts = new HashMap<>();
+    resultSummaries.forEach(resultSummary -> counts.merge(resultSummary.getStatus(), 1, Integer::sum));
+    return new TestSummary()
+        .withSuccess(counts.getOrDefault(TestCaseStatus.Success, 0))
+        .withFailed(counts.getOrDefault(TestCaseStatus.Failed, 0))
+        .withAborted(counts.getOrDefault(TestCaseStatus.Aborted, 0))
+        .withTotal(resultSummaries.size());
+  }
+
+  private static TestSummary summary(int success, int failed, int aborted) {
+    return new TestSummary()
+        .withSuccess(success)
+        .withFailed(failed)
+        .withAborted(aborted)
+        .withTotal(success + failed + aborted);
+  }
+
+  private TestSuite testSuite(String name, boolean executable) {
+    TestSuite testSuite =
+        new TestSuite()
+            .withId(UUID.randomUUID())
+            .withName(name)
+            .withFullyQualifiedName(name)
+            .withExecutable(executable);
+    testSuites.put(testSuite.getId(), testSuite);
+    return testSuite;
+  }
+
+  private TestCase testCase(String fqn, TestSuite... suites) {
+    TestCase testCase =
+        new TestCase().withId(UUID.randomUUID()).withName(fqn).withFullyQualifiedName(fqn).withVersion(0.1);
+    when(testCaseDAO.findEntityByName(fqn)).thenAnswer(invocation -> copy(testCase));
+    List<EntityRelationshipRecord> records = new ArrayList<>();
+    for (TestSuite suite : suites) {
+      records.add(EntityRelationshipRecord.builder().id(suite.getId()).type(Entity.TEST_SUITE).build());
+    }
+    suitesOfTestCases.put(testCase.getId(), records);
+    return testCase;
+  }
+
+  private void addResult(TestCase testCase, long timestamp, TestCaseStatus status) {
+    TestCaseResult result = new TestCaseResult().withTimestamp(timestamp).withTestCaseStatus(status);
+    results.computeIfAbsent(testCase.getFullyQualifiedName(), fqn -> new TreeMap<>()).put(timestamp, result);
+    testCaseRepository.addTestCaseResult("admin", null, testCase.getFullyQualifiedName(), result);
+  }
+
+  private static TestCase copy(TestCase testCase) {
+    return JsonUtils.readValue(JsonUtils.pojoToJson(testCase), TestCase.class);
+  }
+
+  /** The test_suite_result_summary table, with the semantics of the statements of {@link TestSuiteResultSummaryDAO} */
+  private static class InMemoryResultSummaryDAO implements TestSuiteResultSummaryDAO {
+    private final Map<Pair<UUID, String>, ResultSummary> summaries = new LinkedHashMap<>();
+
+    @Override
+    public void upsert(UUID testSuiteId, String testCaseFQN, long timestamp, String status, String json) {
+      ResultSummary stored = summaries.get(Pair.of(testSuiteId, testCaseFQN));
+      if (stored == null || stored.getTimestamp() <= timestamp) {
+        summaries.put(Pair.of(testSuiteId, testCaseFQN), JsonUtils.readValue(json, ResultSummary.class));
+      }
+    }
+
+    @Override
+    public void replaceDeleted(String testCaseFQN, long deletedTimestamp, long timestamp, String status, String json) {
+      summaries.replaceAll(
+          (key, stored) ->
+              key.getRight().equals(testCaseFQN) && stored.getTimestamp() <= deletedTimestamp
+                  ? JsonUtils.readValue(json, ResultSummary.class)
+                  : stored);
+    }
+
+    @Override
+    public void deleteDeleted(String testCaseFQN, long deletedTimestamp) {
+      summaries
+          .entrySet()
+          .removeIf(e -> e.getKey().getRight().equals(testCaseFQN) && e.getValue().getTimestamp() <= deletedTimestamp);
+    }
+
+    @Override
+    public void delete(UUID testSuiteId, String testCaseFQN) {
+      summaries.remove(Pair.of(testSuiteId, testCaseFQN));
+    }
+
+    @Override
+    public void deleteByTestCase(String testCaseFQN) {
+      summaries.keySet().removeIf(key -> key.getRight().equals(testCaseFQN));
+    }
+
+    @Override
+    public void deleteByTestSuite(UUID testSuiteId) {
+      summaries.keySet().removeIf(key -> key.getLeft().equals(testSuiteId));
+    }
+
+    @Override
+    public List<String> listByTestSuite(UUID testSuiteId) {
+      return summaries.entrySet().stream()
+          .filter(e -> e.getKey().getLeft().equals(testSuiteId))
+          .map(e -> JsonUtils.pojoToJson(e.getValue()))
+          .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Pair<String, Integer>> countByStatus(List<String> testSuiteIds) {
+      Map<String, Integer> counts = new HashMap<>();
+      summaries.entrySet().stream()
+          .filter(e -> testSuiteIds.contains(e.getKey().getLeft().toString()))
+          .forEach(e -> counts.merge(e.getValue().getStatus().value(), 1, Integer::sum));
+      return counts.entrySet().stream().map(e -> Pair.of(e.getKey(), e.getValue())).collect(Collectors.toList());
+    }
+  }
+}
@@ -2435,7 +2435,16 @@ public abstract class EntityResourceTest<T extends EntityInterface, K extends Cr
     target = entityUpdated == null ? target : target.queryParam("entityRestored", entityRestored);
     target = entityDeleted == null ? target : target.queryParam("entityDeleted", entityDeleted);
     target = target.queryParam("timestamp", timestamp);
-    return TestUtils.get(target, EventList.class, authHeaders);
+    // Read all the pages of events
+    List<ChangeEvent> events = new ArrayList<>();
+    String after = null;
+    do {
+      WebTarget pageTarget = after == null ? target : target.queryParam("after", after);
+      EventList page = TestUtils.get(pageTarget, EventList.class, authHeaders);
+      events.addAll(page.getData());
+      after = page.getPaging().getAfter();
+    } while (after != null);
+    return new EventList(events, null, null, events.size());
   }
 
   protected T getVersion(UUID id, Double version, Map<String, String> authHeaders) throws HttpResponseException {
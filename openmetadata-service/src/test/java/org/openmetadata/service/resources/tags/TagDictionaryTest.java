@@ -0,0 +1,176 @@
+package org.openmetadata.service.resources.tags;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.openmetadata.schema.entity.classification.Tag;
+import org.openmetadata.schema.entity.data.GlossaryTerm;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.schema.type.TagLabel;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.GlossaryTermDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.TagDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.TagUsageDAO;
+import org.openmetadata.service.util.FullyQualifiedName;
+import org.openmetadata.service.util.JsonUtils;
+
+class TagDictionaryTest {
+  private final TagUsageDAO tagUsageDAO = mock(TagUsageDAO.class);
+  private final List<Pair<String, TagLabel>> termTags = new ArrayList<>();
+  private MockedStatic<Entity> entity;
+
+  @BeforeEach
+  void setUp() {
+    // Vocabulary: tags pii.sensitive and tier.tier1, glossary terms glossary.term1 and glossary.term2
+    TagDAO tagDAO = mock(TagDAO.class);
+    doReturn(Tag.class).when(tagDAO).getEntityClass();
+    when(tagDAO.listAfterWithOffset(Integer.MAX_VALUE, 0))
+        .thenReturn(List.of(JsonUtils.pojoToJson(tag("pii.sensitive")), JsonUtils.pojoToJson(tag("tier.tier1"))));
+    GlossaryTermDAO glossaryTermDAO = mock(GlossaryTermDAO.class);
+    doReturn(GlossaryTerm.class).when(glossaryTermDAO).getEntityClass();
+    when(glossaryTermDAO.listAfterWithOffset(Integer.MAX_VALUE, 0))
+        .thenReturn(
+            List.of(JsonUtils.pojoToJson(term("glossary.term1")), JsonUtils.pojoToJson(term("glossary.term2"))));
+    // glossary.term1 is related to pii.sensitive and glossary.term2 to tier.tier1
+    termTags.add(termTag("glossary.term1", "pii.sensitive"));
+    termTags.add(termTag("glossary.term2", "tier.tier1"));
+    when(tagUsageDAO.getTagsInternalBatch(anyList())).thenAnswer(invocation -> termTags);
+    when(tagUsageDAO.getTagsInternal("glossary.term1")).thenReturn(List.of());
+
+    CollectionDAO collectionDAO = mock(CollectionDAO.class);
+    when(collectionDAO.classificationDAO()).thenReturn(mock(CollectionDAO.ClassificationDAO.class));
+    when(collectionDAO.tagDAO()).thenReturn(tagDAO);
+    when(collectionDAO.glossaryDAO()).thenReturn(mock(CollectionDAO.GlossaryDAO.class));
+    when(collectionDAO.glossaryTermDAO()).thenReturn(glossaryTermDAO);
+    when(collectionDAO.tagUsageDAO()).thenReturn(tagUsageDAO);
+    entity = mockStatic(Entity.class);
+    entity.when(Entity::getCollectionDAO).thenReturn(collectionDAO);
+    TagDictionary.invalidateAll();
+  }
+
+  @AfterEach
+  void tearDown() {
+    TagDictionary.invalidateAll();
+    entity.close();
+  }
+
+  @Test
+  void glossaryTermTagsAreReadFromTheDictionary() {
+    assertEquals("pii.sensitive", TagDictionary.getGlossaryTermTags("glossary.term1").get(0).getTagFQN());
+    assertEquals("tier.tier1", TagDictionary.getGlossaryTermTags("glossary.term2").get(0).getTagFQN());
+    assertEquals("pii.sensitive", TagDictionary.getTag("pii.sensitive").getFullyQualifiedName());
+    verify(tagUsageDAO, never()).getTagsInternal("glossary.term1");
+    verify(tagUsageDAO, never()).getTagsInternal("glossary.term2");
+  }
+
+  @Test
+  void invalidatingATagDropsTheGlossaryTermTagsReferringToIt() {
+    TagDictionary.getGlossaryTermTags("glossary.term1");
+
+    // The deleted tag is not applied anymore along with glossary.term1
+    TagDictionary.invalidate(Entity.TAG, "pii.sensitive");
+    assertTrue(TagDictionary.getGlossaryTermTags("glossary.term1").isEmpty());
+    verify(tagUsageDAO).getTagsInternal("glossary.term1");
+
+    // The tags of glossary.term2 do not refer to the tag and stay in the dictionary
+    TagDictionary.getGlossaryTermTags("glossary.term2");
+    verify(tagUsageDAO, never()).getTagsInternal("glossary.term2");
+  }
+
+  @Test
+  void invalidatingAClassificationDropsTheGlossaryTermTagsReferringToItsTags() {
+    TagDictionary.getTag("tier.tier1");
+    TagDictionary.invalidate(Entity.CLASSIFICATION, "tier");
+    TagDictionary.getGlossaryTermTags("glossary.term1");
+    TagDictionary.getGlossaryTermTags("glossary.term2");
+    verify(tagUsageDAO, never()).getTagsInternal("glossary.term1");
+    verify(tagUsageDAO).getTagsInternal("glossary.term2");
+  }
+
+  @Test
+  void entryChangedWhileReadIsNotCached() {
+    // glossary.term3 is added to the dictionary on demand, and changed while its tags are read
+    when(tagUsageDAO.getTagsInternal("glossary.term3"))
+        .thenAnswer(
+            invocation -> {
+              TagDictionary.invalidate(Entity.GLOSSARY_TERM, "glossary.term3");
+              return List.of(termTag("glossary.term3", "pii.sensitive").getRight());
+            });
+    TagDictionary.getGlossaryTermTags("glossary.term3");
+    TagDictionary.getGlossaryTermTags("glossary.term3");
+    verify(tagUsageDAO, times(2)).getTagsInternal("glossary.term3");
+  }
+
+  @Test
+  void entryChangedWhileTheDictionaryIsLoadedIsNotCached() {
+    // pii.sensitive is updated while the dictionary is loaded
+    when(tagUsageDAO.getTagsInternalBatch(anyList()))
+        .thenAnswer(
+            invocation -> {
+              TagDictionary.invalidate(Entity.TAG, "pii.sensitive");
+              return termTags;
+            });
+    Tag updated = tag("pii.sensitive").withDescription("updated");
+    entity.when(() -> Entity.getEntityByName(Entity.TAG, "pii.sensitive", "", Include.NON_DELETED)).thenReturn(updated);
+
+    assertSame(updated, TagDictionary.getTag("pii.sensitive"));
+    assertTrue(TagDictionary.getGlossaryTermTags("glossary.term1").isEmpty());
+    assertEquals("tier.tier1", TagDictionary.getTag("tier.tier1").getFullyQualifiedName());
+  }
+
+  @Test
+  void dictionaryDroppedWhileLoadedIsNotKept() {
+    when(tagUsageDAO.getTagsInternalBatch(anyList()))
+        .thenAnswer(
+            invocation -> {
+              TagDictionary.invalidateAll();
+              return termTags;
+            })
+        .thenAnswer(invocation -> termTags);
+
+    // The first dictionary is used for the read that loaded it, and loaded again on the next read
+    TagDictionary.getTag("pii.sensitive");
+    TagDictionary.getTag("pii.sensitive");
+    TagDictionary.getTag("pii.sensitive");
+    verify(tagUsageDAO, times(2)).getTagsInternalBatch(anyList());
+  }
+
+  private static Tag tag(String fqn) {
+    return new Tag().withId(UUID.randomUUID()).withName(FullyQualifiedName.split(fqn)[1]).withFullyQualifiedName(fqn);
+  }
+
+  private static GlossaryTerm term(String fqn) {
+    return new GlossaryTerm()
+        .withId(UUID.randomUUID())
+        .withName(FullyQualifiedName.split(fqn)[1])
+        .withFullyQualifiedName(fqn);
+  }
+
+  private static Pair<String, TagLabel> termTag(String term, String tagFqn) {
+    return Pair.of(
+        FullyQualifiedName.buildHash(term),
+        new TagLabel()
+            .withTagFQN(tagFqn)
+            .withSource(TagLabel.TagSource.CLASSIFICATION)
+            .withLabelType(TagLabel.LabelType.MANUAL)
+            .withState(TagLabel.State.CONFIRMED));
+  }
+}
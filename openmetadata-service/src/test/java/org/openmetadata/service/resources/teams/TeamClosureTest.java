@@ -0,0 +1,61 @@
+package org.openmetadata.service.resources.teams;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TeamClosureTest {
+  private final Map<UUID, String> names = new HashMap<>();
+  private final Map<UUID, List<UUID>> parents = new HashMap<>();
+
+  @Test
+  void closureContainsTheTeamAndAllItsAncestors() {
+    // Create team hierarchy:
+    //                 org
+    //              /       \
+    //          team1       team2
+    //          /   \       /
+    //     team11   team12 /
+    //                   \/
+    //                 team121
+    UUID org = team("org");
+    UUID team1 = team("team1", org);
+    UUID team2 = team("team2", org);
+    UUID team11 = team("team11", team1);
+    UUID team12 = team("team12", team1);
+    UUID team121 = team("team121", team12, team2);
+
+    Map<UUID, Set<String>> closure = TeamClosure.build(names, parents);
+    assertEquals(Set.of("org"), closure.get(org));
+    assertEquals(Set.of("team1", "org"), closure.get(team1));
+    assertEquals(Set.of("team11", "team1", "org"), closure.get(team11));
+    assertEquals(Set.of("team121", "team12", "team2", "team1", "org"), closure.get(team121));
+    assertEquals(6, closure.size());
+  }
+
+  @Test
+  void closureSkipsDeletedTeams() {
+    UUID org = team("org");
+    UUID deleted = UUID.randomUUID(); // Deleted teams are not loaded, but their relationships remain
+    UUID team1 = team("team1", deleted);
+    UUID team2 = team("team2", deleted, org);
+
+    Map<UUID, Set<String>> closure = TeamClosure.build(names, parents);
+    assertEquals(Set.of("team1"), closure.get(team1));
+    assertEquals(Set.of("team2", "org"), closure.get(team2));
+    assertNull(closure.get(deleted));
+  }
+
+  private UUID team(String name, UUID... parentIds) {
+    UUID id = UUID.randomUUID();
+    names.put(id, name);
+    parents.put(id, List.of(parentIds));
+    return id;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.service.configuration.elasticsearch.WriteBehindConfiguration;
+import org.openmetadata.service.jdbi3.CollectionDAO.SearchIndexPendingWriteDAO;
+import org.openmetadata.service.search.SearchWriteBehindQueue.WriteType;
+
+class SearchWriteBehindQueueTest {
+  private final List<List<String>> bulkRequests = new ArrayList<>();
+  private SearchIndexPendingWriteDAO dao;
+  private Set<String> failedIds;
+  private boolean failBulk;
+  private SearchWriteBehindQueue<String> queue;
+
+  @BeforeEach
+  void setUp() {
+    bulkRequests.clear();
+    failedIds = Set.of();
+    failBulk = false;
+    dao = mock(SearchIndexPendingWriteDAO.class);
+    // Flush interval long enough for the tests to flush explicitly
+    WriteBehindConfiguration config =
+        new WriteBehindConfiguration().withEnabled(true).withBatchSize(100).withFlushIntervalMillis(3_600_000);
+    queue =
+        new SearchWriteBehindQueue<>(
+            config,
+            requests -> {
+              if (failBulk) {
+                throw new RuntimeException("search cluster unavailable");
+              }
+              bulkRequests.add(requests);
+              return failedIds;
+            },
+            dao);
+  }
+
+  @Test
+  void documentWritesReplaceEarlierWrites() {
+    UUID id = UUID.randomUUID();
+    queue.add("table", id, WriteType.DOCUMENT, "doc1");
+    queue.add("table", id, WriteType.PARTIAL_UPDATE, "owner");
+    queue.add("table", id, WriteType.DOCUMENT, "doc2");
+    queue.add("table", id, WriteType.PARTIAL_UPDATE, "domain");
+    assertEquals(2, queue.getQueuedWrites());
+
+    queue.flush();
+    assertEquals(List.of(List.of("doc2", "domain")), bulkRequests);
+    assertEquals(0, queue.getQueuedWrites());
+    verify(dao).delete(eq(id), anyLong());
+  }
+
+  @Test
+  void deleteReplacesEarlierWrites() {
+    UUID id1 = UUID.randomUUID();
+    UUID id2 = UUID.randomUUID();
+    queue.add("table", id1, WriteType.DOCUMENT, "doc1");
+    queue.add("topic", id2, WriteType.DOCUMENT, "doc2");
+    queue.add("table", id1, WriteType.DELETE, "delete1");
+
+    queue.flush();
+    assertEquals(List.of(List.of("delete1", "doc2")), bulkRequests);
+  }
+
+  @Test
+  void failedDocumentsKeepPendingWrite() {
+    UUID id1 = UUID.randomUUID();
+    UUID id2 = UUID.randomUUID();
+    failedIds = Set.of(id1.toString());
+    queue.add("table", id1, WriteType.DOCUMENT, "doc1");
+    queue.add("table", id2, WriteType.DOCUMENT, "doc2");
+
+    queue.flush();
+    verify(dao, never()).delete(eq(id1), anyLong());
+    verify(dao).delete(eq(id2), anyLong());
+  }
+
+  @Test
+  void failedBulkRequestIsRequeued() {
+    UUID id = UUID.randomUUID();
+    queue.add("table", id, WriteType.DOCUMENT, "doc1");
+    failBulk = true;
+    queue.flush();
+    assertEquals(1, queue.getQueuedWrites());
+    verify(dao, never()).delete(any(), anyLong());
+
+    // A newer partial update is applied after the requeued document
+    queue.add("table", id, WriteType.PARTIAL_UPDATE, "owner");
+    failBulk = false;
+    queue.flush();
+    assertEquals(List.of(List.of("doc1", "owner")), bulkRequests);
+    verify(dao).delete(eq(id), anyLong());
+  }
+
+  @Test
+  void newerDocumentWinsOverRequeuedWrites() {
+    UUID id = UUID.randomUUID();
+    queue.add("table", id, WriteType.DOCUMENT, "doc1");
+    failBulk = true;
+    queue.flush();
+
+    queue.add("table", id, WriteType.DOCUMENT, "doc2");
+    failBulk = false;
+    queue.flush();
+    assertEquals(List.of(List.of("doc2")), bulkRequests);
+  }
+}
@@ -14,13 +14,17 @@ import static org.openmetadata.service.security.policyevaluator.SubjectContext.T
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
+import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.entity.data.Table;
 import org.openmetadata.schema.entity.teams.Role;
 import org.openmetadata.schema.entity.teams.Team;
@@ -29,7 +33,6 @@ import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.Include;
 import org.openmetadata.schema.type.TagLabel;
 import org.openmetadata.service.Entity;
-import org.openmetadata.service.jdbi3.EntityRepository;
 import org.openmetadata.service.jdbi3.TableRepository;
 import org.openmetadata.service.jdbi3.TeamRepository;
 import org.openmetadata.service.security.policyevaluator.SubjectContext.PolicyContext;
@@ -37,6 +40,7 @@ import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 class RuleEvaluatorTest {
+  private static final Map<Pair<String, Object>, EntityInterface> ENTITIES = new HashMap<>();
   private static final Table table = new Table().withName("table");
   private static User user;
   private static EvaluationContext evaluationContext;
@@ -48,22 +52,18 @@ class RuleEvaluatorTest {
     TeamRepository teamRepository = mock(TeamRepository.class);
     Entity.registerEntity(Team.class, Entity.TEAM, teamRepository);
     Mockito.when(teamRepository.find(any(UUID.class), any(Include.class)))
-        .thenAnswer(i -> EntityRepository.CACHE_WITH_ID.get(new ImmutablePair<>(Entity.TEAM, i.getArgument(0))));
+        .thenAnswer(i -> ENTITIES.get(new ImmutablePair<>(Entity.TEAM, i.getArgument(0))));
     Mockito.when(teamRepository.getReference(any(UUID.class), any(Include.class)))
-        .thenAnswer(
-            i ->
-                EntityRepository.CACHE_WITH_ID
-                    .get(new ImmutablePair<>(Entity.TEAM, i.getArgument(0)))
-                    .getEntityReference());
+        .thenAnswer(i -> ENTITIES.get(new ImmutablePair<>(Entity.TEAM, i.getArgument(0))).getEntityReference());
 
     Mockito.when(teamRepository.findByName(anyString(), any(Include.class)))
-        .thenAnswer(i -> EntityRepository.CACHE_WITH_NAME.get(new ImmutablePair<>(Entity.TEAM, i.getArgument(0))));
+        .thenAnswer(i -> ENTITIES.get(new ImmutablePair<>(Entity.TEAM, i.getArgument(0))));
 
     Mockito.when(teamRepository.get(isNull(), any(UUID.class), isNull(), any(Include.class), anyBoolean()))
-        .thenAnswer(i -> EntityRepository.CACHE_WITH_ID.get(new ImmutablePair<>(Entity.TEAM, i.getArgument(1))));
+        .thenAnswer(i -> ENTITIES.get(new ImmutablePair<>(Entity.TEAM, i.getArgument(1))));
 
     Mockito.when(teamRepository.getByName(isNull(), anyString(), isNull(), any(Include.class), anyBoolean()))
-        .thenAnswer(i -> EntityRepository.CACHE_WITH_ID.get(new ImmutablePair<>(Entity.TEAM, i.getArgument(1))));
+        .thenAnswer(i -> ENTITIES.get(new ImmutablePair<>(Entity.TEAM, i.getArgument(1))));
 
     TableRepository tableRepository = mock(TableRepository.class);
     Entity.registerEntity(Table.class, Entity.TABLE, tableRepository);
@@ -268,7 +268,7 @@ class RuleEvaluatorTest {
       EntityReference parentTeam = Entity.getEntityReferenceById(Entity.TEAM, parentId, Include.NON_DELETED);
       team.setParents(listOf(parentTeam));
     }
-    EntityRepository.CACHE_WITH_ID.put(new ImmutablePair<>(Entity.TEAM, team.getId()), team);
+    ENTITIES.put(new ImmutablePair<>(Entity.TEAM, team.getId()), team);
     return team;
   }
 
@@ -288,7 +288,7 @@ class RuleEvaluatorTest {
   private Role createRole(String roleName) {
     UUID roleId = UUID.nameUUIDFromBytes(roleName.getBytes(StandardCharsets.UTF_8));
     Role role = new Role().withName(roleName).withId(roleId);
-    EntityRepository.CACHE_WITH_ID.put(new ImmutablePair<>(Entity.ROLE, role.getId()), role);
+    ENTITIES.put(new ImmutablePair<>(Entity.ROLE, role.getId()), role);
     return role;
   }
 
@@ -0,0 +1,57 @@
+package org.openmetadata.service.security.policyevaluator;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.EventType;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.resources.events.EventResource.EventList;
+
+class SubjectCacheInvalidatorTest {
+  private final SubjectCacheInvalidator invalidator = new SubjectCacheInvalidator();
+
+  @Test
+  void userChangesDropTheContextOfTheUser() {
+    try (MockedStatic<SubjectCache> cache = mockStatic(SubjectCache.class)) {
+      publish(event(Entity.USER, "\"john.doe\""), event(Entity.USER, null));
+      cache.verify(() -> SubjectCache.invalidateUser("john.doe"));
+      // Events stored without the name of the user drop all the contexts
+      cache.verify(SubjectCache::invalidateAll);
+    }
+  }
+
+  @Test
+  void teamRoleAndPolicyChangesDropAllTheContexts() {
+    try (MockedStatic<SubjectCache> cache = mockStatic(SubjectCache.class)) {
+      publish(event(Entity.TEAM, "team"), event(Entity.ROLE, "role"), event(Entity.POLICY, "policy"));
+      cache.verify(SubjectCache::invalidateAll, times(3));
+    }
+  }
+
+  @Test
+  void otherChangesKeepTheContexts() {
+    try (MockedStatic<SubjectCache> cache = mockStatic(SubjectCache.class)) {
+      publish(event(Entity.TABLE, "service.db.schema.table"));
+      cache.verify(SubjectCache::invalidateAll, never());
+      cache.verifyNoMoreInteractions();
+    }
+  }
+
+  private void publish(ChangeEvent... events) {
+    invalidator.publish(new EventList(List.of(events), null, null, events.length));
+  }
+
+  private static ChangeEvent event(String entityType, String fqn) {
+    return new ChangeEvent()
+        .withEventType(EventType.ENTITY_UPDATED)
+        .withEntityType(entityType)
+        .withEntityId(UUID.randomUUID())
+        .withEntityFullyQualifiedName(fqn);
+  }
+}
@@ -14,6 +14,8 @@ package org.openmetadata.service.security.policyevaluator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -23,10 +25,13 @@ import static org.mockito.Mockito.mock;
 import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -39,7 +44,6 @@ import org.openmetadata.schema.entity.teams.User;
 import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.Include;
 import org.openmetadata.service.Entity;
-import org.openmetadata.service.jdbi3.EntityRepository;
 import org.openmetadata.service.jdbi3.PolicyRepository;
 import org.openmetadata.service.jdbi3.RoleRepository;
 import org.openmetadata.service.jdbi3.TeamRepository;
@@ -47,6 +51,7 @@ import org.openmetadata.service.jdbi3.UserRepository;
 import org.openmetadata.service.security.policyevaluator.SubjectContext.PolicyContext;
 
 public class SubjectContextTest {
+  private static final Map<Pair<String, Object>, EntityInterface> ENTITIES = new HashMap<>();
   private static List<Role> team1Roles;
   private static List<Policy> team1Policies;
 
@@ -73,25 +78,26 @@ public class SubjectContextTest {
 
   @BeforeAll
   public static void setup() {
+    SubjectCache.invalidateAll();
     UserRepository userRepository = mock(UserRepository.class);
     Entity.registerEntity(User.class, Entity.USER, userRepository);
     Mockito.when(userRepository.getByName(isNull(), anyString(), isNull(), any(Include.class), anyBoolean()))
-        .thenAnswer(i -> EntityRepository.CACHE_WITH_NAME.get(new ImmutablePair<>(Entity.USER, i.getArgument(1))));
+        .thenAnswer(i -> ENTITIES.get(new ImmutablePair<>(Entity.USER, i.getArgument(1))));
 
     TeamRepository teamRepository = mock(TeamRepository.class);
     Entity.registerEntity(Team.class, Entity.TEAM, teamRepository);
     Mockito.when(teamRepository.get(isNull(), any(UUID.class), isNull(), any(Include.class), anyBoolean()))
-        .thenAnswer(i -> EntityRepository.CACHE_WITH_ID.get(new ImmutablePair<>(Entity.TEAM, i.getArgument(1))));
+        .thenAnswer(i -> ENTITIES.get(new ImmutablePair<>(Entity.TEAM, i.getArgument(1))));
 
     RoleRepository roleRepository = mock(RoleRepository.class);
     Entity.registerEntity(Role.class, Entity.ROLE, roleRepository);
     Mockito.when(roleRepository.get(isNull(), any(UUID.class), isNull(), any(Include.class), anyBoolean()))
-        .thenAnswer(i -> EntityRepository.CACHE_WITH_ID.get(new ImmutablePair<>(Entity.ROLE, i.getArgument(1))));
+        .thenAnswer(i -> ENTITIES.get(new ImmutablePair<>(Entity.ROLE, i.getArgument(1))));
 
     PolicyRepository policyRepository = mock(PolicyRepository.class);
     Entity.registerEntity(Policy.class, Entity.POLICY, policyRepository);
     Mockito.when(policyRepository.get(isNull(), any(UUID.class), isNull(), any(Include.class), anyBoolean()))
-        .thenAnswer(i -> EntityRepository.CACHE_WITH_ID.get(new ImmutablePair<>(Entity.POLICY, i.getArgument(1))));
+        .thenAnswer(i -> ENTITIES.get(new ImmutablePair<>(Entity.POLICY, i.getArgument(1))));
 
     // Create team hierarchy:
     //                           team1
@@ -130,7 +136,7 @@ public class SubjectContextTest {
     userRoles = getRoles("user");
     List<EntityReference> userRolesRef = toEntityReferences(userRoles);
     user = new User().withName("user").withRoles(userRolesRef).withTeams(List.of(team111.getEntityReference()));
-    EntityRepository.CACHE_WITH_NAME.put(new ImmutablePair<>(Entity.USER, "user"), user);
+    ENTITIES.put(new ImmutablePair<>(Entity.USER, "user"), user);
   }
 
   @Test
@@ -205,6 +211,24 @@ public class SubjectContextTest {
     assertFalse(subjectContext.isTeamAsset("team13", teamOwner));
   }
 
+  @Test
+  void testSubjectContextCache() {
+    SubjectContext subjectContext = SubjectContext.getSubjectContext(user.getName());
+    assertSame(subjectContext, SubjectContext.getSubjectContext(user.getName()));
+    assertTrue(subjectContext.hasAnyRole("user_role_1"));
+    assertTrue(subjectContext.hasAnyRole("team1_role_2")); // Default role inherited from team1
+    assertFalse(subjectContext.hasAnyRole("team13_role_1"));
+
+    // Changes to the user drop the cached context of the user
+    SubjectCache.invalidateUser(user.getName());
+    SubjectContext reloaded = SubjectContext.getSubjectContext(user.getName());
+    assertNotSame(subjectContext, reloaded);
+
+    // Changes to the teams, roles and policies drop all the cached contexts
+    SubjectCache.invalidateAll();
+    assertNotSame(reloaded, SubjectContext.getSubjectContext(user.getName()));
+  }
+
   private static List<Role> getRoles(String prefix) {
     // Create roles with 3 policies each and each policy with 3 rules
     List<Role> roles = new ArrayList<>(3);
@@ -212,7 +236,7 @@ public class SubjectContextTest {
       String name = prefix + "_role_" + i;
       List<EntityReference> policies = toEntityReferences(getPolicies(name));
       Role role = new Role().withName(name).withId(UUID.randomUUID()).withPolicies(policies);
-      EntityRepository.CACHE_WITH_ID.put(new ImmutablePair<>(Entity.ROLE, role.getId()), role);
+      ENTITIES.put(new ImmutablePair<>(Entity.ROLE, role.getId()), role);
       roles.add(role);
     }
     return roles;
@@ -224,7 +248,7 @@ public class SubjectContextTest {
       String name = prefix + "_policy_" + i;
       Policy policy = new Policy().withName(name).withId(UUID.randomUUID()).withRules(getRules(name));
       policies.add(policy);
-      EntityRepository.CACHE_WITH_ID.put(new ImmutablePair<>(Entity.POLICY, policy.getId()), policy);
+      ENTITIES.put(new ImmutablePair<>(Entity.POLICY, policy.getId()), policy);
     }
     return policies;
   }
@@ -279,7 +303,7 @@ public class SubjectContextTest {
             .withDefaultRoles(toEntityReferences(roles))
             .withPolicies(toEntityReferences(policies))
             .withParents(parentList);
-    EntityRepository.CACHE_WITH_ID.put(new ImmutablePair<>(Entity.TEAM, team.getId()), team);
+    ENTITIES.put(new ImmutablePair<>(Entity.TEAM, team.getId()), team);
     return team;
   }
 
@@ -0,0 +1,55 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.openmetadata.schema.FqnBaseListener;
+import org.openmetadata.schema.FqnLexer;
+import org.openmetadata.schema.FqnParser;
+import org.openmetadata.schema.FqnParser.QuotedNameContext;
+import org.openmetadata.schema.FqnParser.UnquotedNameContext;
+
+/** FQN split using the ANTLR parser of Fqn.g4, the reference for {@link FullyQualifiedName#split} */
+public final class FqnGrammar {
+  private FqnGrammar() {}
+
+  public static String[] split(String fqn) {
+    FqnLexer fqnLexer = new FqnLexer(CharStreams.fromString(fqn));
+    fqnLexer.removeErrorListeners();
+    FqnParser fqnParser = new FqnParser(new CommonTokenStream(fqnLexer));
+    fqnParser.setErrorHandler(new BailErrorStrategy());
+    fqnParser.removeErrorListeners();
+    List<String> parts = new ArrayList<>();
+    new ParseTreeWalker()
+        .walk(
+            new FqnBaseListener() {
+              @Override
+              public void enterQuotedName(QuotedNameContext ctx) {
+                parts.add(ctx.getText());
+              }
+
+              @Override
+              public void enterUnquotedName(UnquotedNameContext ctx) {
+                parts.add(ctx.getText());
+              }
+            },
+            fqnParser.fqn());
+    return parts.toArray(new String[0]);
+  }
+}
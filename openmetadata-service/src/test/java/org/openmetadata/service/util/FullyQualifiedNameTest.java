@@ -1,5 +1,6 @@
 package org.openmetadata.service.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -83,6 +84,56 @@ class FullyQualifiedNameTest {
     assertThrows(ParseCancellationException.class, () -> FullyQualifiedName.split("a\""));
   }
 
+  @Test
+  void test_splitMatchesGrammar() {
+    // Compare the split with the ANTLR parser of Fqn.g4 for all the strings of up to 6 characters from the alphabet
+    char[] alphabet = {'a', 'b', '.', '"'};
+    for (int length = 0; length <= 6; length++) {
+      int combinations = (int) Math.pow(alphabet.length, length);
+      for (int n = 0; n < combinations; n++) {
+        StringBuilder fqn = new StringBuilder();
+        for (int i = 0, c = n; i < length; i++, c /= alphabet.length) {
+          fqn.append(alphabet[c % alphabet.length]);
+        }
+        assertSplit(fqn.toString());
+      }
+    }
+    assertSplit("service.\"db.with.dots\".schema.\"table name\".\"column.1\"");
+    assertSplit("a b.c\td.\"e f.g\"");
+  }
+
+  private static void assertSplit(String fqn) {
+    String[] expected;
+    try {
+      expected = FqnGrammar.split(fqn);
+    } catch (ParseCancellationException e) {
+      assertThrows(ParseCancellationException.class, () -> FullyQualifiedName.split(fqn), fqn);
+      return;
+    }
+    assertArrayEquals(expected, FullyQualifiedName.split(fqn), fqn);
+  }
+
+  @Test
+  void test_buildHash() {
+    assertEquals(
+        EntityUtil.hash("a") + "." + EntityUtil.hash("\"b.c\"") + "." + EntityUtil.hash("d"),
+        FullyQualifiedName.buildHash("a.\"b.c\".d"));
+    // Served from the cache
+    assertEquals(FullyQualifiedName.buildHash("a.\"b.c\".d"), FullyQualifiedName.buildHash("a.\"b.c\".d"));
+    assertThrows(ParseCancellationException.class, () -> FullyQualifiedName.buildHash("a.\"b\""));
+  }
+
+  @Test
+  void test_buildHashOfChildStartsWithParentHash() {
+    // Tags of the columns of a table are looked up by the hash prefix of the table
+    String table = "service.db.schema.\"orders.v1\"";
+    String nestedColumn = FullyQualifiedName.add(FullyQualifiedName.add(table, "address"), "zip.code");
+    assertTrue(FullyQualifiedName.buildHash(nestedColumn).startsWith(FullyQualifiedName.buildHash(table) + "."));
+    assertFalse(
+        FullyQualifiedName.buildHash(FullyQualifiedName.add("service.db.schema", "orders"))
+            .startsWith(FullyQualifiedName.buildHash(table) + "."));
+  }
+
   @Test
   void test_getParentFQN() {
     assertEquals("a.b.c", FullyQualifiedName.getParentFQN("a.b.c.d"));
@@ -14,6 +14,8 @@
 package org.openmetadata.service.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -21,6 +23,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import javax.json.Json;
@@ -32,11 +35,15 @@ import javax.json.JsonPatchBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.openmetadata.schema.api.services.DatabaseConnection;
+import org.openmetadata.schema.entity.data.Table;
 import org.openmetadata.schema.entity.services.DatabaseService;
 import org.openmetadata.schema.entity.teams.Team;
 import org.openmetadata.schema.services.connections.dashboard.TableauConnection;
 import org.openmetadata.schema.services.connections.database.MysqlConnection;
 import org.openmetadata.schema.services.connections.database.common.basicAuth;
+import org.openmetadata.schema.type.Column;
+import org.openmetadata.schema.type.ColumnDataType;
+import org.openmetadata.schema.type.TagLabel;
 
 /** This test provides examples of how to use applyPatch */
 @Slf4j
@@ -139,4 +146,31 @@ class JsonUtilsTest {
     String actualJson = JsonUtils.pojoToMaskedJson(databaseService);
     assertEquals(expectedJson, actualJson);
   }
+
+  @Test
+  void testDeepCopy() {
+    Table table =
+        new Table()
+            .withId(UUID.randomUUID())
+            .withName("table")
+            .withFullyQualifiedName("service.db.schema.table")
+            .withColumns(
+                List.of(
+                    new Column()
+                        .withName("c1")
+                        .withDataType(ColumnDataType.STRUCT)
+                        .withTags(List.of(new TagLabel().withTagFQN("PII.Sensitive")))
+                        .withChildren(List.of(new Column().withName("c2").withDataType(ColumnDataType.INT)))));
+    Table copy = JsonUtils.deepCopy(table, Table.class);
+    assertEquals(table, copy);
+    assertNotSame(table, copy);
+    assertNotSame(table.getColumns().get(0), copy.getColumns().get(0));
+
+    // Changes to the copy must not be visible in the original
+    copy.getColumns().get(0).getTags().get(0).setTagFQN("PII.None");
+    copy.getColumns().get(0).getChildren().get(0).setName("c3");
+    assertNotEquals(table, copy);
+    assertEquals("PII.Sensitive", table.getColumns().get(0).getTags().get(0).getTagFQN());
+    assertEquals("c2", table.getColumns().get(0).getChildren().get(0).getName());
+  }
 }
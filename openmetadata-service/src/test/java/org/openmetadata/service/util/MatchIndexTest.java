@@ -0,0 +1,49 @@
+package org.openmetadata.service.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.type.Column;
+import org.openmetadata.schema.type.ColumnDataType;
+
+class MatchIndexTest {
+  private final Column c1 = column("c1", ColumnDataType.INT);
+  private final Column c2 = column("C2", ColumnDataType.INT);
+  private final Column c2String = column("c2", ColumnDataType.STRING);
+
+  @Test
+  void findMatchesOnlyItemsWithTheSameKey() {
+    MatchIndex<Column> index =
+        MatchIndex.of(List.of(c1, c2, c2String), EntityUtil.columnNameKey, EntityUtil.columnMatch);
+    assertSame(c1, index.find(column("C1", ColumnDataType.INT)));
+    assertSame(c2, index.find(column("c2", ColumnDataType.INT)));
+    assertSame(c2String, index.find(column("C2", ColumnDataType.STRING)));
+    assertNull(index.find(column("c1", ColumnDataType.STRING)));
+    assertNull(index.find(column("c3", ColumnDataType.INT)));
+  }
+
+  @Test
+  void findWithoutKeyTestsAllItemsInOrder() {
+    MatchIndex<Column> index = MatchIndex.of(List.of(c1, c2, c2String), null, EntityUtil.columnNameMatch);
+    assertSame(c2, index.find(column("c2", ColumnDataType.STRING)));
+    assertNull(index.find(column("c3", ColumnDataType.INT)));
+    assertNull(MatchIndex.of(null, null, EntityUtil.columnNameMatch).find(c1));
+  }
+
+  @Test
+  void ignoreCaseKeyIsEqualForStringsEqualIgnoringCase() {
+    String[][] pairs = {{"Customer_ID", "customer_id"}, {"\u0131d", "ID"}, {"\u01c5", "\u01c6"}, {"c1", "c2"}};
+    for (String[] names : pairs) {
+      assertEquals(
+          names[0].equalsIgnoreCase(names[1]),
+          EntityUtil.ignoreCaseKey(names[0]).equals(EntityUtil.ignoreCaseKey(names[1])));
+    }
+  }
+
+  private static Column column(String name, ColumnDataType dataType) {
+    return new Column().withName(name).withDataType(dataType);
+  }
+}
@@ -0,0 +1,144 @@
+package org.openmetadata.service.workflows.delete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.MockedStatic;
+import org.openmetadata.schema.entity.data.Database;
+import org.openmetadata.schema.entity.data.DatabaseSchema;
+import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.schema.entity.services.DatabaseService;
+import org.openmetadata.schema.system.EntityDeleteJob;
+import org.openmetadata.schema.system.StepStats;
+import org.openmetadata.schema.tests.TestSuite;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityExtensionTimeSeriesDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipObject;
+import org.openmetadata.service.jdbi3.DatabaseRepository;
+import org.openmetadata.service.jdbi3.DatabaseSchemaRepository;
+import org.openmetadata.service.jdbi3.DatabaseServiceRepository;
+import org.openmetadata.service.jdbi3.TableRepository;
+import org.openmetadata.service.jdbi3.TestSuiteRepository;
+import org.openmetadata.service.util.DeleteJobHandler;
+import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.RestUtil.DeleteResponse;
+
+class RecursiveDeleteWorkflowTest {
+  private final UUID serviceId = UUID.randomUUID();
+  private final UUID databaseId = UUID.randomUUID();
+  private final UUID schemaId = UUID.randomUUID();
+  private final UUID table1Id = UUID.randomUUID();
+  private final UUID table2Id = UUID.randomUUID();
+  private final UUID testSuiteId = UUID.randomUUID();
+
+  @Test
+  void deletesTheContainedEntitiesLevelByLevel() {
+    DatabaseServiceRepository serviceRepository = mock(DatabaseServiceRepository.class);
+    DatabaseRepository databaseRepository = mock(DatabaseRepository.class);
+    DatabaseSchemaRepository schemaRepository = mock(DatabaseSchemaRepository.class);
+    TableRepository tableRepository = mock(TableRepository.class);
+    TestSuiteRepository testSuiteRepository = mock(TestSuiteRepository.class);
+    when(databaseRepository.isSupportsBatchDelete()).thenReturn(true);
+    when(schemaRepository.isSupportsBatchDelete()).thenReturn(true);
+    when(tableRepository.isSupportsBatchDelete()).thenReturn(true);
+    Entity.registerEntity(DatabaseService.class, Entity.DATABASE_SERVICE, serviceRepository);
+    Entity.registerEntity(Database.class, Entity.DATABASE, databaseRepository);
+    Entity.registerEntity(DatabaseSchema.class, Entity.DATABASE_SCHEMA, schemaRepository);
+    Entity.registerEntity(Table.class, Entity.TABLE, tableRepository);
+    Entity.registerEntity(TestSuite.class, Entity.TEST_SUITE, testSuiteRepository);
+
+    // service -> database -> schema -> tables -> test suite of the first table
+    EntityRelationshipDAO relationshipDAO = mock(EntityRelationshipDAO.class);
+    when(relationshipDAO.findToBatch(eq(List.of(serviceId.toString())), anyList()))
+        .thenReturn(List.of(contains(serviceId, databaseId, Entity.DATABASE)));
+    when(relationshipDAO.findToBatch(eq(List.of(databaseId.toString())), anyList()))
+        .thenReturn(List.of(contains(databaseId, schemaId, Entity.DATABASE_SCHEMA)));
+    when(relationshipDAO.findToBatch(eq(List.of(schemaId.toString())), anyList()))
+        .thenReturn(List.of(contains(schemaId, table1Id, Entity.TABLE), contains(schemaId, table2Id, Entity.TABLE)));
+    when(relationshipDAO.findToBatch(eq(List.of(table1Id.toString(), table2Id.toString())), anyList()))
+        .thenReturn(List.of(contains(table1Id, testSuiteId, Entity.TEST_SUITE)));
+
+    EntityDeleteJob jobData =
+        new EntityDeleteJob()
+            .withId(UUID.randomUUID())
+            .withEntityType(Entity.DATABASE_SERVICE)
+            .withEntityId(serviceId)
+            .withEntityFullyQualifiedName("service")
+            .withStartedBy("admin")
+            .withTimestamp(1L)
+            .withStatus(EntityDeleteJob.Status.STARTED)
+            .withStats(new StepStats().withTotalRecords(0).withProcessedRecords(0).withSuccessRecords(0));
+    CollectionDAO dao = mock(CollectionDAO.class);
+    EntityExtensionTimeSeriesDAO timeSeriesDAO = mock(EntityExtensionTimeSeriesDAO.class);
+    when(dao.relationshipDAO()).thenReturn(relationshipDAO);
+    when(dao.entityExtensionTimeSeriesDao()).thenReturn(timeSeriesDAO);
+    DatabaseService service = new DatabaseService().withId(serviceId).withName("service");
+    when(serviceRepository.delete("admin", serviceId, true, true))
+        .thenReturn(new DeleteResponse<>(service, "entityDeleted"));
+    TestSuite testSuite = new TestSuite().withId(testSuiteId).withName("testSuite");
+    when(testSuiteRepository.delete("admin", testSuiteId, true, true))
+        .thenReturn(new DeleteResponse<>(testSuite, "entityDeleted"));
+
+    try (MockedStatic<DeleteJobHandler> handler = mockStatic(DeleteJobHandler.class)) {
+      handler.when(DeleteJobHandler::getInstance).thenReturn(mock(DeleteJobHandler.class));
+      new RecursiveDeleteWorkflow(dao, jobData).run();
+    }
+
+    assertEquals(EntityDeleteJob.Status.COMPLETED, jobData.getStatus());
+    assertEquals(5, jobData.getStats().getTotalRecords());
+    assertEquals(5, jobData.getStats().getSuccessRecords());
+
+    // The deepest entities are deleted first along with their search documents, and the service last
+    InOrder inOrder =
+        inOrder(testSuiteRepository, tableRepository, schemaRepository, databaseRepository, serviceRepository);
+    inOrder.verify(testSuiteRepository).delete("admin", testSuiteId, true, true);
+    inOrder.verify(testSuiteRepository).deleteFromSearch(testSuite, "entityDeleted");
+    inOrder.verify(tableRepository).deleteInBatch(List.of(table1Id, table2Id));
+    inOrder.verify(tableRepository).deleteFromSearchInBatch(List.of(table1Id, table2Id));
+    inOrder.verify(schemaRepository).deleteInBatch(List.of(schemaId));
+    inOrder.verify(schemaRepository).deleteFromSearchInBatch(List.of(schemaId));
+    inOrder.verify(databaseRepository).deleteInBatch(List.of(databaseId));
+    inOrder.verify(databaseRepository).deleteFromSearchInBatch(List.of(databaseId));
+    inOrder.verify(serviceRepository).delete("admin", serviceId, true, true);
+    inOrder.verify(serviceRepository).deleteFromSearch(service, "entityDeleted");
+
+    // The job is stored once the entities are found, after each level and when it ends
+    ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+    verify(timeSeriesDAO, times(6)).update(eq(jobData.getId().toString()), anyString(), stored.capture(), eq(1L));
+    List<Long> processed =
+        stored.getAllValues().stream()
+            .map(json -> JsonUtils.readValue(json, EntityDeleteJob.class).getStats().getProcessedRecords().longValue())
+            .collect(Collectors.toList());
+    assertEquals(List.of(0L, 1L, 3L, 4L, 5L, 5L), processed);
+    assertTrue(stored.getAllValues().get(1).contains("RUNNING"));
+
+    // The entities contained by the test suite are deleted with the test suite
+    verify(relationshipDAO, never()).findToBatch(eq(List.of(testSuiteId.toString())), anyList());
+  }
+
+  private static EntityRelationshipObject contains(UUID fromId, UUID toId, String toEntity) {
+    return EntityRelationshipObject.builder()
+        .fromId(fromId.toString())
+        .toId(toId.toString())
+        .toEntity(toEntity)
+        .build();
+  }
+}
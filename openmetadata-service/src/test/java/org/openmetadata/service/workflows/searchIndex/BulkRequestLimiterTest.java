@@ -0,0 +1,41 @@
+package org.openmetadata.service.workflows.searchIndex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class BulkRequestLimiterTest {
+  @Test
+  void testConcurrencyFollowsBulkLatency() throws InterruptedException {
+    BulkRequestLimiter limiter = new BulkRequestLimiter(3, 1000);
+    assertEquals(3, limiter.getLimit());
+
+    // Slow responses retire permits, but one request is always allowed in flight
+    for (int i = 0; i < 5; i++) {
+      limiter.acquire();
+      limiter.release(2000);
+    }
+    assertEquals(1, limiter.getLimit());
+
+    // Responses within the threshold keep the limit where it is
+    limiter.acquire();
+    limiter.release(800);
+    assertEquals(1, limiter.getLimit());
+
+    // Fast responses add permits back up to the maximum
+    for (int i = 0; i < 5; i++) {
+      limiter.acquire();
+      limiter.release(10);
+    }
+    assertEquals(3, limiter.getLimit());
+
+    // All permits are available again once the requests completed
+    for (int i = 0; i < 3; i++) {
+      limiter.acquire();
+    }
+    for (int i = 0; i < 3; i++) {
+      limiter.release(800);
+    }
+    assertEquals(3, limiter.getLimit());
+  }
+}